@@ -175,6 +175,9 @@ tasks.withType<Test> {
         "--add-opens", "java.base/java.util=ALL-UNNAMED",
         "-Dnet.bytebuddy.experimental=true"
     )
+    // 벤치마크 테스트(@EnabledIfSystemProperty(named = "benchmark")) 활성화 스위치를 테스트 JVM으로 전달.
+    // 예: ./gradlew test -Dbenchmark=true --tests '*BenchmarkTest'
+    System.getProperty("benchmark")?.let { systemProperty("benchmark", it) }
     // 테스트 완료 후 JaCoCo 리포트 자동 생성
     finalizedBy(tasks.jacocoTestReport)
 }
@@ -11,10 +11,13 @@ import com.smartfirehub.analytics.service.AnalyticsQueryExecutionService;
 import com.smartfirehub.analytics.service.SavedQueryService;
 import com.smartfirehub.global.dto.PageResponse;
 import com.smartfirehub.global.security.RequirePermission;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -77,6 +80,23 @@ public class SavedQueryController {
     return ResponseEntity.ok(executionService.execute(request.sql(), maxRows, true));
   }
 
+  /**
+   * {@code /execute}의 스트리밍 버전. 응답 본문은 column-array JSON(columns 한 번, rows 는 값 배열, 잘림 여부·실행 시간은 rows
+   * 뒤)이며 결과를 메모리에 모으지 않고 커서에서 읽는 대로 쓴다.
+   */
+  @PostMapping("/execute/stream")
+  @RequirePermission("analytics:read")
+  public void executeAdHocStreaming(
+      @Valid @RequestBody AnalyticsQueryRequest request, HttpServletResponse httpResponse)
+      throws IOException {
+    int maxRows = request.maxRows() != null ? request.maxRows() : 1000;
+    httpResponse.setStatus(HttpServletResponse.SC_OK);
+    httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    // 애드혹 쿼리와 같이 readOnly=true 강제 (#66)
+    executionService.executeStreaming(request.sql(), maxRows, true, httpResponse.getOutputStream());
+    httpResponse.flushBuffer();
+  }
+
   @GetMapping("/{id}")
   @RequirePermission("analytics:read")
   public ResponseEntity<SavedQueryResponse> getQuery(
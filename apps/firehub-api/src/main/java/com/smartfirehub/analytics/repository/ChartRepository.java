@@ -9,6 +9,8 @@ import com.smartfirehub.analytics.dto.UpdateChartRequest;
 import com.smartfirehub.global.util.LikePatternUtils;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -226,6 +228,47 @@ public class ChartRepository {
     return Optional.of(mapToResponse(r));
   }
 
+  /** 대시보드 위젯 렌더링용 차트와 연결된 saved_query SQL. */
+  public record ChartWithQuery(ChartResponse chart, String sqlText) {}
+
+  /**
+   * 사용자가 볼 수 있는(소유 또는 공유) 차트들을 saved_query SQL 과 함께 한 번에 조회한다 (chartId → ChartWithQuery). 접근할 수 없거나
+   * 없는 차트는 결과에 없다.
+   */
+  public Map<Long, ChartWithQuery> findWithQueryByIds(Collection<Long> chartIds, Long userId) {
+    if (chartIds.isEmpty()) return Map.of();
+    var dashboardCountField =
+        dsl.selectCount().from(DW).where(DW_CHART_ID.eq(C_ID)).asField("dashboard_count");
+    Field<String> sqSqlText = field(name("saved_query", "sql_text"), String.class);
+
+    Map<Long, ChartWithQuery> result = new HashMap<>();
+    dsl.select(
+            C_ID,
+            C_NAME,
+            C_DESCRIPTION,
+            C_SAVED_QUERY_ID,
+            SQ_NAME,
+            sqSqlText,
+            C_CHART_TYPE,
+            C_CONFIG,
+            C_IS_SHARED,
+            U_NAME_ALIAS,
+            C_CREATED_BY,
+            C_CREATED_AT,
+            C_UPDATED_AT,
+            dashboardCountField)
+        .from(C)
+        .join(SQ)
+        .on(C_SAVED_QUERY_ID.eq(SQ_ID))
+        .join(USER_TABLE)
+        .on(C_CREATED_BY.eq(U_ID))
+        .where(C_ID.in(chartIds).and(C_CREATED_BY.eq(userId).or(C_IS_SHARED.isTrue())))
+        .fetch()
+        .forEach(
+            r -> result.put(r.get(C_ID), new ChartWithQuery(mapToResponse(r), r.get(sqSqlText))));
+    return result;
+  }
+
   /** Returns the saved_query_id for a given chart (no user filter — internal use). */
   public Long findSavedQueryId(Long chartId) {
     return dsl.select(C_SAVED_QUERY_ID).from(C).where(C_ID.eq(chartId)).fetchOne(C_SAVED_QUERY_ID);
@@ -1,11 +1,8 @@
 package com.smartfirehub.analytics.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.smartfirehub.analytics.dto.AddWidgetRequest;
 import com.smartfirehub.analytics.dto.AnalyticsQueryResponse;
 import com.smartfirehub.analytics.dto.ChartDataResponse;
-import com.smartfirehub.analytics.dto.ChartResponse;
 import com.smartfirehub.analytics.dto.CreateDashboardRequest;
 import com.smartfirehub.analytics.dto.DashboardDataResponse;
 import com.smartfirehub.analytics.dto.DashboardResponse;
@@ -16,14 +13,21 @@ import com.smartfirehub.analytics.exception.ChartNotFoundException;
 import com.smartfirehub.analytics.exception.DashboardNotFoundException;
 import com.smartfirehub.analytics.repository.AnalyticsDashboardRepository;
 import com.smartfirehub.analytics.repository.ChartRepository;
+import com.smartfirehub.analytics.repository.ChartRepository.ChartWithQuery;
 import com.smartfirehub.analytics.repository.DashboardWidgetRepository;
 import com.smartfirehub.analytics.repository.SavedQueryRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,10 +42,13 @@ public class AnalyticsDashboardService {
   private final ChartService chartService;
   private final ChartRepository chartRepository;
   private final SavedQueryRepository savedQueryRepository;
+  private final AnalyticsResultCache resultCache;
 
-  // Caffeine cache: TTL 60s, max 200 entries, keyed by saved_query_id
-  private final Cache<Long, AnalyticsQueryResponse> queryResultCache =
-      Caffeine.newBuilder().expireAfterWrite(60, TimeUnit.SECONDS).maximumSize(200).build();
+  @Qualifier("dashboardQueryExecutor")
+  private final Executor queryExecutor;
+
+  @Value("${firehub.analytics.dashboard-query-concurrency:4}")
+  private final int queryConcurrency;
 
   public com.smartfirehub.global.dto.PageResponse<DashboardResponse> list(
       String search, Boolean sharedOnly, Long userId, int page, int size) {
@@ -126,53 +133,83 @@ public class AnalyticsDashboardService {
             ? widgets.subList(0, MAX_WIDGETS_PER_DASHBOARD)
             : widgets;
 
-    // 3. Deduplicate by saved_query_id, execute cache misses
-    // Build map: savedQueryId -> sqlText (via chart->savedQuery join)
-    Map<Long, Long> chartIdToSavedQueryId = new HashMap<>();
-    for (DashboardResponse.DashboardWidgetResponse widget : limitedWidgets) {
-      Long chartId = widget.chartId();
-      if (!chartIdToSavedQueryId.containsKey(chartId)) {
-        Long savedQueryId = chartRepository.findSavedQueryId(chartId);
-        if (savedQueryId != null) {
-          chartIdToSavedQueryId.put(chartId, savedQueryId);
-        }
-      }
-    }
+    // 3. Load accessible charts + saved query SQL for all widgets in one query
+    List<Long> chartIds =
+        limitedWidgets.stream().map(DashboardResponse.DashboardWidgetResponse::chartId).toList();
+    Map<Long, ChartWithQuery> charts = chartRepository.findWithQueryByIds(chartIds, userId);
 
-    // Execute each unique savedQueryId (cached)
-    for (Long savedQueryId : new java.util.HashSet<>(chartIdToSavedQueryId.values())) {
-      queryResultCache.get(
-          savedQueryId,
-          k -> {
-            String sqlText = chartRepository.findSavedQuerySqlTextById(k).orElse("");
-            return chartService.executeQueryForCache(sqlText);
-          });
+    // 4. Deduplicate by saved_query_id, execute cache misses concurrently
+    Map<Long, String> sqlBySavedQueryId = new HashMap<>();
+    for (ChartWithQuery c : charts.values()) {
+      sqlBySavedQueryId.putIfAbsent(c.chart().savedQueryId(), c.sqlText());
     }
+    Map<Long, AnalyticsQueryResponse> results = executeSavedQueries(sqlBySavedQueryId);
 
-    // 4. Build widget data list
+    // 5. Build widget data list
     List<DashboardDataResponse.WidgetData> widgetDataList = new ArrayList<>();
     for (DashboardResponse.DashboardWidgetResponse widget : limitedWidgets) {
-      Long savedQueryId = chartIdToSavedQueryId.get(widget.chartId());
-      AnalyticsQueryResponse queryResult =
-          savedQueryId != null ? queryResultCache.getIfPresent(savedQueryId) : null;
-      if (queryResult == null) {
-        queryResult = emptyQueryResponse();
-      }
-      // chartId 별로 한 번만 조회하여 불필요한 중복 DB 쿼리 방지 (이슈 #148)
-      // 기존: null 체크 + 생성자 인수 두 곳에서 getById() 2회 호출
-      // 수정: Optional로 1회만 조회 후 로컬 변수에 캐싱
-      ChartResponse chartResponse =
-          chartService.getByIdOptional(widget.chartId(), userId).orElse(null);
-      ChartDataResponse chartData =
-          chartResponse != null ? new ChartDataResponse(chartResponse, queryResult) : null;
-      if (chartData != null) {
-        widgetDataList.add(new DashboardDataResponse.WidgetData(widget.id(), chartData));
+      ChartWithQuery c = charts.get(widget.chartId());
+      if (c == null) {
+        continue;
       }
+      AnalyticsQueryResponse queryResult =
+          results.getOrDefault(c.chart().savedQueryId(), emptyQueryResponse());
+      widgetDataList.add(
+          new DashboardDataResponse.WidgetData(
+              widget.id(), new ChartDataResponse(c.chart(), queryResult)));
     }
 
     return new DashboardDataResponse(dashboard, widgetDataList);
   }
 
+  /**
+   * saved_query 별 결과. 결과 캐시({@link AnalyticsResultCache})에 없는 쿼리는 dashboardQueryExecutor 에서 대시보드당
+   * 최대 {@code queryConcurrency}개씩 동시에 실행한다. 각 쿼리는 자기 읽기 전용 트랜잭션(커넥션)에서 돌므로 전체 응답 시간은 가장 느린 쿼리
+   * 수준이 된다.
+   */
+  private Map<Long, AnalyticsQueryResponse> executeSavedQueries(
+      Map<Long, String> sqlBySavedQueryId) {
+    Map<Long, AnalyticsQueryResponse> results = new HashMap<>();
+    Map<Long, CompletableFuture<AnalyticsQueryResponse>> misses = new HashMap<>();
+    // 위젯마다가 아니라 대시보드당 한 번 참조 테이블 버전을 조회한다
+    Map<Long, AnalyticsResultCache.Key> keys =
+        resultCache.keysOf(sqlBySavedQueryId, ChartService.QUERY_MAX_ROWS);
+    Semaphore permits = new Semaphore(Math.max(queryConcurrency, 1));
+    try {
+      for (Map.Entry<Long, String> e : sqlBySavedQueryId.entrySet()) {
+        String sqlText = e.getValue();
+        Supplier<AnalyticsQueryResponse> loader = () -> chartService.executeQueryForCache(sqlText);
+        AnalyticsResultCache.Key key = keys.get(e.getKey());
+        AnalyticsQueryResponse cached = key != null ? resultCache.getIfPresent(key, loader) : null;
+        if (cached != null) {
+          results.put(e.getKey(), cached);
+          continue;
+        }
+        permits.acquire();
+        CompletableFuture<AnalyticsQueryResponse> future =
+            CompletableFuture.supplyAsync(loader, queryExecutor);
+        future.whenComplete((r, ex) -> permits.release());
+        misses.put(e.getKey(), future);
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      misses.values().forEach(f -> f.cancel(true));
+      throw new IllegalStateException("Interrupted while executing dashboard queries", ie);
+    }
+
+    for (Map.Entry<Long, CompletableFuture<AnalyticsQueryResponse>> e : misses.entrySet()) {
+      AnalyticsQueryResponse result;
+      try {
+        result = e.getValue().join();
+      } catch (CompletionException ce) {
+        throw ce.getCause() instanceof RuntimeException re ? re : ce;
+      }
+      resultCache.put(keys.get(e.getKey()), result);
+      results.put(e.getKey(), result);
+    }
+    return results;
+  }
+
   @Transactional
   public DashboardResponse addWidget(Long dashboardId, AddWidgetRequest req, Long userId) {
     // Verify dashboard ownership
@@ -2,20 +2,36 @@ package com.smartfirehub.analytics.service;
 
 import static org.jooq.impl.DSL.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.smartfirehub.analytics.dto.AnalyticsQueryResponse;
 import com.smartfirehub.analytics.dto.SchemaInfoResponse;
 import com.smartfirehub.dataset.exception.SqlQueryException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.global.util.ColumnarJsonWriter;
+import com.smartfirehub.global.util.HashUtils;
+import com.smartfirehub.global.util.SqlTableUtils;
 import com.smartfirehub.global.util.SqlValidationUtils;
 import com.smartfirehub.pipeline.service.executor.ExecutorClient;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import lombok.extern.slf4j.Slf4j;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
 import org.springframework.beans.factory.annotation.Value;
@@ -26,15 +42,38 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class AnalyticsQueryExecutionService {
 
+  // 캐시된 컬럼 설명이 테이블 변경으로 낡았을 때 나는 오류: 컬럼·테이블 없음, 함수 인자 타입 불일치
+  private static final Set<String> STALE_PLAN_SQLSTATES =
+      Set.of("42703", "42P01", "42883", "42804");
+  // 스트리밍 조회 시 서버 커서에서 한 번에 가져오는 행 수
+  private static final int STREAM_FETCH_SIZE = 500;
+
   private final DSLContext dsl;
   private final ExecutorClient executorClient;
+  private final ObjectMapper objectMapper;
+  private final DatasetChangeRepository changeRepository;
+  // SQL 해시 + 참조 테이블 변경 버전 → 결과 컬럼 설명(prepared statement describe). 같은 위젯·차트 쿼리를 매번 다시 describe 하지
+  // 않고, 컬럼 추가·삭제·이름 변경으로 버전이 오르면 새 키로 다시 describe 한다
+  private final Cache<String, List<ColumnMeta>> columnPlans;
 
   @Value("${app.executor.enabled:false}")
   private boolean executorEnabled;
 
-  public AnalyticsQueryExecutionService(DSLContext dsl, ExecutorClient executorClient) {
+  public AnalyticsQueryExecutionService(
+      DSLContext dsl,
+      ExecutorClient executorClient,
+      ObjectMapper objectMapper,
+      DatasetChangeRepository changeRepository,
+      @Value("${firehub.analytics.describe-cache.ttl-seconds:600}") long describeTtlSeconds) {
     this.dsl = dsl;
     this.executorClient = executorClient;
+    this.objectMapper = objectMapper;
+    this.changeRepository = changeRepository;
+    this.columnPlans =
+        Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Math.max(describeTtlSeconds, 0), TimeUnit.SECONDS)
+            .build();
   }
 
   /**
@@ -50,6 +89,36 @@ public class AnalyticsQueryExecutionService {
    */
   @Transactional
   public AnalyticsQueryResponse execute(String sql, int maxRows, boolean readOnly) {
+    return execute(sql, maxRows, readOnly, null);
+  }
+
+  /**
+   * {@link #execute}의 스트리밍 버전. SELECT 결과를 서버 커서(fetchSize)로 읽으면서 {@link
+   * ColumnarJsonWriter} 형식(columns 한 번, 행은 값 배열)으로 out 에 바로 쓰므로 결과 전체를 힙에 올리지 않는다. 최대 maxRows
+   * 행까지 쓰고, 잘림 여부·실행 시간·오류는 행 뒤에 쓴다. 트랜잭션이 쓰기가 끝날 때까지 유지되므로 호출 스레드에서 응답 스트림에 직접 써야 한다.
+   */
+  @Transactional
+  public void executeStreaming(String sql, int maxRows, boolean readOnly, OutputStream out)
+      throws IOException {
+    try (ColumnarJsonWriter writer = new ColumnarJsonWriter(objectMapper, out)) {
+      AnalyticsQueryResponse response = execute(sql, maxRows, readOnly, writer);
+      if (!writer.isBegun()) {
+        // executor 경로·DML·실행 전 오류 — 이미 만들어진 응답을 같은 형식으로 쓴다
+        writer.begin(response.columns());
+        writer.writeRows(response.columns(), response.rows());
+      }
+      writer.end(
+          response.queryType(),
+          response.affectedRows(),
+          response.totalRows(),
+          response.truncated(),
+          response.executionTimeMs(),
+          response.error());
+    }
+  }
+
+  private AnalyticsQueryResponse execute(
+      String sql, int maxRows, boolean readOnly, ColumnarJsonWriter stream) {
     // 시스템 스키마/함수 직접 참조 차단 — executor/direct 경로 모두 적용 (#33/#34/#86/#90)
     // executor 경로는 Python 측 차단만 있어 public 스키마 접근이 가능하므로 여기서 공통 차단
     String upperSql = sql.toUpperCase();
@@ -61,10 +130,26 @@ public class AnalyticsQueryExecutionService {
       return errorResponse("보안 정책상 public 스키마 또는 시스템 스키마에 직접 접근할 수 없습니다.");
     }
 
-    if (executorEnabled) {
-      return executeViaExecutor(sql, maxRows, readOnly);
+    AnalyticsQueryResponse response =
+        executorEnabled
+            ? executeViaExecutor(sql, maxRows, readOnly)
+            : executeDirectly(sql, maxRows, readOnly, stream);
+    // DML 이 쓴 데이터셋의 변경 버전을 올려 DATASET_CHANGE 트리거와 분석 결과 캐시가 알게 한다
+    if (response.error() == null
+        && !"SELECT".equals(response.queryType())
+        && response.affectedRows() > 0) {
+      SqlTableUtils.writtenDataTables(sql).forEach(changeRepository::bumpByTableName);
     }
-    return executeDirectly(sql, maxRows, readOnly);
+    return response;
+  }
+
+  /**
+   * 대시보드 위젯 쿼리용 {@link #execute}. 호출 스레드마다 별도 읽기 전용 트랜잭션(커넥션)에서 실행하므로 여러 위젯 쿼리를 동시에 돌릴 수
+   * 있고, 저장된 쿼리가 데이터를 바꾸려 하면 DB 가 거부한다. statement_timeout(30s)은 execute 와 같다.
+   */
+  @Transactional(readOnly = true)
+  public AnalyticsQueryResponse executeReadOnly(String sql, int maxRows) {
+    return execute(sql, maxRows, false);
   }
 
   private AnalyticsQueryResponse executeViaExecutor(String sql, int maxRows, boolean readOnly) {
@@ -88,7 +173,8 @@ public class AnalyticsQueryExecutionService {
     }
   }
 
-  private AnalyticsQueryResponse executeDirectly(String sql, int maxRows, boolean readOnly) {
+  private AnalyticsQueryResponse executeDirectly(
+      String sql, int maxRows, boolean readOnly, ColumnarJsonWriter stream) {
     String stripped;
     String queryType;
     try {
@@ -126,56 +212,10 @@ public class AnalyticsQueryExecutionService {
     try {
       AnalyticsQueryResponse response;
 
-      if ("SELECT".equals(queryType)) {
-        // Apply LIMIT if not already present
-        String limitedSql = cleanSql;
-        if (!limitedSql.toUpperCase().matches("(?s).*\\bLIMIT\\s+\\d+.*")) {
-          limitedSql = limitedSql + " LIMIT " + maxRows;
-        }
-
-        org.jooq.Result<?> result;
-        try {
-          result = dsl.fetch(limitedSql);
-        } catch (Exception fetchEx) {
-          // jOOQ/JDBC may fail to read raw GEOMETRY/GEOGRAPHY binary data.
-          // Rollback to savepoint, detect geometry columns via JDBC metadata, wrap with
-          // ST_AsGeoJSON, and retry.
-          dsl.execute("ROLLBACK TO SAVEPOINT analytics_query");
-          dsl.execute("SAVEPOINT analytics_query");
-
-          List<ColumnMeta> columnMetas;
-          try {
-            columnMetas = detectColumnsViaMetadata(cleanSql);
-          } catch (Exception metaEx) {
-            throw fetchEx; // Metadata detection also failed — rethrow original
-          }
-
-          boolean hasGeometry = columnMetas.stream().anyMatch(ColumnMeta::isGeometry);
-          if (!hasGeometry) {
-            throw fetchEx; // Not a geometry issue — rethrow original
-          }
-
-          String wrappedSql = buildGeoJsonWrappedSql(cleanSql, columnMetas);
-          if (!cleanSql.toUpperCase().matches("(?s).*\\bLIMIT\\s+\\d+.*")) {
-            wrappedSql = wrappedSql + " LIMIT " + maxRows;
-          }
-          result = dsl.fetch(wrappedSql);
-        }
-
-        // Detect GEOMETRY/GEOGRAPHY columns from successfully fetched PGobject data
-        // (covers cases where JDBC read succeeded but data is raw binary)
-        Set<String> geomColumns = detectGeometryColumns(result);
-        if (!geomColumns.isEmpty()) {
-          List<ColumnMeta> metas = new ArrayList<>();
-          for (var field : result.fields()) {
-            metas.add(new ColumnMeta(field.getName(), geomColumns.contains(field.getName())));
-          }
-          String wrappedSql = buildGeoJsonWrappedSql(cleanSql, metas);
-          if (!cleanSql.toUpperCase().matches("(?s).*\\bLIMIT\\s+\\d+.*")) {
-            wrappedSql = wrappedSql + " LIMIT " + maxRows;
-          }
-          result = dsl.fetch(wrappedSql);
-        }
+      if ("SELECT".equals(queryType) && stream != null) {
+        response = streamSelect(cleanSql, maxRows, startTime, stream);
+      } else if ("SELECT".equals(queryType)) {
+        org.jooq.Result<?> result = fetchPlanned(cleanSql, maxRows);
 
         long executionTimeMs = System.currentTimeMillis() - startTime;
 
@@ -306,7 +346,7 @@ public class AnalyticsQueryExecutionService {
 
   /**
    * Detect GEOMETRY/GEOGRAPHY columns by inspecting PGobject type via reflection. PostgreSQL driver
-   * is runtime-only, so we cannot import PGobject directly.
+   * is runtime-only, so we cannot import PGobject directly. 캐시된 컬럼 설명이 낡았는지 확인하는 용도.
    */
   private Set<String> detectGeometryColumns(org.jooq.Result<?> result) {
     Set<String> geomColumns = new LinkedHashSet<>();
@@ -318,11 +358,7 @@ public class AnalyticsQueryExecutionService {
       if (val != null && "org.postgresql.util.PGobject".equals(val.getClass().getName())) {
         try {
           String pgType = (String) val.getClass().getMethod("getType").invoke(val);
-          // PostGIS type can be "geometry", "geography", or schema-qualified like
-          // "public"."geometry"
-          if (pgType != null
-              && (pgType.toLowerCase().contains("geometry")
-                  || pgType.toLowerCase().contains("geography"))) {
+          if (isGeometryType(pgType)) {
             geomColumns.add(field.getName());
           }
         } catch (ReflectiveOperationException ignored) {
@@ -337,28 +373,134 @@ public class AnalyticsQueryExecutionService {
   private record ColumnMeta(String name, boolean isGeometry) {}
 
   /**
-   * Detect column names and geometry types via JDBC ResultSetMetaData using a LIMIT 0 query. This
-   * avoids reading actual row data, which can fail for GEOMETRY columns.
+   * SELECT 를 한 번만 실행한다. 먼저 prepared statement describe(실행 없음)로 결과 컬럼 타입을 알아내고, GEOMETRY/GEOGRAPHY
+   * 컬럼이 있으면 처음부터 ST_AsGeoJSON 으로 감싼 SQL 을 실행한다. describe 결과는 SQL 해시별로 캐시한다.
+   *
+   * <p>캐시된 설명으로 실행했는데 테이블 변경(컬럼 추가·삭제 등)으로 설명이 맞지 않으면 — 스키마 불일치 오류이거나 감싸지 않은 geometry
+   * 값이 나온 경우 — 설명을 버리고 다시 describe 해서 한 번 더 실행한다.
    */
-  private List<ColumnMeta> detectColumnsViaMetadata(String sql) {
+  private org.jooq.Result<?> fetchPlanned(String cleanSql, int maxRows) {
+    String planKey = planKey(cleanSql);
+    List<ColumnMeta> plan = columnPlans.getIfPresent(planKey);
+    if (plan != null) {
+      try {
+        org.jooq.Result<?> result = dsl.fetch(plannedSql(cleanSql, plan, maxRows));
+        if (detectGeometryColumns(result).isEmpty()) {
+          return result;
+        }
+      } catch (Exception e) {
+        if (!isStalePlanFailure(e)) {
+          throw e;
+        }
+      }
+      log.debug("Cached column plan is stale, re-describing query");
+      columnPlans.invalidate(planKey);
+      dsl.execute("ROLLBACK TO SAVEPOINT analytics_query");
+      dsl.execute("SAVEPOINT analytics_query");
+    }
+    plan = describeColumns(cleanSql);
+    columnPlans.put(planKey, plan);
+    return dsl.fetch(plannedSql(cleanSql, plan, maxRows));
+  }
+
+  /**
+   * SELECT 를 커서로 읽으며 stream 에 바로 쓴다. 이미 쓴 행은 되돌릴 수 없으므로 캐시된 컬럼 설명 대신 매번 describe 한다(실행은 한 번).
+   * 반환 응답에는 행 없이 요약만 담는다.
+   */
+  private AnalyticsQueryResponse streamSelect(
+      String cleanSql, int maxRows, long startTime, ColumnarJsonWriter stream)
+      throws IOException {
+    List<ColumnMeta> plan = describeColumns(cleanSql);
+    columnPlans.put(planKey(cleanSql), plan);
+    try (Cursor<Record> cursor =
+        dsl.resultQuery(plannedSql(cleanSql, plan, maxRows))
+            .fetchSize(STREAM_FETCH_SIZE)
+            .fetchLazy()) {
+      List<String> columns = Arrays.stream(cursor.fields()).map(Field::getName).toList();
+      stream.begin(columns);
+      int[] indices = IntStream.range(0, columns.size()).toArray();
+      int rowCount = stream.writeRows(cursor, indices, maxRows);
+      long executionTimeMs = System.currentTimeMillis() - startTime;
+      return new AnalyticsQueryResponse(
+          "SELECT",
+          columns,
+          List.of(),
+          rowCount,
+          executionTimeMs,
+          rowCount,
+          rowCount >= maxRows,
+          null);
+    }
+  }
+
+  /**
+   * 컬럼 설명 캐시 키. 참조하는 데이터셋 테이블의 변경 버전을 붙이므로, 캐시된 {@code SELECT *} 설명이 컬럼 추가 후에도 TTL 동안 새 컬럼을
+   * 빠뜨리는 일이 없다. 데이터셋이 아닌 테이블은 버전이 없어 해시만으로 구분하고, 낡은 설명은 fetchPlanned 의 재시도가 잡는다.
+   */
+  private String planKey(String cleanSql) {
+    String sqlKey = HashUtils.sha256Hex(cleanSql);
+    Set<String> tables = SqlTableUtils.referencedDataTables(cleanSql);
+    if (tables.isEmpty()) {
+      return sqlKey;
+    }
+    return sqlKey + new TreeMap<>(changeRepository.findVersionsByTableNames(tables));
+  }
+
+  private String plannedSql(String cleanSql, List<ColumnMeta> plan, int maxRows) {
+    String sql =
+        plan.stream().anyMatch(ColumnMeta::isGeometry)
+            ? buildGeoJsonWrappedSql(cleanSql, plan)
+            : cleanSql;
+    // Apply LIMIT if not already present
+    if (!cleanSql.toUpperCase().matches("(?s).*\\bLIMIT\\s+\\d+.*")) {
+      sql = sql + " LIMIT " + maxRows;
+    }
+    return sql;
+  }
+
+  private static boolean isStalePlanFailure(Exception e) {
+    Throwable cause = e;
+    while (cause.getCause() != null && !(cause instanceof PSQLException)) {
+      cause = cause.getCause();
+    }
+    // 서버 오류가 아니면 드라이버가 감싸지 않은 geometry 값을 읽지 못한 경우다
+    return !(cause instanceof PSQLException psql)
+        || STALE_PLAN_SQLSTATES.contains(psql.getSQLState());
+  }
+
+  /**
+   * 결과 컬럼 이름과 GEOMETRY/GEOGRAPHY 여부를 prepared statement describe 로 알아낸다. 쿼리를 실행하지 않으므로 행을 읽지
+   * 않는다 (PgJDBC 는 실행 전 getMetaData() 를 describe 만 하는 왕복으로 처리한다).
+   */
+  private List<ColumnMeta> describeColumns(String sql) {
     List<ColumnMeta> columns = new ArrayList<>();
-    String metaSql = "SELECT * FROM (" + sql + ") _geom_detect LIMIT 0";
     dsl.connection(
         conn -> {
-          try (var ps = conn.prepareStatement(metaSql);
-              var rs = ps.executeQuery()) {
-            var meta = rs.getMetaData();
+          try (var ps = conn.prepareStatement(sql)) {
+            var meta = ps.getMetaData();
+            if (meta == null) {
+              return;
+            }
             for (int i = 1; i <= meta.getColumnCount(); i++) {
-              String typeName = meta.getColumnTypeName(i);
-              boolean isGeom =
-                  typeName != null
-                      && (typeName.equalsIgnoreCase("geometry")
-                          || typeName.equalsIgnoreCase("geography"));
+              boolean isGeom = isGeometryType(meta.getColumnTypeName(i));
               columns.add(new ColumnMeta(meta.getColumnLabel(i), isGeom));
             }
           }
         });
-    return columns;
+    return List.copyOf(columns);
+  }
+
+  /**
+   * PostGIS 타입명(geometry, geography 또는 스키마가 붙은 "public"."geometry")인지 판정한다. {@code
+   * _geometry} 배열이나 {@code geometry_dump} 같은 다른 타입은 제외한다.
+   */
+  static boolean isGeometryType(String typeName) {
+    if (typeName == null) {
+      return false;
+    }
+    String name =
+        typeName.substring(typeName.lastIndexOf('.') + 1).replace("\"", "").toLowerCase();
+    return name.equals("geometry") || name.equals("geography");
   }
 
   /**
@@ -0,0 +1,252 @@
+package com.smartfirehub.analytics.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartfirehub.analytics.dto.AnalyticsQueryResponse;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.global.util.HashUtils;
+import com.smartfirehub.global.util.SqlTableUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 쿼리(대시보드 위젯·차트 데이터) 결과 캐시. 키는 정규화한 SQL(JSqlParser 재출력)과 maxRows 의 해시이고, 항목마다 쿼리가 참조하는
+ * data 스키마 테이블들의 변경 버전(dataset_change)을 함께 저장한다. 조회 시 현재 버전과 다르면 미스로 보고 다시 실행하므로 임포트·파이프라인
+ * 적재·행 편집 직후에도 이전 결과를 돌려주지 않는다.
+ *
+ * <p>버전이 같아도 {@code refresh-after-seconds}가 지난 항목은 그대로 응답하고 백그라운드에서 한 번 다시 실행한다
+ * (stale-while-revalidate, now() 같은 비결정 SQL 대비). SELECT 가 아니거나, 파싱에 실패하거나, 데이터셋 테이블이 아닌 테이블을 참조하는
+ * 쿼리와 오류 응답은 캐시하지 않는다. 크기 상한은 결과 추정 바이트 합({@code max-bytes})이다.
+ *
+ * <p>Micrometer: {@code analytics_result_cache_total{result=hit|stale|miss|uncacheable}}, {@code
+ * analytics_result_cache_bytes}.
+ */
+@Slf4j
+@Component
+public class AnalyticsResultCache {
+
+  private final DatasetChangeRepository changeRepository;
+  private final Executor refreshExecutor;
+  private final long refreshAfterNanos;
+  private final Cache<String, Entry> results;
+  // SQL 원문 → 정규화 결과. 같은 saved query 를 매번 다시 파싱하지 않기 위함
+  private final Cache<String, ParsedQuery> parsed = Caffeine.newBuilder().maximumSize(1000).build();
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+  private final Counter hits;
+  private final Counter staleHits;
+  private final Counter misses;
+  private final Counter uncacheable;
+
+  public AnalyticsResultCache(
+      DatasetChangeRepository changeRepository,
+      MeterRegistry registry,
+      @Qualifier("dashboardQueryExecutor") Executor refreshExecutor,
+      @Value("${firehub.analytics.result-cache.max-bytes:67108864}") long maxBytes,
+      @Value("${firehub.analytics.result-cache.refresh-after-seconds:300}")
+          long refreshAfterSeconds) {
+    this.changeRepository = changeRepository;
+    this.refreshExecutor = refreshExecutor;
+    this.refreshAfterNanos = Duration.ofSeconds(Math.max(refreshAfterSeconds, 0)).toNanos();
+    this.results =
+        Caffeine.newBuilder()
+            .maximumWeight(Math.max(maxBytes, 0))
+            .<String, Entry>weigher((k, e) -> e.bytes())
+            .build();
+
+    this.hits = counter(registry, "hit");
+    this.staleHits = counter(registry, "stale");
+    this.misses = counter(registry, "miss");
+    this.uncacheable = counter(registry, "uncacheable");
+    Gauge.builder(
+            "analytics_result_cache_bytes",
+            results,
+            c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+        .register(registry);
+  }
+
+  /** 캐시를 거쳐 결과를 돌려준다. 미스면 loader 를 호출 스레드에서 실행한다. */
+  public AnalyticsQueryResponse get(
+      String sql, int maxRows, Supplier<AnalyticsQueryResponse> loader) {
+    Key key = keyOf(sql, maxRows);
+    AnalyticsQueryResponse cached = key != null ? getIfPresent(key, loader) : null;
+    if (cached != null) {
+      return cached;
+    }
+    AnalyticsQueryResponse result = loader.get();
+    put(key, result);
+    return result;
+  }
+
+  /** 캐시 키 (현재 데이터 버전 포함). 캐시할 수 없는 쿼리면 null. */
+  public Key keyOf(String sql, int maxRows) {
+    return keysOf(Collections.singletonMap(sql, sql), maxRows).get(sql);
+  }
+
+  /**
+   * 여러 쿼리의 캐시 키를 참조 테이블 버전 조회 한 번으로 만든다(대시보드 위젯 일괄 조회용). 캐시할 수 없는 쿼리는 결과 Map 에 없다.
+   */
+  public <K> Map<K, Key> keysOf(Map<K, String> sqlById, int maxRows) {
+    Map<K, ParsedQuery> queries = new HashMap<>();
+    Set<String> tables = new HashSet<>();
+    for (Map.Entry<K, String> e : sqlById.entrySet()) {
+      String sql = e.getValue();
+      if (sql == null || sql.isBlank()) {
+        continue;
+      }
+      ParsedQuery query = parsed.get(sql, this::parse);
+      if (query == ParsedQuery.UNCACHEABLE) {
+        uncacheable.increment();
+        continue;
+      }
+      queries.put(e.getKey(), query);
+      tables.addAll(query.tables());
+    }
+    Map<String, Long> versions =
+        tables.isEmpty() ? Map.of() : changeRepository.findVersionsByTableNames(tables);
+
+    Map<K, Key> keys = new HashMap<>();
+    for (Map.Entry<K, ParsedQuery> e : queries.entrySet()) {
+      Map<String, Long> own = new HashMap<>();
+      for (String table : e.getValue().tables()) {
+        Long version = versions.get(table);
+        if (version == null) {
+          // data 스키마에 있지만 데이터셋이 아닌 테이블(예: staging) — 변경을 추적할 수 없다
+          own = null;
+          break;
+        }
+        own.put(table, version);
+      }
+      if (own == null) {
+        uncacheable.increment();
+        continue;
+      }
+      keys.put(e.getKey(), new Key(e.getValue().hash() + ':' + maxRows, Map.copyOf(own)));
+    }
+    return keys;
+  }
+
+  /**
+   * 버전이 같은 항목이 있으면 반환한다. 오래된 항목이면 그대로 반환하면서 loader 로 백그라운드 재실행을 한 번 건다. 없거나 버전이 다르면
+   * null.
+   */
+  public AnalyticsQueryResponse getIfPresent(Key key, Supplier<AnalyticsQueryResponse> loader) {
+    Entry entry = results.getIfPresent(key.sqlKey());
+    if (entry == null || !entry.versions().equals(key.versions())) {
+      misses.increment();
+      return null;
+    }
+    if (System.nanoTime() - entry.loadedAtNanos() < refreshAfterNanos) {
+      hits.increment();
+      return entry.response();
+    }
+    staleHits.increment();
+    if (refreshing.add(key.sqlKey())) {
+      try {
+        refreshExecutor.execute(
+            () -> {
+              try {
+                put(key, loader.get());
+              } catch (Exception e) {
+                log.warn("Analytics result refresh failed: {}", e.getMessage());
+              } finally {
+                refreshing.remove(key.sqlKey());
+              }
+            });
+      } catch (RuntimeException e) {
+        refreshing.remove(key.sqlKey());
+        log.warn("Analytics result refresh rejected: {}", e.getMessage());
+      }
+    }
+    return entry.response();
+  }
+
+  /** 결과를 저장한다. key 가 null 이거나 오류 응답이면 저장하지 않는다. */
+  public void put(Key key, AnalyticsQueryResponse response) {
+    if (key == null || response == null || response.error() != null) {
+      return;
+    }
+    results.put(
+        key.sqlKey(),
+        new Entry(key.versions(), response, System.nanoTime(), estimateBytes(response)));
+  }
+
+  private ParsedQuery parse(String sql) {
+    Statement statement;
+    try {
+      statement = CCJSqlParserUtil.parse(sql);
+    } catch (Exception e) {
+      return ParsedQuery.UNCACHEABLE;
+    }
+    if (!(statement instanceof Select)) {
+      return ParsedQuery.UNCACHEABLE;
+    }
+    Set<String> tables = new HashSet<>();
+    try {
+      for (String name : new TablesNamesFinder<>().getTables(statement)) {
+        String table = SqlTableUtils.dataTableName(name);
+        if (table == null) {
+          return ParsedQuery.UNCACHEABLE;
+        }
+        tables.add(table);
+      }
+    } catch (Exception e) {
+      return ParsedQuery.UNCACHEABLE;
+    }
+    return new ParsedQuery(HashUtils.sha256Hex(statement.toString()), Set.copyOf(tables));
+  }
+
+  /** 결과가 힙에서 차지하는 대략의 바이트 수. */
+  static int estimateBytes(AnalyticsQueryResponse response) {
+    long bytes = 128;
+    for (String column : response.columns()) {
+      bytes += 40 + 2L * column.length();
+    }
+    for (Map<String, Object> row : response.rows()) {
+      bytes += 48;
+      for (Object value : row.values()) {
+        bytes += 32;
+        if (value instanceof CharSequence cs) {
+          bytes += 40 + 2L * cs.length();
+        } else if (value != null && !(value instanceof Number) && !(value instanceof Boolean)) {
+          bytes += 40 + 2L * value.toString().length();
+        } else {
+          bytes += 16;
+        }
+      }
+    }
+    return (int) Math.min(bytes, Integer.MAX_VALUE);
+  }
+
+  private static Counter counter(MeterRegistry registry, String result) {
+    return Counter.builder("analytics_result_cache_total").tag("result", result).register(registry);
+  }
+
+  /** 정규화 SQL 키와 조회 시점의 참조 테이블 버전. */
+  public record Key(String sqlKey, Map<String, Long> versions) {}
+
+  private record Entry(
+      Map<String, Long> versions, AnalyticsQueryResponse response, long loadedAtNanos, int bytes) {}
+
+  private record ParsedQuery(String hash, Set<String> tables) {
+    static final ParsedQuery UNCACHEABLE = new ParsedQuery(null, Set.of());
+  }
+}
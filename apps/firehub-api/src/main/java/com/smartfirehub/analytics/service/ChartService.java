@@ -18,9 +18,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChartService {
 
+  /** 차트 데이터 쿼리 최대 행 수. */
+  public static final int QUERY_MAX_ROWS = 1000;
+
   private final ChartRepository chartRepository;
   private final SavedQueryRepository savedQueryRepository;
   private final AnalyticsQueryExecutionService executionService;
+  private final AnalyticsResultCache resultCache;
 
   /** List charts with optional filters and pagination. */
   public PageResponse<ChartResponse> list(
@@ -105,15 +109,16 @@ public class ChartService {
   }
 
   /**
-   * Execute SQL for cache population (no user context — internal use by dashboard service). Uses
-   * readOnly=false to match chart data behavior; cache key is saved_query_id.
+   * Execute SQL for cache population (no user context — internal use by dashboard service). Runs in
+   * its own read-only transaction so the dashboard can execute several widgets concurrently; cache
+   * key is saved_query_id.
    */
   public com.smartfirehub.analytics.dto.AnalyticsQueryResponse executeQueryForCache(String sql) {
     if (sql == null || sql.isBlank()) {
       return new com.smartfirehub.analytics.dto.AnalyticsQueryResponse(
           "SELECT", java.util.List.of(), java.util.List.of(), 0, 0L, 0, false, null);
     }
-    return executionService.execute(sql, 1000, false);
+    return executionService.executeReadOnly(sql, QUERY_MAX_ROWS);
   }
 
   /**
@@ -127,7 +132,11 @@ public class ChartService {
             .findSavedQuerySqlText(id, userId)
             .orElseThrow(
                 () -> new SavedQueryNotFoundException("Saved query not found for chart: " + id));
-    var queryResult = executionService.execute(sqlText, 1000, false);
+    var queryResult =
+        resultCache.get(
+            sqlText,
+            QUERY_MAX_ROWS,
+            () -> executionService.execute(sqlText, QUERY_MAX_ROWS, false));
     return new ChartDataResponse(chart, queryResult);
   }
 }
@@ -6,8 +6,6 @@ import com.smartfirehub.dashboard.dto.ActivityFeedResponse;
 import com.smartfirehub.dashboard.dto.ActivityFeedResponse.ActivityItem;
 import com.smartfirehub.dashboard.dto.AttentionItemResponse;
 import com.smartfirehub.dashboard.dto.DashboardStatsResponse;
-import com.smartfirehub.dashboard.dto.RecentExecutionResponse;
-import com.smartfirehub.dashboard.dto.RecentImportResponse;
 import com.smartfirehub.dashboard.dto.SystemHealthResponse;
 import com.smartfirehub.dashboard.dto.SystemHealthResponse.DatasetHealth;
 import com.smartfirehub.dashboard.dto.SystemHealthResponse.PipelineHealth;
@@ -30,27 +28,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class DashboardService {
 
   private final DSLContext dsl;
+  private final DashboardSummary dashboardSummary;
 
   // Table constants
   private static final Table<?> DATASET = table(name("dataset"));
   private static final Field<Long> D_ID = field(name("dataset", "id"), Long.class);
   private static final Field<String> D_NAME = field(name("dataset", "name"), String.class);
-  private static final Field<String> D_TABLE_NAME =
-      field(name("dataset", "table_name"), String.class);
-  // 저장 방식(TABLE/DOCUMENT)과 출처(SOURCE/DERIVED/TEMP)를 분리한 두 컬럼
-  // 기존 dataset_type='SOURCE' ≡ storage_type='TABLE' AND origin_type='SOURCE' (문서 유입 방지)
-  private static final Field<String> D_STORAGE_TYPE =
-      field(name("dataset", "storage_type"), String.class);
-  private static final Field<String> D_ORIGIN_TYPE =
-      field(name("dataset", "origin_type"), String.class);
-  private static final Field<LocalDateTime> D_CREATED_AT =
-      field(name("dataset", "created_at"), LocalDateTime.class);
 
   private static final Table<?> PIPELINE = table(name("pipeline"));
   private static final Field<Long> P_ID = field(name("pipeline", "id"), Long.class);
   private static final Field<String> P_NAME = field(name("pipeline", "name"), String.class);
-  private static final Field<Boolean> P_IS_ACTIVE =
-      field(name("pipeline", "is_active"), Boolean.class);
 
   // audit_log constants
   private static final Table<?> AUDIT_LOG = table(name("audit_log"));
@@ -92,300 +79,75 @@ public class DashboardService {
   private static final Field<LocalDateTime> PE_COMPLETED_AT =
       field(name("pipeline_execution", "completed_at"), LocalDateTime.class);
 
-  @Transactional(readOnly = true)
   public DashboardStatsResponse getStats() {
-    // Count total datasets
-    long totalDatasets = dsl.selectCount().from(DATASET).fetchOne(0, Long.class);
-
-    // Count source datasets
-    long sourceDatasets =
-        dsl.selectCount()
-            .from(DATASET)
-            .where(D_STORAGE_TYPE.eq("TABLE").and(D_ORIGIN_TYPE.eq("SOURCE")))
-            .fetchOne(0, Long.class);
-
-    // Count derived datasets
-    long derivedDatasets =
-        dsl.selectCount()
-            .from(DATASET)
-            .where(D_STORAGE_TYPE.eq("TABLE").and(D_ORIGIN_TYPE.eq("DERIVED")))
-            .fetchOne(0, Long.class);
-
-    // Count total pipelines
-    long totalPipelines = dsl.selectCount().from(PIPELINE).fetchOne(0, Long.class);
-
-    // Count active pipelines
-    long activePipelines =
-        dsl.selectCount().from(PIPELINE).where(P_IS_ACTIVE.eq(true)).fetchOne(0, Long.class);
-
-    // Get recent imports from audit_log (top 5)
-    Field<String> metadataFileName = field("audit_log.metadata->>'fileName'", String.class);
-
-    List<RecentImportResponse> recentImports =
-        dsl.select(AL_ID, D_NAME, metadataFileName, AL_RESULT, AL_ACTION_TIME)
-            .from(AUDIT_LOG)
-            .join(DATASET)
-            .on(AL_RESOURCE_ID_AS_LONG.eq(D_ID))
-            .where(AL_ACTION_TYPE.eq("IMPORT").and(AL_RESOURCE.eq("dataset")))
-            .orderBy(AL_ACTION_TIME.desc())
-            .limit(5)
-            .fetch(
-                r -> {
-                  String status =
-                      switch (r.get(AL_RESULT)) {
-                        case "SUCCESS" -> "COMPLETED";
-                        case "FAILURE" -> "FAILED";
-                        default -> r.get(AL_RESULT);
-                      };
-                  return new RecentImportResponse(
-                      r.get(AL_ID),
-                      r.get(D_NAME),
-                      r.get(metadataFileName),
-                      status,
-                      r.get(AL_ACTION_TIME));
-                });
-
-    // Get recent executions (top 5)
-    List<RecentExecutionResponse> recentExecutions =
-        dsl.select(PE_ID, P_NAME, PE_STATUS, PE_CREATED_AT)
-            .from(PIPELINE_EXECUTION)
-            .join(PIPELINE)
-            .on(PE_PIPELINE_ID.eq(P_ID))
-            .orderBy(PE_CREATED_AT.desc())
-            .limit(5)
-            .fetch(
-                r ->
-                    new RecentExecutionResponse(
-                        r.get(PE_ID), r.get(P_NAME), r.get(PE_STATUS), r.get(PE_CREATED_AT)));
-
+    DashboardSummary.Snapshot summary = dashboardSummary.snapshot();
+    DashboardSummary.Counts counts = summary.counts();
     return new DashboardStatsResponse(
-        totalDatasets,
-        sourceDatasets,
-        derivedDatasets,
-        totalPipelines,
-        activePipelines,
-        recentImports,
-        recentExecutions);
+        counts.totalDatasets(),
+        counts.sourceDatasets(),
+        counts.derivedDatasets(),
+        counts.totalPipelines(),
+        counts.activePipelines(),
+        summary.recentImports(),
+        summary.recentExecutions());
   }
 
-  @Transactional(readOnly = true)
   public SystemHealthResponse getSystemHealth() {
-    // ---- Pipeline health ----
-    // Count all pipelines
-    int totalPipelines = dsl.selectCount().from(PIPELINE).fetchOne(0, int.class);
-
-    // Count disabled pipelines (is_active = false)
-    int disabledPipelines =
-        dsl.selectCount().from(PIPELINE).where(P_IS_ACTIVE.eq(false)).fetchOne(0, int.class);
-
-    // Get the most recent execution status per pipeline (only active pipelines)
-    // Use a lateral/subquery approach: for each active pipeline, get its latest execution status
-    // We query pipeline_execution grouped by pipeline_id, taking MAX(id) as the latest
-    // Build subquery: latest execution per pipeline
-    var latestExecSubquery =
-        dsl.select(
-                PE_PIPELINE_ID.as("pipeline_id"),
-                max(PE_ID).as("latest_id"),
-                field(
-                        "( SELECT pe2.status FROM pipeline_execution pe2"
-                            + " WHERE pe2.pipeline_id = pipeline_execution.pipeline_id"
-                            + " ORDER BY pe2.id DESC LIMIT 1 )",
-                        String.class)
-                    .as("latest_status"))
-            .from(PIPELINE_EXECUTION)
-            .groupBy(PE_PIPELINE_ID)
-            .asTable("latest_exec");
-
-    // Join active pipelines with their latest execution status
-    List<String> latestStatuses =
-        dsl.select(field("latest_exec.latest_status", String.class))
-            .from(latestExecSubquery)
-            .join(PIPELINE)
-            .on(field("latest_exec.pipeline_id", Long.class).eq(P_ID))
-            .where(P_IS_ACTIVE.eq(true))
-            .fetch(r -> r.get(0, String.class));
-
-    int activePipelinesTotal = totalPipelines - disabledPipelines;
+    DashboardSummary.Snapshot summary = dashboardSummary.snapshot();
+    DashboardSummary.Counts counts = summary.counts();
 
-    int runningPipelines = (int) latestStatuses.stream().filter("RUNNING"::equals).count();
-    int failingPipelines = (int) latestStatuses.stream().filter("FAILED"::equals).count();
+    // ---- Pipeline health ----
+    // running/failing: 활성 파이프라인의 최신 실행 상태 기준
     // healthy = completed + pending (waiting to run) + no execution yet
-    int healthyPipelines = activePipelinesTotal - runningPipelines - failingPipelines;
-    if (healthyPipelines < 0) healthyPipelines = 0;
-
+    int healthyPipelines =
+        Math.max(
+            counts.activePipelines() - counts.runningPipelines() - counts.failingPipelines(), 0);
     PipelineHealth pipelineHealth =
         new PipelineHealth(
-            totalPipelines,
+            counts.totalPipelines(),
             healthyPipelines,
-            failingPipelines,
-            runningPipelines,
-            disabledPipelines);
+            counts.failingPipelines(),
+            counts.runningPipelines(),
+            counts.totalPipelines() - counts.activePipelines());
 
     // ---- Dataset health ----
-    int totalDatasets = dsl.selectCount().from(DATASET).fetchOne(0, int.class);
-
-    LocalDateTime now = LocalDateTime.now();
-    LocalDateTime freshThreshold = now.minusHours(24);
-
-    // fresh: SOURCE datasets with a SUCCESS import within 24h
-    int freshDatasets =
-        dsl.fetchCount(
-            dsl.selectDistinct(AL_RESOURCE_ID)
-                .from(AUDIT_LOG)
-                .join(DATASET)
-                .on(AL_RESOURCE_ID.eq(D_ID.cast(String.class)))
-                .where(
-                    AL_ACTION_TYPE
-                        .eq("IMPORT")
-                        .and(AL_RESOURCE.eq("dataset"))
-                        .and(AL_RESULT.eq("SUCCESS"))
-                        .and(AL_ACTION_TIME.greaterThan(freshThreshold))
-                        .and(D_STORAGE_TYPE.eq("TABLE").and(D_ORIGIN_TYPE.eq("SOURCE")))));
-
-    // Also count source datasets created within 24h with no imports (brand new = fresh)
-    int newSourceNoImport =
-        dsl.fetchCount(
-            dsl.selectDistinct(D_ID)
-                .from(DATASET)
-                .where(
-                    D_STORAGE_TYPE
-                        .eq("TABLE")
-                        .and(D_ORIGIN_TYPE.eq("SOURCE"))
-                        .and(D_CREATED_AT.greaterThan(freshThreshold))
-                        .and(
-                            notExists(
-                                dsl.selectOne()
-                                    .from(AUDIT_LOG)
-                                    .where(
-                                        AL_ACTION_TYPE
-                                            .eq("IMPORT")
-                                            .and(AL_RESOURCE.eq("dataset"))
-                                            .and(AL_RESOURCE_ID.eq(D_ID.cast(String.class))))))));
-    freshDatasets += newSourceNoImport;
-
-    // stale: source datasets whose last import was >24h ago (or has never been imported and >24h
-    // old)
-    LocalDateTime staleThreshold = now.minusHours(24);
-
-    // Find SOURCE datasets with last import older than 24h
-    int staleWithOldImport =
-        dsl.fetchCount(
-            dsl.selectDistinct(AL_RESOURCE_ID)
-                .from(AUDIT_LOG)
-                .join(DATASET)
-                .on(AL_RESOURCE_ID.eq(D_ID.cast(String.class)))
-                .where(
-                    AL_ACTION_TYPE
-                        .eq("IMPORT")
-                        .and(AL_RESOURCE.eq("dataset"))
-                        .and(AL_RESULT.eq("SUCCESS"))
-                        .and(D_STORAGE_TYPE.eq("TABLE").and(D_ORIGIN_TYPE.eq("SOURCE"))))
-                .andNot(
-                    exists(
-                        dsl.selectOne()
-                            .from(AUDIT_LOG.as("al2"))
-                            .where(
-                                field("al2.action_type", String.class)
-                                    .eq("IMPORT")
-                                    .and(field("al2.resource", String.class).eq("dataset"))
-                                    .and(field("al2.result", String.class).eq("SUCCESS"))
-                                    .and(field("al2.resource_id", String.class).eq(AL_RESOURCE_ID))
-                                    .and(
-                                        field("al2.action_time", LocalDateTime.class)
-                                            .greaterThan(staleThreshold))))));
-
-    // Source datasets created >24h ago with no import at all
-    int staleNoImport =
-        dsl.fetchCount(
-            dsl.selectDistinct(D_ID)
-                .from(DATASET)
-                .where(
-                    D_STORAGE_TYPE
-                        .eq("TABLE")
-                        .and(D_ORIGIN_TYPE.eq("SOURCE"))
-                        .and(D_CREATED_AT.lessOrEqual(staleThreshold))
-                        .and(
-                            notExists(
-                                dsl.selectOne()
-                                    .from(AUDIT_LOG)
-                                    .where(
-                                        AL_ACTION_TYPE
-                                            .eq("IMPORT")
-                                            .and(AL_RESOURCE.eq("dataset"))
-                                            .and(AL_RESOURCE_ID.eq(D_ID.cast(String.class))))))));
-    int staleDatasets = staleWithOldImport + staleNoImport;
-
-    // empty: datasets where the data table has 0 rows
-    // Query pg_stat_user_tables for row estimates, or do a direct count
-    // We use information_schema + pg_class for accurate counts via pg_stat_user_tables
-    // For simplicity and correctness, count datasets whose table name appears in
-    // pg_stat_user_tables with n_live_tup=0
-    int emptyDatasets =
-        dsl.fetchCount(
-            dsl.select(D_ID)
-                .from(DATASET)
-                .join(table("pg_stat_user_tables").as("psu"))
-                .on(
-                    field("psu.relname", String.class)
-                        .eq(D_TABLE_NAME)
-                        .and(field("psu.schemaname", String.class).eq("data")))
-                .where(field("psu.n_live_tup", Long.class).eq(0L)));
+    // SOURCE 데이터셋만 판단한다. 임포트 이력이 있으면 마지막 성공 임포트, 없으면 생성 시각 기준으로
+    // 24h 이내면 fresh, 아니면 stale. 실패한 임포트만 있는 데이터셋은 어느 쪽에도 세지 않는다.
+    LocalDateTime freshThreshold = LocalDateTime.now().minusHours(24);
+    int freshDatasets = 0;
+    int staleDatasets = 0;
+    for (DashboardSummary.DatasetState dataset : summary.sourceDatasets()) {
+      LocalDateTime updatedAt =
+          dataset.imported() ? dataset.lastSuccessImportAt() : dataset.createdAt();
+      if (updatedAt == null) {
+        continue;
+      }
+      if (updatedAt.isAfter(freshThreshold)) {
+        freshDatasets++;
+      } else {
+        staleDatasets++;
+      }
+    }
 
+    // empty: data 테이블 행 수 추정치(pg_stat_user_tables.n_live_tup)가 0인 데이터셋
     DatasetHealth datasetHealth =
-        new DatasetHealth(totalDatasets, freshDatasets, staleDatasets, emptyDatasets);
+        new DatasetHealth(
+            counts.totalDatasets(), freshDatasets, staleDatasets, counts.emptyDatasets());
 
     return new SystemHealthResponse(pipelineHealth, datasetHealth);
   }
 
-  @Transactional(readOnly = true)
   public List<AttentionItemResponse> getAttentionItems() {
+    DashboardSummary.Snapshot summary = dashboardSummary.snapshot();
     List<AttentionItemResponse> items = new ArrayList<>();
     LocalDateTime now = LocalDateTime.now();
     LocalDateTime twoHoursAgo = now.minusHours(2);
     LocalDateTime twentyFourHoursAgo = now.minusHours(24);
 
     // 1. Failed pipelines: active pipelines whose latest execution is FAILED
-    // Get latest execution per pipeline
-    var failedPipelines =
-        dsl.select(
-                P_ID,
-                P_NAME,
-                field("last_exec.last_status", String.class),
-                field("last_exec.last_failed_at", LocalDateTime.class),
-                field("last_exec.last_success_at", LocalDateTime.class))
-            .from(PIPELINE)
-            .join(
-                dsl.select(
-                        PE_PIPELINE_ID.as("pid"),
-                        field(
-                                "MAX(CASE WHEN pipeline_execution.status = 'FAILED'"
-                                    + " THEN pipeline_execution.created_at END)",
-                                LocalDateTime.class)
-                            .as("last_failed_at"),
-                        field(
-                                "MAX(CASE WHEN pipeline_execution.status = 'COMPLETED'"
-                                    + " THEN pipeline_execution.created_at END)",
-                                LocalDateTime.class)
-                            .as("last_success_at"),
-                        field(
-                                "( SELECT pe3.status FROM pipeline_execution pe3"
-                                    + " WHERE pe3.pipeline_id = pipeline_execution.pipeline_id"
-                                    + " ORDER BY pe3.id DESC LIMIT 1 )",
-                                String.class)
-                            .as("last_status"))
-                    .from(PIPELINE_EXECUTION)
-                    .groupBy(PE_PIPELINE_ID)
-                    .asTable("last_exec"))
-            .on(P_ID.eq(field("last_exec.pid", Long.class)))
-            .where(
-                P_IS_ACTIVE.eq(true).and(field("last_exec.last_status", String.class).eq("FAILED")))
-            .fetch();
-
-    for (Record r : failedPipelines) {
-      Long pipelineId = r.get(P_ID);
-      String pipelineName = r.get(P_NAME);
-      LocalDateTime lastFailedAt = r.get(field("last_exec.last_failed_at", LocalDateTime.class));
-      LocalDateTime lastSuccessAt = r.get(field("last_exec.last_success_at", LocalDateTime.class));
+    for (DashboardSummary.PipelineState pipeline : summary.failedPipelines()) {
+      LocalDateTime lastFailedAt = pipeline.lastFailedAt();
+      LocalDateTime lastSuccessAt = pipeline.lastSuccessAt();
 
       // CRITICAL: failing for 2h+ (last success was >2h ago or never)
       boolean isCritical = lastSuccessAt == null || lastSuccessAt.isBefore(twoHoursAgo);
@@ -402,40 +164,27 @@ public class DashboardService {
           new AttentionItemResponse(
               "PIPELINE_FAILED",
               severity,
-              "파이프라인 '" + pipelineName + "' 실패",
+              "파이프라인 '" + pipeline.name() + "' 실패",
               description,
-              pipelineId,
+              pipeline.id(),
               "PIPELINE",
               lastFailedAt != null ? lastFailedAt : now));
     }
 
     // 3. Failed imports within last 24h: WARNING
-    var failedImports =
-        dsl.select(AL_ID, D_ID, D_NAME, AL_ACTION_TIME)
-            .from(AUDIT_LOG)
-            .join(DATASET)
-            .on(AL_RESOURCE_ID_AS_LONG.eq(D_ID))
-            .where(
-                AL_ACTION_TYPE
-                    .eq("IMPORT")
-                    .and(AL_RESOURCE.eq("dataset"))
-                    .and(AL_RESULT.eq("FAILURE"))
-                    .and(AL_ACTION_TIME.greaterThan(twentyFourHoursAgo)))
-            .orderBy(AL_ACTION_TIME.desc())
-            .fetch();
-
-    for (Record r : failedImports) {
-      Long datasetId = r.get(D_ID);
-      String datasetName = r.get(D_NAME);
-      LocalDateTime occurredAt = r.get(AL_ACTION_TIME);
+    for (DashboardSummary.FailedImport failedImport : summary.failedImports()) {
+      LocalDateTime occurredAt = failedImport.occurredAt();
+      if (!occurredAt.isAfter(twentyFourHoursAgo)) {
+        continue;
+      }
 
       items.add(
           new AttentionItemResponse(
               "IMPORT_FAILED",
               "WARNING",
-              "데이터셋 '" + datasetName + "' 임포트 실패",
+              "데이터셋 '" + failedImport.datasetName() + "' 임포트 실패",
               "발생: " + formatTimeAgo(occurredAt, now),
-              datasetId,
+              failedImport.datasetId(),
               "DATASET",
               occurredAt));
     }
@@ -0,0 +1,482 @@
+package com.smartfirehub.dashboard.service;
+
+import static org.jooq.impl.DSL.*;
+
+import com.smartfirehub.dashboard.dto.RecentExecutionResponse;
+import com.smartfirehub.dashboard.dto.RecentImportResponse;
+import com.smartfirehub.dataimport.service.DataImportFinishedEvent;
+import com.smartfirehub.dataset.search.DatasetChangedEvent;
+import com.smartfirehub.dataset.service.DatasetDeletedEvent;
+import com.smartfirehub.dataset.service.DatasetRowsChangedEvent;
+import com.smartfirehub.pipeline.event.PipelineChangedEvent;
+import com.smartfirehub.pipeline.event.PipelineCompletedEvent;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 홈 대시보드(통계·시스템 상태·주의 항목)용 메모리 요약. 파이프라인별 최신 실행 상태, 데이터셋별 임포트 이력 요약, 최근 임포트·실행 목록을
+ * 불변 스냅샷으로 들고 있어 조회가 DB 를 거치지 않는다.
+ *
+ * <p>파이프라인·데이터셋 변경 이벤트(정의 CRUD, 실행 생성·시작·완료, 임포트 종료, 행 변경)는 해당 ID 만 dirty 로 표시하고, {@code
+ * tick-ms} 주기로 dirty 항목만 다시 읽어 스냅샷을 바꾼다. 이벤트가 없는 변경(실행 이력 TTL 정리, 재시작 복구, 테이블 행 수 통계 등)은
+ * {@code reconcile-ms} 주기의 전체 재계산으로 맞춘다. 24시간·2시간 같은 시간 창은 저장한 시각으로 조회 시점에 계산한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSummary {
+
+  private static final Table<?> DATASET = table(name("dataset"));
+  private static final Field<Long> D_ID = field(name("dataset", "id"), Long.class);
+  private static final Field<String> D_NAME = field(name("dataset", "name"), String.class);
+  private static final Field<String> D_TABLE_NAME =
+      field(name("dataset", "table_name"), String.class);
+  // 저장 방식(TABLE/DOCUMENT)과 출처(SOURCE/DERIVED/TEMP)를 분리한 두 컬럼
+  // 기존 dataset_type='SOURCE' ≡ storage_type='TABLE' AND origin_type='SOURCE' (문서 유입 방지)
+  private static final Field<String> D_STORAGE_TYPE =
+      field(name("dataset", "storage_type"), String.class);
+  private static final Field<String> D_ORIGIN_TYPE =
+      field(name("dataset", "origin_type"), String.class);
+  private static final Field<LocalDateTime> D_CREATED_AT =
+      field(name("dataset", "created_at"), LocalDateTime.class);
+
+  private static final Table<?> PIPELINE = table(name("pipeline"));
+  private static final Field<Long> P_ID = field(name("pipeline", "id"), Long.class);
+  private static final Field<String> P_NAME = field(name("pipeline", "name"), String.class);
+  private static final Field<Boolean> P_IS_ACTIVE =
+      field(name("pipeline", "is_active"), Boolean.class);
+
+  private static final Table<?> PIPELINE_EXECUTION = table(name("pipeline_execution"));
+  private static final Field<Long> PE_ID = field(name("pipeline_execution", "id"), Long.class);
+  private static final Field<Long> PE_PIPELINE_ID =
+      field(name("pipeline_execution", "pipeline_id"), Long.class);
+  private static final Field<String> PE_STATUS =
+      field(name("pipeline_execution", "status"), String.class);
+  private static final Field<LocalDateTime> PE_CREATED_AT =
+      field(name("pipeline_execution", "created_at"), LocalDateTime.class);
+
+  private static final Table<?> AUDIT_LOG = table(name("audit_log"));
+  private static final Field<Long> AL_ID = field(name("audit_log", "id"), Long.class);
+  private static final Field<String> AL_ACTION_TYPE =
+      field(name("audit_log", "action_type"), String.class);
+  private static final Field<String> AL_RESOURCE =
+      field(name("audit_log", "resource"), String.class);
+  private static final Field<String> AL_RESOURCE_ID =
+      field(name("audit_log", "resource_id"), String.class);
+  private static final Field<String> AL_RESULT = field(name("audit_log", "result"), String.class);
+  private static final Field<LocalDateTime> AL_ACTION_TIME =
+      field(name("audit_log", "action_time"), LocalDateTime.class);
+  // 숫자가 아닌 resource_id 는 캐스트 오류 대신 NULL (DashboardService 와 동일)
+  private static final Field<Long> AL_RESOURCE_ID_AS_LONG =
+      field(
+          "CASE WHEN audit_log.resource_id ~ '^[0-9]+$'"
+              + " THEN audit_log.resource_id::BIGINT ELSE NULL END",
+          Long.class);
+
+  // 파이프라인별 실행 요약 (pipeline_execution 을 pipeline_id 로 한 번 집계)
+  private static final Field<Long> PS_PIPELINE_ID =
+      field(name("pe_summary", "pipeline_id"), Long.class);
+  private static final Field<String> PS_LATEST_STATUS =
+      field(name("pe_summary", "latest_status"), String.class);
+  private static final Field<LocalDateTime> PS_LAST_FAILED_AT =
+      field(name("pe_summary", "last_failed_at"), LocalDateTime.class);
+  private static final Field<LocalDateTime> PS_LAST_SUCCESS_AT =
+      field(name("pe_summary", "last_success_at"), LocalDateTime.class);
+
+  // 데이터셋별 IMPORT 감사 로그 요약 (행이 있으면 임포트 이력 있음)
+  private static final Field<String> IS_RESOURCE_ID =
+      field(name("import_summary", "resource_id"), String.class);
+  private static final Field<LocalDateTime> IS_LAST_SUCCESS_AT =
+      field(name("import_summary", "last_success_at"), LocalDateTime.class);
+
+  private static final Field<Long> PSU_LIVE_TUP = field(name("psu", "n_live_tup"), Long.class);
+
+  private static final int RECENT_LIMIT = 5;
+
+  private final DSLContext dsl;
+
+  private final Set<Long> dirtyPipelines = ConcurrentHashMap.newKeySet();
+  private final Set<Long> dirtyDatasets = ConcurrentHashMap.newKeySet();
+  private final Object refreshLock = new Object();
+  private volatile Snapshot snapshot;
+
+  /** 현재 스냅샷. 아직 없으면(기동 직후 첫 조회) 호출 스레드에서 전체를 읽는다. */
+  public Snapshot snapshot() {
+    Snapshot current = snapshot;
+    if (current != null) {
+      return current;
+    }
+    synchronized (refreshLock) {
+      if (snapshot == null) {
+        snapshot = loadAll();
+      }
+      return snapshot;
+    }
+  }
+
+  /** 전체를 다시 읽어 스냅샷을 바꾼다. 호출 스레드의 트랜잭션 안에서 읽는다. */
+  @Scheduled(
+      initialDelayString = "${firehub.dashboard.summary.reconcile-ms:300000}",
+      fixedDelayString = "${firehub.dashboard.summary.reconcile-ms:300000}")
+  public void reconcile() {
+    synchronized (refreshLock) {
+      // 비우기 전에 도착한 이벤트는 이미 커밋된 변경이므로 아래 전체 읽기에 포함된다
+      dirtyPipelines.clear();
+      dirtyDatasets.clear();
+      snapshot = loadAll();
+    }
+  }
+
+  /** dirty 로 표시된 파이프라인·데이터셋만 다시 읽어 스냅샷에 반영한다. 변경이 없으면 DB 를 조회하지 않는다. */
+  @Scheduled(fixedDelayString = "${firehub.dashboard.summary.tick-ms:2000}")
+  void applyChanges() {
+    if (snapshot == null || (dirtyPipelines.isEmpty() && dirtyDatasets.isEmpty())) {
+      return;
+    }
+    synchronized (refreshLock) {
+      Set<Long> pipelineIds = drain(dirtyPipelines);
+      Set<Long> datasetIds = drain(dirtyDatasets);
+      try {
+        Snapshot current = snapshot;
+        Map<Long, PipelineState> pipelines = current.pipelines();
+        List<RecentExecutionResponse> recentExecutions = current.recentExecutions();
+        if (!pipelineIds.isEmpty()) {
+          pipelines = merge(pipelines, pipelineIds, loadPipelines(pipelineIds), PipelineState::id);
+          recentExecutions = loadRecentExecutions();
+        }
+        Map<Long, DatasetState> datasets = current.datasets();
+        List<RecentImportResponse> recentImports = current.recentImports();
+        List<FailedImport> failedImports = current.failedImports();
+        if (!datasetIds.isEmpty()) {
+          datasets = merge(datasets, datasetIds, loadDatasets(datasetIds), DatasetState::id);
+          recentImports = loadRecentImports();
+          failedImports = loadFailedImports();
+        }
+        snapshot =
+            Snapshot.of(pipelines, datasets, recentImports, recentExecutions, failedImports);
+      } catch (RuntimeException e) {
+        // 다음 틱에서 다시 시도한다
+        dirtyPipelines.addAll(pipelineIds);
+        dirtyDatasets.addAll(datasetIds);
+        log.warn("Dashboard summary refresh failed: {}", e.getMessage());
+      }
+    }
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onPipelineChanged(PipelineChangedEvent event) {
+    dirtyPipelines.add(event.pipelineId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onPipelineCompleted(PipelineCompletedEvent event) {
+    dirtyPipelines.add(event.pipelineId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onDatasetChanged(DatasetChangedEvent event) {
+    dirtyDatasets.add(event.datasetId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onDatasetDeleted(DatasetDeletedEvent event) {
+    dirtyDatasets.add(event.datasetId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onRowsChanged(DatasetRowsChangedEvent event) {
+    dirtyDatasets.add(event.datasetId());
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onImportFinished(DataImportFinishedEvent event) {
+    dirtyDatasets.add(event.datasetId());
+  }
+
+  private Snapshot loadAll() {
+    long startedAt = System.nanoTime();
+    Snapshot loaded =
+        Snapshot.of(
+            loadPipelines(null).stream().collect(Collectors.toMap(PipelineState::id, p -> p)),
+            loadDatasets(null).stream().collect(Collectors.toMap(DatasetState::id, d -> d)),
+            loadRecentImports(),
+            loadRecentExecutions(),
+            loadFailedImports());
+    log.debug(
+        "Dashboard summary reloaded: pipelines={}, datasets={}, {}ms",
+        loaded.pipelines().size(),
+        loaded.datasets().size(),
+        (System.nanoTime() - startedAt) / 1_000_000);
+    return loaded;
+  }
+
+  /** 파이프라인 상태. ids 가 null 이면 전체. */
+  private List<PipelineState> loadPipelines(Collection<Long> ids) {
+    var executionSummary =
+        dsl.select(
+                PE_PIPELINE_ID.as("pipeline_id"),
+                field(
+                        "(array_agg(pipeline_execution.status"
+                            + " ORDER BY pipeline_execution.id DESC))[1]",
+                        String.class)
+                    .as("latest_status"),
+                field(
+                        "MAX(pipeline_execution.created_at)"
+                            + " FILTER (WHERE pipeline_execution.status = 'FAILED')",
+                        LocalDateTime.class)
+                    .as("last_failed_at"),
+                field(
+                        "MAX(pipeline_execution.created_at)"
+                            + " FILTER (WHERE pipeline_execution.status = 'COMPLETED')",
+                        LocalDateTime.class)
+                    .as("last_success_at"))
+            .from(PIPELINE_EXECUTION)
+            .where(ids == null ? noCondition() : PE_PIPELINE_ID.in(ids))
+            .groupBy(PE_PIPELINE_ID)
+            .asTable("pe_summary");
+
+    return dsl.select(
+            P_ID, P_NAME, P_IS_ACTIVE, PS_LATEST_STATUS, PS_LAST_FAILED_AT, PS_LAST_SUCCESS_AT)
+        .from(PIPELINE)
+        .leftJoin(executionSummary)
+        .on(PS_PIPELINE_ID.eq(P_ID))
+        .where(ids == null ? noCondition() : P_ID.in(ids))
+        .fetch(
+            r ->
+                new PipelineState(
+                    r.get(P_ID),
+                    r.get(P_NAME),
+                    Boolean.TRUE.equals(r.get(P_IS_ACTIVE)),
+                    r.get(PS_LATEST_STATUS),
+                    r.get(PS_LAST_FAILED_AT),
+                    r.get(PS_LAST_SUCCESS_AT)));
+  }
+
+  /** 데이터셋 상태. ids 가 null 이면 전체. */
+  private List<DatasetState> loadDatasets(Collection<Long> ids) {
+    Condition importFilter = AL_ACTION_TYPE.eq("IMPORT").and(AL_RESOURCE.eq("dataset"));
+    if (ids != null) {
+      // resource_id 는 VARCHAR — 인덱스(resource, resource_id)를 타도록 문자열로 비교한다
+      List<String> resourceIds = ids.stream().map(String::valueOf).toList();
+      importFilter = importFilter.and(AL_RESOURCE_ID.in(resourceIds));
+    }
+    var importSummary =
+        dsl.select(
+                AL_RESOURCE_ID.as("resource_id"),
+                field(
+                        "MAX(audit_log.action_time) FILTER (WHERE audit_log.result = 'SUCCESS')",
+                        LocalDateTime.class)
+                    .as("last_success_at"))
+            .from(AUDIT_LOG)
+            .where(importFilter)
+            .groupBy(AL_RESOURCE_ID)
+            .asTable("import_summary");
+
+    // 행 수는 pg_stat_user_tables 추정치(n_live_tup)를 쓴다 — 통계 갱신 지연은 주기적 재계산이 맞춘다
+    return dsl.select(
+            D_ID,
+            D_STORAGE_TYPE,
+            D_ORIGIN_TYPE,
+            D_CREATED_AT,
+            IS_RESOURCE_ID,
+            IS_LAST_SUCCESS_AT,
+            PSU_LIVE_TUP)
+        .from(DATASET)
+        .leftJoin(importSummary)
+        .on(IS_RESOURCE_ID.eq(D_ID.cast(String.class)))
+        .leftJoin(table("pg_stat_user_tables").as("psu"))
+        .on(
+            field("psu.relname", String.class)
+                .eq(D_TABLE_NAME)
+                .and(field("psu.schemaname", String.class).eq("data")))
+        .where(ids == null ? noCondition() : D_ID.in(ids))
+        .fetch(
+            r -> {
+              boolean tableBacked = "TABLE".equals(r.get(D_STORAGE_TYPE));
+              return new DatasetState(
+                  r.get(D_ID),
+                  tableBacked && "SOURCE".equals(r.get(D_ORIGIN_TYPE)),
+                  tableBacked && "DERIVED".equals(r.get(D_ORIGIN_TYPE)),
+                  r.get(D_CREATED_AT),
+                  r.get(IS_RESOURCE_ID) != null,
+                  r.get(IS_LAST_SUCCESS_AT),
+                  Long.valueOf(0L).equals(r.get(PSU_LIVE_TUP)));
+            });
+  }
+
+  private List<RecentImportResponse> loadRecentImports() {
+    Field<String> metadataFileName = field("audit_log.metadata->>'fileName'", String.class);
+    return dsl.select(AL_ID, D_NAME, metadataFileName, AL_RESULT, AL_ACTION_TIME)
+        .from(AUDIT_LOG)
+        .join(DATASET)
+        .on(AL_RESOURCE_ID_AS_LONG.eq(D_ID))
+        .where(AL_ACTION_TYPE.eq("IMPORT").and(AL_RESOURCE.eq("dataset")))
+        .orderBy(AL_ACTION_TIME.desc())
+        .limit(RECENT_LIMIT)
+        .fetch(
+            r -> {
+              String status =
+                  switch (r.get(AL_RESULT)) {
+                    case "SUCCESS" -> "COMPLETED";
+                    case "FAILURE" -> "FAILED";
+                    default -> r.get(AL_RESULT);
+                  };
+              return new RecentImportResponse(
+                  r.get(AL_ID),
+                  r.get(D_NAME),
+                  r.get(metadataFileName),
+                  status,
+                  r.get(AL_ACTION_TIME));
+            });
+  }
+
+  private List<RecentExecutionResponse> loadRecentExecutions() {
+    return dsl.select(PE_ID, P_NAME, PE_STATUS, PE_CREATED_AT)
+        .from(PIPELINE_EXECUTION)
+        .join(PIPELINE)
+        .on(PE_PIPELINE_ID.eq(P_ID))
+        .orderBy(PE_CREATED_AT.desc())
+        .limit(RECENT_LIMIT)
+        .fetch(
+            r ->
+                new RecentExecutionResponse(
+                    r.get(PE_ID), r.get(P_NAME), r.get(PE_STATUS), r.get(PE_CREATED_AT)));
+  }
+
+  /** 최근 24시간 실패 임포트 (최신순). 조회 시 다시 24시간으로 거른다. */
+  private List<FailedImport> loadFailedImports() {
+    return dsl.select(AL_ID, D_ID, D_NAME, AL_ACTION_TIME)
+        .from(AUDIT_LOG)
+        .join(DATASET)
+        .on(AL_RESOURCE_ID_AS_LONG.eq(D_ID))
+        .where(
+            AL_ACTION_TYPE
+                .eq("IMPORT")
+                .and(AL_RESOURCE.eq("dataset"))
+                .and(AL_RESULT.eq("FAILURE"))
+                .and(AL_ACTION_TIME.greaterThan(LocalDateTime.now().minusHours(24))))
+        .orderBy(AL_ACTION_TIME.desc())
+        .fetch(
+            r ->
+                new FailedImport(
+                    r.get(AL_ID), r.get(D_ID), r.get(D_NAME), r.get(AL_ACTION_TIME)));
+  }
+
+  private static Set<Long> drain(Set<Long> dirty) {
+    Set<Long> ids = new HashSet<>(dirty);
+    dirty.removeAll(ids);
+    return ids;
+  }
+
+  // ids 에 해당하는 항목을 다시 읽은 값으로 바꾼다. 다시 읽은 결과에 없으면 삭제된 것이다.
+  private static <T> Map<Long, T> merge(
+      Map<Long, T> current, Set<Long> ids, List<T> reloaded, Function<T, Long> idOf) {
+    Map<Long, T> merged = new HashMap<>(current);
+    merged.keySet().removeAll(ids);
+    for (T item : reloaded) {
+      merged.put(idOf.apply(item), item);
+    }
+    return merged;
+  }
+
+  /**
+   * 대시보드 요약 스냅샷. 조회 시점과 무관한 값(개수, 실패 중인 파이프라인, SOURCE 데이터셋 목록)은 만들 때 미리 계산한다.
+   *
+   * @param failedPipelines 최신 실행이 FAILED 인 활성 파이프라인
+   * @param sourceDatasets 신선도(fresh/stale) 판단 대상인 SOURCE 데이터셋
+   */
+  public record Snapshot(
+      Map<Long, PipelineState> pipelines,
+      Map<Long, DatasetState> datasets,
+      List<RecentImportResponse> recentImports,
+      List<RecentExecutionResponse> recentExecutions,
+      List<FailedImport> failedImports,
+      Counts counts,
+      List<PipelineState> failedPipelines,
+      List<DatasetState> sourceDatasets) {
+
+    static Snapshot of(
+        Map<Long, PipelineState> pipelines,
+        Map<Long, DatasetState> datasets,
+        List<RecentImportResponse> recentImports,
+        List<RecentExecutionResponse> recentExecutions,
+        List<FailedImport> failedImports) {
+      List<PipelineState> active =
+          pipelines.values().stream().filter(PipelineState::active).toList();
+      List<PipelineState> failed =
+          active.stream().filter(p -> "FAILED".equals(p.latestStatus())).toList();
+      List<DatasetState> sources =
+          datasets.values().stream().filter(DatasetState::source).toList();
+      Counts counts =
+          new Counts(
+              pipelines.size(),
+              active.size(),
+              (int) active.stream().filter(p -> "RUNNING".equals(p.latestStatus())).count(),
+              failed.size(),
+              datasets.size(),
+              sources.size(),
+              (int) datasets.values().stream().filter(DatasetState::derived).count(),
+              (int) datasets.values().stream().filter(DatasetState::empty).count());
+      return new Snapshot(
+          Map.copyOf(pipelines),
+          Map.copyOf(datasets),
+          List.copyOf(recentImports),
+          List.copyOf(recentExecutions),
+          List.copyOf(failedImports),
+          counts,
+          failed,
+          sources);
+    }
+  }
+
+  /** running/failing 은 활성 파이프라인 중 최신 실행 상태 기준. */
+  public record Counts(
+      int totalPipelines,
+      int activePipelines,
+      int runningPipelines,
+      int failingPipelines,
+      int totalDatasets,
+      int sourceDatasets,
+      int derivedDatasets,
+      int emptyDatasets) {}
+
+  /** latestStatus 는 가장 최근(id 최대) 실행 상태, 실행 이력이 없으면 null. */
+  public record PipelineState(
+      long id,
+      String name,
+      boolean active,
+      String latestStatus,
+      LocalDateTime lastFailedAt,
+      LocalDateTime lastSuccessAt) {}
+
+  /** imported 는 성공·실패와 무관하게 IMPORT 감사 로그가 있는지. */
+  public record DatasetState(
+      long id,
+      boolean source,
+      boolean derived,
+      LocalDateTime createdAt,
+      boolean imported,
+      LocalDateTime lastSuccessImportAt,
+      boolean empty) {}
+
+  public record FailedImport(
+      long auditLogId, long datasetId, String datasetName, LocalDateTime occurredAt) {}
+}
@@ -0,0 +1,436 @@
+package com.smartfirehub.dataimport.service;
+
+import com.smartfirehub.dataset.dto.DatasetColumnResponse;
+import java.math.BigDecimal;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalQuery;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데이터셋 컬럼 하나의 셀 변환기. 임포트마다 컬럼별로 한 번 컴파일해 모든 셀에 재사용한다.
+ *
+ * <p>기존 {@code DataValidationService.convertValue(value, dataType)}는 셀마다 타입 문자열로 분기하고, 날짜/시각은 허용
+ * 형식을 순서대로 {@code parse}해 실패를 예외로 걸러냈다. 여러 시각 컬럼이 있는 넓은 시트에서는 셀당 예외 생성(스택 트레이스 채우기)이
+ * 행당 CPU의 대부분을 차지했다. 컴파일된 변환기는 다음과 같이 동작하며, 결과 값과 오류 문구는 기존과 같다.
+ *
+ * <ul>
+ *   <li>타입 분기는 컴파일 시 한 번만 한다.
+ *   <li>INTEGER/DECIMAL은 문자를 직접 훑어 형식을 판정하므로 잘못된 값에도 예외를 만들지 않는다. ASCII 밖의 숫자 문자나 자릿수가 큰
+ *       값처럼 드문 입력만 JDK 파서로 넘긴다.
+ *   <li>DATE/TIMESTAMP는 컬럼별로 마지막에 성공한 형식을 기억해 먼저 시도한다(같은 컬럼은 보통 한 형식만 쓴다). 기억한 형식이 실패하면
+ *       허용 형식을 원래 순서대로 훑되, {@link DateTimeFormatter#parseUnresolved}로 모양이 맞는 형식만 실제로 파싱한다.
+ * </ul>
+ *
+ * <p>"처음 맞는 형식이 이긴다"는 기존 규칙은 그대로다. 앞선 형식과 모양이 겹칠 수 있는 형식(예: dd/MM/yyyy 뒤의 MM/dd/yyyy)은
+ * 기억해 두어도 먼저 시도하지 않는다. 변환기는 임포트 워커들이 공유하므로 기억한 형식은 volatile로 두며, 경합으로 잃는 것은 재시도 비용뿐이다.
+ */
+public abstract sealed class ColumnConverter {
+
+  /** DATE 허용 형식(시도 순서). */
+  static final TemporalFormats DATE_FORMATS =
+      TemporalFormats.of(
+          LocalDate::from,
+          "날짜 형식이 아닙니다: ",
+          " (허용 형식: yyyy-MM-dd, yyyy/MM/dd, dd-MM-yyyy, dd/MM/yyyy, MM/dd/yyyy, yyyyMMdd)",
+          null,
+          "yyyy-MM-dd",
+          "yyyy/MM/dd",
+          "dd-MM-yyyy",
+          "dd/MM/yyyy",
+          "MM/dd/yyyy",
+          // 구분자 없는 8자리 yyyyMMdd(예: 20200316) — 공공/레거시 CSV에 흔한 형식
+          "yyyyMMdd");
+
+  /** TIMESTAMP 허용 형식(시도 순서). ISO_LOCAL_DATE_TIME이 가장 먼저다. */
+  static final TemporalFormats TIMESTAMP_FORMATS =
+      TemporalFormats.of(
+          LocalDateTime::from,
+          "날짜시간 형식이 아닙니다: ",
+          " (허용 형식: yyyy-MM-dd HH:mm:ss, yyyyMMddHHmmss, ISO 형식)",
+          DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+          "yyyy-MM-dd HH:mm:ss",
+          "yyyy/MM/dd HH:mm:ss",
+          "dd-MM-yyyy HH:mm:ss",
+          "dd/MM/yyyy HH:mm:ss",
+          "yyyyMMddHHmmss");
+
+  /** 변환 실패. 기존 convertValue가 던지던 예외 메시지와 같은 문구를 담는다. */
+  public record Failure(String message) {}
+
+  /** 데이터 타입 하나에 맞는 변환기를 만든다. 알 수 없는 타입은 모든 셀을 실패로 돌려주는 변환기가 된다. */
+  public static ColumnConverter compile(String dataType) {
+    return switch (dataType) {
+      case "TEXT", "VARCHAR", "GEOMETRY" -> new PassThrough();
+      case "INTEGER" -> new IntegerConverter();
+      case "DECIMAL" -> new DecimalConverter();
+      case "BOOLEAN" -> new BooleanConverter();
+      case "DATE" -> new TemporalConverter(DATE_FORMATS);
+      case "TIMESTAMP" -> new TemporalConverter(TIMESTAMP_FORMATS);
+      default -> new UnknownType(dataType);
+    };
+  }
+
+  /** 데이터셋 컬럼 순서대로 변환기를 컴파일한다. */
+  public static ColumnConverter[] compileAll(List<DatasetColumnResponse> columns) {
+    ColumnConverter[] converters = new ColumnConverter[columns.size()];
+    for (int c = 0; c < converters.length; c++) {
+      converters[c] = compile(columns.get(c).dataType());
+    }
+    return converters;
+  }
+
+  /**
+   * 앞뒤 공백을 제거한, 비어 있지 않은 셀 값을 변환한다.
+   *
+   * @return 변환 값, 또는 실패 시 {@link Failure}
+   */
+  public final Object convert(String value) {
+    return convertUnquoted(unquote(value));
+  }
+
+  /** DATE/TIMESTAMP 컬럼이면 true. 무의미한 날짜없음 표식("0", "0000-00-00") 정규화 대상 판정에 쓴다. */
+  public boolean isTemporal() {
+    return false;
+  }
+
+  abstract Object convertUnquoted(String value);
+
+  /** CSV 파싱에서 남은 앞뒤 따옴표를 벗긴다. */
+  private static String unquote(String value) {
+    if (value.length() >= 2
+        && ((value.startsWith("'") && value.endsWith("'"))
+            || (value.startsWith("\"") && value.endsWith("\"")))) {
+      return value.substring(1, value.length() - 1);
+    } else if (value.startsWith("'") || value.startsWith("\"")) {
+      return value.substring(1);
+    }
+    return value;
+  }
+
+  private static final class PassThrough extends ColumnConverter {
+    @Override
+    Object convertUnquoted(String value) {
+      // GEOMETRY: GeoJSON 문자열을 그대로 넘긴다(PostGIS가 적재 시 검증).
+      return value;
+    }
+  }
+
+  private static final class UnknownType extends ColumnConverter {
+    private final Failure failure;
+
+    UnknownType(String dataType) {
+      this.failure = new Failure("알 수 없는 데이터 타입입니다: " + dataType);
+    }
+
+    @Override
+    Object convertUnquoted(String value) {
+      return failure;
+    }
+  }
+
+  /** {@code Long.parseLong(value.replace(",", ""))}와 같은 결과를 예외 없이 낸다. 천단위 콤마는 위치와 관계없이 건너뛴다. */
+  private static final class IntegerConverter extends ColumnConverter {
+
+    // 18자리까지는 long 범위를 넘을 수 없어 오버플로 검사가 필요 없다.
+    private static final int SAFE_DIGITS = 18;
+
+    @Override
+    Object convertUnquoted(String value) {
+      boolean negative = false;
+      boolean signSeen = false;
+      int digits = 0;
+      long result = 0;
+      for (int i = 0; i < value.length(); i++) {
+        char ch = value.charAt(i);
+        if (ch == ',') {
+          continue;
+        }
+        if (ch >= '0' && ch <= '9') {
+          result = result * 10 + (ch - '0');
+          digits++;
+        } else if ((ch == '-' || ch == '+') && !signSeen && digits == 0) {
+          negative = ch == '-';
+        } else if (ch > 0x7F && Character.digit(ch, 10) >= 0) {
+          return slowPath(value); // 전각 숫자 등 — parseLong은 유니코드 숫자도 받는다.
+        } else {
+          return failure(value);
+        }
+        signSeen = true;
+      }
+      if (digits == 0) {
+        return failure(value);
+      }
+      if (digits > SAFE_DIGITS) {
+        return slowPath(value);
+      }
+      return negative ? -result : result;
+    }
+
+    private static Object slowPath(String value) {
+      try {
+        return Long.parseLong(value.replace(",", ""));
+      } catch (NumberFormatException e) {
+        return failure(value);
+      }
+    }
+
+    private static Failure failure(String value) {
+      return new Failure("정수 형식이 아닙니다: " + value);
+    }
+  }
+
+  /**
+   * {@code new BigDecimal(value.replace(",", ""))}와 같은 결과를 낸다. BigDecimal 문법(부호, 소수점, 지수)을 먼저 훑어 형식이 틀린
+   * 값은 예외 없이 실패로 돌려준다. 문법이 맞는 값만 BigDecimal 생성자로 넘긴다.
+   */
+  private static final class DecimalConverter extends ColumnConverter {
+
+    @Override
+    Object convertUnquoted(String value) {
+      boolean hasComma = false;
+      int i = 0;
+      int n = value.length();
+      // 부호 앞의 콤마도 replace 후에는 사라지므로 건너뛴다.
+      while (i < n && value.charAt(i) == ',') {
+        hasComma = true;
+        i++;
+      }
+      if (i < n && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+        i++;
+      }
+      int mantissaDigits = 0;
+      boolean dotSeen = false;
+      boolean exponentSeen = false;
+      int exponentDigits = 0;
+      for (; i < n; i++) {
+        char ch = value.charAt(i);
+        if (ch == ',') {
+          hasComma = true;
+        } else if (ch >= '0' && ch <= '9') {
+          if (exponentSeen) {
+            exponentDigits++;
+          } else {
+            mantissaDigits++;
+          }
+        } else if (ch == '.' && !dotSeen && !exponentSeen) {
+          dotSeen = true;
+        } else if ((ch == 'e' || ch == 'E') && !exponentSeen && mantissaDigits > 0) {
+          exponentSeen = true;
+          int next = nextNonComma(value, i + 1);
+          if (next < n && (value.charAt(next) == '+' || value.charAt(next) == '-')) {
+            hasComma |= next > i + 1;
+            i = next;
+          }
+        } else if (ch > 0x7F) {
+          return parse(value, true); // 유니코드 숫자 등 — BigDecimal 자체 판정에 맡긴다.
+        } else {
+          return failure(value);
+        }
+      }
+      if (mantissaDigits == 0 || (exponentSeen && exponentDigits == 0)) {
+        return failure(value);
+      }
+      // 지수 범위 초과처럼 문법 밖의 실패는 드물므로 생성자의 예외로 처리한다.
+      return parse(value, hasComma);
+    }
+
+    private static int nextNonComma(String value, int from) {
+      while (from < value.length() && value.charAt(from) == ',') {
+        from++;
+      }
+      return from;
+    }
+
+    private static Object parse(String value, boolean hasComma) {
+      try {
+        return new BigDecimal(hasComma ? value.replace(",", "") : value);
+      } catch (NumberFormatException e) {
+        return failure(value);
+      }
+    }
+
+    private static Failure failure(String value) {
+      return new Failure("소수 형식이 아닙니다: " + value);
+    }
+  }
+
+  private static final class BooleanConverter extends ColumnConverter {
+    @Override
+    Object convertUnquoted(String value) {
+      String lower = value.toLowerCase();
+      if (lower.equals("true") || lower.equals("1") || lower.equals("yes")) {
+        return Boolean.TRUE;
+      } else if (lower.equals("false") || lower.equals("0") || lower.equals("no")) {
+        return Boolean.FALSE;
+      }
+      return new Failure("참/거짓 형식이 아닙니다: " + value + " (허용 값: true/false/1/0/yes/no)");
+    }
+  }
+
+  /** 컬럼별로 마지막에 성공한 형식을 기억하는 DATE/TIMESTAMP 변환기. */
+  private static final class TemporalConverter extends ColumnConverter {
+
+    private final TemporalFormats formats;
+
+    /** 마지막으로 성공한 형식 인덱스. 앞선 형식과 겹치지 않는 형식일 때만 먼저 시도한다. */
+    private volatile int learned = -1;
+
+    TemporalConverter(TemporalFormats formats) {
+      this.formats = formats;
+    }
+
+    @Override
+    public boolean isTemporal() {
+      return true;
+    }
+
+    @Override
+    Object convertUnquoted(String value) {
+      int first = learned;
+      if (first >= 0) {
+        try {
+          return formats.formatters.get(first).parse(value, formats.query);
+        } catch (DateTimeParseException ignored) {
+          // 이 컬럼의 다른 형식 값 — 아래에서 원래 순서대로 찾는다.
+        }
+      }
+      for (int i = 0; i < formats.formatters.size(); i++) {
+        if (i == first) {
+          continue;
+        }
+        DateTimeFormatter formatter = formats.formatters.get(i);
+        ParsePosition position = new ParsePosition(0);
+        if (formatter.parseUnresolved(value, position) == null
+            || position.getErrorIndex() >= 0
+            || position.getIndex() != value.length()) {
+          continue; // 모양부터 다르다 — 예외 없이 건너뛴다.
+        }
+        try {
+          Object parsed = formatter.parse(value, formats.query);
+          if (!formats.overlapsEarlier[i]) {
+            learned = i;
+          }
+          return parsed;
+        } catch (DateTimeParseException ignored) {
+          // 모양은 맞지만 달력상 없는 값(예: 13월) — 기존처럼 다음 형식을 시도한다.
+        }
+      }
+      return new Failure(formats.errorPrefix + value + formats.errorSuffix);
+    }
+  }
+
+  /**
+   * 한 타입의 허용 형식 목록. {@code overlapsEarlier[i]}는 i번째 형식과 모양이 겹칠 수 있는 형식이 앞쪽에 있는지를 뜻한다. 겹치지 않는
+   * 형식은 먼저 시도해도 "처음 맞는 형식" 결과가 바뀌지 않는다.
+   */
+  static final class TemporalFormats {
+
+    final List<DateTimeFormatter> formatters;
+    final TemporalQuery<?> query;
+    final String errorPrefix;
+    final String errorSuffix;
+    final boolean[] overlapsEarlier;
+
+    private TemporalFormats(
+        List<DateTimeFormatter> formatters,
+        TemporalQuery<?> query,
+        String errorPrefix,
+        String errorSuffix,
+        boolean[] overlapsEarlier) {
+      this.formatters = formatters;
+      this.query = query;
+      this.errorPrefix = errorPrefix;
+      this.errorSuffix = errorSuffix;
+      this.overlapsEarlier = overlapsEarlier;
+    }
+
+    /**
+     * @param iso 패턴 앞에 시도할 ISO 형식(없으면 null). ISO 형식은 'T' 구분자를 요구하므로 'T'가 없는 패턴과 겹치지 않는다.
+     */
+    static TemporalFormats of(
+        TemporalQuery<?> query,
+        String errorPrefix,
+        String errorSuffix,
+        DateTimeFormatter iso,
+        String... patterns) {
+      List<DateTimeFormatter> formatters = new ArrayList<>();
+      List<Shape> shapes = new ArrayList<>();
+      if (iso != null) {
+        formatters.add(iso);
+        shapes.add(null);
+      }
+      for (String pattern : patterns) {
+        formatters.add(DateTimeFormatter.ofPattern(pattern));
+        shapes.add(Shape.of(pattern));
+      }
+      boolean[] overlapsEarlier = new boolean[shapes.size()];
+      for (int i = 0; i < shapes.size(); i++) {
+        for (int j = 0; j < i; j++) {
+          overlapsEarlier[i] |= Shape.mayOverlap(shapes.get(j), shapes.get(i));
+        }
+      }
+      return new TemporalFormats(
+          List.copyOf(formatters), query, errorPrefix, errorSuffix, overlapsEarlier);
+    }
+  }
+
+  /**
+   * 패턴이 받아들이는 문자열의 모양: 리터럴 문자 순서와, 리터럴 사이 숫자 구간별 자릿수 범위. 두 모양의 리터럴이 다르거나 같은 위치 숫자 구간의 자릿수
+   * 범위가 겹치지 않으면 두 패턴을 모두 만족하는 문자열은 없다. 연도(y)는 넉넉히 4~19자리로 본다(보수적으로 겹침 쪽으로 판정).
+   */
+  private record Shape(String literals, int[] minDigits, int[] maxDigits) {
+
+    static Shape of(String pattern) {
+      StringBuilder literals = new StringBuilder();
+      List<int[]> runs = new ArrayList<>();
+      int min = 0;
+      int max = 0;
+      for (int i = 0; i < pattern.length(); ) {
+        char ch = pattern.charAt(i);
+        int width = 1;
+        while (i + width < pattern.length() && pattern.charAt(i + width) == ch) {
+          width++;
+        }
+        if (Character.isLetter(ch)) {
+          min += width;
+          max += ch == 'y' ? 19 : width;
+        } else {
+          for (int k = 0; k < width; k++) {
+            literals.append(ch);
+            runs.add(new int[] {min, max});
+            min = 0;
+            max = 0;
+          }
+        }
+        i += width;
+      }
+      runs.add(new int[] {min, max});
+      return new Shape(
+          literals.toString(),
+          runs.stream().mapToInt(r -> r[0]).toArray(),
+          runs.stream().mapToInt(r -> r[1]).toArray());
+    }
+
+    /** null은 ISO 형식(리터럴 'T' 필수). */
+    static boolean mayOverlap(Shape a, Shape b) {
+      if (a == null || b == null) {
+        Shape other = a == null ? b : a;
+        return other == null || other.literals.toUpperCase().indexOf('T') >= 0;
+      }
+      if (!a.literals.equals(b.literals)) {
+        return false;
+      }
+      for (int k = 0; k < a.minDigits.length; k++) {
+        if (a.maxDigits[k] < b.minDigits[k] || b.maxDigits[k] < a.minDigits[k]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.smartfirehub.dataimport.service.export.ExportWriter;
 import com.smartfirehub.dataimport.service.export.GeoJsonExportWriter;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.DatasetResponse;
+import com.smartfirehub.dataset.service.DataTableCopyService;
 import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.job.service.AsyncJobService;
 import java.io.BufferedOutputStream;
@@ -33,10 +34,11 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class DataExportAsyncRunner {
 
-  /** 페이지당 조회 행 수 — DataExportService와 동일 값 유지 */
+  /** 페이지당 조회 행 수(keyset 페이지) — DataExportService와 동일 값 유지 */
   private static final int PAGE_SIZE = 1000;
 
   private final DataTableRowService dataTableRowService;
+  private final DataTableCopyService dataTableCopyService;
   private final AsyncJobService asyncJobService;
   private final AuditLogService auditLogService;
 
@@ -86,44 +88,36 @@ public class DataExportAsyncRunner {
       asyncJobService.updateProgress(
           jobId, "EXPORTING", 0, "내보내기 시작: " + totalRows + "행", Map.of("totalRows", totalRows));
 
-      try (OutputStream fos = new BufferedOutputStream(Files.newOutputStream(filePath));
-          ExportWriter writer = createWriter(format, fos, geometryColumn)) {
-
-        writeHeader(writer, selectedColumns, format);
-
-        int page = 0;
-        long processedRows = 0;
-        while (true) {
-          List<Map<String, Object>> rows =
-              dataTableRowService.queryData(
-                  dataset.tableName(),
-                  columnNames,
-                  search,
-                  page,
-                  PAGE_SIZE,
-                  null,
-                  "ASC",
-                  columnTypes);
-          if (rows.isEmpty()) break;
-
-          for (Map<String, Object> row : rows) {
-            String[] values = new String[columnNames.size()];
-            for (int i = 0; i < columnNames.size(); i++) {
-              Object val = row.get(columnNames.get(i));
-              values[i] = val != null ? val.toString() : "";
-            }
-            writer.writeRow(values);
-          }
-
-          processedRows += rows.size();
-          int progress = totalRows > 0 ? (int) (processedRows * 100 / totalRows) : 0;
-          asyncJobService.updateProgress(
-              jobId,
-              "EXPORTING",
-              Math.min(progress, 99),
-              processedRows + "/" + totalRows + " 행 처리 중",
-              Map.of("processedRows", processedRows, "totalRows", totalRows));
-          page++;
+      if (format == ExportFormat.CSV) {
+        // CSV는 행 변환이 없으므로 서버가 만든 CSV 바이트(COPY TO STDOUT)를 파일에 그대로 쓴다.
+        try (OutputStream fos = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+          CsvExportWriter.writePreamble(fos, displayNames(selectedColumns));
+          dataTableCopyService.copyOut(
+              dataset.tableName(),
+              columnNames,
+              search,
+              columnTypes,
+              fos,
+              processedRows -> updateProgress(jobId, processedRows, totalRows));
+        }
+      } else {
+        try (OutputStream fos = new BufferedOutputStream(Files.newOutputStream(filePath));
+            ExportWriter writer = createWriter(format, fos, geometryColumn)) {
+
+          writeHeader(writer, selectedColumns, format);
+
+          long[] processedRows = {0};
+          dataTableRowService.forEachPage(
+              dataset.tableName(),
+              columnNames,
+              search,
+              columnTypes,
+              PAGE_SIZE,
+              rows -> {
+                writer.writeRows(columnNames, rows);
+                processedRows[0] += rows.size();
+                updateProgress(jobId, processedRows[0], totalRows);
+              });
         }
       }
 
@@ -177,6 +171,17 @@ public class DataExportAsyncRunner {
     }
   }
 
+  /** 처리 행 수를 진행률(최대 99%)로 갱신한다. 100%는 completeJob이 기록한다. */
+  private void updateProgress(String jobId, long processedRows, long totalRows) {
+    int progress = totalRows > 0 ? (int) (processedRows * 100 / totalRows) : 0;
+    asyncJobService.updateProgress(
+        jobId,
+        "EXPORTING",
+        Math.min(progress, 99),
+        processedRows + "/" + totalRows + " 행 처리 중",
+        Map.of("processedRows", processedRows, "totalRows", totalRows));
+  }
+
   /**
    * ExportFormat에 따라 적절한 ExportWriter를 생성한다.
    *
@@ -206,14 +211,18 @@ public class DataExportAsyncRunner {
     if (format == ExportFormat.GEOJSON) {
       writer.writeHeader(selectedColumns.stream().map(DatasetColumnResponse::columnName).toList());
     } else {
-      writer.writeHeader(
-          selectedColumns.stream()
-              .map(
-                  col ->
-                      col.displayName() != null && !col.displayName().isEmpty()
-                          ? col.displayName()
-                          : col.columnName())
-              .toList());
+      writer.writeHeader(displayNames(selectedColumns));
     }
   }
+
+  /** 헤더 표시명: displayName이 비어 있으면 columnName. */
+  private static List<String> displayNames(List<DatasetColumnResponse> selectedColumns) {
+    return selectedColumns.stream()
+        .map(
+            col ->
+                col.displayName() != null && !col.displayName().isEmpty()
+                    ? col.displayName()
+                    : col.columnName())
+        .toList();
+  }
 }
@@ -14,10 +14,12 @@ import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.DatasetResponse;
 import com.smartfirehub.dataset.repository.DatasetColumnRepository;
 import com.smartfirehub.dataset.repository.DatasetRepository;
+import com.smartfirehub.dataset.service.DataTableCopyService;
 import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.job.dto.AsyncJobStatusResponse;
 import com.smartfirehub.job.repository.AsyncJobRepository;
 import com.smartfirehub.job.service.AsyncJobService;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
@@ -47,6 +49,7 @@ public class DataExportService {
   private final DatasetRepository datasetRepository;
   private final DatasetColumnRepository columnRepository;
   private final DataTableRowService dataTableRowService;
+  private final DataTableCopyService dataTableCopyService;
   private final AsyncJobService asyncJobService;
   private final AsyncJobRepository asyncJobRepository;
   private final AuditLogService auditLogService;
@@ -213,14 +216,7 @@ public class DataExportService {
     return outputStream -> {
       try (ExportWriter writer = createWriter(format, outputStream, null)) {
         writer.writeHeader(columnNames);
-        for (Map<String, Object> row : rows) {
-          String[] values = new String[columnNames.size()];
-          for (int i = 0; i < columnNames.size(); i++) {
-            Object val = row.get(columnNames.get(i));
-            values[i] = val != null ? val.toString() : "";
-          }
-          writer.writeRow(values);
-        }
+        writer.writeRows(columnNames, rows);
       }
     };
   }
@@ -235,36 +231,31 @@ public class DataExportService {
       ExportFormat format,
       String geometryColumn) {
 
+    List<String> columnNames =
+        selectedColumns.stream().map(DatasetColumnResponse::columnName).toList();
+
+    if (format == ExportFormat.CSV) {
+      // CSV는 행 변환이 없으므로 서버가 만든 CSV 바이트(COPY TO STDOUT)를 응답에 그대로 흘려보낸다.
+      return outputStream -> {
+        OutputStream out = new BufferedOutputStream(outputStream);
+        CsvExportWriter.writePreamble(out, displayNames(selectedColumns));
+        dataTableCopyService.copyOut(
+            dataset.tableName(), columnNames, search, columnTypes, out, null);
+        out.flush();
+      };
+    }
+
     return outputStream -> {
       try (ExportWriter writer = createWriter(format, outputStream, geometryColumn)) {
         writeHeader(writer, selectedColumns, format);
 
-        List<String> columnNames =
-            selectedColumns.stream().map(DatasetColumnResponse::columnName).toList();
-        int page = 0;
-        while (true) {
-          List<Map<String, Object>> rows =
-              dataTableRowService.queryData(
-                  dataset.tableName(),
-                  columnNames,
-                  search,
-                  page,
-                  PAGE_SIZE,
-                  null,
-                  "ASC",
-                  columnTypes);
-          if (rows.isEmpty()) break;
-
-          for (Map<String, Object> row : rows) {
-            String[] values = new String[columnNames.size()];
-            for (int i = 0; i < columnNames.size(); i++) {
-              Object val = row.get(columnNames.get(i));
-              values[i] = val != null ? val.toString() : "";
-            }
-            writer.writeRow(values);
-          }
-          page++;
-        }
+        dataTableRowService.forEachPage(
+            dataset.tableName(),
+            columnNames,
+            search,
+            columnTypes,
+            PAGE_SIZE,
+            rows -> writer.writeRows(columnNames, rows));
       }
     };
   }
@@ -277,17 +268,21 @@ public class DataExportService {
     if (format == ExportFormat.GEOJSON) {
       writer.writeHeader(selectedColumns.stream().map(DatasetColumnResponse::columnName).toList());
     } else {
-      writer.writeHeader(
-          selectedColumns.stream()
-              .map(
-                  col ->
-                      col.displayName() != null && !col.displayName().isEmpty()
-                          ? col.displayName()
-                          : col.columnName())
-              .toList());
+      writer.writeHeader(displayNames(selectedColumns));
     }
   }
 
+  /** 헤더 표시명: displayName이 비어 있으면 columnName. */
+  private static List<String> displayNames(List<DatasetColumnResponse> selectedColumns) {
+    return selectedColumns.stream()
+        .map(
+            col ->
+                col.displayName() != null && !col.displayName().isEmpty()
+                    ? col.displayName()
+                    : col.columnName())
+        .toList();
+  }
+
   private ExportWriter createWriter(ExportFormat format, OutputStream os, String geometryColumn)
       throws IOException {
     return switch (format) {
@@ -0,0 +1,4 @@
+package com.smartfirehub.dataimport.service;
+
+/** 파일 임포트 종료 알림(성공·실패 모두). IMPORT 감사 로그를 남긴 뒤 발행한다. */
+public record DataImportFinishedEvent(long datasetId) {}
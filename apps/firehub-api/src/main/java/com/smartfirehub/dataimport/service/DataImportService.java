@@ -11,8 +11,10 @@ import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.DatasetResponse;
 import com.smartfirehub.dataset.repository.DatasetColumnRepository;
 import com.smartfirehub.dataset.repository.DatasetRepository;
+import com.smartfirehub.dataset.service.DataTableCopyService;
 import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.dataset.service.DataTableService;
+import com.smartfirehub.dataset.service.DatasetRowsChangedEvent;
 import com.smartfirehub.job.service.AsyncJobService;
 import com.smartfirehub.notification.service.NotificationService;
 import java.nio.file.Files;
@@ -21,13 +23,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jobrunr.jobs.annotations.Job;
 import org.jobrunr.scheduling.JobScheduler;
 import org.jooq.JSONB;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -60,8 +67,10 @@ public class DataImportService {
   private final DatasetColumnRepository columnRepository;
   private final DataTableService dataTableService;
   private final DataTableRowService dataTableRowService;
+  private final DataTableCopyService dataTableCopyService;
   private final FileParserService fileParserService;
   private final DataValidationService validationService;
+  private final ImportBatchPipeline importBatchPipeline;
   private final ColumnMappingService columnMappingService;
   private final AuditLogService auditLogService;
   private final JobScheduler jobScheduler;
@@ -69,6 +78,7 @@ public class DataImportService {
   private final AsyncJobService asyncJobService;
   private final TransactionTemplate transactionTemplate;
   private final NotificationService notificationService;
+  private final ApplicationEventPublisher events;
 
   public ImportPreviewResponse previewImport(Long datasetId, MultipartFile file) throws Exception {
     return previewImport(datasetId, file, ParseOptions.defaults());
@@ -459,35 +469,50 @@ public class DataImportService {
       List<ValidationErrorDetail> pkErrorsAccum = new ArrayList<>();
       boolean[] replaceNoPkTruncated = {false}; // REPLACE(PK 無) lazy truncate: 유효 행 발견 시 1회만
 
-      // Pass1 콜백: 검증 전용. 삽입하지 않고 카운트/오류만 누적하며, 첫 오류가 나오는 배치에서 fail-fast로
-      // 중단한다(부분 적재 방지). rowIndexBase는 이전까지 누적 처리된 행 수(전역 오프셋)로, 오류 rowNumber가
-      // 배치 로컬이 아닌 파일 전역 기준이 되게 한다(validateImport와 동일 패턴).
-      Consumer<List<Map<String, String>>> validateBatch =
-          batch -> {
+      // 헤더 → 컬럼 서수 바인딩. Pass1/Pass2가 같은 파일을 읽으므로 첫 배치에서 한 번만 해석해 공유한다.
+      // 여러 워커가 동시에 첫 배치를 볼 수 있지만 결과가 결정적이므로 중복 계산은 무해하다.
+      AtomicReference<DataValidationService.ColumnBinding> binding = new AtomicReference<>();
+      Function<RowBatch, DataValidationService.ColumnBinding> bindingFor =
+          batch ->
+              binding.updateAndGet(
+                  b ->
+                      b != null
+                          ? b
+                          : validationService.bind(batch.headers(), columns, mappingsFinal));
+
+      // Pass1은 파서 → 워커(validateBatch, 병렬) → 이 스레드(sink, 파일 순서) 파이프라인으로 실행한다.
+      // 워커는 배치별 rowIndexBase(이전까지 누적 행 수, 전역 오프셋)를 받아 오류 rowNumber가 배치 로컬이 아닌
+      // 파일 전역 기준이 되게 한다(validateImport와 동일 패턴). 누적/fail-fast 판정은 sink가 파일 순서대로
+      // 수행하므로, 첫 오류 배치에서 멈추는 지점과 집계 결과가 단일 스레드 처리와 같다.
+      ImportBatchPipeline.Stage<DataValidationService.BatchValidationResult> validateStage =
+          (batch, rowIndexBase) ->
+              validationService.validateBatch(
+                  batch, bindingFor.apply(batch), columns, rowIndexBase);
+
+      // Pass1 sink: 검증 전용. 삽입하지 않고 카운트/오류만 누적하며, 첫 오류가 나오는 배치에서 fail-fast로
+      // 중단한다(부분 적재 방지).
+      ImportBatchPipeline.Sink<DataValidationService.BatchValidationResult> validateSink =
+          vr -> {
+            validCount[0] += vr.validCount();
+            errorCount[0] += vr.errorCount();
             if (hasMappings) {
-              DataValidationService.ValidationResultWithDetails vr =
-                  validationService.validateWithMapping(
-                      batch, columns, mappingsFinal, processedSoFar[0]);
-              validCount[0] += vr.validCount();
-              errorCount[0] += vr.errorCount();
               if (detailErrorsAccum.size() < 100) {
                 int remaining = 100 - detailErrorsAccum.size();
                 detailErrorsAccum.addAll(vr.errors().stream().limit(remaining).toList());
               }
             } else {
-              DataValidationService.ValidationResult vr =
-                  validationService.validate(batch, columns, processedSoFar[0]);
-              validCount[0] += vr.validCount();
-              errorCount[0] += vr.errorCount();
               if (simpleErrorsAccum.size() < 100) {
                 int remaining = 100 - simpleErrorsAccum.size();
-                simpleErrorsAccum.addAll(vr.errors().stream().limit(remaining).toList());
+                vr.errors().stream()
+                    .limit(remaining)
+                    .map(DataValidationService::summarize)
+                    .forEach(simpleErrorsAccum::add);
               }
             }
-            processedSoFar[0] += batch.size();
+            processedSoFar[0] += vr.totalRows();
 
             // fail-fast: 검증 오류가 하나라도 나오면 즉시 스트림을 중단한다(부분 적재 방지, Task2).
-            // 예외를 던져 parseStreaming 루프를 빠져나오고, 바깥에서 잡아 검증 실패 판정으로 진입시킨다.
+            // 예외를 던져 파이프라인(파서/워커)을 멈추고, 바깥에서 잡아 검증 실패 판정으로 진입시킨다.
             if (errorCount[0] >= 1) {
               throw new ValidationAbortException();
             }
@@ -505,8 +530,12 @@ public class DataImportService {
       // Pass 1: 전량 검증. 첫 오류가 나오는 배치에서 ValidationAbortException으로 중단한다.
       boolean validationPassed;
       try {
-        fileParserService.parseStreaming(
-            path, fileTypeLower, parseOptionsFinal, BATCH_SIZE, validateBatch);
+        importBatchPipeline.run(
+            onBatch ->
+                fileParserService.parseStreamingBatches(
+                    path, fileTypeLower, parseOptionsFinal, BATCH_SIZE, onBatch),
+            validateStage,
+            validateSink);
         validationPassed = errorCount[0] == 0;
       } catch (ValidationAbortException abort) {
         validationPassed = false;
@@ -574,6 +603,7 @@ public class DataImportService {
             "FAILURE",
             failMessage,
             metadata);
+        events.publishEvent(new DataImportFinishedEvent(datasetId));
 
         log.error(
             "Import failed: validation error(s) found for dataset {} — {}",
@@ -592,23 +622,31 @@ public class DataImportService {
       }
       final String stagingTableFinal = stagingTable;
 
-      // Pass 2 콜백: 삽입 전용. 이미 전량 검증을 통과했으므로 배치 전 행을 그대로 적재한다. 검증기와 동일한
-      // toRows() 변환을 사용해 "검증 통과 == 값 변환 성공"이 두 패스에서 어긋나지 않게 한다(핵심 위험 3).
-      Consumer<List<Map<String, String>>> insertBatch =
-          batch -> {
-            List<List<Object>> rows = validationService.toRows(batch, columns, mappingsFinal);
-            List<Map<String, Object>> rowMapsBatch =
-                rows.stream()
-                    .map(
-                        row -> {
-                          Map<String, Object> rowMap = new HashMap<>();
-                          for (int i = 0; i < columnNames.size() && i < row.size(); i++) {
-                            rowMap.put(columnNames.get(i), row.get(i));
-                          }
-                          return rowMap;
-                        })
-                    .toList();
+      // GEOMETRY 컬럼 판별용(COPY 적재기가 GeoJSON → geometry 변환 경로를 고른다).
+      Map<String, String> columnTypes = new HashMap<>();
+      for (DatasetColumnResponse col : columns) {
+        columnTypes.put(col.columnName(), col.dataType());
+      }
 
+      // Pass 2 콜백: 삽입 전용. 이미 전량 검증을 통과했으므로 배치 전 행을 그대로 적재한다. 검증기와 동일한
+      // 셀 변환(convertBatch)을 사용해 "검증 통과 == 값 변환 성공"이 두 패스에서 어긋나지 않게 한다(핵심 위험 3).
+      // 적재는 COPY FROM STDIN(DataTableCopyService)으로 수행한다 — 변환 결과를 재사용 배치(TypedRowBatch)에
+      // 컬럼 순서로 담아 그대로 흘려보내므로 행별 Map/List 할당과 파라미터 바인딩 비용이 사라진다.
+      // 변환(convertBatch)은 워커에서 병렬로, 적재는 이 스레드에서 파일 순서대로 수행한다 — staging _seq 순서와
+      // REPLACE(PK 無) 트랜잭션 커넥션이 단일 스레드 때와 같게 유지된다. TypedRowBatch는 풀에서 재사용한다
+      // (동시에 살아 있는 개수는 파이프라인 깊이로 제한된다).
+      Queue<TypedRowBatch> typedBatchPool = new ConcurrentLinkedQueue<>();
+      ImportBatchPipeline.Stage<TypedRowBatch> convertStage =
+          (batch, rowIndexBase) -> {
+            TypedRowBatch typed = typedBatchPool.poll();
+            if (typed == null) {
+              typed = new TypedRowBatch(columnNames.size(), BATCH_SIZE);
+            }
+            validationService.convertBatch(batch, bindingFor.apply(batch), columns, typed);
+            return typed;
+          };
+      Consumer<TypedRowBatch> insertBatch =
+          rows -> {
             final int base = outerProcessed[0];
 
             switch (importMode) {
@@ -630,35 +668,21 @@ public class DataImportService {
                           "Inserting data...",
                           Map.of("totalRows", totalRowsFinal, "processedRows", globalProcessed));
                     };
-                dataTableRowService.insertBatchWithProgress(
-                    dataset.tableName(), columnNames, rowMapsBatch, wrapped);
-                outerProcessed[0] = base + rowMapsBatch.size();
+                dataTableCopyService.copyBatchWithProgress(
+                    dataset.tableName(), columnNames, rows, columnTypes, wrapped);
+                outerProcessed[0] = base + rows.rowCount();
               }
               case UPSERT -> {
                 if (pkNullFound[0]) {
                   return; // 이미 NULL PK 확정 — 남은 배치는 staging 적재를 건너뛴다(promote 안 함)
                 }
-                // Use rowMaps which already have dataset column names as keys
-                List<Map<String, String>> rowMapsAsStrings =
-                    rowMapsBatch.stream()
-                        .map(
-                            row -> {
-                              Map<String, String> strRow = new HashMap<>();
-                              for (var entry : row.entrySet()) {
-                                strRow.put(
-                                    entry.getKey(),
-                                    entry.getValue() != null ? entry.getValue().toString() : null);
-                              }
-                              return strRow;
-                            })
-                        .toList();
-                DataValidationService.PkValidationResult pkValidation =
-                    validationService.validatePrimaryKeys(rowMapsAsStrings, pkColumns);
-                if (!pkValidation.errors().isEmpty()) {
+                List<ValidationErrorDetail> pkErrors =
+                    validationService.findEmptyPrimaryKeys(rows, columnNames, pkColumns);
+                if (!pkErrors.isEmpty()) {
                   pkNullFound[0] = true;
                   if (pkErrorsAccum.size() < 100) {
                     int remaining = 100 - pkErrorsAccum.size();
-                    pkErrorsAccum.addAll(pkValidation.errors().stream().limit(remaining).toList());
+                    pkErrorsAccum.addAll(pkErrors.stream().limit(remaining).toList());
                   }
                   return;
                 }
@@ -674,9 +698,9 @@ public class DataImportService {
                           "Upserting data...",
                           Map.of("totalRows", totalRowsFinal, "processedRows", globalProcessed));
                     };
-                dataTableRowService.insertStagingBatchWithProgress(
-                    stagingTableFinal, columnNames, rowMapsBatch, wrapped);
-                outerProcessed[0] = base + rowMapsBatch.size();
+                dataTableCopyService.copyBatchWithProgress(
+                    stagingTableFinal, columnNames, rows, columnTypes, wrapped);
+                outerProcessed[0] = base + rows.rowCount();
               }
               case REPLACE -> {
                 BiConsumer<Integer, Integer> wrapped =
@@ -692,8 +716,8 @@ public class DataImportService {
                           Map.of("totalRows", totalRowsFinal, "processedRows", globalProcessed));
                     };
                 if (!pkColumns.isEmpty()) {
-                  dataTableRowService.insertStagingBatchWithProgress(
-                      stagingTableFinal, columnNames, rowMapsBatch, wrapped);
+                  dataTableCopyService.copyBatchWithProgress(
+                      stagingTableFinal, columnNames, rows, columnTypes, wrapped);
                 } else {
                   // PK가 없으면 unique index가 없어 dedup이 불필요 — target에 직접 적재.
                   // lazy truncate: 유효 행이 처음 나올 때 1회만 truncate. 여기 도달했다는 것 자체가
@@ -703,14 +727,27 @@ public class DataImportService {
                     dataTableRowService.truncateTable(dataset.tableName());
                     replaceNoPkTruncated[0] = true;
                   }
-                  dataTableRowService.insertBatchWithProgress(
-                      dataset.tableName(), columnNames, rowMapsBatch, wrapped);
+                  dataTableCopyService.copyBatchWithProgress(
+                      dataset.tableName(), columnNames, rows, columnTypes, wrapped);
                 }
-                outerProcessed[0] = base + rowMapsBatch.size();
+                outerProcessed[0] = base + rows.rowCount();
               }
             }
           };
 
+      ImportBatchPipeline.Sink<TypedRowBatch> insertSink =
+          rows -> {
+            try {
+              insertBatch.accept(rows);
+            } finally {
+              typedBatchPool.offer(rows);
+            }
+          };
+      ImportBatchPipeline.BatchProducer insertProducer =
+          onBatch ->
+              fileParserService.parseStreamingBatches(
+                  path, fileTypeLower, parseOptionsFinal, BATCH_SIZE, onBatch);
+
       // REPLACE(PK 無)만 truncate+insert 원자성이 필요하므로 삽입 스트림 전체를 트랜잭션으로 감싼다.
       // 나머지 모드는 staging(별도 영구 테이블)에 배치 커밋하며 스트리밍하므로 트랜잭션이 불필요하다
       // (하나의 거대한 트랜잭션으로 커넥션을 점유하면 스트리밍의 이점이 사라진다).
@@ -718,15 +755,13 @@ public class DataImportService {
         transactionTemplate.executeWithoutResult(
             status -> {
               try {
-                fileParserService.parseStreaming(
-                    path, fileTypeLower, parseOptionsFinal, BATCH_SIZE, insertBatch);
+                importBatchPipeline.run(insertProducer, convertStage, insertSink);
               } catch (Exception e) {
                 throw (e instanceof RuntimeException re) ? re : new RuntimeException(e);
               }
             });
       } else {
-        fileParserService.parseStreaming(
-            path, fileTypeLower, parseOptionsFinal, BATCH_SIZE, insertBatch);
+        importBatchPipeline.run(insertProducer, convertStage, insertSink);
       }
 
       // UPSERT에서 NULL PK가 발견되면 promote 없이 실패 처리(기존과 동일 메시지/감사 로그).
@@ -755,6 +790,7 @@ public class DataImportService {
                 importModeName,
                 "errorDetails",
                 pkErrorJson));
+        events.publishEvent(new DataImportFinishedEvent(datasetId));
         return;
       }
 
@@ -797,6 +833,14 @@ public class DataImportService {
         metadata.put("errorDetails", errorJson);
       }
 
+      // APPEND 는 COPY 로 target 에 직접 적재해 행 서비스의 변경 버전 증가를 거치지 않는다 — 완료 시 한 번 올린다
+      if (importMode == ImportMode.APPEND && validCountFinal > 0) {
+        dataTableRowService.markChanged(dataset.tableName());
+      }
+
+      // 적재 결과를 컬럼 통계 스냅샷에 반영한다 (백그라운드 갱신)
+      events.publishEvent(new DatasetRowsChangedEvent(datasetId));
+
       asyncJobService.completeJob(
           jobId,
           Map.of(
@@ -819,6 +863,7 @@ public class DataImportService {
           "SUCCESS",
           null,
           metadata);
+      events.publishEvent(new DataImportFinishedEvent(datasetId));
 
       log.info(
           "Import completed for dataset {}. Valid: {}, Errors: {}",
@@ -858,6 +903,7 @@ public class DataImportService {
           "FAILURE",
           userMessage,
           metadata);
+      events.publishEvent(new DataImportFinishedEvent(datasetId));
 
       // Jobrunr 재시도를 막기 위해 예외를 재투척하지 않고 여기서 종료.
       // 재투척 시 Jobrunr이 자동 재시도하여 이미 삭제된 임시 파일에 접근하거나
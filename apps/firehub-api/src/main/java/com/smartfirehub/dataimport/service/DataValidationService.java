@@ -3,11 +3,6 @@ package com.smartfirehub.dataimport.service;
 import com.smartfirehub.dataimport.dto.ColumnMappingEntry;
 import com.smartfirehub.dataimport.dto.ValidationErrorDetail;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.HashSet;
 import org.springframework.stereotype.Service;
@@ -15,29 +10,13 @@ import org.springframework.stereotype.Service;
 @Service
 public class DataValidationService {
 
-  private static final List<DateTimeFormatter> DATE_FORMATTERS =
-      List.of(
-          DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-          DateTimeFormatter.ofPattern("yyyy/MM/dd"),
-          DateTimeFormatter.ofPattern("dd-MM-yyyy"),
-          DateTimeFormatter.ofPattern("dd/MM/yyyy"),
-          DateTimeFormatter.ofPattern("MM/dd/yyyy"),
-          // 구분자 없는 8자리 yyyyMMdd(예: 20200316) — 공공/레거시 CSV에 흔한 형식
-          DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-  private static final List<DateTimeFormatter> TIMESTAMP_FORMATTERS =
-      List.of(
-          DateTimeFormatter.ISO_LOCAL_DATE_TIME,
-          DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-          DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"),
-          DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss"),
-          DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"),
-          DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-
   // 필수값 누락 사유 문구. validate()가 요약 문자열을 조립할 때 이 값과 동일한지 비교해 문구를 분기하므로,
   // 리터럴을 여러 곳에 흩뿌리지 않고 상수 하나로 묶어 두 곳이 어긋나지 않게 한다.
   static final String REQUIRED_FIELD_EMPTY = "필수 값이 비어 있습니다";
 
+  /** {@link #convertCell}의 변환 실패 표식. null은 정상 값(빈 셀)이므로 별도 센티널을 쓴다. */
+  private static final Object INVALID = new Object();
+
   public ValidationResult validate(
       List<Map<String, String>> rows, List<DatasetColumnResponse> columns) {
     // 단일 파일 전체를 한 번에 검증하는 기존 호출 경로 — 오프셋 없이(0) 위임
@@ -51,6 +30,7 @@ public class DataValidationService {
    */
   public ValidationResult validate(
       List<Map<String, String>> rows, List<DatasetColumnResponse> columns, int rowIndexBase) {
+    ColumnConverter[] converters = ColumnConverter.compileAll(columns);
     List<List<Object>> validRows = new ArrayList<>();
     List<String> errors = new ArrayList<>();
     int rowIndex = rowIndexBase;
@@ -62,19 +42,13 @@ public class DataValidationService {
       // 공유한다 — 별도 인라인 변환 루프를 유지하면 두 경로가 갈라져 "검증 통과 == 값 변환 성공"이 어긋나는
       // 미묘한 버그(Task2 핵심 위험)가 생긴다. 에러는 기존과 동일한 "행/컬럼/사유" 구조의 String 메시지로 조립한다.
       List<ValidationErrorDetail> rowErrors = new ArrayList<>();
-      List<Object> convertedRow = convertRowOrNull(row, columns, rowIndex, rowErrors);
+      List<Object> convertedRow = convertRowOrNull(row, columns, converters, rowIndex, rowErrors);
 
       if (convertedRow != null) {
         validRows.add(convertedRow);
       } else {
         for (ValidationErrorDetail detail : rowErrors) {
-          // 한국어 UI와 문구를 맞추기 위해 요약 문자열도 한국어로 조립한다(#309).
-          // 필수값 누락은 값 자체가 없으므로 "값: ..."을 붙이지 않고 사유만 표기한다.
-          String suffix =
-              REQUIRED_FIELD_EMPTY.equals(detail.error())
-                  ? REQUIRED_FIELD_EMPTY
-                  : "- " + detail.error();
-          errors.add(detail.rowNumber() + "행 '" + detail.columnName() + "' 컬럼 " + suffix);
+          errors.add(summarize(detail));
         }
       }
     }
@@ -82,9 +56,16 @@ public class DataValidationService {
     return new ValidationResult(validRows, errors, rows.size(), validRows.size(), errors.size());
   }
 
-  /** 컬럼 데이터타입이 DATE 또는 TIMESTAMP인지 판정한다. 무의미한 날짜없음 표식 정규화는 이 두 타입에 한정한다. */
-  private static boolean isDateOrTimestampType(String dataType) {
-    return "DATE".equals(dataType) || "TIMESTAMP".equals(dataType);
+  /**
+   * 매핑 없는 경로({@link #validate})의 요약 오류 문자열. 배치 경로({@link #validateBatch})를 쓰는 호출자도 같은 문구를 만들도록
+   * 공개한다.
+   */
+  public static String summarize(ValidationErrorDetail detail) {
+    // 한국어 UI와 문구를 맞추기 위해 요약 문자열도 한국어로 조립한다(#309).
+    // 필수값 누락은 값 자체가 없으므로 "값: ..."을 붙이지 않고 사유만 표기한다.
+    String suffix =
+        REQUIRED_FIELD_EMPTY.equals(detail.error()) ? REQUIRED_FIELD_EMPTY : "- " + detail.error();
+    return detail.rowNumber() + "행 '" + detail.columnName() + "' 컬럼 " + suffix;
   }
 
   /**
@@ -93,106 +74,39 @@ public class DataValidationService {
    * 거부되던 문제를 방지하기 위함이다.
    *
    * <p>과검출 방지: 구분자(-, /, 공백, :)를 제거한 뒤 남은 문자열이 최소 1자 이상이면서 전부 '0'인 경우에만 무의미값으로 판정한다. 유효한 날짜(예:
-   * "2020-03-16" → 구분자 제거 시 "20200316")는 0이 아닌 문자가 섞여 있으므로 오검출되지 않는다.
+   * "2020-03-16" → 구분자 제거 시 "20200316")는 0이 아닌 문자가 섞여 있으므로 오검출되지 않는다. 모든 날짜 셀이 거치므로 정규식 치환
+   * 대신 문자를 한 번 훑는다.
    */
   private static boolean isMeaninglessDateValue(String value) {
     if (value == null) return false;
     String trimmed = value.trim();
     if (trimmed.isEmpty()) return false; // 빈 값은 기존 empty 처리 경로에서 이미 다룸
 
-    String stripped = trimmed.replaceAll("[-/ :]", "");
-    if (stripped.isEmpty()) return false;
-
-    for (int i = 0; i < stripped.length(); i++) {
-      if (stripped.charAt(i) != '0') return false;
+    boolean hasZero = false;
+    for (int i = 0; i < trimmed.length(); i++) {
+      char ch = trimmed.charAt(i);
+      if (ch == '0') {
+        hasZero = true;
+      } else if (ch != '-' && ch != '/' && ch != ' ' && ch != ':') {
+        return false;
+      }
     }
-    return true;
+    return hasZero;
   }
 
+  /**
+   * 값 하나를 데이터 타입으로 변환한다. 셀을 대량으로 변환하는 경로는 컬럼별로 {@link ColumnConverter}를 한 번 컴파일해 재사용하고, 이
+   * 메서드는 단건 호출용으로 같은 변환기를 그때그때 만든다.
+   */
   public Object convertValue(String value, String dataType) throws Exception {
     if (value == null || value.isEmpty()) {
       return null;
     }
-
-    // Strip surrounding quotes from CSV parsing
-    if (value.length() >= 2
-        && ((value.startsWith("'") && value.endsWith("'"))
-            || (value.startsWith("\"") && value.endsWith("\"")))) {
-      value = value.substring(1, value.length() - 1);
-    } else if (value.startsWith("'") || value.startsWith("\"")) {
-      value = value.substring(1);
+    Object converted = ColumnConverter.compile(dataType).convert(value);
+    if (converted instanceof ColumnConverter.Failure failure) {
+      throw new Exception(failure.message());
     }
-
-    return switch (dataType) {
-      case "TEXT", "VARCHAR" -> value;
-      case "INTEGER" -> {
-        try {
-          // 천단위 콤마(예: "38,344") 제거 후 파싱. 임포트 데이터에 흔한 형식.
-          yield Long.parseLong(value.replace(",", ""));
-        } catch (NumberFormatException e) {
-          throw new Exception("정수 형식이 아닙니다: " + value);
-        }
-      }
-      case "DECIMAL" -> {
-        try {
-          // 천단위 콤마 제거 후 파싱(소수 구분자는 마침표 전제). BigDecimal 은 콤마를 못 받음.
-          yield new BigDecimal(value.replace(",", ""));
-        } catch (NumberFormatException e) {
-          throw new Exception("소수 형식이 아닙니다: " + value);
-        }
-      }
-      case "BOOLEAN" -> {
-        String lower = value.toLowerCase();
-        if (lower.equals("true") || lower.equals("1") || lower.equals("yes")) {
-          yield true;
-        } else if (lower.equals("false") || lower.equals("0") || lower.equals("no")) {
-          yield false;
-        } else {
-          throw new Exception(
-              "참/거짓 형식이 아닙니다: " + value + " (허용 값: true/false/1/0/yes/no)");
-        }
-      }
-      case "DATE" -> {
-        LocalDate date = null;
-        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
-          try {
-            date = LocalDate.parse(value, formatter);
-            break;
-          } catch (DateTimeParseException ignored) {
-          }
-        }
-        if (date == null) {
-          throw new Exception(
-              "날짜 형식이 아닙니다: "
-                  + value
-                  + " (허용 형식: yyyy-MM-dd, yyyy/MM/dd, dd-MM-yyyy, dd/MM/yyyy,"
-                  + " MM/dd/yyyy, yyyyMMdd)");
-        }
-        yield date;
-      }
-      case "TIMESTAMP" -> {
-        LocalDateTime timestamp = null;
-        for (DateTimeFormatter formatter : TIMESTAMP_FORMATTERS) {
-          try {
-            timestamp = LocalDateTime.parse(value, formatter);
-            break;
-          } catch (DateTimeParseException ignored) {
-          }
-        }
-        if (timestamp == null) {
-          throw new Exception(
-              "날짜시간 형식이 아닙니다: "
-                  + value
-                  + " (허용 형식: yyyy-MM-dd HH:mm:ss, yyyyMMddHHmmss, ISO 형식)");
-        }
-        yield timestamp;
-      }
-      case "GEOMETRY" -> {
-        // GeoJSON string — pass through as-is (PostGIS will validate on INSERT)
-        yield value;
-      }
-      default -> throw new Exception("알 수 없는 데이터 타입입니다: " + dataType);
-    };
+    return converted;
   }
 
   public ValidationResultWithDetails validateWithMapping(
@@ -217,6 +131,7 @@ public class DataValidationService {
 
     // Build mapping lookup: fileColumn -> datasetColumn
     Map<String, String> columnMapping = buildColumnMapping(mappings);
+    ColumnConverter[] converters = ColumnConverter.compileAll(columns);
 
     List<List<Object>> validRows = new ArrayList<>();
     List<ValidationErrorDetail> errors = new ArrayList<>();
@@ -230,7 +145,8 @@ public class DataValidationService {
 
       // Pass1(검증)과 Pass2(삽입의 toRows)가 동일한 변환 로직(convertRowOrNull)을 호출한다 —
       // 두 벌로 갈라지면 "검증 통과 == 값 변환 성공"이 어긋나는 미묘한 버그가 생긴다(Task2 핵심 위험).
-      List<Object> convertedRow = convertRowOrNull(remappedRow, columns, rowIndex, errors);
+      List<Object> convertedRow =
+          convertRowOrNull(remappedRow, columns, converters, rowIndex, errors);
       if (convertedRow != null) {
         validRows.add(convertedRow);
       }
@@ -254,6 +170,7 @@ public class DataValidationService {
       List<ColumnMappingEntry> mappings) {
     boolean hasMappings = mappings != null && !mappings.isEmpty();
     Map<String, String> columnMapping = hasMappings ? buildColumnMapping(mappings) : Map.of();
+    ColumnConverter[] converters = ColumnConverter.compileAll(columns);
     List<ValidationErrorDetail> discardedErrors = new ArrayList<>();
 
     List<List<Object>> result = new ArrayList<>();
@@ -261,7 +178,8 @@ public class DataValidationService {
     for (Map<String, String> row : rows) {
       rowIndex++;
       Map<String, String> effectiveRow = hasMappings ? remapRow(row, columnMapping) : row;
-      List<Object> convertedRow = convertRowOrNull(effectiveRow, columns, rowIndex, discardedErrors);
+      List<Object> convertedRow =
+          convertRowOrNull(effectiveRow, columns, converters, rowIndex, discardedErrors);
       if (convertedRow == null) {
         // Pass1(검증)을 통과한 행이 Pass2(삽입)에서 변환 실패하는 것은 불변식 위반이다.
         // 조용히 빈 행을 삽입하면 데이터 정합성이 깨지므로 즉시 실패시킨다.
@@ -308,51 +226,191 @@ public class DataValidationService {
   private List<Object> convertRowOrNull(
       Map<String, String> row,
       List<DatasetColumnResponse> columns,
+      ColumnConverter[] converters,
       int rowIndex,
       List<ValidationErrorDetail> errorSink) {
     List<Object> convertedRow = new ArrayList<>();
     boolean rowValid = true;
 
-    for (DatasetColumnResponse column : columns) {
-      String rawValue = row.get(column.columnName());
-
-      // DATE/TIMESTAMP 컬럼의 "0", "0000-00-00" 등 무의미한 날짜없음 표식은 빈 값과 동일하게 취급하여
-      // 아래의 기존 빈 값 처리 경로(필수면 에러, nullable이면 null 저장)를 타게 한다.
-      // "날짜 형식이 아닙니다: 0" 형태로 거부하지 않기 위함.
-      if (isDateOrTimestampType(column.dataType()) && isMeaninglessDateValue(rawValue)) {
-        rawValue = null;
+    for (int c = 0; c < converters.length; c++) {
+      DatasetColumnResponse column = columns.get(c);
+      Object value =
+          convertCell(row.get(column.columnName()), column, converters[c], rowIndex, errorSink);
+      if (value == INVALID) {
+        rowValid = false;
+      } else {
+        convertedRow.add(value);
       }
+    }
 
-      // Check required field
-      if (!column.isNullable() && (rawValue == null || rawValue.trim().isEmpty())) {
-        errorSink.add(
-            new ValidationErrorDetail(
-                rowIndex,
-                column.columnName(),
-                rawValue != null ? rawValue : "",
-                REQUIRED_FIELD_EMPTY));
-        rowValid = false;
-        continue;
+    return rowValid ? convertedRow : null;
+  }
+
+  /**
+   * 셀 하나를 컬럼 타입으로 변환한다. Map 기반 경로({@link #convertRowOrNull})와 배치 경로({@link #validateBatch}, {@link
+   * #convertBatch})가 모두 이 메서드를 거치므로 "검증 통과 == 값 변환 성공" 불변식이 두 경로에서 동일하게 유지된다. 필수값 누락/타입 변환
+   * 실패는 errorSink에 기록하고 {@link #INVALID}를 반환한다.
+   *
+   * @param converter 이 컬럼용으로 컴파일된 변환기({@link ColumnConverter#compileAll})
+   */
+  private Object convertCell(
+      String rawValue,
+      DatasetColumnResponse column,
+      ColumnConverter converter,
+      int rowIndex,
+      List<ValidationErrorDetail> errorSink) {
+    // DATE/TIMESTAMP 컬럼의 "0", "0000-00-00" 등 무의미한 날짜없음 표식은 빈 값과 동일하게 취급하여
+    // 아래의 기존 빈 값 처리 경로(필수면 에러, nullable이면 null 저장)를 타게 한다.
+    // "날짜 형식이 아닙니다: 0" 형태로 거부하지 않기 위함.
+    if (converter.isTemporal() && isMeaninglessDateValue(rawValue)) {
+      rawValue = null;
+    }
+    String trimmed = rawValue != null ? rawValue.trim() : null;
+
+    // Check required field
+    if (!column.isNullable() && (trimmed == null || trimmed.isEmpty())) {
+      errorSink.add(
+          new ValidationErrorDetail(
+              rowIndex,
+              column.columnName(),
+              rawValue != null ? rawValue : "",
+              REQUIRED_FIELD_EMPTY));
+      return INVALID;
+    }
+
+    // Handle null/empty values
+    if (trimmed == null || trimmed.isEmpty()) {
+      return null;
+    }
+
+    // Convert and validate based on data type
+    Object value = converter.convert(trimmed);
+    if (value instanceof ColumnConverter.Failure failure) {
+      errorSink.add(
+          new ValidationErrorDetail(rowIndex, column.columnName(), rawValue, failure.message()));
+      return INVALID;
+    }
+    return value;
+  }
+
+  // -----------------------------------------------------------------------
+  // 컬럼 지향 배치 경로 (RowBatch → TypedRowBatch) — 임포트 잡 Pass1/Pass2 전용
+  // -----------------------------------------------------------------------
+
+  /**
+   * 파일 헤더를 데이터셋 컬럼 순서의 {@link RowBatch} 컬럼 서수로 한 번만 해석하고, 컬럼별 셀 변환기를 컴파일한다. 매핑이 있으면 fileColumn → datasetColumn을,
+   * 없으면 컬럼명을 그대로 헤더에서 찾는다. 같은 데이터셋 컬럼에 여러 헤더가 대응하면 뒤쪽 헤더가 이긴다(행 Map의 last-wins와 동일).
+   */
+  public ColumnBinding bind(
+      List<String> headers,
+      List<DatasetColumnResponse> columns,
+      List<ColumnMappingEntry> mappings) {
+    boolean hasMappings = mappings != null && !mappings.isEmpty();
+    Map<String, String> columnMapping = hasMappings ? buildColumnMapping(mappings) : Map.of();
+
+    Map<String, Integer> ordinalByColumn = new HashMap<>();
+    for (int i = 0; i < headers.size(); i++) {
+      String header = headers.get(i);
+      String datasetColumn = hasMappings ? columnMapping.get(header) : header;
+      if (datasetColumn != null) {
+        ordinalByColumn.put(datasetColumn, i);
       }
+    }
+
+    int[] ordinals = new int[columns.size()];
+    for (int c = 0; c < columns.size(); c++) {
+      ordinals[c] = ordinalByColumn.getOrDefault(columns.get(c).columnName(), -1);
+    }
+    return new ColumnBinding(ordinals, ColumnConverter.compileAll(columns));
+  }
 
-      // Handle null/empty values
-      if (rawValue == null || rawValue.trim().isEmpty()) {
-        convertedRow.add(null);
-        continue;
+  /**
+   * {@link #validateWithMapping}/{@link #validate}의 배치 버전. 변환 결과를 보관하지 않고 유효 행 수와 오류만 집계하므로 행 단위
+   * 할당이 없다(Pass1은 값을 버린다).
+   *
+   * @param rowIndexBase 이번 배치 이전까지 이미 처리된 행 수(전역 오프셋)
+   */
+  public BatchValidationResult validateBatch(
+      RowBatch batch,
+      ColumnBinding binding,
+      List<DatasetColumnResponse> columns,
+      int rowIndexBase) {
+    int[] ordinals = binding.ordinals();
+    ColumnConverter[] converters = binding.converters();
+    List<ValidationErrorDetail> errors = new ArrayList<>();
+    int validCount = 0;
+
+    for (int r = 0; r < batch.size(); r++) {
+      boolean rowValid = true;
+      for (int c = 0; c < ordinals.length; c++) {
+        String rawValue = ordinals[c] >= 0 ? batch.get(r, ordinals[c]) : null;
+        Object value =
+            convertCell(rawValue, columns.get(c), converters[c], rowIndexBase + r + 1, errors);
+        if (value == INVALID) {
+          rowValid = false;
+        }
+      }
+      if (rowValid) {
+        validCount++;
       }
+    }
 
-      // Convert and validate based on data type
-      try {
-        Object convertedValue = convertValue(rawValue.trim(), column.dataType());
-        convertedRow.add(convertedValue);
-      } catch (Exception e) {
-        errorSink.add(
-            new ValidationErrorDetail(rowIndex, column.columnName(), rawValue, e.getMessage()));
-        rowValid = false;
+    return new BatchValidationResult(errors, batch.size(), validCount, errors.size());
+  }
+
+  /**
+   * {@link #toRows}의 배치 버전. 원시 배치를 데이터셋 컬럼 순서의 타입 값으로 변환해 {@code out}을 채운다. Pass1을 통과한 배치에서만
+   * 호출하므로 변환 실패는 불변식 위반으로 즉시 실패시킨다({@link #toRows}와 동일).
+   */
+  public void convertBatch(
+      RowBatch batch,
+      ColumnBinding binding,
+      List<DatasetColumnResponse> columns,
+      TypedRowBatch out) {
+    int[] ordinals = binding.ordinals();
+    ColumnConverter[] converters = binding.converters();
+    List<ValidationErrorDetail> discardedErrors = new ArrayList<>();
+    out.reset(batch.size());
+
+    for (int r = 0; r < batch.size(); r++) {
+      for (int c = 0; c < ordinals.length; c++) {
+        String rawValue = ordinals[c] >= 0 ? batch.get(r, ordinals[c]) : null;
+        Object value =
+            convertCell(rawValue, columns.get(c), converters[c], r + 1, discardedErrors);
+        if (value == INVALID) {
+          throw new IllegalStateException(
+              "검증을 통과한 행이 삽입 변환에 실패했습니다 (row " + (r + 1) + ") — 변환기 불변식 위반");
+        }
+        out.set(r, c, value);
       }
     }
+  }
 
-    return rowValid ? convertedRow : null;
+  /**
+   * 변환된 배치에서 PK 컬럼이 비어 있는 행을 찾는다. {@link #validatePrimaryKeys}의 오류 판정과 같으며(행 번호는 배치 로컬), 중복 경고는
+   * staging promote의 DISTINCT ON이 처리하므로 계산하지 않는다.
+   *
+   * @param columnNames {@code batch}의 컬럼 순서(데이터셋 컬럼명)
+   */
+  public List<ValidationErrorDetail> findEmptyPrimaryKeys(
+      TypedRowBatch batch, List<String> columnNames, List<String> pkColumns) {
+    List<ValidationErrorDetail> errors = new ArrayList<>();
+    int[] pkOrdinals = pkColumns.stream().mapToInt(columnNames::indexOf).toArray();
+
+    for (int r = 0; r < batch.rowCount(); r++) {
+      for (int k = 0; k < pkOrdinals.length; k++) {
+        Object value = pkOrdinals[k] >= 0 ? batch.get(r, pkOrdinals[k]) : null;
+        if (value == null || value.toString().trim().isEmpty()) {
+          errors.add(
+              new ValidationErrorDetail(
+                  r + 1,
+                  pkColumns.get(k),
+                  value != null ? value.toString() : "",
+                  "기본키 컬럼은 비어 있을 수 없습니다"));
+        }
+      }
+    }
+    return errors;
   }
 
   public PkValidationResult validatePrimaryKeys(
@@ -443,6 +501,16 @@ public class DataValidationService {
 
   public record PkValidationResult(List<ValidationErrorDetail> errors, List<String> warnings) {}
 
+  /**
+   * {@link #bind} 결과: 데이터셋 컬럼(순서)별 {@link RowBatch} 컬럼 서수(파일에 없는 컬럼은 -1)와 컴파일된 셀 변환기. 변환기는 날짜
+   * 형식을 학습하므로 한 임포트의 Pass1/Pass2가 같은 바인딩을 공유한다.
+   */
+  public record ColumnBinding(int[] ordinals, ColumnConverter[] converters) {}
+
+  /** {@link #validateBatch} 결과. 변환 값은 보관하지 않는다. */
+  public record BatchValidationResult(
+      List<ValidationErrorDetail> errors, int totalRows, int validCount, int errorCount) {}
+
   /** dedupeByPrimaryKeysLastWins 결과: 중복 제거된 행 목록과 제거 건수. */
   public record DedupResult(List<Map<String, Object>> rows, int removedCount) {}
 
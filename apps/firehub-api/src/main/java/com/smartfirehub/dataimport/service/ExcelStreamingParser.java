@@ -187,6 +187,8 @@ public final class ExcelStreamingParser {
    */
   private static final class RowAggregatingHandler implements SheetContentsHandler {
     private final RowConsumer consumer;
+    // 행마다 새 리스트를 만들지 않고 하나를 재사용한다(RowConsumer 계약: cells는 호출 중에만 유효).
+    private final List<String> rowBuffer = new ArrayList<>();
     private List<String> currentRow;
     private int currentRowIndex = -1;
 
@@ -196,7 +198,8 @@ public final class ExcelStreamingParser {
 
     @Override
     public void startRow(int rowNum) {
-      currentRow = new ArrayList<>();
+      rowBuffer.clear();
+      currentRow = rowBuffer;
       currentRowIndex = rowNum;
     }
 
@@ -280,6 +283,8 @@ public final class ExcelStreamingParser {
     private int sheetIndex = -1;
     private boolean inFirstSheet = false;
 
+    // 행마다 새 리스트를 만들지 않고 하나를 재사용한다(RowConsumer 계약: cells는 호출 중에만 유효).
+    private final List<String> rowBuffer = new ArrayList<>();
     private List<String> currentRow;
     private int currentRowIndex = -1;
 
@@ -325,7 +330,8 @@ public final class ExcelStreamingParser {
       int rowNum = extractRowNumber(record);
       if (rowNum >= 0 && rowNum != currentRowIndex) {
         currentRowIndex = rowNum;
-        currentRow = new ArrayList<>();
+        rowBuffer.clear();
+        currentRow = rowBuffer;
       }
 
       switch (record.getSid()) {
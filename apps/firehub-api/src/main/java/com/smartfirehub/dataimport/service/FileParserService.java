@@ -208,6 +208,28 @@ public class FileParserService {
     }
   }
 
+  /**
+   * {@link #parseStreaming}의 컬럼 지향 버전. 행마다 Map을 만들지 않고 하나의 {@link RowBatch}를 재사용해 채운 뒤
+   * {@code onBatch}를 호출한다.
+   *
+   * <p>헤더는 파일당 한 번만 컬럼 서수로 고정되며, 셀 보정/헤더/옵션 규칙은 {@link #parseStreaming}과 동일하다. 콜백이 반환되면 배치는
+   * 비워지고 다음 행으로 다시 채워지므로 콜백은 RowBatch를 보관하지 말 것.
+   */
+  public void parseStreamingBatches(
+      Path file, String fileType, ParseOptions opts, int batchSize, Consumer<RowBatch> onBatch)
+      throws Exception {
+    switch (fileType.toLowerCase()) {
+      case "csv" -> {
+        try (InputStream in = Files.newInputStream(file)) {
+          parseStreamingCsvBatches(in, opts, batchSize, onBatch);
+        }
+      }
+      // Excel 분기: opts(hasHeader/skipRows) 미사용 — parseStreaming Javadoc 참고
+      case "xlsx", "xls", "xlsb" -> parseStreamingExcelBatches(file.toFile(), batchSize, onBatch);
+      default -> throw new UnsupportedFileTypeException("Unsupported file type: " + fileType);
+    }
+  }
+
   // -----------------------------------------------------------------------
   // Public API — with ParseOptions
   // -----------------------------------------------------------------------
@@ -600,6 +622,47 @@ public class FileParserService {
     }
   }
 
+  /** {@link #parseStreamingCsvFromStream}의 RowBatch 버전. 헤더/skipRows/hasHeader 규칙은 동일하다. */
+  private void parseStreamingCsvBatches(
+      InputStream inputStream, ParseOptions opts, int batchSize, Consumer<RowBatch> onBatch)
+      throws Exception {
+    try (CSVReader reader = buildCsvReaderFromStream(inputStream, opts)) {
+      for (int s = 0; s < opts.skipRows(); s++) {
+        if (reader.readNext() == null) return;
+      }
+
+      RowBatch batch;
+      if (opts.hasHeader()) {
+        String[] headerRow = reader.readNext();
+        if (headerRow == null) return;
+        batch = new RowBatch(Arrays.asList(headerRow), batchSize);
+      } else {
+        String[] firstRow = reader.readNext();
+        if (firstRow == null) return;
+        List<String> headers = new ArrayList<>(firstRow.length);
+        for (int i = 0; i < firstRow.length; i++) headers.add("column_" + (i + 1));
+        batch = new RowBatch(headers, batchSize);
+        batch.add(firstRow);
+        if (batch.isFull()) {
+          onBatch.accept(batch);
+          batch.clear();
+        }
+      }
+
+      String[] row;
+      while ((row = reader.readNext()) != null) {
+        batch.add(row);
+        if (batch.isFull()) {
+          onBatch.accept(batch);
+          batch.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        onBatch.accept(batch);
+      }
+    }
+  }
+
   /** header[]/row[]를 {헤더: 값} Map으로 변환하는 공통 헬퍼. */
   private static Map<String, String> toRowMap(String[] headers, String[] row) {
     Map<String, String> rowMap = new HashMap<>();
@@ -872,4 +935,34 @@ public class FileParserService {
       onBatch.accept(batchHolder[0]);
     }
   }
+
+  /**
+   * {@link #parseStreamingExcelFile}의 RowBatch 버전. 첫 행을 헤더로 고정하고, 이후 행의 셀 리스트를 배치 배열에 복사한다(파서가
+   * 재사용하는 셀 리스트를 보관하지 않음).
+   */
+  private void parseStreamingExcelBatches(
+      java.io.File file, int batchSize, Consumer<RowBatch> onBatch) throws Exception {
+    final RowBatch[] batchHolder = {null};
+
+    ExcelStreamingParser.parse(
+        file,
+        (idx, cells) -> {
+          RowBatch batch = batchHolder[0];
+          if (batch == null) {
+            // 첫 행 = 헤더
+            batchHolder[0] = new RowBatch(cells, batchSize);
+            return true;
+          }
+          batch.add(cells);
+          if (batch.isFull()) {
+            onBatch.accept(batch);
+            batch.clear();
+          }
+          return true;
+        });
+
+    if (batchHolder[0] != null && !batchHolder[0].isEmpty()) {
+      onBatch.accept(batchHolder[0]);
+    }
+  }
 }
@@ -0,0 +1,211 @@
+package com.smartfirehub.dataimport.service;
+
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임포트 배치 파이프라인: 파서 스레드 → N개 워커(검증/변환) → 호출 스레드의 순서 보장 writer.
+ *
+ * <p>기존 processImport는 파싱, 셀 변환(날짜/숫자 포맷 순회), DB 적재를 배치마다 한 스레드에서 번갈아 수행해 CPU 작업과 DB 왕복이
+ * 직렬화되었다. 이 파이프라인은 세 단계를 겹쳐 실행하되 다음 불변식을 지킨다.
+ *
+ * <ul>
+ *   <li><b>순서</b>: sink는 파일 등장 순서대로, 항상 {@link #run}을 호출한 스레드에서 실행된다. 따라서 staging {@code _seq}
+ *       순서(LWW), 전역 행 번호(rowIndexBase), REPLACE(PK 無) 트랜잭션 커넥션 바인딩이 단일 스레드 때와 같다.
+ *   <li><b>fail-fast</b>: sink나 stage가 예외를 던지면 파서는 다음 배치 경계에서 멈추고, 이미 제출된 워커 결과는 버려진다. 예외는
+ *       원형 그대로 호출자에게 전파된다.
+ *   <li><b>메모리 상한</b>: 파서가 만든 뒤 sink가 소비하기 전까지의 배치 수를 {@code workers * 2}로 제한한다(backpressure). 배치
+ *       배열은 풀에서 재사용한다.
+ * </ul>
+ *
+ * <p>워커 수는 {@code firehub.import.workers}로 설정하며, 0이면 파이프라인 없이 호출 스레드에서 순차 처리한다(기존 동작).
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportBatchPipeline {
+
+  @Qualifier("importExecutor")
+  private final Executor importExecutor;
+
+  @Value("${firehub.import.workers:4}")
+  private final int workers;
+
+  /** 배치를 파싱해 콜백으로 흘려보내는 생산자(예: {@code FileParserService.parseStreamingBatches}). */
+  @FunctionalInterface
+  public interface BatchProducer {
+    void produce(Consumer<RowBatch> onBatch) throws Exception;
+  }
+
+  /**
+   * 워커 단계. 여러 워커 스레드에서 동시에 호출되므로 공유 상태를 변경하지 말 것. 호출이 끝나면 batch는 풀로 반환되므로 결과에 batch를
+   * 담지 말 것.
+   */
+  @FunctionalInterface
+  public interface Stage<R> {
+    /**
+     * @param rowIndexBase 이 배치 이전까지의 누적 행 수(파일 전역 오프셋)
+     */
+    R apply(RowBatch batch, int rowIndexBase) throws Exception;
+  }
+
+  /** 순서 보장 writer. {@link #run} 호출 스레드에서 파일 순서대로 호출된다. */
+  @FunctionalInterface
+  public interface Sink<R> {
+    void accept(R result) throws Exception;
+  }
+
+  public int workers() {
+    return workers;
+  }
+
+  /** producer의 배치를 stage로 처리해 sink에 순서대로 전달한다. 모든 배치를 처리하거나 첫 예외가 날 때까지 블록한다. */
+  public <R> void run(BatchProducer producer, Stage<R> stage, Sink<R> sink) throws Exception {
+    if (workers <= 0) {
+      runSequential(producer, stage, sink);
+      return;
+    }
+
+    int depth = workers * 2;
+    Semaphore inFlight = new Semaphore(depth);
+    BlockingQueue<CompletableFuture<R>> ordered = new LinkedBlockingQueue<>();
+    CompletableFuture<R> end = new CompletableFuture<>();
+    Queue<RowBatch> freeBatches = new ConcurrentLinkedQueue<>();
+    PipelineState state = new PipelineState();
+
+    Thread parser =
+        Thread.ofPlatform()
+            .name("import-parser")
+            .daemon(true)
+            .start(
+                () -> {
+                  try {
+                    int[] rowIndexBase = {0};
+                    producer.produce(
+                        batch -> {
+                          acquire(inFlight, state);
+                          RowBatch owned = freeBatches.poll();
+                          if (owned == null) {
+                            owned = new RowBatch(batch.headers(), batch.capacity());
+                          }
+                          // 채워진 배열은 워커로, 비워진 배열은 파서로(복사 없음).
+                          owned.swapWith(batch);
+                          RowBatch task = owned;
+                          int base = rowIndexBase[0];
+                          rowIndexBase[0] += task.size();
+                          ordered.add(
+                              CompletableFuture.supplyAsync(
+                                  () -> applyStage(stage, task, base, freeBatches),
+                                  importExecutor));
+                        });
+                    ordered.add(end);
+                  } catch (PipelineCancelledException cancelled) {
+                    ordered.add(end);
+                  } catch (Throwable t) {
+                    ordered.add(CompletableFuture.failedFuture(t));
+                  }
+                });
+
+    try {
+      while (true) {
+        CompletableFuture<R> next = ordered.take();
+        if (next == end) {
+          break;
+        }
+        R result;
+        try {
+          result = next.get();
+        } catch (ExecutionException e) {
+          throw unwrap(e.getCause());
+        }
+        sink.accept(result);
+        inFlight.release();
+      }
+    } finally {
+      // 정상 종료든 fail-fast든 파서를 멈추고(다음 배치 경계에서) 종료를 기다린다. 대기 중인 acquire를 풀어 준다.
+      state.cancelled = true;
+      inFlight.release(depth);
+      parser.join();
+    }
+  }
+
+  private <R> void runSequential(BatchProducer producer, Stage<R> stage, Sink<R> sink)
+      throws Exception {
+    int[] rowIndexBase = {0};
+    try {
+      producer.produce(
+          batch -> {
+            try {
+              sink.accept(stage.apply(batch, rowIndexBase[0]));
+            } catch (RuntimeException e) {
+              throw e;
+            } catch (Exception e) {
+              throw new CompletionException(e);
+            }
+            rowIndexBase[0] += batch.size();
+          });
+    } catch (CompletionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  private static <R> R applyStage(
+      Stage<R> stage, RowBatch batch, int rowIndexBase, Queue<RowBatch> freeBatches) {
+    try {
+      return stage.apply(batch, rowIndexBase);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new CompletionException(e);
+    } finally {
+      batch.clear();
+      freeBatches.offer(batch);
+    }
+  }
+
+  private static void acquire(Semaphore inFlight, PipelineState state) {
+    if (state.cancelled) {
+      throw new PipelineCancelledException();
+    }
+    inFlight.acquireUninterruptibly();
+    if (state.cancelled) {
+      throw new PipelineCancelledException();
+    }
+  }
+
+  /** 워커 예외의 CompletionException 포장을 벗겨 원래 예외(예: 검증 중단 신호)를 그대로 던지게 한다. */
+  private static Exception unwrap(Throwable t) {
+    while (t instanceof CompletionException && t.getCause() != null) {
+      t = t.getCause();
+    }
+    if (t instanceof Exception e) {
+      return e;
+    }
+    if (t instanceof Error error) {
+      throw error;
+    }
+    return new IllegalStateException(t);
+  }
+
+  private static final class PipelineState {
+    volatile boolean cancelled;
+  }
+
+  /** 호출 스레드가 파이프라인을 멈췄을 때 파서 루프를 빠져나오기 위한 내부 신호. */
+  private static final class PipelineCancelledException extends RuntimeException {
+    PipelineCancelledException() {
+      super(null, null, false, false);
+    }
+  }
+}
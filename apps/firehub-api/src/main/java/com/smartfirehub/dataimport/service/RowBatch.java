@@ -0,0 +1,129 @@
+package com.smartfirehub.dataimport.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파일 파서가 채우는 재사용 가능한 컬럼 지향 원시(문자열) 행 배치.
+ *
+ * <p>기존 스트리밍 임포트는 행마다 {@code HashMap<헤더, 값>}을 만들고 검증/변환 단계마다 다시 Map을 만들어, 셀 하나당 여러 번의
+ * 할당(HashMap.Node, 리매핑 Map, 행 ArrayList)이 발생했다. RowBatch는 헤더를 파일당 한 번만 컬럼 서수(ordinal)로 고정하고, 셀
+ * 값을 {@code String[컬럼][행]} 배열에 그대로 담는다. 배열은 배치 간에 재사용되므로({@link #clear()}) 천만 행 임포트도 배치 단위로만
+ * 할당한다.
+ *
+ * <p>셀 보정 규칙은 기존 {@code Map} 기반 경로와 동일하다. CSV에서 헤더보다 짧은 행의 누락 셀은 {@code null}(Map에 키가 없던
+ * 것과 같음), Excel은 파서가 빈 문자열로 채운다. 헤더가 중복되면 {@link #ordinalOf}는 마지막 컬럼을 가리킨다(Map.put
+ * last-wins와 같음).
+ *
+ * <p>이 객체는 한 번에 한 스레드만 다루며, {@code onBatch} 콜백이 반환된 뒤에는 내용이 덮어써진다 — 콜백은 배치를 보관하지 말 것.
+ */
+public final class RowBatch {
+
+  private final List<String> headers;
+  private final Map<String, Integer> ordinals;
+  private String[][] cells;
+  private final int capacity;
+  private int size;
+
+  public RowBatch(List<String> headers, int capacity) {
+    this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+    this.capacity = capacity;
+    this.ordinals = new HashMap<>();
+    for (int i = 0; i < this.headers.size(); i++) {
+      ordinals.put(this.headers.get(i), i);
+    }
+    this.cells = new String[this.headers.size()][capacity];
+  }
+
+  /** 헤더 목록(파일 컬럼 순서). */
+  public List<String> headers() {
+    return headers;
+  }
+
+  /** 헤더명의 컬럼 서수. 없으면 -1. */
+  public int ordinalOf(String header) {
+    Integer ordinal = ordinals.get(header);
+    return ordinal != null ? ordinal : -1;
+  }
+
+  public int width() {
+    return cells.length;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public boolean isFull() {
+    return size >= capacity;
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+
+  /** 셀 값. 헤더보다 짧은 CSV 행의 누락 셀은 null. */
+  public String get(int row, int column) {
+    return cells[column][row];
+  }
+
+  /** CSV 행 추가. 헤더보다 긴 행의 초과 셀은 버리고, 짧은 행의 누락 셀은 null로 둔다. */
+  public void add(String[] row) {
+    int r = size++;
+    for (int c = 0; c < cells.length; c++) {
+      cells[c][r] = c < row.length ? row[c] : null;
+    }
+  }
+
+  /** Excel 행 추가({@link RowConsumer}의 셀 리스트). 누락 셀은 빈 문자열로 채운다. */
+  public void add(List<String> row) {
+    int r = size++;
+    for (int c = 0; c < cells.length; c++) {
+      cells[c][r] = c < row.size() ? row.get(c) : "";
+    }
+  }
+
+  /** 배치를 비운다. 이전 셀 참조도 해제해 다음 배치가 다 채워지지 않아도 이전 문자열을 붙잡지 않게 한다. */
+  public void clear() {
+    for (String[] column : cells) {
+      Arrays.fill(column, 0, size, null);
+    }
+    size = 0;
+  }
+
+  /**
+   * 두 배치의 셀 배열과 크기를 맞바꾼다(복사 없음). 파서가 채운 배치를 병렬 파이프라인({@link ImportBatchPipeline})으로 넘길 때, 파서
+   * 쪽에는 비워진 배열을 돌려주고 채워진 배열의 소유권을 워커로 옮기는 데 쓴다. 두 배치는 폭과 용량이 같아야 한다.
+   */
+  void swapWith(RowBatch other) {
+    if (other.cells.length != cells.length || other.capacity != capacity) {
+      throw new IllegalArgumentException("RowBatch shape mismatch");
+    }
+    String[][] otherCells = other.cells;
+    int otherSize = other.size;
+    other.cells = cells;
+    other.size = size;
+    cells = otherCells;
+    size = otherSize;
+  }
+
+  /** 한 행을 {헤더: 값} Map으로 만든다. 샘플/호환 경로 전용 — 대량 경로에서는 쓰지 말 것. */
+  public Map<String, String> rowAsMap(int row) {
+    Map<String, String> map = new HashMap<>();
+    for (int c = 0; c < cells.length; c++) {
+      String value = cells[c][row];
+      if (value != null) {
+        map.put(headers.get(c), value);
+      }
+    }
+    return map;
+  }
+}
@@ -15,7 +15,8 @@ public interface RowConsumer {
    * 한 행을 받아 처리한다.
    *
    * @param rowIndex 0-based 행 인덱스
-   * @param cells 컬럼 정렬이 보정된 셀 값 리스트(빈 셀은 빈 문자열)
+   * @param cells 컬럼 정렬이 보정된 셀 값 리스트(빈 셀은 빈 문자열). 파서가 행 간에 재사용하는 버퍼이므로 호출 중에만 유효하다 —
+   *     보관하려면 복사할 것(예: {@code new ArrayList<>(cells)}, {@link RowBatch#add(List)}).
    * @return false면 즉시 파싱 중단(early-exit)
    */
   boolean accept(int rowIndex, List<String> cells);
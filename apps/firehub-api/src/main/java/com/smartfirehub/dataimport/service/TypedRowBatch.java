@@ -0,0 +1,55 @@
+package com.smartfirehub.dataimport.service;
+
+import com.smartfirehub.dataset.service.ColumnarRows;
+import java.util.Arrays;
+
+/**
+ * 검증기가 변환한 값(Long/BigDecimal/Boolean/LocalDate/LocalDateTime/String)을 데이터셋 컬럼 순서로 담는 재사용 배치.
+ *
+ * <p>{@link RowBatch}(원시 문자열)와 짝을 이루며, {@link DataValidationService#convertBatch}가 채우고 {@link
+ * com.smartfirehub.dataset.service.DataTableCopyService}가 그대로 COPY로 흘려보낸다. 기존 {@code toRows}처럼 행마다
+ * {@code ArrayList}를 만들지 않고 {@code Object[컬럼][행]} 배열을 배치 간에 재사용한다.
+ */
+public final class TypedRowBatch implements ColumnarRows {
+
+  private final Object[][] values;
+  private int size;
+
+  public TypedRowBatch(int width, int capacity) {
+    this.values = new Object[width][capacity];
+  }
+
+  @Override
+  public int rowCount() {
+    return size;
+  }
+
+  @Override
+  public Object get(int row, int column) {
+    return values[column][row];
+  }
+
+  public int width() {
+    return values.length;
+  }
+
+  void set(int row, int column, Object value) {
+    values[column][row] = value;
+  }
+
+  /**
+   * 다음 배치를 채울 준비를 한다. 새 크기를 넘는 이전 값 참조만 해제한다(0..newSize 구간은 호출자가 전부 덮어쓴다). 용량을 넘는 배치는 배열을
+   * 키운다.
+   */
+  void reset(int newSize) {
+    int capacity = values.length > 0 ? values[0].length : 0;
+    for (int c = 0; c < values.length; c++) {
+      if (newSize > capacity) {
+        values[c] = new Object[newSize];
+      } else if (size > newSize) {
+        Arrays.fill(values[c], newSize, size, null);
+      }
+    }
+    size = newSize;
+  }
+}
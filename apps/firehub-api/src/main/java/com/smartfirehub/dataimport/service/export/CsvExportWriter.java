@@ -27,6 +27,17 @@ public class CsvExportWriter implements ExportWriter {
     this.csvWriter = new CSVWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
   }
 
+  /**
+   * BOM과 헤더 행만 쓰고 바로 flush한다. 본문을 {@code COPY ... TO STDOUT}으로 같은 스트림에 직접 이어 쓸 때 사용하며, 스트림은
+   * 닫지 않는다.
+   */
+  public static void writePreamble(OutputStream outputStream, List<String> displayNames)
+      throws IOException {
+    CsvExportWriter writer = new CsvExportWriter(outputStream);
+    writer.writeHeader(displayNames);
+    writer.csvWriter.flush();
+  }
+
   @Override
   public void writeHeader(List<String> displayNames) {
     csvWriter.writeNext(displayNames.toArray(new String[0]));
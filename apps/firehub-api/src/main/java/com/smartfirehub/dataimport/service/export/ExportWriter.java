@@ -2,13 +2,31 @@ package com.smartfirehub.dataimport.service.export;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 public interface ExportWriter extends AutoCloseable {
 
   void writeHeader(List<String> displayNames) throws IOException;
 
+  /** 한 행을 쓴다. values 배열은 호출자가 다음 행에 재사용할 수 있으므로 호출이 끝난 뒤 참조를 보관하지 말 것. */
   void writeRow(String[] values) throws IOException;
 
+  /**
+   * 조회 결과 한 페이지(컬럼명 → 값 Map)를 columnNames 순서의 문자열 행으로 쓴다. null은 빈 문자열이 된다. 페이지 안에서 값 배열 하나를
+   * 재사용한다.
+   */
+  default void writeRows(List<String> columnNames, List<Map<String, Object>> rows)
+      throws IOException {
+    String[] values = new String[columnNames.size()];
+    for (Map<String, Object> row : rows) {
+      for (int i = 0; i < values.length; i++) {
+        Object val = row.get(columnNames.get(i));
+        values[i] = val != null ? val.toString() : "";
+      }
+      writeRow(values);
+    }
+  }
+
   @Override
   void close() throws IOException;
 }
@@ -13,11 +13,14 @@ import com.smartfirehub.dataset.service.DatasetService;
 import com.smartfirehub.dataset.service.DatasetTagService;
 import com.smartfirehub.global.dto.PageResponse;
 import com.smartfirehub.global.security.RequirePermission;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -339,6 +342,25 @@ public class DatasetController {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * {@code /query}의 스트리밍 버전. 응답 본문은 column-array JSON(columns 한 번, rows 는 값 배열)이며 결과를 메모리에 모으지 않고
+   * 커서에서 읽는 대로 쓴다.
+   */
+  @PostMapping("/{id}/query/stream")
+  @RequirePermission("data:import")
+  public void executeQueryStreaming(
+      @PathVariable Long id,
+      @Valid @RequestBody SqlQueryRequest request,
+      Authentication authentication,
+      HttpServletResponse httpResponse)
+      throws IOException {
+    Long userId = (Long) authentication.getPrincipal();
+    httpResponse.setStatus(HttpServletResponse.SC_OK);
+    httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    datasetDataService.executeQueryStreaming(id, request, userId, httpResponse.getOutputStream());
+    httpResponse.flushBuffer();
+  }
+
   @GetMapping("/{id}/queries")
   @RequirePermission("data:read")
   public ResponseEntity<PageResponse<QueryHistoryResponse>> getQueryHistory(
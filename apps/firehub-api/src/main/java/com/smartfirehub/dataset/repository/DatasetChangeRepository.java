@@ -0,0 +1,79 @@
+package com.smartfirehub.dataset.repository;
+
+import static com.smartfirehub.jooq.Tables.DATASET;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import java.util.Collection;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Table;
+import org.springframework.stereotype.Repository;
+
+/**
+ * dataset_change(데이터셋별 단조 증가 변경 버전) 접근 리포지토리. 버전을 올리면 같은 문장에서 {@code NOTIFY dataset_change}
+ * (payload = dataset id)를 보낸다. NOTIFY 는 트랜잭션 커밋 시점에 전달되므로 롤백된 쓰기는 알림도 나가지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatasetChangeRepository {
+
+  public static final String CHANNEL = "dataset_change";
+
+  private static final Table<?> T = table(name("dataset_change"));
+  private static final Field<Long> DATASET_ID =
+      field(name("dataset_change", "dataset_id"), Long.class);
+  private static final Field<Long> VERSION = field(name("dataset_change", "version"), Long.class);
+  // 한 번도 바뀌지 않은 데이터셋(행 없음)은 0
+  private static final Field<Long> CURRENT_VERSION =
+      coalesce(VERSION, inline(0L)).as("current_version");
+
+  private static final String BUMP_SQL =
+      "WITH bumped AS ("
+          + " INSERT INTO dataset_change (dataset_id, version, changed_at)"
+          + " %s"
+          + " ON CONFLICT (dataset_id) DO UPDATE"
+          + " SET version = dataset_change.version + 1, changed_at = EXCLUDED.changed_at"
+          + " RETURNING dataset_id)"
+          + " SELECT pg_notify('"
+          + CHANNEL
+          + "', dataset_id::text) FROM bumped";
+
+  private final DSLContext dsl;
+
+  /** 데이터셋 버전을 1 올리고 알림을 보낸다. */
+  public void bump(Long datasetId) {
+    dsl.fetch(BUMP_SQL.formatted("VALUES (?, 1, NOW())"), datasetId);
+  }
+
+  /** data 스키마 테이블명으로 데이터셋을 찾아 버전을 올린다. 데이터셋에 속하지 않은 테이블이면 아무 일도 하지 않는다. */
+  public void bumpByTableName(String tableName) {
+    dsl.fetch(
+        BUMP_SQL.formatted("SELECT id, 1, NOW() FROM dataset WHERE table_name = ?"), tableName);
+  }
+
+  /** 존재하는 데이터셋의 현재 버전 (datasetId → version). 한 번도 바뀌지 않은 데이터셋은 0. */
+  public Map<Long, Long> findVersions(Collection<Long> datasetIds) {
+    return dsl.select(DATASET.ID, CURRENT_VERSION)
+        .from(DATASET)
+        .leftJoin(T)
+        .on(DATASET_ID.eq(DATASET.ID))
+        .where(DATASET.ID.in(datasetIds))
+        .fetchMap(DATASET.ID, CURRENT_VERSION);
+  }
+
+  /** data 스키마 테이블명 기준 현재 버전 (tableName → version). 데이터셋 테이블이 아닌 이름은 결과에 없다. */
+  public Map<String, Long> findVersionsByTableNames(Collection<String> tableNames) {
+    return dsl.select(DATASET.TABLE_NAME, CURRENT_VERSION)
+        .from(DATASET)
+        .leftJoin(T)
+        .on(DATASET_ID.eq(DATASET.ID))
+        .where(DATASET.TABLE_NAME.in(tableNames))
+        .fetchMap(DATASET.TABLE_NAME, CURRENT_VERSION);
+  }
+}
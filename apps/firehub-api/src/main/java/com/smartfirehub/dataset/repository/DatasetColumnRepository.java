@@ -75,6 +75,27 @@ public class DatasetColumnRepository {
         .fetch(this::mapToColumnResponse);
   }
 
+  /** 물리 테이블명으로 데이터셋 컬럼을 순서대로 조회한다. 데이터셋 id를 모르는 전량 읽기 경로용. */
+  public List<DatasetColumnResponse> findByTableName(String tableName) {
+    return dsl.select(
+            COL_ID,
+            COL_COLUMN_NAME,
+            COL_DISPLAY_NAME,
+            COL_DATA_TYPE,
+            COL_MAX_LENGTH,
+            COL_IS_NULLABLE,
+            COL_IS_INDEXED,
+            COL_DESCRIPTION,
+            COL_COLUMN_ORDER,
+            COL_IS_PRIMARY_KEY)
+        .from(DATASET_COLUMN)
+        .join(table(name("dataset")))
+        .on(field(name("dataset", "id"), Long.class).eq(COL_DATASET_ID))
+        .where(field(name("dataset", "table_name"), String.class).eq(tableName))
+        .orderBy(COL_COLUMN_ORDER.asc())
+        .fetch(this::mapToColumnResponse);
+  }
+
   public DatasetColumnResponse save(Long datasetId, DatasetColumnRequest request, int columnOrder) {
     return dsl.insertInto(DATASET_COLUMN)
         .set(COL_DATASET_ID, datasetId)
@@ -0,0 +1,99 @@
+package com.smartfirehub.dataset.repository;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfirehub.dataset.dto.ColumnStatsResponse;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.JSONB;
+import org.jooq.Table;
+import org.springframework.stereotype.Repository;
+
+/**
+ * dataset_column_stats(데이터셋당 컬럼 통계 스냅샷 1행) 접근 리포지토리. 통계는 ColumnStatsResponse 배열을 JSONB 로 통째로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DatasetColumnStatsRepository {
+
+  private static final TypeReference<List<ColumnStatsResponse>> STATS_TYPE =
+      new TypeReference<>() {};
+
+  private static final Table<?> T = table(name("dataset_column_stats"));
+  private static final Field<Long> DATASET_ID =
+      field(name("dataset_column_stats", "dataset_id"), Long.class);
+  private static final Field<JSONB> STATS =
+      field(name("dataset_column_stats", "stats"), JSONB.class);
+  private static final Field<OffsetDateTime> COMPUTED_AT =
+      field(name("dataset_column_stats", "computed_at"), OffsetDateTime.class);
+  private static final Field<Long> DATA_VERSION =
+      field(name("dataset_column_stats", "data_version"), Long.class);
+
+  private final DSLContext dsl;
+  private final ObjectMapper objectMapper;
+
+  /** 저장된 스냅샷 (통계 목록, 계산 시점의 데이터 버전, 계산 시작 시각). */
+  public Optional<Snapshot> findSnapshot(Long datasetId) {
+    return dsl.select(STATS, DATA_VERSION, COMPUTED_AT)
+        .from(T)
+        .where(DATASET_ID.eq(datasetId))
+        .fetchOptional(
+            r -> new Snapshot(fromJsonb(r.get(STATS)), r.get(DATA_VERSION), r.get(COMPUTED_AT)));
+  }
+
+  /** 스냅샷 계산 시작 시각. 스냅샷이 없으면 empty. */
+  public Optional<OffsetDateTime> findComputedAt(Long datasetId) {
+    return dsl.select(COMPUTED_AT)
+        .from(T)
+        .where(DATASET_ID.eq(datasetId))
+        .fetchOptional(COMPUTED_AT);
+  }
+
+  /** 스냅샷을 저장한다. 이미 더 나중에 시작한 계산 결과가 있으면 덮어쓰지 않는다. */
+  public void save(
+      Long datasetId,
+      List<ColumnStatsResponse> stats,
+      long dataVersion,
+      OffsetDateTime computedAt) {
+    JSONB json = toJsonb(stats);
+    dsl.insertInto(T)
+        .columns(DATASET_ID, STATS, DATA_VERSION, COMPUTED_AT)
+        .values(datasetId, json, dataVersion, computedAt)
+        .onConflict(DATASET_ID)
+        .doUpdate()
+        .set(STATS, json)
+        .set(DATA_VERSION, dataVersion)
+        .set(COMPUTED_AT, computedAt)
+        .where(COMPUTED_AT.lt(computedAt))
+        .execute();
+  }
+
+  private List<ColumnStatsResponse> fromJsonb(JSONB jsonb) {
+    try {
+      return objectMapper.readValue(jsonb.data(), STATS_TYPE);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("컬럼 통계 스냅샷 역직렬화 실패", e);
+    }
+  }
+
+  private JSONB toJsonb(List<ColumnStatsResponse> stats) {
+    try {
+      return JSONB.valueOf(objectMapper.writeValueAsString(stats));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("컬럼 통계 스냅샷 직렬화 실패", e);
+    }
+  }
+
+  /** 컬럼 통계 스냅샷. dataVersion 은 계산 시작 전에 읽은 dataset_change.version. */
+  public record Snapshot(
+      List<ColumnStatsResponse> stats, long dataVersion, OffsetDateTime computedAt) {}
+}
@@ -9,13 +9,14 @@ import org.springframework.stereotype.Service;
 /**
  * 관리자용 데이터셋 검색 인덱스 백필 오케스트레이터.
  *
- * <p>{@link DatasetEmbeddingService} 의 3-arg 단위테스트 시그니처를 보존하기 위해 백필(잡 스케줄러 의존) 로직은
+ * <p>{@link DatasetEmbeddingService} 의 단위테스트 생성자 시그니처를 보존하기 위해 백필(잡 스케줄러 의존) 로직은
  * 별도 서비스로 분리했다.
  *
  * <p>동작: (1) 모든 데이터셋 id 의 {@code syncSourceText} 를 먼저 동기 실행해 키워드 검색을 즉시 가능케 한 뒤,
  * (2) {@code reindexEmbedding} 을 데이터셋별 잡으로 enqueue 해 비용이 큰 임베딩 생성을 비동기 분산한다.
  * Jobrunr 는 빈 메서드 참조 람다를 직렬화해 백그라운드에서 해당 빈 메서드를 호출한다
- * (DocumentIngestionService.processIngestion 과 동일 메커니즘).
+ * (DocumentIngestionService.processIngestion 과 동일 메커니즘). 잡마다 텍스트는 1건이지만 동시에 도는 잡들의 텍스트는
+ * EmbeddingBatcher 에서 한 배치로 묶여 provider 를 호출한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -1,5 +1,6 @@
 package com.smartfirehub.dataset.search;
 
+import com.smartfirehub.embedding.EmbeddingBatcher;
 import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.List;
@@ -14,8 +15,11 @@ import org.springframework.stereotype.Service;
  *   <li>reindexEmbedding: bge-m3 임베딩 생성(외부 호출 동반, 비동기 경로 전용).
  * </ul>
  *
+ * <p>reindexEmbedding 은 텍스트 1건이지만 {@link EmbeddingBatcher} 를 거치므로, 백필처럼 데이터셋별 잡이 동시에 돌 때
+ * 여러 데이터셋의 텍스트가 한 번의 provider 호출로 묶인다.
+ *
  * <p>주의: 생성자 인자 순서는 {@code @RequiredArgsConstructor} 가 필드 선언 순서대로 생성한다
- * (embeddingRepo, metaReader, embeddingFactory). 단위 테스트가 이 3-arg 시그니처에 의존한다.
+ * (embeddingRepo, metaReader, embeddingFactory, embeddingBatcher). 단위 테스트가 이 시그니처에 의존한다.
  */
 @Service
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ public class DatasetEmbeddingService {
   private final DatasetEmbeddingRepository embeddingRepo;
   private final DatasetMetaReader metaReader;
   private final EmbeddingProviderFactory embeddingFactory;
+  private final EmbeddingBatcher embeddingBatcher;
 
   /** 동기: source_text 만 갱신. 메타 없으면(삭제됨) 인덱스 제거. 쓰기 트랜잭션 내에서 호출. */
   public void syncSourceText(long datasetId) {
@@ -43,7 +48,7 @@ public class DatasetEmbeddingService {
     }
     String sourceText = DatasetSourceTextBuilder.build(meta);
     EmbeddingProvider provider = embeddingFactory.current();
-    float[] embedding = provider.embed(List.of(sourceText)).get(0);
+    float[] embedding = embeddingBatcher.embed(provider, List.of(sourceText)).get(0);
     embeddingRepo.updateEmbedding(datasetId, embedding, provider.modelId());
   }
 }
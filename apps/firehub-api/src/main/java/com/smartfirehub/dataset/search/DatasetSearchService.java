@@ -1,6 +1,5 @@
 package com.smartfirehub.dataset.search;
 
-import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -94,8 +93,7 @@ public class DatasetSearchService {
 
   /** 쿼리 1건 임베딩 — 인제스션과 동일 provider 라야 비교가 유효하다. */
   private float[] embed(String query) {
-    EmbeddingProvider provider = embeddingFactory.current();
-    return provider.embed(List.of(query)).get(0);
+    return embeddingFactory.embedQuery(query);
   }
 
   /** topK 정규화: null → 기본 10, 1 미만 → 1, 20 초과 → 20. */
@@ -0,0 +1,34 @@
+package com.smartfirehub.dataset.service;
+
+import java.util.List;
+
+/**
+ * {@link DataTableCopyService}가 읽는 컬럼 순서 행 집합.
+ *
+ * <p>적재기는 행마다 리스트/Map을 요구하지 않고 (행, 컬럼) 좌표로 값을 읽는다. 임포트 파이프라인은 배치 간에 재사용되는 배열 기반 구현을
+ * 넘기고, 기존 {@code List<List<Object>>} 호출자는 {@link #of(List)} 어댑터를 쓴다. 컬럼 인덱스는 적재 호출의 {@code
+ * columns} 순서와 같다.
+ */
+public interface ColumnarRows {
+
+  int rowCount();
+
+  /** 셀 값. 행이 컬럼 수보다 짧으면 null. */
+  Object get(int row, int column);
+
+  /** 행 리스트({@code DataValidationService.toRows} 결과 형태)를 감싼다. 복사하지 않는다. */
+  static ColumnarRows of(List<List<Object>> rows) {
+    return new ColumnarRows() {
+      @Override
+      public int rowCount() {
+        return rows.size();
+      }
+
+      @Override
+      public Object get(int row, int column) {
+        List<Object> values = rows.get(row);
+        return column < values.size() ? values.get(column) : null;
+      }
+    };
+  }
+}
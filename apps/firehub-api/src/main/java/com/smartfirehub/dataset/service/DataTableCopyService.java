@@ -0,0 +1,366 @@
+package com.smartfirehub.dataset.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.stereotype.Service;
+
+/**
+ * PostgreSQL {@code COPY} 기반 대량 적재기/추출기.
+ *
+ * <p>{@link DataTableRowService#insertBatchWithProgress}는 500행 청크마다 {@code INSERT ... VALUES
+ * (?,?),(?,?)}를 조립해 바인딩 파라미터 수천 개를 보내고, 호출자는 행마다 {@code Map<String,Object>}를 만들어야 한다.
+ * 대용량(수백 MB) CSV/XLSB 임포트에서는 이 파싱/바인딩 비용이 병목이 되어 초당 수천 행에 머문다. 이 서비스는 검증기가 이미 컬럼 순서로
+ * 변환한 {@code List<List<Object>>}를 CSV 텍스트로 직렬화해 COPY 프로토콜로 흘려보내므로 행별 Map이 필요 없고, 서버도 문장
+ * 파싱/플래닝 없이 바로 튜플을 적재한다.
+ *
+ * <p>GEOMETRY 컬럼: 값은 GeoJSON 문자열인데 COPY는 {@code ST_GeomFromGeoJSON} 같은 변환식을 적용할 수 없다. 따라서
+ * GEOMETRY 컬럼이 하나라도 있으면 같은 커넥션의 TEMP 랜딩 테이블(GEOMETRY만 TEXT)로 COPY한 뒤 {@code INSERT ... SELECT
+ * ST_SetSRID(ST_GeomFromGeoJSON(..), 4326)}로 옮긴다. 그 외 테이블은 대상 테이블에 직접 COPY한다.
+ *
+ * <p>배치(호출) 단위로 COPY 문장 하나를 실행하므로, 트랜잭션 밖에서는 기존 insertBatch와 동일하게 배치마다 커밋된다. 호출자가
+ * 트랜잭션으로 감싸면(REPLACE PK 無) 그 트랜잭션의 커넥션을 그대로 사용한다(TransactionAwareDataSourceProxy).
+ *
+ * <p>반대 방향({@link #copyOut})은 {@code COPY (SELECT ...) TO STDOUT (FORMAT csv)}로 서버가 만든 CSV 바이트를 호출자의
+ * OutputStream에 그대로 흘려보낸다. CSV export처럼 행 변환이 없는 전량 읽기에서 행별 Map/문자열 배열 생성을 없앤다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DataTableCopyService {
+
+  /** COPY 스트림 버퍼 크기. PGCopyOutputStream이 이 크기 단위로 CopyData 메시지를 보낸다. */
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+  /** copyOut 진행 콜백 간격(행). */
+  static final int COPY_OUT_PROGRESS_INTERVAL = 10_000;
+
+  private final DSLContext dsl;
+  private final DataTableService dataTableService;
+
+  /**
+   * 대상 테이블(또는 staging 테이블)에 rows를 COPY로 적재한다.
+   *
+   * <p>rows의 각 원소는 {@code columns}와 같은 순서의 값 리스트다({@code DataValidationService.toRows} 결과 형태).
+   * staging 테이블({@code _seq BIGSERIAL})에도 그대로 사용할 수 있다 — COPY는 입력 순서대로 튜플을 적재하므로 {@code _seq}가
+   * 파일 내 등장 순서를 그대로 반영한다(promote 시 LWW 판정 근거).
+   *
+   * @param columnTypes 컬럼명 → 데이터셋 데이터타입. GEOMETRY 판별에만 사용하며 null이면 GEOMETRY 없음으로 간주한다.
+   * @param progressCallback (처리 행 수, 전체 행 수). COPY 한 번이 끝난 뒤 1회 호출된다. null 허용.
+   * @return 적재된 행 수
+   */
+  public long copyBatchWithProgress(
+      String tableName,
+      List<String> columns,
+      List<List<Object>> rows,
+      Map<String, String> columnTypes,
+      BiConsumer<Integer, Integer> progressCallback) {
+    return copyBatchWithProgress(
+        tableName, columns, ColumnarRows.of(rows), columnTypes, progressCallback);
+  }
+
+  /**
+   * {@link #copyBatchWithProgress(String, List, List, Map, BiConsumer)}의 컬럼 지향 버전. 임포트 파이프라인처럼 배치
+   * 배열을 재사용하는 호출자가 행 리스트를 만들지 않고 바로 넘길 수 있다. 호출이 반환된 뒤에는 rows를 참조하지 않는다.
+   */
+  public long copyBatchWithProgress(
+      String tableName,
+      List<String> columns,
+      ColumnarRows rows,
+      Map<String, String> columnTypes,
+      BiConsumer<Integer, Integer> progressCallback) {
+    dataTableService.validateName(tableName);
+    for (String col : columns) {
+      dataTableService.validateName(col);
+    }
+
+    int rowCount = rows.rowCount();
+    if (rowCount == 0) {
+      return 0L;
+    }
+
+    boolean hasGeometry =
+        columns.stream().anyMatch(col -> DataTableRowService.isGeometry(col, columnTypes));
+
+    long copied =
+        dsl.connectionResult(
+            conn ->
+                hasGeometry
+                    ? copyViaLanding(conn, tableName, columns, rows, columnTypes)
+                    : copyDirect(conn, tableName, columns, rows));
+
+    if (progressCallback != null) {
+      progressCallback.accept(rowCount, rowCount);
+    }
+    return copied;
+  }
+
+  /** GEOMETRY가 없는 테이블: 대상 테이블에 직접 COPY. */
+  private long copyDirect(
+      Connection conn, String tableName, List<String> columns, ColumnarRows rows)
+      throws Exception {
+    return copyIn(conn, "data.\"" + tableName + "\"", columns, rows);
+  }
+
+  /**
+   * GEOMETRY가 있는 테이블: TEMP 랜딩 테이블(GEOMETRY 컬럼만 TEXT)로 COPY한 뒤 INSERT ... SELECT로 변환 적재한다.
+   *
+   * <p>랜딩 테이블은 {@code CREATE TEMP TABLE ... AS SELECT ... WITH NO DATA}로 대상 컬럼 타입을 그대로 복제하므로
+   * 타입 변환(TIMESTAMP/NUMERIC 등)은 COPY 단계에서 끝나고, INSERT ... SELECT는 GEOMETRY 변환만 담당한다. 입력 순서를 보존하기
+   * 위해 {@code _ord} IDENTITY 컬럼을 두고 ORDER BY로 옮긴다(staging의 {@code _seq} 순서 보장).
+   */
+  private long copyViaLanding(
+      Connection conn,
+      String tableName,
+      List<String> columns,
+      ColumnarRows rows,
+      Map<String, String> columnTypes)
+      throws Exception {
+    // UUID hex는 항상 [a-z0-9]만 포함하므로 식별자로 안전하다.
+    String landing = "copy_landing_" + UUID.randomUUID().toString().replace("-", "");
+
+    StringBuilder landingCols = new StringBuilder();
+    StringBuilder targetCols = new StringBuilder();
+    StringBuilder selectExprs = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      String col = columns.get(i);
+      boolean geometry = DataTableRowService.isGeometry(col, columnTypes);
+      if (i > 0) {
+        landingCols.append(", ");
+        targetCols.append(", ");
+        selectExprs.append(", ");
+      }
+      landingCols.append("\"").append(col).append("\"");
+      if (geometry) {
+        landingCols.append("::text AS \"").append(col).append("\"");
+        selectExprs.append("ST_SetSRID(ST_GeomFromGeoJSON(\"").append(col).append("\"), 4326)");
+      } else {
+        selectExprs.append("\"").append(col).append("\"");
+      }
+      targetCols.append("\"").append(col).append("\"");
+    }
+
+    try (Statement st = conn.createStatement()) {
+      st.execute(
+          "CREATE TEMP TABLE \""
+              + landing
+              + "\" AS SELECT "
+              + landingCols
+              + " FROM data.\""
+              + tableName
+              + "\" WITH NO DATA");
+      st.execute(
+          "ALTER TABLE pg_temp.\""
+              + landing
+              + "\" ADD COLUMN _ord BIGINT GENERATED ALWAYS AS IDENTITY");
+      // 트랜잭션(REPLACE) 안에서 실패하면 트랜잭션이 aborted 상태가 되어 DROP 도 실패한다.
+      // 랜딩 테이블 생성 뒤 세이브포인트를 두고, 실패 시 그 지점으로 되돌린 다음 정리한다.
+      Savepoint savepoint = conn.getAutoCommit() ? null : conn.setSavepoint();
+      long copied;
+      try {
+        copied = copyIn(conn, "pg_temp.\"" + landing + "\"", columns, rows);
+        st.executeUpdate(
+            "INSERT INTO data.\""
+                + tableName
+                + "\" ("
+                + targetCols
+                + ") SELECT "
+                + selectExprs
+                + " FROM pg_temp.\""
+                + landing
+                + "\" ORDER BY _ord");
+      } catch (Exception e) {
+        try {
+          if (savepoint != null) {
+            conn.rollback(savepoint);
+          }
+          dropLanding(st, landing);
+        } catch (Exception cleanup) {
+          e.addSuppressed(cleanup);
+        }
+        throw e;
+      }
+      if (savepoint != null) {
+        conn.releaseSavepoint(savepoint);
+      }
+      dropLanding(st, landing);
+      return copied;
+    }
+  }
+
+  // 풀 커넥션은 세션이 재사용되므로 TEMP 테이블을 명시적으로 정리한다.
+  private static void dropLanding(Statement st, String landing) throws Exception {
+    st.execute("DROP TABLE IF EXISTS pg_temp.\"" + landing + "\"");
+  }
+
+  /**
+   * 검색 조건에 맞는 행을 id 순서로 {@code COPY (SELECT ...) TO STDOUT}해 CSV 본문(헤더 없음)을 out에 쓴다.
+   *
+   * <p>서버가 보내는 CopyData 메시지(한 행)를 받는 즉시 out에 쓰므로 행 수와 무관하게 힙 사용량이 일정하다. 값은 모두 따옴표로 감싸고
+   * ({@code FORCE_QUOTE *}, opencsv 기본 동작과 동일) NULL만 따옴표 없는 빈 값이 된다. GEOMETRY는 GeoJSON, BOOLEAN은
+   * {@code true/false}로 내보내며 그 외 값은 PostgreSQL 텍스트 표현을 따른다(TIMESTAMP는 {@code 2024-03-16 09:30:00}).
+   *
+   * <p>COPY는 바인딩 파라미터를 받지 않으므로 검색어는 jOOQ로 SQL 문자열 리터럴로 인라인한다. 호출 동안 풀 커넥션 하나를 점유한다.
+   *
+   * @param columns 내보낼 컬럼(순서대로). 비어 있으면 아무것도 쓰지 않는다.
+   * @param columnTypes 컬럼명 → 데이터셋 데이터타입. GEOMETRY/BOOLEAN 판별과 검색 대상 선정에 사용한다.
+   * @param progressCallback 지금까지 쓴 행 수. {@value #COPY_OUT_PROGRESS_INTERVAL}행마다 호출된다. null 허용.
+   * @return 쓴 행 수
+   */
+  public long copyOut(
+      String tableName,
+      List<String> columns,
+      String search,
+      Map<String, String> columnTypes,
+      OutputStream out,
+      LongConsumer progressCallback) {
+    dataTableService.validateName(tableName);
+    for (String col : columns) {
+      dataTableService.validateName(col);
+    }
+    if (columns.isEmpty()) {
+      return 0L;
+    }
+
+    StringBuilder select = new StringBuilder("SELECT ");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) select.append(", ");
+      select.append(copyOutExpr(columns.get(i), columnTypes));
+    }
+    select.append(" FROM data.\"").append(tableName).append("\"");
+    Object[] params =
+        DataTableRowService.buildSearchWhereClause(select, columns, search, columnTypes);
+    // keyset 페이지 경로와 같은 행 순서를 유지한다.
+    select.append(" ORDER BY id");
+
+    String query =
+        params.length > 0
+            ? dsl.renderInlined(DSL.sql(select.toString(), params))
+            : select.toString();
+    String sql = "COPY (" + query + ") TO STDOUT (FORMAT csv, FORCE_QUOTE *)";
+
+    return dsl.connectionResult(conn -> copyOut(conn, sql, out, progressCallback));
+  }
+
+  private static String copyOutExpr(String col, Map<String, String> columnTypes) {
+    if (DataTableRowService.isGeometry(col, columnTypes)) {
+      return DataTableRowService.selectExpr(col, columnTypes);
+    }
+    String type = columnTypes != null ? columnTypes.get(col) : null;
+    if ("BOOLEAN".equalsIgnoreCase(type)) {
+      // COPY의 boolean 출력(t/f) 대신 기존 export와 같은 true/false
+      return "\"" + col + "\"::text";
+    }
+    return "\"" + col + "\"";
+  }
+
+  private long copyOut(
+      Connection conn, String sql, OutputStream out, LongConsumer progressCallback)
+      throws Exception {
+    PGConnection pg = conn.unwrap(PGConnection.class);
+    CopyOut copy = pg.getCopyAPI().copyOut(sql);
+    long rows = 0;
+    try {
+      byte[] row;
+      while ((row = copy.readFromCopy()) != null) {
+        out.write(row);
+        rows++;
+        if (progressCallback != null && rows % COPY_OUT_PROGRESS_INTERVAL == 0) {
+          progressCallback.accept(rows);
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      // 클라이언트 연결 끊김 등으로 중단되면 서버측 COPY를 취소해 커넥션을 COPY 상태에서 빼낸다.
+      if (copy.isActive()) {
+        copy.cancelCopy();
+      }
+      throw e;
+    }
+    return rows;
+  }
+
+  /** {@code COPY target (cols) FROM STDIN (FORMAT csv)}로 rows를 스트리밍한다. */
+  private long copyIn(
+      Connection conn, String qualifiedTable, List<String> columns, ColumnarRows rows)
+      throws Exception {
+    StringBuilder sql = new StringBuilder("COPY ").append(qualifiedTable).append(" (");
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) sql.append(", ");
+      sql.append("\"").append(columns.get(i)).append("\"");
+    }
+    sql.append(") FROM STDIN (FORMAT csv)");
+
+    PGConnection pg = conn.unwrap(PGConnection.class);
+    PGCopyOutputStream out = new PGCopyOutputStream(pg, sql.toString(), COPY_BUFFER_SIZE);
+    // try-with-resources 로 닫으면 close() → endCopy()가 catch 보다 먼저 실행되어 실패한 배치의 앞부분이
+    // 적재(커밋)된다. 성공했을 때만 endCopy(), 실패하면 cancelCopy()로 서버측 COPY 를 취소한다.
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), COPY_BUFFER_SIZE);
+    try {
+      int width = columns.size();
+      int rowCount = rows.rowCount();
+      for (int r = 0; r < rowCount; r++) {
+        for (int i = 0; i < width; i++) {
+          if (i > 0) writer.write(',');
+          writeCsvValue(writer, rows.get(r, i));
+        }
+        writer.write('\n');
+      }
+      writer.flush();
+      return out.endCopy();
+    } catch (Exception e) {
+      if (out.isActive()) {
+        try {
+          out.cancelCopy();
+        } catch (Exception cancel) {
+          e.addSuppressed(cancel);
+        }
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * COPY CSV 형식의 셀 하나를 쓴다. NULL은 따옴표 없는 빈 값, 빈 문자열은 {@code ""}로 구분된다(COPY CSV 기본 규칙). 문자열은
+   * 항상 따옴표로 감싸 구분자/개행/따옴표가 섞여 있어도 안전하게 전달한다.
+   */
+  static void writeCsvValue(Writer writer, Object value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    if (value instanceof BigDecimal decimal) {
+      writer.write(decimal.toPlainString());
+      return;
+    }
+    if (value instanceof Number || value instanceof Boolean) {
+      writer.write(value.toString());
+      return;
+    }
+    // String, LocalDate, LocalDateTime(ISO "T" 구분자는 PG timestamp 입력이 허용) 등
+    String text = value.toString();
+    writer.write('"');
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      if (c == '"') writer.write('"');
+      writer.write(c);
+    }
+    writer.write('"');
+  }
+}
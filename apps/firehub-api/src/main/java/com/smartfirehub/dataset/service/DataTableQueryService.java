@@ -1,21 +1,38 @@
 package com.smartfirehub.dataset.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.dataset.dto.SqlQueryResponse;
+import com.smartfirehub.dataset.exception.SqlQueryException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.global.util.ColumnarJsonWriter;
+import com.smartfirehub.global.util.SqlTableUtils;
 import com.smartfirehub.global.util.SqlValidationUtils;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class DataTableQueryService {
 
+  // 응답에서 숨기는 시스템 컬럼
+  private static final Set<String> SYSTEM_COLUMNS = Set.of("id", "import_id", "created_at");
+  // 스트리밍 조회 시 서버 커서에서 한 번에 가져오는 행 수
+  private static final int STREAM_FETCH_SIZE = 500;
+
   private final DSLContext dsl;
+  private final ObjectMapper objectMapper;
+  private final DatasetChangeRepository changeRepository;
 
   /**
    * Execute user-supplied SQL against the data schema. Security: rejects DDL, multi-statement
@@ -23,6 +40,46 @@ public class DataTableQueryService {
    * for SET LOCAL to be effective.
    */
   public SqlQueryResponse executeQuery(String sql, int maxRows) {
+    return executeQuery(sql, maxRows, null);
+  }
+
+  /**
+   * {@link #executeQuery(String, int)}의 스트리밍 버전. SELECT 결과를 서버 커서(fetchSize)로 읽으며 {@link
+   * ColumnarJsonWriter} 형식으로 out 에 바로 쓰고, 최대 maxRows 행에서 멈춘다. 검증 실패({@link SqlQueryException})는
+   * 아무것도 쓰기 전에 던진다. 반환값은 행이 빠진 요약으로, 쿼리 이력 저장용이다. 커서를 쓰므로 @Transactional 안에서 호출해야 한다.
+   */
+  public SqlQueryResponse executeQueryStreaming(String sql, int maxRows, OutputStream out)
+      throws IOException {
+    try (ColumnarJsonWriter writer = new ColumnarJsonWriter(objectMapper, out)) {
+      SqlQueryResponse response = executeQuery(sql, maxRows, writer);
+      if (!writer.isBegun()) {
+        // DML·실행 오류 — 행이 없는 응답을 같은 형식으로 쓴다
+        writer.begin(response.columns());
+      }
+      boolean select = "SELECT".equals(response.queryType()) && response.error() == null;
+      writer.end(
+          response.queryType(),
+          response.affectedRows(),
+          select ? response.affectedRows() : 0,
+          select && response.affectedRows() >= maxRows,
+          response.executionTimeMs(),
+          response.error());
+      return response;
+    }
+  }
+
+  private SqlQueryResponse executeQuery(String sql, int maxRows, ColumnarJsonWriter stream) {
+    SqlQueryResponse response = executeInDataSchema(sql, maxRows, stream);
+    // DML 이 쓴 데이터셋의 변경 버전을 올린다 (DATASET_CHANGE 트리거·분석 결과 캐시). search_path 복원 뒤에 실행한다
+    if (response.error() == null
+        && !"SELECT".equals(response.queryType())
+        && response.affectedRows() > 0) {
+      SqlTableUtils.writtenDataTables(sql).forEach(changeRepository::bumpByTableName);
+    }
+    return response;
+  }
+
+  private SqlQueryResponse executeInDataSchema(String sql, int maxRows, ColumnarJsonWriter stream) {
     // Delegate comment stripping and keyword validation to SqlValidationUtils
     String stripped = SqlValidationUtils.stripAndValidate(sql);
     String queryType = SqlValidationUtils.detectQueryType(stripped);
@@ -60,33 +117,34 @@ public class DataTableQueryService {
           limitedSql = limitedSql + " LIMIT " + maxRows;
         }
 
-        var result = dsl.fetch(limitedSql);
-        long executionTimeMs = System.currentTimeMillis() - startTime;
-
-        // Filter out system columns (id, import_id, created_at)
-        Set<String> systemColumns = Set.of("id", "import_id", "created_at");
+        if (stream != null) {
+          response = streamSelect(limitedSql, maxRows, startTime, stream);
+        } else {
+          var result = dsl.fetch(limitedSql);
+          long executionTimeMs = System.currentTimeMillis() - startTime;
 
-        List<String> columns = new ArrayList<>();
-        List<Integer> visibleIndices = new ArrayList<>();
-        for (int i = 0; i < result.fields().length; i++) {
-          String colName = result.fields()[i].getName();
-          if (!systemColumns.contains(colName)) {
-            columns.add(colName);
-            visibleIndices.add(i);
+          List<String> columns = new ArrayList<>();
+          List<Integer> visibleIndices = new ArrayList<>();
+          for (int i = 0; i < result.fields().length; i++) {
+            String colName = result.fields()[i].getName();
+            if (!SYSTEM_COLUMNS.contains(colName)) {
+              columns.add(colName);
+              visibleIndices.add(i);
+            }
           }
-        }
 
-        List<Map<String, Object>> rows = new ArrayList<>();
-        for (var record : result) {
-          Map<String, Object> row = new HashMap<>();
-          for (int idx : visibleIndices) {
-            row.put(record.field(idx).getName(), record.get(idx));
+          List<Map<String, Object>> rows = new ArrayList<>();
+          for (var record : result) {
+            Map<String, Object> row = new HashMap<>();
+            for (int idx : visibleIndices) {
+              row.put(record.field(idx).getName(), record.get(idx));
+            }
+            rows.add(row);
           }
-          rows.add(row);
-        }
 
-        response =
-            new SqlQueryResponse(queryType, columns, rows, rows.size(), executionTimeMs, null);
+          response =
+              new SqlQueryResponse(queryType, columns, rows, rows.size(), executionTimeMs, null);
+        }
       } else {
         // DML: INSERT, UPDATE, DELETE
         int affectedRows = dsl.execute(cleanSql);
@@ -114,4 +172,28 @@ public class DataTableQueryService {
       }
     }
   }
+
+  /** SELECT 를 커서로 읽으며 시스템 컬럼을 뺀 값만 stream 에 쓴다. 반환 응답에는 행 없이 요약만 담는다. */
+  private SqlQueryResponse streamSelect(
+      String limitedSql, int maxRows, long startTime, ColumnarJsonWriter stream)
+      throws IOException {
+    try (Cursor<Record> cursor =
+        dsl.resultQuery(limitedSql).fetchSize(STREAM_FETCH_SIZE).fetchLazy()) {
+      Field<?>[] fields = cursor.fields();
+      List<String> columns = new ArrayList<>();
+      List<Integer> visibleIndices = new ArrayList<>();
+      for (int i = 0; i < fields.length; i++) {
+        if (!SYSTEM_COLUMNS.contains(fields[i].getName())) {
+          columns.add(fields[i].getName());
+          visibleIndices.add(i);
+        }
+      }
+      stream.begin(columns);
+      int rowCount =
+          stream.writeRows(
+              cursor, visibleIndices.stream().mapToInt(Integer::intValue).toArray(), maxRows);
+      long executionTimeMs = System.currentTimeMillis() - startTime;
+      return new SqlQueryResponse("SELECT", columns, List.of(), rowCount, executionTimeMs, null);
+    }
+  }
 }
@@ -3,6 +3,8 @@ package com.smartfirehub.dataset.service;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.SpatialFilter;
 import com.smartfirehub.dataset.exception.RowNotFoundException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnRepository;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +23,8 @@ public class DataTableRowService {
 
   private final DSLContext dsl;
   private final DataTableService dataTableService;
+  private final DatasetChangeRepository changeRepository;
+  private final DatasetColumnRepository columnRepository;
 
   /**
    * Result of an upsert batch operation. inserted: number of rows newly inserted (xmax = 0 in
@@ -138,6 +142,116 @@ public class DataTableRowService {
     return rows;
   }
 
+  // --- Keyset streaming read ---
+
+  /** {@link #forEachPage}가 페이지마다 호출하는 콜백. 페이지 리스트는 호출이 끝난 뒤 재사용되지 않으므로 보관해도 된다. */
+  @FunctionalInterface
+  public interface PageHandler<E extends Exception> {
+    void accept(List<Map<String, Object>> rows) throws E;
+  }
+
+  /**
+   * 검색 조건에 맞는 행을 id 순서로 끝까지 읽어 페이지 단위로 handler에 넘긴다(export, 파이프라인 입력 등 전량 읽기 전용).
+   *
+   * <p>{@code LIMIT/OFFSET} 페이징은 뒤쪽 페이지일수록 앞의 행을 모두 읽고 버리므로 전체 읽기가 행 수의 제곱에 비례한다. 여기서는 직전
+   * 페이지의 마지막 id 다음부터 읽는 keyset 방식({@code WHERE id > ? ORDER BY id LIMIT n})을 써서 매 페이지가 PK 인덱스 범위 스캔
+   * 한 번으로 끝난다. 트랜잭션이나 서버 커서를 붙잡지 않으므로 StreamingResponseBody처럼 트랜잭션 밖에서도 쓸 수 있고, 읽는 도중 행이
+   * 추가/삭제되어도 OFFSET처럼 행을 건너뛰거나 중복해서 내보내지 않는다.
+   *
+   * @param columns 조회할 컬럼(비어 있으면 데이터셋 스키마의 전체 컬럼). 결과 Map에는 항상 {@code id}가 포함된다.
+   * @return 읽은 전체 행 수
+   */
+  public <E extends Exception> long forEachPage(
+      String tableName,
+      List<String> columns,
+      String search,
+      Map<String, String> columnTypes,
+      int pageSize,
+      PageHandler<E> handler)
+      throws E {
+    if (columns == null || columns.isEmpty()) {
+      // 페이지마다 스키마를 다시 읽지 않도록 한 번만 펼친다
+      List<DatasetColumnResponse> schema = columnRepository.findByTableName(tableName);
+      columns = schema.stream().map(DatasetColumnResponse::columnName).toList();
+      columnTypes = schemaColumnTypes(schema);
+    }
+    long total = 0;
+    Long afterId = null;
+    while (true) {
+      List<Map<String, Object>> rows =
+          queryDataAfter(tableName, columns, search, columnTypes, afterId, pageSize);
+      if (rows.isEmpty()) {
+        return total;
+      }
+      handler.accept(rows);
+      total += rows.size();
+      if (rows.size() < pageSize) {
+        return total;
+      }
+      afterId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+    }
+  }
+
+  /**
+   * keyset 페이지 하나: id가 {@code afterId}보다 큰 행을 id 순서로 최대 size개 읽는다.
+   *
+   * @param afterId 직전 페이지의 마지막 id. null이면 처음부터.
+   */
+  public List<Map<String, Object>> queryDataAfter(
+      String tableName,
+      List<String> columns,
+      String search,
+      Map<String, String> columnTypes,
+      Long afterId,
+      int size) {
+    dataTableService.validateName(tableName);
+    List<String> selected = columns;
+    if (selected == null || selected.isEmpty()) {
+      // SELECT id, * 는 id가 두 번 나오고 geometry가 ST_AsGeoJSON을 거치지 않으므로 스키마로 펼친다
+      List<DatasetColumnResponse> schema = columnRepository.findByTableName(tableName);
+      selected = schema.stream().map(DatasetColumnResponse::columnName).toList();
+      columnTypes = schemaColumnTypes(schema);
+    }
+    for (String col : selected) {
+      dataTableService.validateName(col);
+    }
+
+    StringBuilder sql = new StringBuilder();
+    sql.append("SELECT id");
+    for (String col : selected) {
+      sql.append(", ").append(selectExpr(col, columnTypes));
+    }
+    sql.append(" FROM data.\"").append(tableName).append("\"");
+
+    List<Object> params =
+        new ArrayList<>(List.of(buildSearchWhereClause(sql, selected, search, columnTypes)));
+    if (afterId != null) {
+      sql.append(params.isEmpty() ? " WHERE" : " AND").append(" id > ?");
+      params.add(afterId);
+    }
+    sql.append(" ORDER BY id LIMIT ").append(size);
+
+    var result =
+        params.isEmpty() ? dsl.fetch(sql.toString()) : dsl.fetch(sql.toString(), params.toArray());
+    List<Map<String, Object>> rows = new ArrayList<>(result.size());
+    for (var record : result) {
+      Map<String, Object> row = new HashMap<>();
+      for (int i = 0; i < record.size(); i++) {
+        row.put(record.field(i).getName(), record.get(i));
+      }
+      rows.add(row);
+    }
+    return rows;
+  }
+
+  private static Map<String, String> schemaColumnTypes(List<DatasetColumnResponse> schema) {
+    Map<String, String> types = new HashMap<>();
+    for (DatasetColumnResponse col : schema) {
+      types.put(col.columnName(), col.dataType());
+    }
+    return types;
+  }
+
   // --- Spatial query overloads ---
 
   /**
@@ -417,7 +531,11 @@ public class DataTableRowService {
     return count != null ? count : 0L;
   }
 
-  private Object[] buildSearchWhereClause(
+  /**
+   * 검색어가 있으면 sql에 {@code WHERE (col ILIKE ? OR ...)}를 붙이고 바인딩 값을 반환한다. COPY처럼 바인딩을 쓸 수 없는 호출자
+   * ({@link DataTableCopyService#copyOut})도 같은 조건을 쓰도록 패키지 내에 공개한다.
+   */
+  static Object[] buildSearchWhereClause(
       StringBuilder sql, List<String> columns, String search, Map<String, String> columnTypes) {
     if (search == null || search.isBlank() || columns.isEmpty()) {
       return new Object[0];
@@ -452,7 +570,7 @@ public class DataTableRowService {
     return params;
   }
 
-  private String escapeIlike(String input) {
+  private static String escapeIlike(String input) {
     return input.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
   }
 
@@ -561,6 +679,7 @@ public class DataTableRowService {
       }
       dsl.execute(sql.toString(), values);
     }
+    changeRepository.bumpByTableName(tableName);
   }
 
   public void insertBatchWithProgress(
@@ -629,6 +748,7 @@ public class DataTableRowService {
       processedRows += chunk.size();
       progressCallback.accept(processedRows, totalRows);
     }
+    changeRepository.bumpByTableName(tableName);
   }
 
   // ---------------------------------------------------------------------------
@@ -694,6 +814,7 @@ public class DataTableRowService {
       }
       dsl.execute(sql.toString(), values);
     }
+    changeRepository.bumpByTableName(tableName);
   }
 
   public void insertBatchWithProgress(
@@ -765,6 +886,7 @@ public class DataTableRowService {
       processedRows += chunk.size();
       progressCallback.accept(processedRows, totalRows);
     }
+    changeRepository.bumpByTableName(tableName);
   }
 
   // ---------------------------------------------------------------------------
@@ -898,6 +1020,7 @@ public class DataTableRowService {
       }
     }
 
+    changeRepository.bumpByTableName(tableName);
     return new UpsertResult(totalInserted, totalUpdated);
   }
 
@@ -1019,21 +1142,32 @@ public class DataTableRowService {
       progressCallback.accept(processedRows, totalRows);
     }
 
+    changeRepository.bumpByTableName(tableName);
     return new UpsertResult(totalInserted, totalUpdated);
   }
 
+  /** 이 서비스를 거치지 않고 쓴 테이블(COPY 적재, 파이프라인 실행기)의 변경 버전을 올린다. */
+  public void markChanged(String tableName) {
+    changeRepository.bumpByTableName(tableName);
+  }
+
   public int deleteRows(String tableName, List<Long> rowIds) {
     dataTableService.validateName(tableName);
     if (rowIds == null || rowIds.isEmpty()) return 0;
     String sql = "DELETE FROM data.\"" + tableName + "\" WHERE id = ANY(?)";
     Long[] idArray = rowIds.toArray(new Long[0]);
-    return dsl.execute(sql, (Object) idArray);
+    int deleted = dsl.execute(sql, (Object) idArray);
+    if (deleted > 0) {
+      changeRepository.bumpByTableName(tableName);
+    }
+    return deleted;
   }
 
   public void truncateTable(String tableName) {
     dataTableService.validateName(tableName);
     String sql = "TRUNCATE TABLE data.\"" + tableName + "\"";
     dsl.execute(sql);
+    changeRepository.bumpByTableName(tableName);
   }
 
   public Long insertRow(String tableName, List<String> columns, Map<String, Object> row) {
@@ -1069,6 +1203,7 @@ public class DataTableRowService {
     }
 
     var record = dsl.fetchOne(sql.toString(), values);
+    changeRepository.bumpByTableName(tableName);
     return record != null ? record.get(0, Long.class) : null;
   }
 
@@ -1109,6 +1244,7 @@ public class DataTableRowService {
     if (affected == 0) {
       throw new RowNotFoundException("Row not found: " + rowId);
     }
+    changeRepository.bumpByTableName(tableName);
   }
 
   public Map<String, Object> getRow(String tableName, List<String> columns, long rowId) {
@@ -1398,6 +1534,7 @@ public class DataTableRowService {
     var record = dsl.fetchOne(sql, importId);
     long inserted = record != null ? record.get("inserted", Long.class) : 0L;
     long updated = record != null ? record.get("updated", Long.class) : 0L;
+    changeRepository.bumpByTableName(targetTableName);
 
     return new UpsertResult((int) inserted, (int) updated);
   }
@@ -1456,6 +1593,7 @@ public class DataTableRowService {
             + ", _seq DESC";
 
     dsl.execute(sql);
+    changeRepository.bumpByTableName(targetTableName);
   }
 
   /** staging 테이블을 삭제한다. import job 완료(성공/실패 무관) 후 항상 호출되어야 한다. */
@@ -4,10 +4,13 @@ import com.smartfirehub.dataset.dto.ColumnStatsResponse;
 import com.smartfirehub.dataset.dto.DatasetColumnRequest;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.exception.InvalidTableNameException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.springframework.stereotype.Service;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 public class DataTableService {
 
   private final DSLContext dsl;
+  private final DatasetChangeRepository changeRepository;
   private static final Pattern VALID_NAME = Pattern.compile("^[a-z][a-z0-9_]*$");
 
   private String mapDataType(String dataType, Integer maxLength) {
@@ -131,6 +135,8 @@ public class DataTableService {
     }
 
     dsl.execute(sql.toString());
+    // 컬럼 구성이 바뀌면 변경 버전을 올려 분석 쿼리의 컬럼 설명·결과 캐시가 낡은 컬럼 목록을 쓰지 않게 한다
+    changeRepository.bumpByTableName(tableName);
 
     if (column.isIndexed()) {
       createColumnIndex(tableName, column.columnName(), column.dataType());
@@ -331,6 +337,7 @@ public class DataTableService {
             + newName
             + "\"";
     dsl.execute(sql);
+    changeRepository.bumpByTableName(tableName);
   }
 
   public void renameIndex(String tableName, String oldColName, String newColName) {
@@ -376,6 +383,7 @@ public class DataTableService {
             + "\"::"
             + newType;
     dsl.execute(sql);
+    changeRepository.bumpByTableName(tableName);
   }
 
   public void setColumnNullable(String tableName, String columnName, boolean nullable) {
@@ -396,6 +404,7 @@ public class DataTableService {
     validateName(columnName);
     String sql = "ALTER TABLE data.\"" + tableName + "\" DROP COLUMN \"" + columnName + "\"";
     dsl.execute(sql);
+    changeRepository.bumpByTableName(tableName);
   }
 
   public void cloneTable(
@@ -454,9 +463,18 @@ public class DataTableService {
 
   private static final Set<String> NUMERIC_TYPES = Set.of("INTEGER", "DECIMAL");
 
+  // 컬럼별 상위 값 개수
+  private static final int TOP_VALUES = 5;
+
+  /**
+   * 전체 컬럼 프로파일. 컬럼 수와 무관하게 테이블을 두 번만 읽는다: 집계 패스(COUNT/NULL/MIN/MAX/AVG, GEOMETRY 는 ST_Extent)와
+   * GROUPING SETS 빈도 패스(컬럼별 값 분포 → 고유값 수 + 상위 값). 10만 행 초과 테이블은 두 패스가 같은 10% 표본(REPEATABLE
+   * seed)을 읽는다.
+   */
   public List<ColumnStatsResponse> getColumnStats(
       String tableName, List<DatasetColumnResponse> columns) {
     validateName(tableName);
+    columns.forEach(col -> validateName(col.columnName()));
 
     // Set statement_timeout to 30 seconds for profiling queries
     dsl.execute("SET LOCAL statement_timeout = '30s'");
@@ -466,158 +484,142 @@ public class DataTableService {
     boolean sampled = rowCount > 100_000;
     String fromClause =
         sampled
-            ? "data.\"" + tableName + "\" TABLESAMPLE BERNOULLI(10)"
+            ? "data.\""
+                + tableName
+                + "\" TABLESAMPLE BERNOULLI(10) REPEATABLE ("
+                + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE)
+                + ")"
             : "data.\"" + tableName + "\"";
+    if (columns.isEmpty()) {
+      return List.of();
+    }
 
-    List<ColumnStatsResponse> result = new ArrayList<>();
-
-    for (DatasetColumnResponse col : columns) {
-      validateName(col.columnName());
-      String colName = col.columnName();
-      String dataType = col.dataType();
+    var aggregates = dsl.fetchOne(aggregateSql(columns, fromClause));
+    List<List<ColumnStatsResponse.ValueCount>> topValues = new ArrayList<>();
+    long[] distinctCounts = new long[columns.size()];
+    for (int i = 0; i < columns.size(); i++) {
+      topValues.add(new ArrayList<>());
+    }
+    for (var rec : dsl.fetch(frequencySql(columns, fromClause))) {
+      int idx = rec.get("col_idx", Integer.class);
+      distinctCounts[idx] = rec.get("distinct_count", Long.class);
+      topValues
+          .get(idx)
+          .add(
+              new ColumnStatsResponse.ValueCount(
+                  rec.get("val", String.class), rec.get("cnt", Long.class)));
+    }
 
-      if ("GEOMETRY".equalsIgnoreCase(dataType)) {
-        // GEOMETRY-specific stats: count, null count, bbox via ST_Extent, geometry type
-        // distribution
-        String geoStatsSql =
-            "SELECT COUNT(*) AS total,"
-                + " COUNT(*) FILTER (WHERE \""
-                + colName
-                + "\" IS NULL) AS null_count,"
-                + " COUNT(\""
-                + colName
-                + "\") AS non_null_count,"
-                + " ST_AsText(ST_Extent(\""
-                + colName
-                + "\")) AS bbox"
-                + " FROM "
-                + fromClause;
-        var geoRecord = dsl.fetchOne(geoStatsSql);
-
-        long total = geoRecord.get("total", Long.class);
-        long nullCount = geoRecord.get("null_count", Long.class);
-        double nullPercent = total > 0 ? (double) nullCount / total * 100.0 : 0.0;
-        long nonNullCount = geoRecord.get("non_null_count", Long.class);
-        String bbox = geoRecord.get("bbox", String.class);
-
-        // Get geometry type distribution as top values
-        String geoTypeSql =
-            "SELECT GeometryType(\""
-                + colName
-                + "\") AS val, COUNT(*) AS cnt"
-                + " FROM "
-                + fromClause
-                + " WHERE \""
-                + colName
-                + "\" IS NOT NULL"
-                + " GROUP BY GeometryType(\""
-                + colName
-                + "\")"
-                + " ORDER BY cnt DESC LIMIT 5";
-        var geoTopRecords = dsl.fetch(geoTypeSql);
-        List<ColumnStatsResponse.ValueCount> topValues = new ArrayList<>();
-        for (var rec : geoTopRecords) {
-          String val = rec.get("val", String.class);
-          long cnt = rec.get("cnt", Long.class);
-          topValues.add(new ColumnStatsResponse.ValueCount(val, cnt));
-        }
+    long total = aggregates.get("total", Long.class);
+    List<ColumnStatsResponse> result = new ArrayList<>(columns.size());
+    for (int i = 0; i < columns.size(); i++) {
+      DatasetColumnResponse col = columns.get(i);
+      long nonNullCount = aggregates.get("c" + i + "_n", Long.class);
+      long nullCount = total - nonNullCount;
+      double nullPercent = total > 0 ? (double) nullCount / total * 100.0 : 0.0;
 
+      if ("GEOMETRY".equalsIgnoreCase(col.dataType())) {
+        // GEOMETRY: distinctCount 자리에 non-null 수, minValue 자리에 bbox, topValues 는 지오메트리 타입 분포
         result.add(
             new ColumnStatsResponse(
-                colName,
-                dataType,
+                col.columnName(),
+                col.dataType(),
                 total,
                 nullCount,
                 nullPercent,
                 nonNullCount,
-                bbox,
+                aggregates.get("c" + i + "_bbox", String.class),
                 null,
                 null,
-                topValues,
+                topValues.get(i),
                 sampled));
         continue;
       }
 
-      // Build aggregate stats query
-      StringBuilder statsSql = new StringBuilder();
-      statsSql
-          .append("SELECT COUNT(*) AS total,")
-          .append(" COUNT(*) FILTER (WHERE \"")
-          .append(colName)
-          .append("\" IS NULL) AS null_count,")
-          .append(" COUNT(DISTINCT \"")
-          .append(colName)
-          .append("\") AS distinct_count,")
-          .append(" MIN(\"")
-          .append(colName)
-          .append("\"::text) AS min_val,")
-          .append(" MAX(\"")
-          .append(colName)
-          .append("\"::text) AS max_val");
-
-      if (NUMERIC_TYPES.contains(dataType)) {
-        statsSql.append(", AVG(\"").append(colName).append("\"::numeric) AS avg_val");
-      }
-
-      statsSql.append(" FROM ").append(fromClause);
-
-      var statsRecord = dsl.fetchOne(statsSql.toString());
-
-      long total = statsRecord.get("total", Long.class);
-      long nullCount = statsRecord.get("null_count", Long.class);
-      double nullPercent = total > 0 ? (double) nullCount / total * 100.0 : 0.0;
-      long distinctCount = statsRecord.get("distinct_count", Long.class);
-      String minVal = statsRecord.get("min_val", String.class);
-      String maxVal = statsRecord.get("max_val", String.class);
       Double avgVal = null;
-      if (NUMERIC_TYPES.contains(dataType)) {
-        Object rawAvg = statsRecord.get("avg_val");
+      if (NUMERIC_TYPES.contains(col.dataType())) {
+        Object rawAvg = aggregates.get("c" + i + "_avg");
         if (rawAvg != null) {
           avgVal = ((Number) rawAvg).doubleValue();
         }
       }
-
-      // Get top 5 values
-      String topSql =
-          "SELECT \""
-              + colName
-              + "\"::text AS val, COUNT(*) AS cnt"
-              + " FROM "
-              + fromClause
-              + " WHERE \""
-              + colName
-              + "\" IS NOT NULL"
-              + " GROUP BY \""
-              + colName
-              + "\""
-              + " ORDER BY cnt DESC LIMIT 5";
-
-      var topRecords = dsl.fetch(topSql);
-      List<ColumnStatsResponse.ValueCount> topValues = new ArrayList<>();
-      for (var rec : topRecords) {
-        String val = rec.get("val", String.class);
-        long cnt = rec.get("cnt", Long.class);
-        topValues.add(new ColumnStatsResponse.ValueCount(val, cnt));
-      }
-
       result.add(
           new ColumnStatsResponse(
-              colName,
-              dataType,
+              col.columnName(),
+              col.dataType(),
               total,
               nullCount,
               nullPercent,
-              distinctCount,
-              minVal,
-              maxVal,
+              distinctCounts[i],
+              aggregates.get("c" + i + "_min", String.class),
+              aggregates.get("c" + i + "_max", String.class),
               avgVal,
-              topValues,
+              topValues.get(i),
               sampled));
     }
-
     return result;
   }
 
+  /** 집계 패스: 모든 컬럼의 non-null 수·MIN/MAX(text)·AVG(숫자)·bbox(GEOMETRY)를 한 SELECT 로 계산한다. */
+  private String aggregateSql(List<DatasetColumnResponse> columns, String fromClause) {
+    StringBuilder sql = new StringBuilder("SELECT COUNT(*) AS total");
+    for (int i = 0; i < columns.size(); i++) {
+      String col = "\"" + columns.get(i).columnName() + "\"";
+      String dataType = columns.get(i).dataType();
+      sql.append(", COUNT(").append(col).append(") AS c").append(i).append("_n");
+      if ("GEOMETRY".equalsIgnoreCase(dataType)) {
+        sql.append(", ST_AsText(ST_Extent(").append(col).append(")) AS c");
+        sql.append(i).append("_bbox");
+        continue;
+      }
+      sql.append(", MIN(").append(col).append("::text) AS c").append(i).append("_min");
+      sql.append(", MAX(").append(col).append("::text) AS c").append(i).append("_max");
+      if (NUMERIC_TYPES.contains(dataType)) {
+        sql.append(", AVG(").append(col).append("::numeric) AS c").append(i).append("_avg");
+      }
+    }
+    return sql.append(" FROM ").append(fromClause).toString();
+  }
+
+  /**
+   * 빈도 패스: 컬럼마다 grouping set 하나를 두어 한 번의 스캔으로 모든 컬럼의 값별 건수를 구하고, 컬럼별 고유값 수(NULL 제외)와 상위
+   * TOP_VALUES 개만 돌려준다. GEOMETRY 는 GeometryType 으로 묶는다.
+   */
+  private String frequencySql(List<DatasetColumnResponse> columns, String fromClause) {
+    List<String> keys = new ArrayList<>(columns.size());
+    for (DatasetColumnResponse col : columns) {
+      String quoted = "\"" + col.columnName() + "\"";
+      keys.add(
+          "GEOMETRY".equalsIgnoreCase(col.dataType())
+              ? "GeometryType(" + quoted + ")"
+              : "(" + quoted + "::text)");
+    }
+    StringBuilder colIdx = new StringBuilder("CASE");
+    for (int i = 0; i < keys.size(); i++) {
+      colIdx.append(" WHEN GROUPING(").append(keys.get(i)).append(") = 0 THEN ").append(i);
+    }
+    colIdx.append(" END");
+    // 한 grouping set 안에서는 다른 키가 모두 NULL 이므로 COALESCE 가 그 set 의 키 값이 된다
+    String val = keys.size() == 1 ? keys.get(0) : "COALESCE(" + String.join(", ", keys) + ")";
+    String sets = keys.stream().map(k -> "(" + k + ")").collect(Collectors.joining(", "));
+    return "SELECT col_idx, val, cnt, distinct_count FROM ("
+        + "SELECT col_idx, val, cnt,"
+        + " COUNT(*) OVER (PARTITION BY col_idx) AS distinct_count,"
+        + " ROW_NUMBER() OVER (PARTITION BY col_idx ORDER BY cnt DESC, val) AS rn"
+        + " FROM (SELECT "
+        + colIdx
+        + " AS col_idx, "
+        + val
+        + " AS val, COUNT(*) AS cnt FROM "
+        + fromClause
+        + " GROUP BY GROUPING SETS ("
+        + sets
+        + ")) f WHERE val IS NOT NULL) r"
+        + " WHERE rn <= "
+        + TOP_VALUES
+        + " ORDER BY col_idx, rn";
+  }
+
   /**
    * Internal row count used by getColumnStats to avoid circular dependency with
    * DataTableRowService.
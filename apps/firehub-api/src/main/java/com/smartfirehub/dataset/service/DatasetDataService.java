@@ -22,6 +22,8 @@ import com.smartfirehub.dataset.repository.DatasetColumnRepository;
 import com.smartfirehub.dataset.repository.DatasetRepository;
 import com.smartfirehub.dataset.repository.QueryHistoryRepository;
 import com.smartfirehub.global.dto.PageResponse;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -32,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,11 +44,12 @@ public class DatasetDataService {
 
   private final DatasetRepository datasetRepository;
   private final DatasetColumnRepository columnRepository;
-  private final DataTableService dataTableService;
   private final DataTableRowService dataTableRowService;
   private final DataTableQueryService dataTableQueryService;
   private final QueryHistoryRepository queryHistoryRepository;
   private final ObjectMapper objectMapper;
+  private final DatasetStatsService statsService;
+  private final ApplicationEventPublisher events;
 
   // DOCUMENT 데이터셋은 data.<table> 동적 테이블이 없고 데이터가 document_chunk 에 저장된다.
   private static final String DOCUMENT_TYPE = "DOCUMENT";
@@ -59,21 +63,15 @@ public class DatasetDataService {
     }
   }
 
-  @Transactional(readOnly = true)
+  /** 컬럼 통계. 저장된 스냅샷을 반환하며 스냅샷이 없을 때만 프로파일링해 저장한다(읽기 전용 트랜잭션 불가). */
+  @Transactional
   public List<ColumnStatsResponse> getDatasetStats(Long datasetId) {
     DatasetResponse dataset =
         datasetRepository
             .findById(datasetId)
             .orElseThrow(() -> new DatasetNotFoundException("Dataset not found: " + datasetId));
     rejectIfDocument(dataset.storageType(), "통계 조회");
-
-    long rowCount = dataTableRowService.countRows(dataset.tableName());
-    if (rowCount == 0) {
-      return List.of();
-    }
-
-    List<DatasetColumnResponse> columns = columnRepository.findByDatasetId(datasetId);
-    return dataTableService.getColumnStats(dataset.tableName(), columns);
+    return statsService.getStats(dataset);
   }
 
   @Transactional
@@ -85,6 +83,7 @@ public class DatasetDataService {
     rejectIfDocument(dataset.storageType(), "데이터 삭제");
     long rowCount = dataTableRowService.countRows(dataset.tableName());
     dataTableRowService.truncateTable(dataset.tableName());
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
     return new DataDeleteResponse((int) rowCount);
   }
 
@@ -124,6 +123,7 @@ public class DatasetDataService {
     // Atomic: truncate then insert in same transaction
     dataTableRowService.truncateTable(dataset.tableName());
     dataTableRowService.insertBatch(dataset.tableName(), columnNames, validatedRows, columnTypes);
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
 
     return new BatchRowDataResponse(validatedRows.size());
   }
@@ -136,6 +136,7 @@ public class DatasetDataService {
             .orElseThrow(() -> new DatasetNotFoundException("Dataset not found: " + datasetId));
     rejectIfDocument(dataset.storageType(), "행 삭제");
     int deletedCount = dataTableRowService.deleteRows(dataset.tableName(), rowIds);
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
     return new DataDeleteResponse(deletedCount);
   }
 
@@ -217,7 +218,28 @@ public class DatasetDataService {
 
     SqlQueryResponse response =
         dataTableQueryService.executeQuery(request.sql(), request.maxRows());
+    recordQuery(datasetId, request, userId, response);
+    return response;
+  }
+
+  /**
+   * {@link #executeQuery}의 스트리밍 버전. 결과를 column-array JSON 으로 out 에 바로 쓰고({@link
+   * DataTableQueryService#executeQueryStreaming}), 쿼리 이력은 같은 트랜잭션에서 쓰기가 끝난 뒤 저장한다.
+   */
+  @Transactional
+  public void executeQueryStreaming(
+      Long datasetId, SqlQueryRequest request, Long userId, OutputStream out) throws IOException {
+    datasetRepository
+        .findById(datasetId)
+        .orElseThrow(() -> new DatasetNotFoundException("Dataset not found: " + datasetId));
+
+    SqlQueryResponse response =
+        dataTableQueryService.executeQueryStreaming(request.sql(), request.maxRows(), out);
+    recordQuery(datasetId, request, userId, response);
+  }
 
+  private void recordQuery(
+      Long datasetId, SqlQueryRequest request, Long userId, SqlQueryResponse response) {
     // Save to query history
     boolean success = response.error() == null;
     queryHistoryRepository.save(
@@ -229,8 +251,10 @@ public class DatasetDataService {
         response.executionTimeMs(),
         success,
         response.error());
-
-    return response;
+    // DML 은 대상 데이터셋의 통계를 바꿀 수 있다
+    if (success && !"SELECT".equals(response.queryType())) {
+      events.publishEvent(new DatasetRowsChangedEvent(datasetId));
+    }
   }
 
   @Transactional(readOnly = true)
@@ -261,6 +285,7 @@ public class DatasetDataService {
     Map<String, String> columnTypes = buildColumnTypes(columns);
     Long newId =
         dataTableRowService.insertRow(dataset.tableName(), columnNames, validatedData, columnTypes);
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
 
     // Return the newly inserted row
     Map<String, Object> rowData =
@@ -306,6 +331,7 @@ public class DatasetDataService {
     Map<String, String> columnTypes = buildColumnTypes(columns);
 
     dataTableRowService.insertBatch(dataset.tableName(), columnNames, validatedRows, columnTypes);
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
 
     return new BatchRowDataResponse(validatedRows.size());
   }
@@ -325,6 +351,7 @@ public class DatasetDataService {
     Map<String, String> columnTypes = buildColumnTypes(columns);
     dataTableRowService.updateRow(
         dataset.tableName(), rowId, columnNames, validatedData, columnTypes);
+    events.publishEvent(new DatasetRowsChangedEvent(datasetId));
   }
 
   @Transactional(readOnly = true)
@@ -0,0 +1,4 @@
+package com.smartfirehub.dataset.service;
+
+/** 데이터셋 삭제 알림. */
+public record DatasetDeletedEvent(long datasetId) {}
@@ -0,0 +1,4 @@
+package com.smartfirehub.dataset.service;
+
+/** 데이터셋 행 데이터 변경 알림(적재·행 편집·삭제·DML). 컬럼 통계 스냅샷 갱신에 쓴다. */
+public record DatasetRowsChangedEvent(long datasetId) {}
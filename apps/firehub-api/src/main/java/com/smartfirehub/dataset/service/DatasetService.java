@@ -361,6 +361,7 @@ public class DatasetService {
     }
     columnRepository.deleteByDatasetId(id);
     datasetRepository.deleteById(id);
+    events.publishEvent(new DatasetDeletedEvent(id));
 
     // 데이터셋 삭제 감사 로그 (#60/#92)
     var auth =
@@ -0,0 +1,127 @@
+package com.smartfirehub.dataset.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartfirehub.dataset.dto.ColumnStatsResponse;
+import com.smartfirehub.dataset.dto.DatasetResponse;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnStatsRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnStatsRepository.Snapshot;
+import com.smartfirehub.dataset.repository.DatasetRepository;
+import com.smartfirehub.dataset.search.DatasetChangedEvent;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 데이터셋 컬럼 통계 스냅샷(dataset_column_stats) 관리.
+ *
+ * <p>통계 조회는 저장된 스냅샷을 그대로 돌려주고, 스냅샷이 없을 때만 프로파일링한다. 행 데이터가 바뀌면({@link
+ * DatasetRowsChangedEvent}) 커밋 후 갱신 잡을 enqueue 하며, 갱신이 끝날 때까지는 직전 스냅샷을 보여준다. 잡은 요청 시각 이후에 시작된
+ * 스냅샷이 이미 있으면 건너뛰므로 연속 변경(행 단건 편집 반복 등)은 한 번의 프로파일링으로 합쳐진다.
+ *
+ * <p>파이프라인 출력·SQL 편집기 DML 은 이벤트 없이 dataset_change 버전만 올린다. 스냅샷에 계산 시점 버전을 함께 저장하고, 조회 시 현재 버전이 더
+ * 크면 갱신 잡을 enqueue 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DatasetStatsService {
+
+  private final DatasetRepository datasetRepository;
+  private final DatasetColumnRepository columnRepository;
+  private final DatasetColumnStatsRepository statsRepository;
+  private final DataTableService dataTableService;
+  private final DataTableRowService dataTableRowService;
+  private final JobScheduler jobScheduler;
+  private final TransactionTemplate transactionTemplate;
+  private final DatasetChangeRepository changeRepository;
+
+  // 버전 불일치로 이미 갱신을 요청한 (datasetId:version). 잡이 돌기 전 반복 조회가 잡을 쌓지 않게 한다
+  private final Cache<String, Boolean> staleRefreshRequested =
+      Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(1)).maximumSize(10_000).build();
+
+  /**
+   * 스냅샷이 있으면 그대로, 없으면 프로파일링해 저장한 뒤 반환한다. 스냅샷 이후 데이터 버전이 올랐으면 갱신 잡을 enqueue 하고 직전 스냅샷을 반환한다. 호출자
+   * 트랜잭션 안에서 실행된다.
+   */
+  public List<ColumnStatsResponse> getStats(DatasetResponse dataset) {
+    Optional<Snapshot> snapshot = statsRepository.findSnapshot(dataset.id());
+    if (snapshot.isEmpty()) {
+      return profile(dataset);
+    }
+    long version = currentVersion(dataset.id());
+    if (snapshot.get().dataVersion() < version
+        && staleRefreshRequested.asMap().putIfAbsent(dataset.id() + ":" + version, true) == null) {
+      requestRefresh(dataset.id());
+    }
+    return snapshot.get().stats();
+  }
+
+  /** 백그라운드 스냅샷 갱신. requestedAtMillis 이후에 시작됐고 현재 데이터 버전을 반영한 스냅샷이 있으면 건너뛴다. */
+  @Job(name = "Dataset stats refresh: dataset %0")
+  public void refreshStats(long datasetId, long requestedAtMillis) {
+    long version = currentVersion(datasetId);
+    boolean fresh =
+        statsRepository
+            .findSnapshot(datasetId)
+            .map(
+                s ->
+                    s.computedAt().toInstant().toEpochMilli() >= requestedAtMillis
+                        && s.dataVersion() >= version)
+            .orElse(false);
+    if (fresh) {
+      return;
+    }
+    // 삭제된 데이터셋은 건너뛴다 (스냅샷은 FK CASCADE 로 함께 삭제됨)
+    datasetRepository
+        .findById(datasetId)
+        .ifPresent(dataset -> transactionTemplate.executeWithoutResult(status -> profile(dataset)));
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  void onRowsChanged(DatasetRowsChangedEvent event) {
+    requestRefresh(event.datasetId());
+  }
+
+  // 컬럼 추가/삭제/이름 변경도 통계 구성을 바꾼다. 스냅샷이 없는 데이터셋(DOCUMENT/FILE 포함)은 다음 조회 때 만든다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  void onDatasetChanged(DatasetChangedEvent event) {
+    if (statsRepository.findComputedAt(event.datasetId()).isPresent()) {
+      requestRefresh(event.datasetId());
+    }
+  }
+
+  private void requestRefresh(long datasetId) {
+    long requestedAt = System.currentTimeMillis();
+    jobScheduler.enqueue(() -> refreshStats(datasetId, requestedAt));
+  }
+
+  private List<ColumnStatsResponse> profile(DatasetResponse dataset) {
+    // 계산 시작 시각과 버전을 기록한다 — 계산 도중 커밋된 변경은 이 시각 이후 요청(더 큰 버전)이므로 다음 잡이 다시 계산한다.
+    OffsetDateTime startedAt = OffsetDateTime.now();
+    long version = currentVersion(dataset.id());
+    List<ColumnStatsResponse> stats =
+        dataTableRowService.countRows(dataset.tableName()) == 0
+            ? List.of()
+            : dataTableService.getColumnStats(
+                dataset.tableName(), columnRepository.findByDatasetId(dataset.id()));
+    statsRepository.save(dataset.id(), stats, version, startedAt);
+    log.debug("Dataset stats profiled: datasetId={}, columns={}", dataset.id(), stats.size());
+    return stats;
+  }
+
+  private long currentVersion(long datasetId) {
+    return changeRepository.findVersions(List.of(datasetId)).getOrDefault(datasetId, 0L);
+  }
+}
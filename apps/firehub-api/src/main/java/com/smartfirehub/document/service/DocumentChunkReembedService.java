@@ -2,10 +2,16 @@ package com.smartfirehub.document.service;
 
 import com.smartfirehub.document.repository.DocumentChunkRepository;
 import com.smartfirehub.document.repository.DocumentChunkRepository.ChunkContent;
+import com.smartfirehub.embedding.EmbeddingBatcher;
+import com.smartfirehub.embedding.EmbeddingException;
 import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jobrunr.jobs.annotations.Job;
@@ -23,12 +29,16 @@ import org.springframework.stereotype.Service;
 @Service
 public class DocumentChunkReembedService {
 
-  // 임베딩 외부 호출/배치 갱신 단위 (DocumentChunkRepository.BATCH_SIZE 와 동일).
+  // 배치 갱신 단위 (DocumentChunkRepository.BATCH_SIZE 와 동일). 임베딩 호출 크기는 EmbeddingBatcher 가 정한다.
   private static final int EMBED_BATCH = 200;
 
+  // 결과를 기다리는 제출 윈도우 수 상한 — 임베딩 결과가 메모리에 쌓이는 양을 제한한다.
+  private static final int MAX_IN_FLIGHT = 4;
+
   private final DocumentChunkRepository repository;
   private final EmbeddingProviderFactory embeddingFactory;
   private final JobScheduler jobScheduler;
+  private final EmbeddingBatcher embeddingBatcher;
 
   /**
    * 청크 보유 DOCUMENT 데이터셋마다 재임베딩 잡을 enqueue 한다.
@@ -45,7 +55,10 @@ public class DocumentChunkReembedService {
     return datasetIds.size();
   }
 
-  /** 데이터셋의 전체 청크를 현재 모델로 재임베딩한다 (배치 단위로 임베딩→갱신). */
+  /**
+   * 데이터셋의 전체 청크를 현재 모델로 재임베딩한다. EMBED_BATCH 단위 윈도우를 EmbeddingBatcher 에 최대 MAX_IN_FLIGHT 개까지 앞서
+   * 제출해 두고, 먼저 제출한 윈도우부터 결과가 나오는 대로 갱신한다(임베딩 호출과 DB 갱신이 겹친다).
+   */
   @Job(name = "Document chunk reembedding: dataset %0")
   public void reembedDataset(long datasetId) {
     List<ChunkContent> chunks = repository.findChunkContentsByDataset(datasetId);
@@ -54,6 +67,7 @@ public class DocumentChunkReembedService {
     }
     EmbeddingProvider provider = embeddingFactory.current();
     String model = provider.modelId();
+    Deque<Window> inFlight = new ArrayDeque<>();
     for (int from = 0; from < chunks.size(); from += EMBED_BATCH) {
       List<ChunkContent> batch = chunks.subList(from, Math.min(from + EMBED_BATCH, chunks.size()));
       List<Long> ids = new ArrayList<>(batch.size());
@@ -62,9 +76,28 @@ public class DocumentChunkReembedService {
         ids.add(c.chunkId());
         contents.add(c.content());
       }
-      List<float[]> embeddings = provider.embed(contents);
-      repository.updateEmbeddingBatch(ids, embeddings, model);
+      inFlight.add(new Window(ids, embeddingBatcher.submit(provider, contents)));
+      if (inFlight.size() >= MAX_IN_FLIGHT) {
+        write(inFlight.poll(), model);
+      }
+    }
+    while (!inFlight.isEmpty()) {
+      write(inFlight.poll(), model);
     }
     log.info("Document chunk reembedding done: datasetId={}, chunks={}", datasetId, chunks.size());
   }
+
+  private void write(Window window, String model) {
+    List<float[]> embeddings;
+    try {
+      embeddings = window.embeddings().join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof EmbeddingException ee) throw ee;
+      throw e;
+    }
+    repository.updateEmbeddingBatch(window.chunkIds(), embeddings, model);
+  }
+
+  /** 제출된 청크 id 묶음과 그 임베딩 결과. */
+  private record Window(List<Long> chunkIds, CompletableFuture<List<float[]>> embeddings) {}
 }
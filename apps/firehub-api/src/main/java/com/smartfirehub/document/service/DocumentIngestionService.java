@@ -5,13 +5,21 @@ import com.smartfirehub.dataset.exception.DatasetNotFoundException;
 import com.smartfirehub.dataset.repository.DatasetRepository;
 import com.smartfirehub.document.dto.Chunk;
 import com.smartfirehub.document.dto.DocumentFileResponse;
-import com.smartfirehub.document.dto.ExtractedText;
 import com.smartfirehub.document.repository.DocumentChunkRepository;
 import com.smartfirehub.document.repository.DocumentFileRepository;
+import com.smartfirehub.embedding.EmbeddingBatcher;
+import com.smartfirehub.embedding.EmbeddingException;
 import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import com.smartfirehub.notification.service.NotificationService;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jobrunr.jobs.annotations.Job;
@@ -24,6 +32,12 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class DocumentIngestionService {
 
+  // 임베딩 큐에 한 번에 제출하는 청크 수 (EmbeddingBatcher 기본 max-items 와 같다)
+  private static final int FLUSH_CHUNKS = 64;
+
+  // 결과를 기다리는 제출 묶음 수 상한 — 임베딩 결과가 메모리에 쌓이는 양을 제한한다.
+  private static final int MAX_IN_FLIGHT = 4;
+
   private final DatasetRepository datasetRepository;
   private final DocumentStorageService storageService;
   private final DocumentFileRepository fileRepository;
@@ -31,6 +45,7 @@ public class DocumentIngestionService {
   private final TextExtractor textExtractor;
   private final TextChunker textChunker;
   private final EmbeddingProviderFactory embeddingProviderFactory;
+  private final EmbeddingBatcher embeddingBatcher;
   private final NotificationService notificationService;
   private final JobScheduler jobScheduler;
 
@@ -71,7 +86,10 @@ public class DocumentIngestionService {
     return fileRepository.findById(id).orElseThrow();
   }
 
-  /** 비동기 잡: 추출 → 청킹 → 임베딩 → document_chunk 저장 → 상태 전이. */
+  /**
+   * 비동기 잡: 추출 → 청킹 → 임베딩 → document_chunk 저장 → 상태 전이. 원본을 페이지(조각) 단위로 읽어 청크가 확정되는 대로 FLUSH_CHUNKS
+   * 개씩 임베딩 큐에 제출하고, 먼저 제출한 묶음부터 저장한다. 메모리에는 현재 페이지와 MAX_IN_FLIGHT 개 묶음만 남아 문서 크기와 무관하다.
+   */
   @Job(name = "Document ingestion: file %0")
   public void processIngestion(Long documentFileId) {
     DocumentFileResponse file = fileRepository.findById(documentFileId).orElseThrow();
@@ -81,24 +99,18 @@ public class DocumentIngestionService {
       chunkRepository.deleteByDocumentFileId(documentFileId);
       fileRepository.updateStatus(documentFileId, "PARSING");
       // storagePath 는 응답 DTO에 없으므로 저장소 경로를 별도 조회로 얻는다.
-      byte[] data = storageService.read(fileRepository.findStoragePath(documentFileId));
-      ExtractedText extracted =
-          textExtractor.extract(data, file.mimeType(), file.originalName());
-      List<Chunk> chunks = textChunker.chunk(extracted.text());
-
-      if (chunks.isEmpty()) {
-        // 추출 텍스트가 비어 청크가 없으면 임베딩 없이 0건으로 완료 처리한다.
-        fileRepository.markCompleted(documentFileId, extracted.pageCount(), 0);
-      } else {
-        fileRepository.updateStatus(documentFileId, "EMBEDDING");
-        EmbeddingProvider provider = embeddingProviderFactory.current();
-        List<float[]> embeddings =
-            provider.embed(chunks.stream().map(Chunk::content).toList());
-
-        chunkRepository.insertBatch(
-            documentFileId, file.datasetId(), chunks, embeddings, provider.modelId());
-        fileRepository.markCompleted(documentFileId, extracted.pageCount(), chunks.size());
-        log.info("Document ingested: file={} chunks={}", documentFileId, chunks.size());
+      Path source = storageService.path(fileRepository.findStoragePath(documentFileId));
+      ChunkWriter writer = new ChunkWriter(documentFileId, file.datasetId());
+      TextChunker.Session session = textChunker.open(writer);
+      Integer pageCount =
+          textExtractor.extract(source, file.mimeType(), file.originalName(), session::append);
+      int chunkCount = session.finish();
+      writer.finish();
+
+      // 추출 텍스트가 비어 청크가 없으면 임베딩 없이 0건으로 완료 처리한다.
+      fileRepository.markCompleted(documentFileId, pageCount, chunkCount);
+      if (chunkCount > 0) {
+        log.info("Document ingested: file={} chunks={}", documentFileId, chunkCount);
       }
       completed = true;
     } catch (Exception e) {
@@ -125,4 +137,70 @@ public class DocumentIngestionService {
       log.warn("원본 파일 삭제 실패(메타는 삭제됨): {}", storagePath, e);
     }
   }
+
+  /**
+   * 청킹 세션이 내보내는 청크를 FLUSH_CHUNKS 개씩 묶어 임베딩 큐에 제출하고, 결과를 기다리는 묶음이 MAX_IN_FLIGHT 개를 넘으면 가장 먼저
+   * 제출한 묶음부터 저장한다. 공유 큐가 동시에 인제스트되는 다른 문서의 청크와 묶어 provider 를 호출한다.
+   */
+  private final class ChunkWriter implements Consumer<Chunk> {
+
+    private final Long documentFileId;
+    private final Long datasetId;
+    private final Deque<Window> inFlight = new ArrayDeque<>();
+    private List<Chunk> pending = new ArrayList<>(FLUSH_CHUNKS);
+    private EmbeddingProvider provider;
+
+    private ChunkWriter(Long documentFileId, Long datasetId) {
+      this.documentFileId = documentFileId;
+      this.datasetId = datasetId;
+    }
+
+    @Override
+    public void accept(Chunk chunk) {
+      pending.add(chunk);
+      if (pending.size() >= FLUSH_CHUNKS) {
+        submit();
+      }
+    }
+
+    /** 남은 청크를 제출하고 모든 묶음을 저장한다. */
+    void finish() {
+      if (!pending.isEmpty()) {
+        submit();
+      }
+      while (!inFlight.isEmpty()) {
+        write(inFlight.poll());
+      }
+    }
+
+    private void submit() {
+      if (provider == null) {
+        // 첫 청크 묶음이 나오면 임베딩 단계로 본다 (추출은 이후 페이지에서 계속된다)
+        fileRepository.updateStatus(documentFileId, "EMBEDDING");
+        provider = embeddingProviderFactory.current();
+      }
+      List<Chunk> chunks = pending;
+      pending = new ArrayList<>(FLUSH_CHUNKS);
+      List<String> contents = chunks.stream().map(Chunk::content).toList();
+      inFlight.add(new Window(chunks, embeddingBatcher.submit(provider, contents)));
+      if (inFlight.size() >= MAX_IN_FLIGHT) {
+        write(inFlight.poll());
+      }
+    }
+
+    private void write(Window window) {
+      List<float[]> embeddings;
+      try {
+        embeddings = window.embeddings().join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof EmbeddingException ee) throw ee;
+        throw e;
+      }
+      chunkRepository.insertBatch(
+          documentFileId, datasetId, window.chunks(), embeddings, provider.modelId());
+    }
+  }
+
+  /** 제출된 청크 묶음과 그 임베딩 결과. */
+  private record Window(List<Chunk> chunks, CompletableFuture<List<float[]>> embeddings) {}
 }
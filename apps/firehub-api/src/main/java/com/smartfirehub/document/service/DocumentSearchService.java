@@ -4,7 +4,6 @@ import com.smartfirehub.document.dto.DocumentSearchHit;
 import com.smartfirehub.document.dto.DocumentSearchRequest;
 import com.smartfirehub.document.dto.SearchMode;
 import com.smartfirehub.document.repository.DocumentChunkRepository;
-import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -43,8 +42,7 @@ public class DocumentSearchService {
 
   /** 쿼리 1건 임베딩 — 인제스션과 동일 provider 라야 비교가 유효하다. */
   private float[] embedQuery(String query) {
-    EmbeddingProvider provider = embeddingProviderFactory.current();
-    return provider.embed(List.of(query)).get(0);
+    return embeddingProviderFactory.embedQuery(query);
   }
 
   /** 시맨틱·키워드 후보 풀을 RRF 로 융합해 상위 topK 를 반환한다. */
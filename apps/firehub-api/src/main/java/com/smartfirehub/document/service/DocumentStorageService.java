@@ -47,6 +47,11 @@ public class DocumentStorageService {
     }
   }
 
+  /** 저장된 원본 blob의 파일 경로. 큰 문서를 바이트로 올리지 않고 스트리밍으로 읽을 때 쓴다. */
+  public Path path(String storagePath) {
+    return Paths.get(storagePath);
+  }
+
   /** 저장된 원본 blob을 삭제한다(없어도 무시). */
   public void delete(String storagePath) {
     try {
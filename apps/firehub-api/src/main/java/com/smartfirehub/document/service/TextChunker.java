@@ -3,6 +3,7 @@ package com.smartfirehub.document.service;
 import com.smartfirehub.document.dto.Chunk;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -33,28 +34,100 @@ public class TextChunker {
   public List<Chunk> chunk(String raw) {
     List<Chunk> chunks = new ArrayList<>();
     if (raw == null) return chunks;
-    String text = normalize(raw);
-    if (text.isEmpty()) return chunks;
-
-    int step = chunkSize - overlap;
-    int index = 0;
-    for (int start = 0; start < text.length(); start += step) {
-      int end = Math.min(start + chunkSize, text.length());
-      String content = text.substring(start, end).strip();
-      if (!content.isEmpty()) {
-        chunks.add(new Chunk(index++, content, estimateTokens(content)));
-      }
-      if (end == text.length()) break;
-    }
+    Session session = open(chunks::add);
+    session.append(raw);
+    session.finish();
     return chunks;
   }
 
-  // 연속 공백/개행을 단일화해 잡음과 무의미한 청크 경계를 줄인다.
-  private String normalize(String text) {
-    return text.replaceAll("[ \\t]+", " ").replaceAll("\\n{3,}", "\n\n").strip();
+  /**
+   * 텍스트를 조각(페이지 등) 단위로 받아 청크를 확정되는 즉시 sink 로 내보내는 세션을 연다. 조각을 모두 이어 붙여 {@link #chunk}에 넘긴
+   * 것과 같은 청크를 만들며, 버퍼에는 아직 확정되지 않은 꼬리(최대 chunkSize + 조각 1개)만 남는다.
+   */
+  public Session open(Consumer<Chunk> sink) {
+    return new Session(sink);
+  }
+
+  /**
+   * 증분 청킹 세션. 정규화(연속 공백/탭 → 공백 1개, 개행 3개 이상 → 2개, 앞뒤 공백 제거)를 문자 단위로 적용해 조각 경계에 걸친 공백도 한 번에
+   * 정규화한 것과 같게 처리한다. 윈도우는 뒤에 공백이 아닌 문자가 더 있어 마지막 윈도우가 아님이 확실할 때만 내보낸다.
+   */
+  public final class Session {
+
+    private final Consumer<Chunk> sink;
+    private final StringBuilder buffer = new StringBuilder();
+    // buffer 내 마지막 비공백 문자 다음 위치 — 끝 공백은 finish 의 strip 으로 사라질 수 있어 확정 길이에서 뺀다
+    private int contentEnd;
+    private int newlineRun;
+    private int index;
+
+    private Session(Consumer<Chunk> sink) {
+      this.sink = sink;
+    }
+
+    /** 텍스트 조각을 이어 붙이고 확정된 청크를 내보낸다. */
+    public void append(String segment) {
+      if (segment == null) return;
+      for (int i = 0; i < segment.length(); i++) {
+        appendNormalized(segment.charAt(i));
+      }
+      int step = chunkSize - overlap;
+      int start = 0;
+      while (contentEnd - start > chunkSize) {
+        emit(buffer.substring(start, start + chunkSize));
+        start += step;
+      }
+      if (start > 0) {
+        buffer.delete(0, start);
+        contentEnd -= start;
+      }
+    }
+
+    /**
+     * 남은 텍스트를 청크로 내보내고 세션을 닫는다.
+     *
+     * @return 세션에서 내보낸 전체 청크 수
+     */
+    public int finish() {
+      buffer.setLength(contentEnd);
+      int step = chunkSize - overlap;
+      for (int start = 0; start < buffer.length(); start += step) {
+        int end = Math.min(start + chunkSize, buffer.length());
+        emit(buffer.substring(start, end));
+        if (end == buffer.length()) break;
+      }
+      buffer.setLength(0);
+      contentEnd = 0;
+      return index;
+    }
+
+    // 연속 공백/개행을 단일화해 잡음과 무의미한 청크 경계를 줄인다.
+    private void appendNormalized(char c) {
+      if (c == '\n') {
+        if (++newlineRun > 2) return;
+      } else {
+        newlineRun = 0;
+      }
+      // 문서 앞 공백은 strip 대상 (버퍼는 첫 비공백 문자 이후 finish 전까지 비지 않는다)
+      if (buffer.isEmpty() && Character.isWhitespace(c)) return;
+      if (c == ' ' || c == '\t') {
+        if (buffer.charAt(buffer.length() - 1) == ' ') return;
+        c = ' ';
+      }
+      buffer.append(c);
+      if (!Character.isWhitespace(c)) contentEnd = buffer.length();
+    }
+
+    private void emit(String window) {
+      String content = window.strip();
+      if (!content.isEmpty()) {
+        sink.accept(new Chunk(index++, content, estimateTokens(content)));
+      }
+    }
   }
 
-  private int estimateTokens(String content) {
+  /** char/4 토큰 추정. 임베딩 micro-batch 크기 산정(EmbeddingBatcher)에도 같은 추정을 쓴다. */
+  public static int estimateTokens(String content) {
     return Math.max(1, (int) Math.ceil(content.length() / 4.0));
   }
 }
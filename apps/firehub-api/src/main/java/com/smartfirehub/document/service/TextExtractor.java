@@ -3,8 +3,17 @@ package com.smartfirehub.document.service;
 import com.smartfirehub.dataimport.exception.UnsupportedFileTypeException;
 import com.smartfirehub.document.dto.ExtractedText;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.text.PDFTextStripper;
 import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
@@ -14,6 +23,9 @@ import org.springframework.stereotype.Service;
 @Service
 public class TextExtractor {
 
+  // 텍스트 파일 스트리밍 시 한 번에 넘기는 문자 수
+  private static final int TEXT_SEGMENT_CHARS = 64 * 1024;
+
   /** 파일 바이트와 mime으로 텍스트를 추출한다. 지원하지 않는 포맷은 예외. */
   public ExtractedText extract(byte[] data, String mimeType, String fileName) {
     String mime = mimeType == null ? "" : mimeType.toLowerCase();
@@ -37,6 +49,67 @@ public class TextExtractor {
         "지원하지 않는 문서 형식입니다: " + mimeType + " (" + fileName + ")");
   }
 
+  /**
+   * 파일에서 텍스트를 조각 단위로 읽어 sink 로 넘긴다. PDF 는 파일 기반으로 열어 페이지마다, TXT/MD 는 고정 크기 문자 블록마다 넘기므로 문서
+   * 전체 텍스트를 메모리에 올리지 않는다. DOCX 는 POI 가 문서 XML 을 통째로 읽으므로 본문 전체를 한 조각으로 넘긴다. 조각을 이어 붙이면
+   * {@link #extract}의 결과와 같다.
+   *
+   * @return PDF 페이지 수, 그 외 포맷은 null
+   */
+  public Integer extract(Path file, String mimeType, String fileName, Consumer<String> sink) {
+    String mime = mimeType == null ? "" : mimeType.toLowerCase();
+    try {
+      if (mime.equals("application/pdf")) {
+        return streamPdf(file, sink);
+      }
+      if (mime.equals(
+          "application/vnd.openxmlformats-officedocument.wordprocessingml.document")) {
+        try (InputStream in = Files.newInputStream(file);
+            XWPFDocument doc = new XWPFDocument(in);
+            XWPFWordExtractor ex = new XWPFWordExtractor(doc)) {
+          sink.accept(ex.getText());
+        }
+        return null;
+      }
+      if (mime.startsWith("text/")) {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+          char[] buf = new char[TEXT_SEGMENT_CHARS];
+          int n;
+          while ((n = reader.read(buf)) != -1) {
+            sink.accept(new String(buf, 0, n));
+          }
+        }
+        return null;
+      }
+    } catch (UnsupportedFileTypeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException("문서 텍스트 추출 실패: " + fileName, e);
+    }
+    throw new UnsupportedFileTypeException(
+        "지원하지 않는 문서 형식입니다: " + mimeType + " (" + fileName + ")");
+  }
+
+  /** PDF 를 임시 파일 기반 버퍼로 열고 한 번의 텍스트 추출 패스에서 페이지가 끝날 때마다 sink 로 넘긴다. */
+  private Integer streamPdf(Path file, Consumer<String> sink) throws IOException {
+    try (PDDocument doc =
+        PDDocument.load(file.toFile(), MemoryUsageSetting.setupTempFileOnly())) {
+      StringWriter pageText = new StringWriter();
+      PDFTextStripper stripper =
+          new PDFTextStripper() {
+            @Override
+            protected void endPage(PDPage p) throws IOException {
+              super.endPage(p);
+              output.flush();
+              sink.accept(pageText.toString());
+              pageText.getBuffer().setLength(0);
+            }
+          };
+      stripper.writeText(doc, pageText);
+      return doc.getNumberOfPages();
+    }
+  }
+
   /** PDF 텍스트 추출. 페이지 수도 함께 반환한다. */
   private ExtractedText extractPdf(byte[] data) throws Exception {
     try (PDDocument doc = PDDocument.load(new ByteArrayInputStream(data))) {
@@ -0,0 +1,252 @@
+package com.smartfirehub.embedding;
+
+import com.smartfirehub.document.service.TextChunker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인제스트·재임베딩·검색 인덱스 백필이 함께 쓰는 임베딩 작업 큐.
+ *
+ * <p>호출자가 넘긴 텍스트를 하나씩 공유 큐에 넣고, 워커({@code firehub.embedding.batch.concurrency}개)가 여러 호출자의 텍스트를
+ * 모아 micro-batch 로 provider 를 호출한다. 배치는 토큰 추정치 합({@link TextChunker#estimateTokens}) 이 {@code
+ * max-tokens}, 개수가 {@code max-items} 를 넘지 않게 자른다. 큰 문서는 여러 배치로 나뉘어 provider 배치 한도·응답 버퍼를 넘지 않고,
+ * 작은 문서들은 {@code linger-ms} 동안 모여 한 번에 호출된다. 한 배치에는 같은 provider 인스턴스의 텍스트만 담는다.
+ *
+ * <p>배압: 큐에 들어가 아직 결과가 나오지 않은 텍스트가 {@code max-pending} 에 이르면 {@link #submit}이 자리가 날 때까지 블록한다.
+ * 배치 호출이 실패하면 그 배치에 텍스트가 담긴 모든 요청이 같은 예외로 실패한다.
+ *
+ * <p>Micrometer: {@code embedding_batch_total{result}}, {@code embedding_batch_texts_total},
+ * {@code embedding_batch_size}, {@code embedding_batch_tokens}, {@code
+ * embedding_batch_duration_seconds}, {@code embedding_queue_pending}, {@code
+ * embedding_backpressure_wait_seconds}.
+ */
+@Slf4j
+@Component
+public class EmbeddingBatcher {
+
+  private final int maxItems;
+  private final int maxTokens;
+  private final long lingerNanos;
+  private final int maxPending;
+  private final BlockingQueue<Item> queue = new LinkedBlockingQueue<>();
+  private final Semaphore pendingPermits;
+  // 배치 조립은 한 워커씩 — 토큰 한도를 넘겨 다음 배치로 미룬 항목(carry)을 안전하게 넘기기 위함
+  private final ReentrantLock assemblyLock = new ReentrantLock();
+  private Item carry;
+  private final ExecutorService workers;
+
+  private final Counter batchSuccess;
+  private final Counter batchFailure;
+  private final Counter textsEmbedded;
+  private final DistributionSummary batchSize;
+  private final DistributionSummary batchTokens;
+  private final Timer batchDuration;
+  private final Timer backpressureWait;
+
+  public EmbeddingBatcher(
+      MeterRegistry registry,
+      @Value("${firehub.embedding.batch.concurrency:4}") int concurrency,
+      @Value("${firehub.embedding.batch.max-items:64}") int maxItems,
+      @Value("${firehub.embedding.batch.max-tokens:16000}") int maxTokens,
+      @Value("${firehub.embedding.batch.linger-ms:20}") long lingerMs,
+      @Value("${firehub.embedding.batch.max-pending:2048}") int maxPending) {
+    this.maxItems = Math.max(maxItems, 1);
+    this.maxTokens = Math.max(maxTokens, 1);
+    this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(lingerMs, 0));
+    this.maxPending = Math.max(maxPending, this.maxItems);
+    this.pendingPermits = new Semaphore(this.maxPending);
+
+    this.batchSuccess =
+        Counter.builder("embedding_batch_total").tag("result", "success").register(registry);
+    this.batchFailure =
+        Counter.builder("embedding_batch_total").tag("result", "failure").register(registry);
+    this.textsEmbedded = Counter.builder("embedding_batch_texts_total").register(registry);
+    this.batchSize = DistributionSummary.builder("embedding_batch_size").register(registry);
+    this.batchTokens = DistributionSummary.builder("embedding_batch_tokens").register(registry);
+    this.batchDuration = Timer.builder("embedding_batch_duration_seconds").register(registry);
+    this.backpressureWait = Timer.builder("embedding_backpressure_wait_seconds").register(registry);
+    Gauge.builder(
+            "embedding_queue_pending",
+            pendingPermits,
+            p -> this.maxPending - p.availablePermits())
+        .register(registry);
+
+    int workerCount = Math.max(concurrency, 1);
+    this.workers =
+        Executors.newFixedThreadPool(
+            workerCount, Thread.ofPlatform().name("embedding-batch-", 0).daemon().factory());
+    for (int i = 0; i < workerCount; i++) {
+      workers.execute(this::runWorker);
+    }
+  }
+
+  /**
+   * texts 를 큐에 넣고 같은 순서의 임베딩 목록으로 완료되는 future 를 반환한다. 큐가 가득 차 있으면 자리가 날 때까지 블록한다(배압). 빈
+   * 목록은 즉시 완료된다.
+   */
+  public CompletableFuture<List<float[]>> submit(EmbeddingProvider provider, List<String> texts) {
+    Ticket ticket = new Ticket(texts.size());
+    if (texts.isEmpty()) {
+      ticket.future.complete(List.of());
+      return ticket.future;
+    }
+    for (int i = 0; i < texts.size(); i++) {
+      acquirePermit();
+      String text = texts.get(i);
+      queue.add(new Item(provider, text, TextChunker.estimateTokens(text), ticket, i));
+    }
+    return ticket.future;
+  }
+
+  /** {@link #submit}의 동기 버전. 실패하면 배치 호출의 {@link EmbeddingException}을 그대로 던진다. */
+  public List<float[]> embed(EmbeddingProvider provider, List<String> texts) {
+    try {
+      return submit(provider, texts).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof EmbeddingException ee) throw ee;
+      throw new EmbeddingException("임베딩 배치 처리 실패: " + e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private void acquirePermit() {
+    if (pendingPermits.tryAcquire()) return;
+    long start = System.nanoTime();
+    try {
+      pendingPermits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new EmbeddingException("임베딩 큐 대기 중 인터럽트", e);
+    } finally {
+      backpressureWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void runWorker() {
+    while (!Thread.currentThread().isInterrupted()) {
+      List<Item> batch;
+      try {
+        batch = nextBatch();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      run(batch);
+    }
+  }
+
+  /** 다음 배치를 조립한다. 첫 항목을 기다린 뒤 linger 동안 같은 provider 의 항목을 토큰·개수 한도까지 더 모은다. */
+  private List<Item> nextBatch() throws InterruptedException {
+    assemblyLock.lockInterruptibly();
+    try {
+      Item first = carry != null ? carry : queue.take();
+      carry = null;
+      List<Item> batch = new ArrayList<>();
+      batch.add(first);
+      int tokens = first.tokens();
+      long deadline = System.nanoTime() + lingerNanos;
+      while (batch.size() < maxItems) {
+        Item next = queue.poll();
+        if (next == null) {
+          long remaining = deadline - System.nanoTime();
+          if (remaining <= 0) break;
+          try {
+            next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+          } catch (InterruptedException e) {
+            // 종료 중 — 이미 꺼낸 항목은 큐에 없으므로 여기서 실패시킨다
+            batch.forEach(item -> item.ticket().fail(new EmbeddingException("임베딩 큐가 종료되었습니다")));
+            throw e;
+          }
+          if (next == null) break;
+        }
+        if (next.provider() != first.provider() || tokens + next.tokens() > maxTokens) {
+          carry = next;
+          break;
+        }
+        batch.add(next);
+        tokens += next.tokens();
+      }
+      return batch;
+    } finally {
+      assemblyLock.unlock();
+    }
+  }
+
+  private void run(List<Item> batch) {
+    List<String> texts = batch.stream().map(Item::text).toList();
+    long start = System.nanoTime();
+    try {
+      List<float[]> vectors = batch.get(0).provider().embed(texts);
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).ticket().complete(batch.get(i).index(), vectors.get(i));
+      }
+      batchSuccess.increment();
+      textsEmbedded.increment(batch.size());
+    } catch (Exception e) {
+      log.warn("Embedding batch failed: texts={}", batch.size(), e);
+      batch.forEach(item -> item.ticket().fail(e));
+      batchFailure.increment();
+    } finally {
+      batchDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      batchSize.record(batch.size());
+      batchTokens.record(batch.stream().mapToInt(Item::tokens).sum());
+      pendingPermits.release(batch.size());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    workers.shutdownNow();
+    // 종료 시 남은 항목을 실패시켜 호출자가 영원히 기다리지 않게 한다 (JobRunr 잡은 재시도된다)
+    EmbeddingException closed = new EmbeddingException("임베딩 큐가 종료되었습니다");
+    List<Item> rest = new ArrayList<>();
+    if (carry != null) rest.add(carry);
+    queue.drainTo(rest);
+    rest.forEach(item -> item.ticket().fail(closed));
+  }
+
+  private record Item(
+      EmbeddingProvider provider, String text, int tokens, Ticket ticket, int index) {}
+
+  /** 한 submit 호출의 결과 모음. 모든 텍스트가 채워지면 future 를 완료한다. */
+  private static final class Ticket {
+    private final float[][] results;
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<float[]>> future = new CompletableFuture<>();
+
+    Ticket(int size) {
+      this.results = new float[size][];
+      this.remaining = new AtomicInteger(size);
+    }
+
+    void complete(int index, float[] vector) {
+      results[index] = vector;
+      if (remaining.decrementAndGet() == 0) {
+        future.complete(Arrays.asList(results));
+      }
+    }
+
+    void fail(Throwable cause) {
+      future.completeExceptionally(cause);
+    }
+  }
+}
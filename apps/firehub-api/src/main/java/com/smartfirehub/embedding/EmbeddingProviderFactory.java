@@ -1,13 +1,38 @@
 package com.smartfirehub.embedding;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smartfirehub.settings.service.SettingsChangedEvent;
 import com.smartfirehub.settings.service.SettingsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * system_settings(embedding.*) 를 읽어 활성 EmbeddingProvider 를 만든다. OLLAMA(로컬 bge-m3) 와 OPENAI(클라우드)
  * 를 지원한다. provider 별로 base_url/model 기본값과 인증 방식이 다르므로 각 case 안에서 설정을 읽는다.
+ *
+ * <p>만든 provider 는 설정 버전 기준으로 캐시해 검색·인제스트 호출마다 설정 조회·키 복호화·WebClient 생성을 반복하지 않는다. 버전은
+ * {@link SettingsChangedEvent}(embedding.* 키) 수신 시 올라가며, 다른 인스턴스의 변경은 이벤트로 오지 않으므로 TTL({@code
+ * firehub.embedding.settings-ttl-seconds})마다 설정을 다시 읽는다. 다시 읽은 설정이 같으면 기존 provider 를 그대로 쓴다. 모든
+ * provider 는 공유 커넥션 풀 하나를 쓰므로 keep-alive 연결이 provider 재생성과 무관하게 재사용된다.
+ *
+ * <p>검색 쿼리 임베딩은 {@link #embedQuery}의 LRU 캐시를 거친다. Micrometer: {@code
+ * cache_gets{cache="embedding_query",result=hit|miss}}.
  */
 @Component
 public class EmbeddingProviderFactory {
@@ -20,25 +45,112 @@ public class EmbeddingProviderFactory {
   // DataBufferLimitException 이 난다. 넉넉히 32MB 로 상향한다(≈ 벡터 2천여 개 여유).
   private static final int MAX_RESPONSE_BYTES = 32 * 1024 * 1024;
 
+  // 유휴 연결 정리 주기. Ollama(Go http 서버)·OpenAI 측이 먼저 끊은 연결을 재사용하다 실패하지 않도록 서버 측 idle 보다 짧게 둔다.
+  private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
   private final SettingsService settingsService;
   private final WebClient.Builder webClientBuilder;
+  private final ConnectionProvider connectionPool;
+  private final ReactorClientHttpConnector connector;
+  private final long settingsTtlNanos;
+  private final Cache<String, float[]> queryEmbeddings;
+  private final AtomicLong settingsVersion = new AtomicLong();
+  private volatile CachedProvider cached;
 
   public EmbeddingProviderFactory(
-      SettingsService settingsService, WebClient.Builder webClientBuilder) {
+      SettingsService settingsService,
+      WebClient.Builder webClientBuilder,
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${firehub.embedding.max-connections:16}") int maxConnections,
+      @Value("${firehub.embedding.settings-ttl-seconds:60}") long settingsTtlSeconds,
+      @Value("${firehub.embedding.query-cache-max-entries:1000}") long queryCacheMaxEntries) {
     this.settingsService = settingsService;
     this.webClientBuilder = webClientBuilder;
+    this.connectionPool =
+        ConnectionProvider.builder("embedding")
+            .maxConnections(Math.max(maxConnections, 1))
+            .maxIdleTime(MAX_IDLE_TIME)
+            .evictInBackground(MAX_IDLE_TIME)
+            .build();
+    this.connector = new ReactorClientHttpConnector(HttpClient.create(connectionPool));
+    this.settingsTtlNanos = Duration.ofSeconds(Math.max(settingsTtlSeconds, 0)).toNanos();
+    this.queryEmbeddings =
+        Caffeine.newBuilder().maximumSize(Math.max(queryCacheMaxEntries, 0)).recordStats().build();
+    meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, queryEmbeddings, "embedding_query"));
   }
 
-  /** 현재 설정 기준 활성 provider 반환. */
+  /** 현재 설정 기준 활성 provider 반환. 설정이 바뀌지 않았으면 캐시된 인스턴스를 돌려준다. */
   public EmbeddingProvider current() {
+    CachedProvider c = cached;
+    if (c != null && c.isFresh(settingsVersion.get(), settingsTtlNanos)) {
+      return c.provider();
+    }
+    synchronized (this) {
+      c = cached;
+      // 읽기 전에 버전을 잡아 둔다 — 읽는 도중 무효화되면 다음 호출이 다시 읽는다.
+      long version = settingsVersion.get();
+      if (c != null && c.isFresh(version, settingsTtlNanos)) {
+        return c.provider();
+      }
+      ProviderSettings settings = readSettings();
+      EmbeddingProvider provider;
+      if (c != null && c.settings().equals(settings)) {
+        provider = c.provider();
+      } else {
+        provider = build(settings);
+        queryEmbeddings.invalidateAll();
+      }
+      cached = new CachedProvider(settings, provider, version, System.nanoTime());
+      return provider;
+    }
+  }
+
+  /**
+   * 검색 쿼리 1건 임베딩. 같은 모델·같은 쿼리 문자열은 LRU 캐시에서 바로 반환해 임베딩 왕복을 건너뛴다. 반환 배열은 호출자 소유 복사본이다.
+   */
+  public float[] embedQuery(String query) {
+    EmbeddingProvider provider = current();
+    float[] vector =
+        queryEmbeddings.get(
+            provider.modelId() + '\u0000' + query, k -> provider.embed(List.of(query)).get(0));
+    return vector.clone();
+  }
+
+  @EventListener
+  void onSettingsChanged(SettingsChangedEvent event) {
+    evict(event);
+  }
+
+  // 변경 트랜잭션 커밋 전에 다른 요청이 옛 설정으로 다시 적재한 경우를 위해 커밋 후 한 번 더 무효화한다.
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  void onSettingsChangeCommitted(SettingsChangedEvent event) {
+    evict(event);
+  }
+
+  private void evict(SettingsChangedEvent event) {
+    if (event.touches("embedding.")) {
+      settingsVersion.incrementAndGet();
+      queryEmbeddings.invalidateAll();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    connectionPool.dispose();
+  }
+
+  /** provider 생성에 필요한 설정 스냅샷. 동일하면 같은 provider 를 재사용한다. */
+  private ProviderSettings readSettings() {
     // getValue 는 Optional<String> 반환 — 빈 값/미설정 시 provider 별 기본값으로 폴백한다.
     String provider = settingValue("embedding.provider", "OLLAMA");
     return switch (provider) {
-      case "OLLAMA" -> {
-        String model = settingValue("embedding.model", "bge-m3");
-        String baseUrl = settingValue("embedding.base_url", "http://host.docker.internal:11434");
-        yield new OllamaEmbeddingProvider(embeddingWebClient(baseUrl).build(), model, DIMENSION);
-      }
+      case "OLLAMA" ->
+          new ProviderSettings(
+              provider,
+              settingValue("embedding.model", "bge-m3"),
+              settingValue("embedding.base_url", "http://host.docker.internal:11434"),
+              null);
       case "OPENAI" -> {
         // OpenAI 는 Bearer 인증 필수 — 복호화된 embedding.api_key 를 헤더에 주입한다.
         String apiKey =
@@ -49,14 +161,11 @@ public class EmbeddingProviderFactory {
                         new EmbeddingException(
                             "OpenAI 임베딩 provider 에는 embedding.api_key 설정이 필요합니다"));
         // dimensions 축소를 지원하는 text-embedding-3-* 계열을 기본값으로 사용한다.
-        String model = settingValue("embedding.model", "text-embedding-3-small");
-        String baseUrl = settingValue("embedding.base_url", "https://api.openai.com");
-        yield new OpenAiEmbeddingProvider(
-            embeddingWebClient(baseUrl)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                .build(),
-            model,
-            DIMENSION);
+        yield new ProviderSettings(
+            provider,
+            settingValue("embedding.model", "text-embedding-3-small"),
+            settingValue("embedding.base_url", "https://api.openai.com"),
+            apiKey);
       }
       // VOYAGE 는 미구현 — 설정 저장은 허용되나 활성화 시 여기서 조기 실패한다.
       default ->
@@ -65,13 +174,27 @@ public class EmbeddingProviderFactory {
     };
   }
 
+  private EmbeddingProvider build(ProviderSettings s) {
+    if ("OPENAI".equals(s.provider())) {
+      return new OpenAiEmbeddingProvider(
+          embeddingWebClient(s.baseUrl())
+              .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + s.apiKey())
+              .build(),
+          s.model(),
+          DIMENSION);
+    }
+    return new OllamaEmbeddingProvider(
+        embeddingWebClient(s.baseUrl()).build(), s.model(), DIMENSION);
+  }
+
   /**
-   * 임베딩 호출용 WebClient 빌더 복사본. clone() 으로 공유 빌더의 독립 복사본을 만들어(스레드 안전, 공유 상태 비변형) baseUrl 과
-   * 상향된 응답 버퍼 한계를 적용한다. 배치 임베딩 응답이 기본 256KB 를 초과하는 것을 방지한다.
+   * 임베딩 호출용 WebClient 빌더 복사본. clone() 으로 공유 빌더의 독립 복사본을 만들어(스레드 안전, 공유 상태 비변형) baseUrl,
+   * 공유 커넥션 풀, 상향된 응답 버퍼 한계를 적용한다. 배치 임베딩 응답이 기본 256KB 를 초과하는 것을 방지한다.
    */
   private WebClient.Builder embeddingWebClient(String baseUrl) {
     return webClientBuilder
         .clone()
+        .clientConnector(connector)
         .baseUrl(baseUrl)
         .codecs(c -> c.defaultCodecs().maxInMemorySize(MAX_RESPONSE_BYTES));
   }
@@ -84,4 +207,22 @@ public class EmbeddingProviderFactory {
   public int dimension() {
     return DIMENSION;
   }
+
+  /** equals는 캐시 재사용 판단에 apiKey까지 비교하지만, 로그에 남을 수 있는 toString에는 복호화된 키를 싣지 않는다. */
+  private record ProviderSettings(String provider, String model, String baseUrl, String apiKey) {
+
+    @Override
+    public String toString() {
+      return "ProviderSettings[provider=%s, model=%s, baseUrl=%s, apiKey=%s]"
+          .formatted(provider, model, baseUrl, apiKey == null || apiKey.isEmpty() ? "" : "****");
+    }
+  }
+
+  private record CachedProvider(
+      ProviderSettings settings, EmbeddingProvider provider, long version, long loadedAtNanos) {
+
+    boolean isFresh(long currentVersion, long ttlNanos) {
+      return version == currentVersion && System.nanoTime() - loadedAtNanos < ttlNanos;
+    }
+  }
 }
@@ -1,8 +1,10 @@
 package com.smartfirehub.global.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -12,8 +14,17 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableScheduling
 public class AsyncConfig {
 
+  /**
+   * 파이프라인 실행 본체 풀. 실행 스레드는 스텝이 끝나기를 기다리는 시간이 대부분이다. 가상 스레드 모드에서는 실행마다 가상 스레드를 하나씩 띄우고
+   * 풀·큐 상한을 두지 않는다 — 실제 일의 동시성은 스텝 허가({@code StepPermits})가 제한하므로, 백오프 중인 실행이 새 실행을 큐에 묶어 두지
+   * 않는다. 가상 스레드를 끄면 기존 고정 크기 풀을 쓴다.
+   */
   @Bean(name = "pipelineExecutor")
-  public Executor pipelineExecutor() {
+  public Executor pipelineExecutor(
+      @Value("${firehub.pipeline.virtual-threads:true}") boolean virtualThreads) {
+    if (virtualThreads) {
+      return new VirtualThreadTaskExecutor("pipeline-exec-");
+    }
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(5);
     executor.setMaxPoolSize(10);
@@ -23,6 +34,27 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * 파이프라인 스텝 병렬 실행 풀({@code PipelineStepScheduler}). 실행 하나가 동시에 올리는 스텝 수는 스케줄러가 {@code
+   * firehub.pipeline.max-parallel-steps}로, 모든 실행을 합친 상한은 {@code StepPermits}가 {@code
+   * firehub.pipeline.step-workers}로 제한한다. 가상 스레드 모드에서는 스텝마다 가상 스레드를 띄우고, 스텝은 HTTP 응답·재시도 백오프를
+   * 기다리는 동안 허가를 돌려준다. 가상 스레드를 끄면 step-workers 크기의 고정 풀을 쓰며, 이때는 기다리는 스텝도 풀 스레드를 차지한다.
+   */
+  @Bean(name = "pipelineStepExecutor")
+  public Executor pipelineStepExecutor(
+      @Value("${firehub.pipeline.step-workers:8}") int workers,
+      @Value("${firehub.pipeline.virtual-threads:true}") boolean virtualThreads) {
+    if (virtualThreads) {
+      return new VirtualThreadTaskExecutor("pipeline-step-");
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(workers, 1));
+    executor.setMaxPoolSize(Math.max(workers, 1));
+    executor.setThreadNamePrefix("pipeline-step-");
+    executor.initialize();
+    return executor;
+  }
+
   @Bean(name = "exportExecutor")
   public Executor exportExecutor() {
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -34,6 +66,57 @@ public class AsyncConfig {
     return executor;
   }
 
+  /**
+   * 파일 임포트 검증/변환 워커 풀({@code ImportBatchPipeline}). CPU 작업만 수행하며, 임포트 하나가 동시에 올리는 배치 수는 파이프라인이
+   * {@code workers * 2}로 제한하므로 큐는 동시 임포트 수에 비례해서만 자란다. workers=0이면 파이프라인이 순차 처리하므로 최소 1스레드만
+   * 둔다.
+   */
+  @Bean(name = "importExecutor")
+  public Executor importExecutor(@Value("${firehub.import.workers:4}") int workers) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(workers, 1));
+    executor.setMaxPoolSize(Math.max(workers, 1));
+    executor.setThreadNamePrefix("import-worker-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * API_CALL OFFSET 페이지 동시 요청 풀({@code ApiCallExecutor}). 스텝 하나가 동시에 올리는 요청 수는 스텝 설정의
+   * {@code pagination.concurrency}로 제한한다. 가상 스레드 모드에서는 요청마다 가상 스레드를 띄우므로 재시도 백오프 중인 페이지가 다른 스텝의
+   * 요청을 막지 않는다. 가상 스레드를 끄면 fetch-workers 크기의 고정 풀이 모든 스텝을 합친 동시 HTTP 요청 수의 상한이다.
+   */
+  @Bean(name = "apiFetchExecutor")
+  public Executor apiFetchExecutor(
+      @Value("${firehub.api-call.fetch-workers:8}") int workers,
+      @Value("${firehub.pipeline.virtual-threads:true}") boolean virtualThreads) {
+    if (virtualThreads) {
+      return new VirtualThreadTaskExecutor("api-fetch-");
+    }
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(workers, 1));
+    executor.setMaxPoolSize(Math.max(workers, 1));
+    executor.setThreadNamePrefix("api-fetch-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * 분석 대시보드 위젯 쿼리 동시 실행 풀({@code AnalyticsDashboardService}). 대시보드 하나가 동시에 올리는 쿼리 수는 {@code
+   * firehub.analytics.dashboard-query-concurrency}로 제한하고, 풀 크기는 모든 대시보드 요청을 합친 동시 쿼리(=DB 커넥션) 수의
+   * 상한이다.
+   */
+  @Bean(name = "dashboardQueryExecutor")
+  public Executor dashboardQueryExecutor(
+      @Value("${firehub.analytics.query-workers:8}") int workers) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(Math.max(workers, 1));
+    executor.setMaxPoolSize(Math.max(workers, 1));
+    executor.setThreadNamePrefix("dashboard-query-");
+    executor.initialize();
+    return executor;
+  }
+
   /** 데이터셋 재인덱싱(임베딩 생성) 전용 풀 — 메인 요청 스레드와 격리해 쓰기 경로를 막지 않는다. */
   @Bean(name = "indexExecutor")
   public Executor indexExecutor() {
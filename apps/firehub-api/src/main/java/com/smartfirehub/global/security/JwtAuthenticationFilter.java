@@ -1,6 +1,8 @@
 package com.smartfirehub.global.security;
 
 import com.smartfirehub.permission.service.PermissionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,6 +12,7 @@ import java.security.MessageDigest;
 import java.util.List;
 import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.lang.NonNull;
@@ -28,13 +31,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
   private final PermissionService permissionService;
   private final String internalToken;
 
+  /** 인증 처리(토큰 검증 + 권한 스냅샷 조회) 소요 시간. MeterRegistry가 없는 슬라이스 테스트에서는 null. */
+  private final Timer jwtAuthTimer;
+
+  private final Timer internalAuthTimer;
+
   public JwtAuthenticationFilter(
       JwtTokenProvider jwtTokenProvider,
       @Lazy PermissionService permissionService,
-      @Value("${agent.internal-token:}") String internalToken) {
+      @Value("${agent.internal-token:}") String internalToken,
+      ObjectProvider<MeterRegistry> meterRegistry) {
     this.jwtTokenProvider = jwtTokenProvider;
     this.permissionService = permissionService;
     this.internalToken = internalToken;
+    MeterRegistry registry = meterRegistry.getIfAvailable();
+    this.jwtAuthTimer = registry == null ? null : authTimer(registry, "jwt");
+    this.internalAuthTimer = registry == null ? null : authTimer(registry, "internal");
+  }
+
+  private static Timer authTimer(MeterRegistry registry, String scheme) {
+    return Timer.builder("auth_filter_duration")
+        .description("JwtAuthenticationFilter authentication latency")
+        .tag("scheme", scheme)
+        .register(registry);
   }
 
   @Override
@@ -55,21 +74,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
     if (token != null) {
-      authenticateWithJwt(token);
+      String jwt = token;
+      record(jwtAuthTimer, () -> authenticateWithJwt(jwt));
     } else if (StringUtils.hasText(authHeader) && authHeader.startsWith("Internal ")) {
-      authenticateWithInternalToken(authHeader.substring(9), request);
+      record(
+          internalAuthTimer,
+          () -> authenticateWithInternalToken(authHeader.substring(9), request));
     }
 
     filterChain.doFilter(request, response);
   }
 
-  private void authenticateWithJwt(String token) {
-    if (jwtTokenProvider.validateAccessToken(token)) {
-      Long userId = jwtTokenProvider.getUserIdFromToken(token);
-      setSecurityContext(userId);
+  private static void record(Timer timer, Runnable authentication) {
+    if (timer == null) {
+      authentication.run();
+    } else {
+      timer.record(authentication);
     }
   }
 
+  private void authenticateWithJwt(String token) {
+    jwtTokenProvider.resolveAccessTokenUserId(token).ifPresent(this::setSecurityContext);
+  }
+
   private void authenticateWithInternalToken(String token, HttpServletRequest request) {
     if (!StringUtils.hasText(internalToken)) return;
 
@@ -2,10 +2,12 @@ package com.smartfirehub.global.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class JwtTokenProvider {
 
   private final SecretKey key;
+  private final JwtParser parser;
   private final long accessExpiration;
   private final long refreshExpiration;
 
@@ -22,6 +25,7 @@ public class JwtTokenProvider {
       throw new IllegalStateException("JWT secret must be at least 256 bits (32 bytes)");
     }
     this.key = Keys.hmacShaKeyFor(keyBytes);
+    this.parser = Jwts.parser().verifyWith(key).build();
     this.accessExpiration = jwtProperties.accessExpiration();
     this.refreshExpiration = jwtProperties.refreshExpiration();
   }
@@ -72,6 +76,22 @@ public class JwtTokenProvider {
     }
   }
 
+  /**
+   * 액세스 토큰을 한 번만 파싱해 검증과 사용자 ID 추출을 함께 수행한다. 서명·만료·type 검증에 실패하거나 subject가 숫자가 아니면 empty.
+   * 요청 필터처럼 검증 직후 ID가 필요한 경로에서 validateAccessToken + getUserIdFromToken의 이중 파싱을 대신한다.
+   */
+  public Optional<Long> resolveAccessTokenUserId(String token) {
+    try {
+      Claims claims = parseClaims(token);
+      if (!"access".equals(claims.get("type", String.class))) {
+        return Optional.empty();
+      }
+      return Optional.of(Long.parseLong(claims.getSubject()));
+    } catch (JwtException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
   public boolean validateRefreshToken(String token) {
     try {
       Claims claims = parseClaims(token);
@@ -82,6 +102,6 @@ public class JwtTokenProvider {
   }
 
   private Claims parseClaims(String token) {
-    return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    return parser.parseSignedClaims(token).getPayload();
   }
 }
@@ -1,6 +1,6 @@
 package com.smartfirehub.global.security;
 
-import com.smartfirehub.permission.repository.PermissionRepository;
+import com.smartfirehub.permission.service.PermissionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -8,9 +8,9 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PermissionChecker {
 
-  private final PermissionRepository permissionRepository;
+  private final PermissionService permissionService;
 
   public boolean hasPermission(Long userId, String permissionCode) {
-    return permissionRepository.findPermissionCodesByUserId(userId).contains(permissionCode);
+    return permissionService.getUserPermissions(userId).contains(permissionCode);
   }
 }
@@ -0,0 +1,110 @@
+package com.smartfirehub.global.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import org.jooq.Cursor;
+import org.jooq.Record;
+
+/**
+ * SQL 쿼리 결과를 column-array JSON 으로 응답 스트림에 바로 쓴다. 컬럼명은 한 번만, 각 행은 값 배열로 쓰므로 결과 전체를 jOOQ Result 나
+ * 행별 Map 으로 만들어 두지 않아도 된다.
+ *
+ * <pre>{"columns":["a","b"],"rows":[[1,"x"],[2,"y"]],"queryType":"SELECT","affectedRows":2,
+ * "totalRows":2,"truncated":false,"executionTimeMs":12,"error":null}</pre>
+ *
+ * <p>실행 시간·잘림 여부는 행을 다 쓴 뒤에야 알 수 있으므로 rows 뒤에 쓴다. 행을 쓰는 도중 오류가 나도 {@link #end}가 배열을 닫고 error
+ * 를 채우므로 응답은 항상 올바른 JSON 이다. 값 직렬화는 주입받은 ObjectMapper 설정(날짜 형식 등)을 따른다.
+ */
+public final class ColumnarJsonWriter implements Closeable {
+
+  private final JsonGenerator json;
+  private boolean begun;
+
+  public ColumnarJsonWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+    this.json = objectMapper.getFactory().createGenerator(out);
+    json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+  }
+
+  /** {@link #begin}이 호출되어 컬럼·행을 쓰기 시작했는지. */
+  public boolean isBegun() {
+    return begun;
+  }
+
+  /** 컬럼 목록을 쓰고 rows 배열을 연다. 한 번만 호출할 수 있다. */
+  public void begin(List<String> columns) throws IOException {
+    if (begun) {
+      throw new IllegalStateException("columns already written");
+    }
+    begun = true;
+    json.writeStartObject();
+    json.writeArrayFieldStart("columns");
+    for (String column : columns) {
+      json.writeString(column);
+    }
+    json.writeEndArray();
+    json.writeArrayFieldStart("rows");
+  }
+
+  /**
+   * 커서에서 최대 maxRows 행을 읽어 indices 위치의 값만 쓴다. 커서는 닫지 않는다.
+   *
+   * @return 쓴 행 수
+   */
+  public int writeRows(Cursor<? extends Record> cursor, int[] indices, int maxRows)
+      throws IOException {
+    int count = 0;
+    while (count < maxRows && cursor.hasNext()) {
+      Record record = cursor.fetchNext();
+      json.writeStartArray();
+      for (int index : indices) {
+        json.writeObject(record.get(index));
+      }
+      json.writeEndArray();
+      count++;
+    }
+    return count;
+  }
+
+  /** 이미 만들어진 행 목록(executor 응답 등)을 columns 순서의 배열로 쓴다. */
+  public void writeRows(List<String> columns, List<Map<String, Object>> rows) throws IOException {
+    for (Map<String, Object> row : rows) {
+      json.writeStartArray();
+      for (String column : columns) {
+        json.writeObject(row.get(column));
+      }
+      json.writeEndArray();
+    }
+  }
+
+  /** rows 배열을 닫고 결과 요약을 쓴다. {@link #begin} 전이면(실행 전 오류 등) 빈 columns/rows 를 먼저 쓴다. */
+  public void end(
+      String queryType,
+      int affectedRows,
+      int totalRows,
+      boolean truncated,
+      long executionTimeMs,
+      String error)
+      throws IOException {
+    if (!begun) {
+      begin(List.of());
+    }
+    json.writeEndArray();
+    json.writeStringField("queryType", queryType);
+    json.writeNumberField("affectedRows", affectedRows);
+    json.writeNumberField("totalRows", totalRows);
+    json.writeBooleanField("truncated", truncated);
+    json.writeNumberField("executionTimeMs", executionTimeMs);
+    json.writeStringField("error", error);
+    json.writeEndObject();
+  }
+
+  @Override
+  public void close() throws IOException {
+    json.close();
+  }
+}
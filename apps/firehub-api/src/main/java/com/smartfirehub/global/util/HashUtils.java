@@ -0,0 +1,22 @@
+package com.smartfirehub.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/** 캐시 키 등에 쓰는 문자열 해시 유틸. */
+public final class HashUtils {
+
+  private HashUtils() {}
+
+  /** UTF-8 바이트의 SHA-256 을 소문자 16진수 문자열로 반환한다. */
+  public static String sha256Hex(String text) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.smartfirehub.global.util;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.update.Update;
+import net.sf.jsqlparser.util.TablesNamesFinder;
+
+/**
+ * 사용자 SQL이 참조하는 data 스키마 테이블명 추출 유틸. 쿼리는 {@code search_path = data}로 실행되므로 스키마가 없는 이름은 data
+ * 테이블로 본다.
+ */
+public final class SqlTableUtils {
+
+  private static final String DATA_SCHEMA = "data";
+
+  private SqlTableUtils() {}
+
+  /**
+   * INSERT/UPDATE/DELETE가 쓰는 data 스키마 테이블. 데이터 수정 CTE처럼 대상만 가려낼 수 없는 문장은 참조하는 data 테이블 전체를 쓴 것으로
+   * 보고, 파싱할 수 없으면 빈 집합을 반환한다.
+   */
+  public static Set<String> writtenDataTables(String sql) {
+    Statement statement;
+    try {
+      statement = CCJSqlParserUtil.parse(SqlValidationUtils.removeTrailingSemicolon(sql.strip()));
+    } catch (Exception e) {
+      return Set.of();
+    }
+    Collection<String> names;
+    try {
+      names =
+          switch (statement) {
+            case Insert insert -> List.of(insert.getTable().getFullyQualifiedName());
+            case Update update -> List.of(update.getTable().getFullyQualifiedName());
+            case Delete delete -> List.of(delete.getTable().getFullyQualifiedName());
+            default -> new TablesNamesFinder<>().getTables(statement);
+          };
+    } catch (Exception e) {
+      return Set.of();
+    }
+    Set<String> tables = new HashSet<>();
+    for (String name : names) {
+      String table = dataTableName(name);
+      if (table != null) {
+        tables.add(table);
+      }
+    }
+    return tables;
+  }
+
+  /** 문장이 참조하는 data 스키마 테이블(다른 스키마 테이블은 제외). 파싱할 수 없으면 빈 집합을 반환한다. */
+  public static Set<String> referencedDataTables(String sql) {
+    Set<String> tables = new HashSet<>();
+    try {
+      Statement statement =
+          CCJSqlParserUtil.parse(SqlValidationUtils.removeTrailingSemicolon(sql.strip()));
+      for (String name : new TablesNamesFinder<>().getTables(statement)) {
+        String table = dataTableName(name);
+        if (table != null) {
+          tables.add(table);
+        }
+      }
+    } catch (Exception e) {
+      return Set.of();
+    }
+    return tables;
+  }
+
+  /**
+   * TablesNamesFinder/{@link Table#getFullyQualifiedName()} 결과({@code t}, {@code data.t}, {@code
+   * data."My Table"})를 data 스키마 테이블명으로 바꾼다. 다른 스키마면 null.
+   */
+  public static String dataTableName(String qualified) {
+    List<String> parts = List.of(qualified.split("\\.(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)"));
+    if (parts.size() > 2) {
+      return null;
+    }
+    if (parts.size() == 2 && !DATA_SCHEMA.equals(unquote(parts.get(0)))) {
+      return null;
+    }
+    return unquote(parts.get(parts.size() - 1));
+  }
+
+  // PostgreSQL 규칙: 따옴표 식별자는 그대로, 아니면 소문자
+  private static String unquote(String identifier) {
+    if (identifier.length() >= 2 && identifier.startsWith("\"") && identifier.endsWith("\"")) {
+      return identifier.substring(1, identifier.length() - 1).replace("\"\"", "\"");
+    }
+    return identifier.toLowerCase();
+  }
+}
@@ -1,11 +1,17 @@
 package com.smartfirehub.notification.channels;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
@@ -30,7 +36,8 @@ public class ChannelHttpClient {
   /**
    * firehub-channel POST /send 호출.
    *
-   * @throws ChannelHttpException 발송 실패 시 (401→auth_error, 5xx→upstream_error)
+   * @throws ChannelHttpException 발송 실패 시 (401→auth_error, 429→rate_limited, 5xx→upstream_error). 429와 5xx는
+   *     Retry-After 헤더를 함께 전달한다.
    */
   public void send(String channel, Map<String, Object> recipient, Map<String, Object> message) {
     send(channel, recipient, message, null);
@@ -55,14 +62,45 @@ public class ChannelHttpClient {
             status -> status.value() == 401,
             res ->
                 res.bodyToMono(String.class).map(b -> new ChannelHttpException("auth_error", 401)))
+        .onStatus(
+            status -> status.value() == 429,
+            res ->
+                res.bodyToMono(String.class)
+                    .defaultIfEmpty("")
+                    .map(b -> new ChannelHttpException("rate_limited", 429, retryAfter(res))))
         .onStatus(
             status -> status.is5xxServerError(),
             res ->
                 res.bodyToMono(String.class)
-                    .map(b -> new ChannelHttpException("upstream_error", res.statusCode().value())))
+                    .map(
+                        b ->
+                            new ChannelHttpException(
+                                "upstream_error", res.statusCode().value(), retryAfter(res))))
         .toBodilessEntity()
         .block();
 
     log.debug("channel send 완료: channel={}", channel);
   }
+
+  private static Duration retryAfter(ClientResponse res) {
+    return parseRetryAfter(res.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+  }
+
+  /** Retry-After 헤더(초 단위 정수 또는 HTTP-date)를 대기 시간으로 변환. 없거나 형식이 틀리면 null, 과거 시각이면 0. */
+  static Duration parseRetryAfter(String value) {
+    if (value == null || value.isBlank()) return null;
+    String trimmed = value.trim();
+    try {
+      return Duration.ofSeconds(Math.max(Long.parseLong(trimmed), 0));
+    } catch (NumberFormatException ignored) {
+      // HTTP-date 형식 시도
+    }
+    try {
+      ZonedDateTime at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+      Duration wait = Duration.between(ZonedDateTime.now(), at);
+      return wait.isNegative() ? Duration.ZERO : wait;
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
 }
@@ -1,20 +1,38 @@
 package com.smartfirehub.notification.channels;
 
+import java.time.Duration;
+
 /** firehub-channel /send 호출 실패 시 발생하는 예외. */
 public class ChannelHttpException extends RuntimeException {
   private final int statusCode;
+  private final Duration retryAfter;
 
   public ChannelHttpException(String message, int statusCode) {
+    this(message, statusCode, null);
+  }
+
+  public ChannelHttpException(String message, int statusCode, Duration retryAfter) {
     super(message);
     this.statusCode = statusCode;
+    this.retryAfter = retryAfter;
   }
 
   public int getStatusCode() {
     return statusCode;
   }
 
+  /** 응답의 Retry-After 헤더 값. 헤더가 없거나 해석할 수 없으면 null. */
+  public Duration getRetryAfter() {
+    return retryAfter;
+  }
+
   /** 인증 오류 여부 — OutboxWorker가 PermanentFailure로 처리한다. */
   public boolean isAuthError() {
     return statusCode == 401;
   }
+
+  /** 제공자 속도 제한(429) 여부 — OutboxWorker가 해당 채널 레인의 발송 속도를 낮춘다. */
+  public boolean isRateLimited() {
+    return statusCode == 429;
+  }
 }
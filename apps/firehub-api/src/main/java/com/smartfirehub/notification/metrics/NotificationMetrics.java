@@ -63,6 +63,19 @@ public class NotificationMetrics {
         .increment();
   }
 
+  /** 워커 깨움 수신(source=notify|poll). NOTIFY는 받은 알림 수만큼 증가한다. batch_total과 비교해 병합 효과를 본다. */
+  public void incrementWakeup(String source, int count) {
+    Counter.builder("notification_outbox_wakeup_total")
+        .tags(Tags.of("source", source))
+        .register(registry)
+        .increment(count);
+  }
+
+  /** 드레인 루프가 실행한 배치(claimDue) 수 증가. */
+  public void incrementBatchExecuted() {
+    Counter.builder("notification_outbox_batch_total").register(registry).increment();
+  }
+
   /** 좀비 회복 카운트 증가. */
   public void incrementZombieRecovered(int delta) {
     Counter.builder("notification_outbox_zombie_recovered_total")
@@ -2,6 +2,7 @@ package com.smartfirehub.notification.repository;
 
 import com.smartfirehub.notification.ChannelType;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,12 +12,36 @@ public interface NotificationOutboxRepository {
   /** AFTER_COMMIT 훅에서 호출. idempotency_key UNIQUE 충돌은 ON CONFLICT DO NOTHING. */
   void insertIfAbsent(NotificationOutboxRow row);
 
+  /**
+   * 일괄 enqueue: 다중 행 {@code INSERT ... ON CONFLICT ON CONSTRAINT uk_outbox_idempotency DO
+   * NOTHING}. 바인드 파라미터 한도를 넘지 않도록 내부에서 청크로 나눠 실행한다. 반환값=실제 INSERT된 행 수(충돌로 무시된 행 제외).
+   */
+  int insertAllIfAbsent(List<NotificationOutboxRow> rows);
+
   /**
    * 워커: PENDING + next_attempt_at<=now() 인 행 N개를 claim. SELECT FOR UPDATE SKIP LOCKED → UPDATE
    * status=SENDING, claimed_at=now, claimed_by=instance. 단일 트랜잭션 안에서 처리.
    */
   List<NotificationOutboxRow> claimDue(int batchSize, String instanceId);
 
+  /**
+   * {@link #claimDue(int, String)}와 같되 한 채널의 행만 claim한다. 채널별 드레인 루프가 서로 기다리지 않게 한다.
+   */
+  List<NotificationOutboxRow> claimDue(
+      int batchSize, String instanceId, ChannelType channelType);
+
+  /**
+   * lease 연장: 이 인스턴스가 claim해 아직 SENDING인 행의 claimed_at을 now로 갱신한다. 배치 발송이 좀비 판정 시간보다 길어져도
+   * OutboxSweeper가 처리 중인 행을 PENDING으로 되돌려 다른 워커가 중복 발송하지 않게 한다. 반환값=갱신된 행 수.
+   */
+  int renewLease(Collection<Long> ids, String instanceId);
+
+  /**
+   * 발송 결과 일괄 기록. {@code UPDATE ... FROM (VALUES ...)} 한 문장으로 SENT/재시도(PENDING)/PERMANENT_FAILURE를 함께
+   * 반영한다. 컬럼별 효과는 markSent·rescheduleTransient·markPermanentFailure와 같다. 반환값=갱신된 행 수.
+   */
+  int completeAll(Collection<OutboxCompletion> completions);
+
   /** 발송 성공 시 상태 기록. externalMessageId는 관측 용도(last_error 컬럼에 함께 기록). */
   void markSent(long id, String externalMessageId);
 
@@ -64,4 +89,30 @@ public interface NotificationOutboxRepository {
       String status,
       int attemptCount,
       Instant nextAttemptAt) {}
+
+  /**
+   * 워커의 발송 결과 한 건. status는 SENT, PENDING(재시도 예약), PERMANENT_FAILURE 중 하나이며, 해당하지 않는 필드는 null.
+   * SENT의 error에는 외부 메시지 id를 담는다(markSent와 같은 컬럼 재활용).
+   */
+  record OutboxCompletion(
+      long id,
+      String status,
+      Integer attemptCount,
+      Instant nextAttemptAt,
+      String error,
+      String permanentFailureReason) {
+
+    public static OutboxCompletion sent(long id, String externalMessageId) {
+      return new OutboxCompletion(id, "SENT", null, null, externalMessageId, null);
+    }
+
+    public static OutboxCompletion retry(
+        long id, int attemptCount, Instant nextAttemptAt, String error) {
+      return new OutboxCompletion(id, "PENDING", attemptCount, nextAttemptAt, error, null);
+    }
+
+    public static OutboxCompletion permanentFailure(long id, String reason, String error) {
+      return new OutboxCompletion(id, "PERMANENT_FAILURE", null, null, error, reason);
+    }
+  }
 }
@@ -1,23 +1,40 @@
 package com.smartfirehub.notification.repository;
 
 import static com.smartfirehub.jooq.Tables.NOTIFICATION_OUTBOX;
+import static org.jooq.impl.DSL.cast;
+import static org.jooq.impl.DSL.castNull;
+import static org.jooq.impl.DSL.coalesce;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.DSL.when;
 
 import com.smartfirehub.notification.ChannelType;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
 import org.jooq.JSONB;
 import org.jooq.Record;
+import org.jooq.Record6;
+import org.jooq.Row6;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
 import org.springframework.stereotype.Repository;
 
 /** Outbox 작업 큐 jOOQ 구현. PG SKIP LOCKED + lease 컬럼으로 멀티 인스턴스 안전. */
 @Repository
 class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository {
 
+  /** 다중 행 INSERT 1문장당 행 수. 11컬럼 × 1000행으로 PG 바인드 파라미터 한도(65535) 안에 머문다. */
+  private static final int INSERT_CHUNK_SIZE = 1000;
+
   private final DSLContext dsl;
 
   NotificationOutboxRepositoryImpl(DSLContext dsl) {
@@ -45,8 +62,62 @@ class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository {
         .execute();
   }
 
+  @Override
+  public int insertAllIfAbsent(List<NotificationOutboxRow> rows) {
+    int inserted = 0;
+    for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+      var insert =
+          dsl.insertInto(
+              NOTIFICATION_OUTBOX,
+              NOTIFICATION_OUTBOX.IDEMPOTENCY_KEY,
+              NOTIFICATION_OUTBOX.CORRELATION_ID,
+              NOTIFICATION_OUTBOX.EVENT_TYPE,
+              NOTIFICATION_OUTBOX.EVENT_SOURCE_ID,
+              NOTIFICATION_OUTBOX.CHANNEL_TYPE,
+              NOTIFICATION_OUTBOX.RECIPIENT_USER_ID,
+              NOTIFICATION_OUTBOX.RECIPIENT_ADDRESS,
+              NOTIFICATION_OUTBOX.PAYLOAD_REF_TYPE,
+              NOTIFICATION_OUTBOX.PAYLOAD_REF_ID,
+              NOTIFICATION_OUTBOX.PAYLOAD,
+              NOTIFICATION_OUTBOX.PAYLOAD_TYPE);
+      int to = Math.min(from + INSERT_CHUNK_SIZE, rows.size());
+      for (NotificationOutboxRow row : rows.subList(from, to)) {
+        insert =
+            insert.values(
+                row.idempotencyKey(),
+                row.correlationId(),
+                row.eventType(),
+                row.eventSourceId(),
+                row.channelType().name(),
+                row.recipientUserId(),
+                row.recipientAddress(),
+                row.payloadRefType(),
+                row.payloadRefId(),
+                row.payloadJson() == null ? null : JSONB.valueOf(row.payloadJson()),
+                row.payloadType());
+      }
+      // 같은 문장 안의 키 중복도 DO NOTHING이면 에러 없이 무시된다
+      inserted +=
+          insert
+              .onConflictOnConstraint(DSL.constraint("uk_outbox_idempotency"))
+              .doNothing()
+              .execute();
+    }
+    return inserted;
+  }
+
   @Override
   public List<NotificationOutboxRow> claimDue(int batchSize, String instanceId) {
+    return claim(DSL.noCondition(), batchSize, instanceId);
+  }
+
+  @Override
+  public List<NotificationOutboxRow> claimDue(
+      int batchSize, String instanceId, ChannelType channelType) {
+    return claim(NOTIFICATION_OUTBOX.CHANNEL_TYPE.eq(channelType.name()), batchSize, instanceId);
+  }
+
+  private List<NotificationOutboxRow> claim(Condition condition, int batchSize, String instanceId) {
     return dsl.transactionResult(
         cfg -> {
           DSLContext tx = cfg.dsl();
@@ -55,6 +126,7 @@ class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository {
                   .from(NOTIFICATION_OUTBOX)
                   .where(NOTIFICATION_OUTBOX.STATUS.eq("PENDING"))
                   .and(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT.le(OffsetDateTime.now()))
+                  .and(condition)
                   .orderBy(NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT.asc())
                   .limit(batchSize)
                   .forUpdate()
@@ -76,6 +148,78 @@ class NotificationOutboxRepositoryImpl implements NotificationOutboxRepository {
         });
   }
 
+  @Override
+  public int renewLease(Collection<Long> ids, String instanceId) {
+    if (ids.isEmpty()) return 0;
+    return dsl.update(NOTIFICATION_OUTBOX)
+        .set(NOTIFICATION_OUTBOX.CLAIMED_AT, OffsetDateTime.now())
+        .where(NOTIFICATION_OUTBOX.ID.in(ids))
+        .and(NOTIFICATION_OUTBOX.STATUS.eq("SENDING"))
+        .and(NOTIFICATION_OUTBOX.CLAIMED_BY.eq(instanceId))
+        .execute();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int completeAll(Collection<OutboxCompletion> completions) {
+    if (completions.isEmpty()) return 0;
+    // VALUES 첫 행의 타입 추론이 null에 막히지 않도록 모든 값을 명시적으로 캐스팅한다
+    List<Row6<Long, String, Integer, OffsetDateTime, String, String>> rows = new ArrayList<>();
+    for (OutboxCompletion c : completions) {
+      OffsetDateTime nextAttemptAt =
+          c.nextAttemptAt() == null ? null : c.nextAttemptAt().atOffset(ZoneOffset.UTC);
+      rows.add(
+          row(
+              cast(val(c.id()), SQLDataType.BIGINT),
+              cast(val(c.status()), SQLDataType.VARCHAR),
+              cast(val(c.attemptCount(), Integer.class), SQLDataType.INTEGER),
+              cast(val(nextAttemptAt, OffsetDateTime.class), SQLDataType.TIMESTAMPWITHTIMEZONE),
+              cast(val(c.error(), String.class), SQLDataType.CLOB),
+              cast(val(c.permanentFailureReason(), String.class), SQLDataType.VARCHAR)));
+    }
+    Table<Record6<Long, String, Integer, OffsetDateTime, String, String>> v =
+        DSL.values(rows.toArray(Row6[]::new))
+            .as("v", "id", "status", "attempt_count", "next_attempt_at", "error", "reason");
+    Field<Long> vId = v.field("id", Long.class);
+    Field<String> vStatus = v.field("status", String.class);
+    Field<Integer> vAttemptCount = v.field("attempt_count", Integer.class);
+    Field<OffsetDateTime> vNextAttemptAt = v.field("next_attempt_at", OffsetDateTime.class);
+    Field<String> vError = v.field("error", String.class);
+    Field<String> vReason = v.field("reason", String.class);
+    OffsetDateTime now = OffsetDateTime.now();
+
+    return dsl.update(NOTIFICATION_OUTBOX)
+        .set(NOTIFICATION_OUTBOX.STATUS, vStatus)
+        .set(
+            NOTIFICATION_OUTBOX.SENT_AT,
+            when(vStatus.eq("SENT"), val(now)).otherwise(NOTIFICATION_OUTBOX.SENT_AT))
+        .set(
+            NOTIFICATION_OUTBOX.ATTEMPT_COUNT,
+            coalesce(vAttemptCount, NOTIFICATION_OUTBOX.ATTEMPT_COUNT))
+        .set(
+            NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT,
+            coalesce(vNextAttemptAt, NOTIFICATION_OUTBOX.NEXT_ATTEMPT_AT))
+        .set(NOTIFICATION_OUTBOX.LAST_ERROR, vError)
+        .set(
+            NOTIFICATION_OUTBOX.LAST_ERROR_AT,
+            when(vStatus.eq("SENT"), NOTIFICATION_OUTBOX.LAST_ERROR_AT).otherwise(val(now)))
+        .set(
+            NOTIFICATION_OUTBOX.PERMANENT_FAILURE_REASON,
+            when(vStatus.eq("PERMANENT_FAILURE"), vReason)
+                .otherwise(NOTIFICATION_OUTBOX.PERMANENT_FAILURE_REASON))
+        .set(
+            NOTIFICATION_OUTBOX.CLAIMED_AT,
+            when(vStatus.eq("PENDING"), castNull(SQLDataType.TIMESTAMPWITHTIMEZONE))
+                .otherwise(NOTIFICATION_OUTBOX.CLAIMED_AT))
+        .set(
+            NOTIFICATION_OUTBOX.CLAIMED_BY,
+            when(vStatus.eq("PENDING"), castNull(SQLDataType.VARCHAR))
+                .otherwise(NOTIFICATION_OUTBOX.CLAIMED_BY))
+        .from(v)
+        .where(NOTIFICATION_OUTBOX.ID.eq(vId))
+        .execute();
+  }
+
   @Override
   public void markSent(long id, String externalMessageId) {
     dsl.update(NOTIFICATION_OUTBOX)
@@ -1,8 +1,11 @@
 package com.smartfirehub.notification.repository;
 
 import com.smartfirehub.notification.ChannelType;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /** 사용자 채널 binding CRUD. */
 public interface UserChannelBindingRepository {
@@ -10,6 +13,13 @@ public interface UserChannelBindingRepository {
   /** status=ACTIVE인 binding 1건 반환. */
   Optional<UserChannelBinding> findActive(long userId, ChannelType channelType);
 
+  /**
+   * 여러 사용자의 ACTIVE binding이 존재하는 채널을 한 번의 조회로 반환 (일괄 라우팅용).
+   *
+   * <p>ACTIVE binding이 하나도 없는 사용자는 결과 Map에 포함되지 않는다.
+   */
+  Map<Long, Set<ChannelType>> findActiveChannels(Collection<Long> userIds);
+
   /**
    * binding upsert — (user_id, channel_type, workspace_id) 충돌 시 토큰·상태 갱신, 없으면 INSERT.
    *
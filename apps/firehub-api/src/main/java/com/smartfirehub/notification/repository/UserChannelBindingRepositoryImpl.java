@@ -2,12 +2,19 @@ package com.smartfirehub.notification.repository;
 
 import static com.smartfirehub.jooq.Tables.SLACK_WORKSPACE;
 import static com.smartfirehub.jooq.Tables.USER_CHANNEL_BINDING;
+import static org.jooq.impl.DSL.any;
 
 import com.smartfirehub.notification.ChannelType;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.jooq.DSLContext;
+import org.jooq.Record;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -37,6 +44,26 @@ class UserChannelBindingRepositoryImpl implements UserChannelBindingRepository {
         .map(this::toRecord);
   }
 
+  @Override
+  public Map<Long, Set<ChannelType>> findActiveChannels(Collection<Long> userIds) {
+    Map<Long, Set<ChannelType>> active = new HashMap<>();
+    if (userIds.isEmpty()) return active;
+
+    // 채널당 여러 workspace binding이 있어도 존재 여부만 필요하므로 DISTINCT
+    for (Record r :
+        dsl.selectDistinct(USER_CHANNEL_BINDING.USER_ID, USER_CHANNEL_BINDING.CHANNEL_TYPE)
+            .from(USER_CHANNEL_BINDING)
+            .where(USER_CHANNEL_BINDING.USER_ID.eq(any(userIds.toArray(Long[]::new))))
+            .and(USER_CHANNEL_BINDING.STATUS.eq("ACTIVE"))
+            .fetch()) {
+      active
+          .computeIfAbsent(
+              r.get(USER_CHANNEL_BINDING.USER_ID), k -> EnumSet.noneOf(ChannelType.class))
+          .add(ChannelType.valueOf(r.get(USER_CHANNEL_BINDING.CHANNEL_TYPE)));
+    }
+    return active;
+  }
+
   @Override
   public void upsert(UserChannelBinding binding) {
     // ON CONFLICT ON CONSTRAINT uk_user_channel: workspace_id NULL 포함 UNIQUE 제약 (V52)
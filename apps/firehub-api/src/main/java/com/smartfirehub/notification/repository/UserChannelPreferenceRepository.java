@@ -1,12 +1,22 @@
 package com.smartfirehub.notification.repository;
 
 import com.smartfirehub.notification.ChannelType;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 /** 사용자 채널별 opt-out 조회·변경. */
 public interface UserChannelPreferenceRepository {
   /** 기본값 true (테이블에 row 없으면 enabled=true로 간주). */
   boolean isEnabled(long userId, ChannelType channelType);
 
+  /**
+   * 여러 사용자의 명시적 opt-out(enabled=false) 채널을 한 번의 조회로 반환 (일괄 라우팅용).
+   *
+   * <p>opt-out이 하나도 없는 사용자는 결과 Map에 포함되지 않는다. CHAT은 disable 불가이므로 결과에 나타나지 않는다.
+   */
+  Map<Long, Set<ChannelType>> findDisabledChannels(Collection<Long> userIds);
+
   /**
    * 채널 알림 수신 여부를 upsert.
    *
@@ -1,9 +1,16 @@
 package com.smartfirehub.notification.repository;
 
 import static com.smartfirehub.jooq.Tables.USER_CHANNEL_PREFERENCE;
+import static org.jooq.impl.DSL.any;
 
 import com.smartfirehub.notification.ChannelType;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import org.jooq.DSLContext;
+import org.jooq.Record;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -37,6 +44,28 @@ class UserChannelPreferenceRepositoryImpl implements UserChannelPreferenceReposi
     return enabled == null || enabled;
   }
 
+  @Override
+  public Map<Long, Set<ChannelType>> findDisabledChannels(Collection<Long> userIds) {
+    Map<Long, Set<ChannelType>> disabled = new HashMap<>();
+    if (userIds.isEmpty()) return disabled;
+
+    // 수신자 수와 무관하게 배열 파라미터 1개로 조회 (= ANY(?))
+    for (Record r :
+        dsl.select(USER_CHANNEL_PREFERENCE.USER_ID, USER_CHANNEL_PREFERENCE.CHANNEL_TYPE)
+            .from(USER_CHANNEL_PREFERENCE)
+            .where(USER_CHANNEL_PREFERENCE.USER_ID.eq(any(userIds.toArray(Long[]::new))))
+            .and(USER_CHANNEL_PREFERENCE.ENABLED.isFalse())
+            .fetch()) {
+      ChannelType channelType = ChannelType.valueOf(r.get(USER_CHANNEL_PREFERENCE.CHANNEL_TYPE));
+      if (channelType == ChannelType.CHAT) continue;
+      disabled
+          .computeIfAbsent(
+              r.get(USER_CHANNEL_PREFERENCE.USER_ID), k -> EnumSet.noneOf(ChannelType.class))
+          .add(channelType);
+    }
+    return disabled;
+  }
+
   @Override
   public void setEnabled(long userId, ChannelType channelType, boolean enabled) {
     // ON CONFLICT (user_id, channel_type) DO UPDATE — upsert 방식으로 idempotent 처리
@@ -0,0 +1,103 @@
+package com.smartfirehub.notification.service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 채널 레인 하나의 적응형 토큰 버킷.
+ *
+ * <p>초당 ratePerSecond개씩 토큰이 차고(버스트 상한 = 1초분), 발송 하나가 토큰 하나를 쓴다. 토큰 예약만 락 안에서 하고 대기는 호출자가
+ * 하므로, 동시에 예약한 발송들은 서로 다른 시점을 받는다(토큰이 음수 = 앞선 예약분).
+ *
+ * <p>제공자가 429를 돌려주면 {@link #onRateLimited}로 속도를 절반으로 줄이고(설정값의 10%까지) Retry-After 동안 레인 전체를 멈춘다.
+ * 성공할 때마다 설정값의 5%씩 회복한다(AIMD). ratePerSecond가 0 이하이면 속도 제한 없이 Retry-After 일시 정지만 적용한다.
+ */
+final class ChannelRateLimiter {
+
+  /** 429 후 Retry-After가 없을 때 레인을 멈추는 시간. */
+  static final Duration DEFAULT_PAUSE = Duration.ofSeconds(1);
+
+  /** 레인 일시 정지 상한. 수신자별 제한일 수도 있으므로 레인 전체를 오래 막지 않는다(행 재시도 시각은 Retry-After 전체를 따른다). */
+  static final Duration MAX_PAUSE = Duration.ofSeconds(60);
+
+  private static final double MIN_RATE_FRACTION = 0.1;
+  private static final double RECOVERY_FRACTION = 0.05;
+
+  private final double configuredRate;
+  private final double capacity;
+  private final LongSupplier clock;
+
+  private double rate;
+  private double tokens;
+  private long lastRefillNanos;
+  private long pausedUntilNanos;
+
+  ChannelRateLimiter(double ratePerSecond) {
+    this(ratePerSecond, System::nanoTime);
+  }
+
+  ChannelRateLimiter(double ratePerSecond, LongSupplier clock) {
+    this.configuredRate = ratePerSecond;
+    this.capacity = Math.max(ratePerSecond, 1);
+    this.clock = clock;
+    this.rate = ratePerSecond;
+    this.tokens = capacity;
+    this.lastRefillNanos = clock.getAsLong();
+    this.pausedUntilNanos = lastRefillNanos;
+  }
+
+  /** 토큰이 생길 때까지(일시 정지 중이면 정지가 풀릴 때까지) 기다린다. */
+  void acquire() throws InterruptedException {
+    long waitNanos = reserve();
+    if (waitNanos > 0) {
+      TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+  }
+
+  /** 토큰 하나를 예약하고 그때까지 기다려야 할 시간(ns)을 반환한다. 0이면 바로 발송해도 된다. */
+  synchronized long reserve() {
+    long now = clock.getAsLong();
+    long pauseWait = Math.max(pausedUntilNanos - now, 0);
+    if (configuredRate <= 0) {
+      return pauseWait;
+    }
+    refill(now);
+    tokens -= 1;
+    long tokenWait = tokens >= 0 ? 0 : (long) (-tokens / rate * TimeUnit.SECONDS.toNanos(1));
+    return Math.max(pauseWait, tokenWait);
+  }
+
+  /** 제공자 속도 제한 응답. 속도를 절반으로 줄이고 retryAfter(없으면 1초, 최대 60초) 동안 레인을 멈춘다. */
+  synchronized void onRateLimited(Duration retryAfter) {
+    long now = clock.getAsLong();
+    if (configuredRate > 0) {
+      refill(now);
+      rate = Math.max(configuredRate * MIN_RATE_FRACTION, rate / 2);
+      tokens = Math.min(tokens, 0);
+    }
+    Duration pause = retryAfter == null ? DEFAULT_PAUSE : retryAfter;
+    if (pause.compareTo(MAX_PAUSE) > 0) {
+      pause = MAX_PAUSE;
+    }
+    pausedUntilNanos = Math.max(pausedUntilNanos, now + pause.toNanos());
+  }
+
+  /** 발송 성공. 줄어든 속도를 설정값 쪽으로 조금씩 되돌린다. */
+  synchronized void onSuccess() {
+    if (configuredRate > 0 && rate < configuredRate) {
+      refill(clock.getAsLong());
+      rate = Math.min(configuredRate, rate + configuredRate * RECOVERY_FRACTION);
+    }
+  }
+
+  synchronized double currentRate() {
+    return rate;
+  }
+
+  private void refill(long now) {
+    double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    tokens = Math.min(capacity, tokens + elapsedSeconds * rate);
+    lastRefillNanos = now;
+  }
+}
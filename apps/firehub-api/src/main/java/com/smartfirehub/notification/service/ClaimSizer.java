@@ -0,0 +1,38 @@
+package com.smartfirehub.notification.service;
+
+/**
+ * Outbox claim 크기 자동 조정. PENDING 적체량이 현재 크기보다 크면 두 배로 늘리고, 절반보다 작으면 절반으로 줄인다(min~max).
+ *
+ * <p>한 번에 적체량 전체로 뛰지 않고 배씩 움직여, 일시적인 적체에 배치 하나가 과하게 커지거나(레인 대기·lease 연장이 길어짐) 바로 작아지지
+ * 않게 한다. 폴링 스레드와 LISTEN 스레드가 함께 호출하므로 동기화한다.
+ */
+final class ClaimSizer {
+
+  private final int min;
+  private final int max;
+  private int current;
+
+  ClaimSizer(int min, int max) {
+    this.min = Math.max(min, 1);
+    this.max = Math.max(max, this.min);
+    this.current = this.min;
+  }
+
+  int min() {
+    return min;
+  }
+
+  synchronized int current() {
+    return current;
+  }
+
+  /** 적체량(backlog)을 반영해 다음 claim 크기를 정하고 반환한다. */
+  synchronized int adjust(long backlog) {
+    if (backlog > current) {
+      current = (int) Math.min((long) current * 2, max);
+    } else if (backlog < current / 2) {
+      current = Math.max(current / 2, min);
+    }
+    return current;
+  }
+}
@@ -0,0 +1,84 @@
+package com.smartfirehub.notification.service;
+
+import com.smartfirehub.notification.ChannelType;
+import jakarta.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널별 발송 레인. ChannelType마다 고정 크기 스레드 풀과 {@link ChannelRateLimiter}를 따로 둔다.
+ *
+ * <p>Slack·Kakao 호출은 응답을 블록하며 기다리므로, 한 풀을 공유하면 느린 채널 하나가 스레드를 모두 잡아 다른 채널 발송까지 멈춘다. 레인을
+ * 나누면 한 채널이 느려지거나 429로 일시 정지돼도 그 채널의 스레드({@code notification.worker.lane_concurrency}개)만 묶인다. 토큰
+ * 대기도 레인 스레드에서 하므로 다른 레인에 영향을 주지 않는다.
+ *
+ * <p>초당 발송 상한은 {@code notification.worker.rate_per_sec.<channel>}. CHAT(웹 인박스)은 DB 기록뿐이라 제한하지 않는다.
+ */
+@Component
+public class DeliveryLanes {
+
+  private final Map<ChannelType, Lane> lanes = new EnumMap<>(ChannelType.class);
+
+  public DeliveryLanes(
+      @Value("${notification.worker.lane_concurrency:4}") int laneConcurrency,
+      @Value("${notification.worker.rate_per_sec.email:10}") double emailRate,
+      @Value("${notification.worker.rate_per_sec.kakao:10}") double kakaoRate,
+      @Value("${notification.worker.rate_per_sec.slack:10}") double slackRate) {
+    for (ChannelType type : ChannelType.values()) {
+      double rate =
+          switch (type) {
+            case CHAT -> 0;
+            case EMAIL -> emailRate;
+            case KAKAO -> kakaoRate;
+            case SLACK -> slackRate;
+          };
+      lanes.put(type, new Lane(type, Math.max(laneConcurrency, 1), new ChannelRateLimiter(rate)));
+    }
+  }
+
+  /** 발송 하나를 채널 레인에 넣는다. 레인 스레드가 토큰을 얻은 뒤 delivery를 실행한다. */
+  public Future<?> submit(ChannelType type, Runnable delivery) {
+    Lane lane = lanes.get(type);
+    return lane.executor()
+        .submit(
+            () -> {
+              try {
+                lane.limiter().acquire();
+              } catch (InterruptedException e) {
+                // 종료 중 — delivery를 실행하지 않고 끝내면 워커가 행을 PENDING으로 되돌린다
+                Thread.currentThread().interrupt();
+                return;
+              }
+              delivery.run();
+            });
+  }
+
+  ChannelRateLimiter limiter(ChannelType type) {
+    return lanes.get(type).limiter();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    lanes.values().forEach(lane -> lane.executor().shutdownNow());
+  }
+
+  private record Lane(ExecutorService executor, ChannelRateLimiter limiter) {
+
+    Lane(ChannelType type, int concurrency, ChannelRateLimiter limiter) {
+      this(
+          Executors.newFixedThreadPool(
+              concurrency,
+              Thread.ofPlatform()
+                  .name("notify-" + type.name().toLowerCase(Locale.ROOT) + "-", 0)
+                  .daemon()
+                  .factory()),
+          limiter);
+    }
+  }
+}
@@ -2,15 +2,37 @@ package com.smartfirehub.notification.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.notification.Channel;
+import com.smartfirehub.notification.ChannelType;
 import com.smartfirehub.notification.DeliveryContext;
 import com.smartfirehub.notification.DeliveryResult;
 import com.smartfirehub.notification.Payload;
+import com.smartfirehub.notification.channels.ChannelHttpException;
+import com.smartfirehub.notification.metrics.NotificationMetrics;
 import com.smartfirehub.notification.repository.NotificationOutboxRepository;
 import com.smartfirehub.notification.repository.NotificationOutboxRepository.NotificationOutboxRow;
+import com.smartfirehub.notification.repository.NotificationOutboxRepository.OutboxCompletion;
 import com.smartfirehub.notification.repository.UserChannelBindingRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,11 +40,24 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
- * Outbox 워커 — 30초 폴링 + LISTEN/NOTIFY 즉시 깨움 + claim loop + deliver.
+ * Outbox 워커 — 30초 폴링 + LISTEN/NOTIFY 즉시 깨움 + 채널별 claim loop + deliver.
+ *
+ * <p>폴링과 NOTIFY는 직접 배치를 돌리지 않고 채널마다 하나씩 둔 {@link WakeupCoalescer}에 드레인을 요청한다. 채널별 전용 스레드가 그
+ * 채널의 행만 claim해 빈 claim이 나올 때까지 배치를 반복하고, 드레인 중에 온 깨움은 한 번의 추가 드레인으로 합쳐지므로 enqueue 폭주에도 같은
+ * 채널의 claimDue가 겹치지 않는다.
  *
  * <p>SKIP LOCKED + lease 컬럼으로 멀티 인스턴스 안전. Sent/TransientFailure/PermanentFailure sealed result로 완전
  * 분기. feature flag OFF 상태에서는 no-op.
  *
+ * <p>claim한 행은 {@link DeliveryLanes}의 채널 레인에서 동시에 발송한다. 레인마다 토큰 버킷으로 제공자 속도 제한을 지키고, 429 응답의
+ * Retry-After는 레인 일시 정지와 행 재시도 시각 양쪽에 반영한다. 드레인 스레드는 자기 채널 배치가 끝날 때까지만 기다리므로, Slack 레인이 429로 멈추거나
+ * 응답이 느려도 Email·Kakao·CHAT의 claim과 발송은 계속된다. 기다리는 동안 {@code notification.worker.lease_renew_ms}마다
+ * 미완료 행의 lease(claimed_at)를 연장해 OutboxSweeper가 처리 중인 행을 좀비로 되돌리지 않게 한다.
+ *
+ * <p>발송 결과(SENT/재시도/영구 실패)는 행마다 UPDATE하지 않고 모아 두었다가 lease 연장 시점과 배치 종료 시점에 {@link
+ * NotificationOutboxRepository#completeAll} 한 문장으로 기록한다. claim 크기는 고정값 대신 채널별 PENDING 적체량에 맞춰
+ * {@code batch_size}~{@code max_batch_size} 사이에서 채널마다 {@link ClaimSizer}가 늘리고 줄인다.
+ *
  * <p>Micrometer 메트릭은 Task 13에서 추가.
  */
 @Component
@@ -30,13 +65,19 @@ public class NotificationDispatchWorker {
 
   private static final Logger log = LoggerFactory.getLogger(NotificationDispatchWorker.class);
 
+  // 종료 시 이미 시작한 발송의 결과를 기다리는 최대 시간
+  private static final Duration SHUTDOWN_GRACE = Duration.ofSeconds(10);
+
   private final NotificationOutboxRepository outboxRepo;
   private final UserChannelBindingRepository bindingRepo;
   private final ChannelRegistry channelRegistry;
   private final BackoffPolicy backoff;
   private final ObjectMapper objectMapper;
+  private final DeliveryLanes lanes;
+  private final NotificationMetrics metrics;
+  private final Map<ChannelType, ChannelDrain> drains = new EnumMap<>(ChannelType.class);
   private final String instanceId = "instance-" + UUID.randomUUID().toString().substring(0, 8);
-  private final int batchSize;
+  private final Duration leaseRenewInterval;
   private final boolean enabled;
 
   public NotificationDispatchWorker(
@@ -45,14 +86,34 @@ public class NotificationDispatchWorker {
       ChannelRegistry channelRegistry,
       BackoffPolicy backoff,
       ObjectMapper objectMapper,
+      DeliveryLanes lanes,
+      NotificationMetrics metrics,
       @Value("${notification.worker.batch_size:20}") int batchSize,
+      @Value("${notification.worker.max_batch_size:200}") int maxBatchSize,
+      @Value("${notification.worker.lease_renew_ms:60000}") long leaseRenewMs,
       @Value("${notification.outbox.enabled:false}") boolean enabled) {
     this.outboxRepo = outboxRepo;
     this.bindingRepo = bindingRepo;
     this.channelRegistry = channelRegistry;
     this.backoff = backoff;
     this.objectMapper = objectMapper;
-    this.batchSize = batchSize;
+    this.lanes = lanes;
+    this.metrics = metrics;
+    for (ChannelType type : ChannelType.values()) {
+      ExecutorService executor =
+          Executors.newSingleThreadExecutor(
+              Thread.ofPlatform()
+                  .name("outbox-drain-" + type.name().toLowerCase(Locale.ROOT))
+                  .daemon()
+                  .factory());
+      drains.put(
+          type,
+          new ChannelDrain(
+              executor,
+              new WakeupCoalescer(executor, () -> runOneBatch(type)),
+              new ClaimSizer(batchSize, maxBatchSize)));
+    }
+    this.leaseRenewInterval = Duration.ofMillis(Math.max(leaseRenewMs, 1_000));
     this.enabled = enabled;
   }
 
@@ -60,46 +121,180 @@ public class NotificationDispatchWorker {
   @Scheduled(fixedDelayString = "${notification.worker.poll_interval_ms:30000}")
   public void pollOnce() {
     if (!enabled) return;
-    runOneBatch();
+    metrics.incrementWakeup("poll", 1);
+    signalAll();
   }
 
-  /** {@link OutboxListenerLoop}가 NOTIFY 수신 시 호출. */
-  public void onNotify() {
+  /** {@link OutboxListenerLoop}가 NOTIFY 수신 시 호출. 한 번에 받은 알림 수를 넘긴다. 드레인을 요청만 하고 바로 반환한다. */
+  public void onNotify(int notifications) {
     if (!enabled) return;
-    runOneBatch();
+    metrics.incrementWakeup("notify", notifications);
+    signalAll();
+  }
+
+  // NOTIFY payload에는 채널이 없으므로 모든 채널을 깨운다. 할 일이 없는 채널은 빈 claim 한 번으로 끝난다
+  private void signalAll() {
+    drains.values().forEach(drain -> drain.coalescer().signal());
+  }
+
+  @PreDestroy
+  void shutdown() {
+    drains.values().forEach(drain -> drain.coalescer().stop());
+    drains.values().forEach(drain -> drain.executor().shutdownNow());
+  }
+
+  /** 모든 채널에서 배치를 하나씩 claim·발송하고 레인에 넘긴 행 수의 합을 반환한다(테스트·수동 실행용). */
+  int runOneBatch() {
+    int total = 0;
+    for (ChannelType type : ChannelType.values()) {
+      total += runOneBatch(type);
+    }
+    return total;
   }
 
-  void runOneBatch() {
-    var rows = outboxRepo.claimDue(batchSize, instanceId);
+  /**
+   * 채널 하나의 배치를 claim·발송하고 레인에 넘긴 행 수를 반환한다. 드레인 루프는 0이 나올 때까지 반복하므로, 종료 중이라 레인이 모두 거절한
+   * 배치는 0을 반환해 같은 행을 곧바로 다시 claim하며 도는 일이 없게 한다.
+   */
+  int runOneBatch(ChannelType type) {
+    metrics.incrementBatchExecuted();
+    ClaimSizer claimSizer = drains.get(type).claimSizer();
+    int claimSize = claimSizer.current();
+    var rows = outboxRepo.claimDue(claimSize, instanceId, type);
+
+    Queue<OutboxCompletion> completions = new ConcurrentLinkedQueue<>();
+    List<Delivery> inFlight = new ArrayList<>();
+    int rejected = 0;
     for (var row : rows) {
+      AtomicBoolean started = new AtomicBoolean();
       try {
-        deliverOne(row);
-      } catch (Throwable t) {
-        // deliver 내부에서 미처 catch되지 않은 예외 — transient로 처리 후 재시도 스케줄
-        int next = row.attemptCount() + 1;
-        if (backoff.exhausted(next)) {
-          outboxRepo.markPermanentFailure(
-              row.id(), "UNRECOVERABLE", t.getClass().getSimpleName() + ": " + t.getMessage());
-        } else {
-          outboxRepo.rescheduleTransient(
-              row.id(),
-              next,
-              Instant.now().plus(backoff.delayFor(next)),
-              t.getClass().getSimpleName() + ": " + t.getMessage());
+        Future<?> future =
+            lanes.submit(
+                type,
+                () -> {
+                  if (started.compareAndSet(false, true)) {
+                    completions.add(deliverSafely(row));
+                  }
+                });
+        inFlight.add(new Delivery(row, started, future));
+      } catch (RejectedExecutionException e) {
+        // 종료 중 — 시도 횟수를 쓰지 않고 바로 PENDING으로 되돌린다
+        rejected++;
+        completions.add(notStarted(row));
+      }
+    }
+    awaitDeliveries(inFlight, completions);
+
+    // 배치가 꽉 찼거나 이미 늘려 둔 상태일 때만 적체량을 센다(유휴 상태에서는 COUNT를 생략)
+    if (rows.size() >= claimSize || claimSize > claimSizer.min()) {
+      claimSizer.adjust(outboxRepo.countPending(type));
+    }
+    return rows.size() - rejected;
+  }
+
+  /**
+   * 레인에 넣은 발송이 모두 끝날 때까지 기다린다. leaseRenewInterval마다 그때까지 모인 결과를 기록하고 미완료 행의 lease를 연장하며, 끝나면
+   * 남은 결과를 기록한다. 인터럽트되면 {@link #abandon}으로 남은 발송을 정리한 뒤 기록한다.
+   */
+  private void awaitDeliveries(List<Delivery> inFlight, Queue<OutboxCompletion> completions) {
+    long nextRenewal = System.nanoTime() + leaseRenewInterval.toNanos();
+    try {
+      while (true) {
+        inFlight.removeIf(delivery -> settleIfDone(delivery, completions));
+        if (inFlight.isEmpty()) return;
+
+        long now = System.nanoTime();
+        if (now - nextRenewal >= 0) {
+          flush(completions);
+          outboxRepo.renewLease(inFlight.stream().map(d -> d.row().id()).toList(), instanceId);
+          nextRenewal = now + leaseRenewInterval.toNanos();
+        }
+        try {
+          inFlight.get(0).future().get(nextRenewal - now, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ignored) {
+          // lease 연장 시각 도달
+        } catch (ExecutionException | CancellationException e) {
+          // deliverSafely가 모든 예외를 처리하므로 도달하지 않는다
+          log.warn("outbox delivery task failed", e);
+        } catch (InterruptedException e) {
+          abandon(inFlight, completions);
+          Thread.currentThread().interrupt();
+          return;
         }
       }
+    } finally {
+      flush(completions);
+    }
+  }
+
+  /** 끝난 발송이면 true. 레인이 토큰을 기다리다 인터럽트돼 발송을 시작하지 않고 끝났으면 PENDING으로 되돌린다. */
+  private boolean settleIfDone(Delivery delivery, Queue<OutboxCompletion> completions) {
+    if (!delivery.future().isDone()) return false;
+    if (delivery.claimUnstarted()) {
+      completions.add(notStarted(delivery.row()));
+    }
+    return true;
+  }
+
+  /**
+   * 종료(인터럽트) 시 남은 발송 정리. 아직 시작하지 않은 발송은 취소하고 시도 횟수를 쓰지 않은 채 PENDING으로 되돌린다. 이미 시작한 발송은
+   * {@link #SHUTDOWN_GRACE}까지 결과를 기다려 함께 기록한다 — 기록되지 않은 채 SENDING으로 남아 OutboxSweeper가 재발송하는 일을 막는다.
+   */
+  private void abandon(List<Delivery> inFlight, Queue<OutboxCompletion> completions) {
+    long deadline = System.nanoTime() + SHUTDOWN_GRACE.toNanos();
+    for (Delivery delivery : inFlight) {
+      if (delivery.claimUnstarted()) {
+        delivery.future().cancel(false);
+        completions.add(notStarted(delivery.row()));
+        continue;
+      }
+      try {
+        delivery.future().get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException
+          | ExecutionException
+          | CancellationException
+          | TimeoutException ignored) {
+        // 유예 시간 안에 끝나지 않은 발송은 lease 만료 후 OutboxSweeper가 되돌린다
+      }
+    }
+  }
+
+  private static OutboxCompletion notStarted(NotificationOutboxRow row) {
+    return OutboxCompletion.retry(
+        row.id(), row.attemptCount(), Instant.now(), "worker shutting down");
+  }
+
+  /** 모인 결과를 한 문장으로 기록한다. 실패하면 행은 SENDING으로 남고 lease 만료 후 OutboxSweeper가 되돌린다. */
+  private void flush(Queue<OutboxCompletion> completions) {
+    List<OutboxCompletion> batch = new ArrayList<>();
+    for (OutboxCompletion c; (c = completions.poll()) != null; ) {
+      batch.add(c);
+    }
+    if (batch.isEmpty()) return;
+    try {
+      outboxRepo.completeAll(batch);
+    } catch (RuntimeException e) {
+      log.error("failed to record {} outbox results", batch.size(), e);
+    }
+  }
+
+  private OutboxCompletion deliverSafely(NotificationOutboxRow row) {
+    try {
+      return deliverOne(row);
+    } catch (Throwable t) {
+      // deliver 내부에서 미처 catch되지 않은 예외 — transient로 처리 후 재시도 스케줄
+      return retryOrFail(row, t.getClass().getSimpleName() + ": " + t.getMessage(), null);
     }
   }
 
-  private void deliverOne(NotificationOutboxRow row) {
+  private OutboxCompletion deliverOne(NotificationOutboxRow row) {
     Channel ch;
     try {
       ch = channelRegistry.get(row.channelType());
     } catch (IllegalStateException e) {
       // 채널 구현체가 아직 등록되지 않음 — 영구 실패로 기록
-      outboxRepo.markPermanentFailure(
+      return OutboxCompletion.permanentFailure(
           row.id(), "UNRECOVERABLE", "no channel: " + row.channelType());
-      return;
     }
 
     Optional<com.smartfirehub.notification.repository.UserChannelBinding> binding =
@@ -114,16 +309,14 @@ public class NotificationDispatchWorker {
               ? null
               : objectMapper.readValue(row.payloadJson(), Payload.class);
     } catch (Exception e) {
-      outboxRepo.markPermanentFailure(
+      return OutboxCompletion.permanentFailure(
           row.id(), "RECIPIENT_INVALID", "payload parse: " + e.getMessage());
-      return;
     }
     if (payload == null) {
-      outboxRepo.markPermanentFailure(
+      return OutboxCompletion.permanentFailure(
           row.id(),
           "RECIPIENT_INVALID",
           "payload missing (ref-based payload not yet supported in Stage 1)");
-      return;
     }
 
     DeliveryContext ctx =
@@ -145,21 +338,6 @@ public class NotificationDispatchWorker {
               "uncaught: " + t.getClass().getSimpleName() + ": " + t.getMessage(), t);
     }
 
-    switch (result) {
-      case DeliveryResult.Sent sent -> outboxRepo.markSent(row.id(), sent.externalMessageId());
-      case DeliveryResult.TransientFailure tf -> {
-        int next = row.attemptCount() + 1;
-        if (backoff.exhausted(next)) {
-          outboxRepo.markPermanentFailure(row.id(), "UNRECOVERABLE", tf.reason());
-        } else {
-          outboxRepo.rescheduleTransient(
-              row.id(), next, Instant.now().plus(backoff.delayFor(next)), tf.reason());
-        }
-      }
-      case DeliveryResult.PermanentFailure pf ->
-          outboxRepo.markPermanentFailure(row.id(), pf.reason().name(), pf.details());
-    }
-
     if (log.isDebugEnabled()) {
       log.debug(
           "deliver outboxId={} channel={} result={}",
@@ -167,5 +345,52 @@ public class NotificationDispatchWorker {
           row.channelType(),
           result.getClass().getSimpleName());
     }
+
+    return switch (result) {
+      case DeliveryResult.Sent sent -> {
+        lanes.limiter(row.channelType()).onSuccess();
+        yield OutboxCompletion.sent(row.id(), sent.externalMessageId());
+      }
+      case DeliveryResult.TransientFailure tf -> {
+        Duration retryAfter = null;
+        if (tf.cause() instanceof ChannelHttpException http) {
+          retryAfter = http.getRetryAfter();
+          if (http.isRateLimited()) {
+            lanes.limiter(row.channelType()).onRateLimited(retryAfter);
+          }
+        }
+        yield retryOrFail(row, tf.reason(), retryAfter);
+      }
+      case DeliveryResult.PermanentFailure pf ->
+          OutboxCompletion.permanentFailure(row.id(), pf.reason().name(), pf.details());
+    };
+  }
+
+  /** 다음 시도를 backoff(와 Retry-After 중 늦은 쪽)로 예약하거나, 재시도가 소진됐으면 영구 실패로 기록한다. */
+  private OutboxCompletion retryOrFail(
+      NotificationOutboxRow row, String error, Duration retryAfter) {
+    int next = row.attemptCount() + 1;
+    if (backoff.exhausted(next)) {
+      return OutboxCompletion.permanentFailure(row.id(), "UNRECOVERABLE", error);
+    }
+    // Retry-After보다 먼저 재시도하지 않는다
+    Duration delay = backoff.delayFor(next);
+    if (retryAfter != null && retryAfter.compareTo(delay) > 0) {
+      delay = retryAfter;
+    }
+    return OutboxCompletion.retry(row.id(), next, Instant.now().plus(delay), error);
+  }
+
+  /** 채널 하나의 드레인 루프 — 전용 스레드, 깨움 병합기, claim 크기 조절기. */
+  private record ChannelDrain(
+      ExecutorService executor, WakeupCoalescer coalescer, ClaimSizer claimSizer) {}
+
+  /** 레인에 넘긴 발송 하나. started는 레인과 워커 중 먼저 가져간 쪽이 발송 여부를 정한다. */
+  private record Delivery(NotificationOutboxRow row, AtomicBoolean started, Future<?> future) {
+
+    /** 아직 시작하지 않았으면 시작하지 못하게 막고 true를 반환한다. */
+    boolean claimUnstarted() {
+      return started.compareAndSet(false, true);
+    }
   }
 }
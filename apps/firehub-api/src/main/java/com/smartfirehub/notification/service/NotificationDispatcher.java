@@ -9,6 +9,8 @@ import com.smartfirehub.notification.Recipient;
 import com.smartfirehub.notification.repository.NotificationOutboxRepository;
 import com.smartfirehub.notification.repository.NotificationOutboxRepository.NotificationOutboxRow;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -19,8 +21,9 @@ import org.springframework.stereotype.Service;
 /**
  * 도메인이 알림 발송을 트리거할 때 호출하는 단일 진입점.
  *
- * <p>수신자 × requested_channels 펼치기 → RoutingResolver로 resolved_channels 확정 → 멱등성 키로 outbox INSERT →
- * NOTIFY 발행. CHAT 강제 폴백 시 안내 메시지 1건 추가.
+ * <p>수신자 × requested_channels 펼치기 → RoutingResolver로 resolved_channels 일괄 확정 → 멱등성 키로 outbox 다중 행
+ * INSERT → NOTIFY 발행. CHAT 강제 폴백 시 안내 메시지 1건 추가. 수신자 수와 무관하게 조회 2회 + INSERT 청크 수만큼의 문장으로
+ * 끝난다 (전사 공지 등 대량 broadcast 대응).
  *
  * <p>feature flag notification.outbox.enabled=false인 경우 no-op (회귀 안전). 도메인 코드는 flag를 별도로 확인하고 기존 직접
  * 호출 경로를 유지할 책임.
@@ -61,70 +64,73 @@ public class NotificationDispatcher {
     UUID correlationId =
         request.correlationId() == null ? UUID.randomUUID() : request.correlationId();
 
-    for (Recipient recipient : request.recipients()) {
-      ResolvedRouting routing = routingResolver.resolve(recipient);
+    // 본문 payload는 모든 행이 같으므로 한 번만 직렬화
+    String standardJson = serialize(request.standardPayload(), "payload");
+    List<Recipient> recipients = request.recipients();
+    List<ResolvedRouting> routings = routingResolver.resolveAll(recipients);
+    List<NotificationOutboxRow> rows = new ArrayList<>();
+    for (int i = 0; i < recipients.size(); i++) {
+      Recipient recipient = recipients.get(i);
+      ResolvedRouting routing = routings.get(i);
       for (ChannelType channel : routing.resolvedChannels()) {
-        outboxRepo.insertIfAbsent(
-            buildRow(request, recipient, channel, correlationId, request.standardPayload()));
+        rows.add(buildRow(request, recipient, channel, correlationId, standardJson));
       }
       // skippedReasons가 있을 때만 advisory 발송: requestedChannels가 비어있는 경우(채널 미설정)에는
       // 채널 설정 문제가 아니므로 불필요한 안내 메시지를 보내지 않는다
       if (routing.forcedChatFallback() && !routing.skippedReasons().isEmpty()) {
-        outboxRepo.insertIfAbsent(
-            buildAdvisoryRow(request, recipient, correlationId, routing.skippedReasons()));
+        rows.add(buildAdvisoryRow(request, recipient, correlationId, routing.skippedReasons()));
       }
     }
+    outboxRepo.insertAllIfAbsent(rows);
     notifier.notifyOutboxNew();
   }
 
   private NotificationOutboxRow buildRow(
-      NotificationRequest req, Recipient r, ChannelType ch, UUID correlationId, Payload payload) {
-    try {
-      String json = objectMapper.writeValueAsString(payload);
-      return new NotificationOutboxRow(
-          null,
-          keyGen.generate(correlationId, ch, r.userId()),
-          correlationId,
-          req.eventType(),
-          req.eventSourceId(),
-          ch,
-          r.userId(),
-          r.externalAddressIfAny(),
-          req.payloadRef() == null ? null : req.payloadRef().type(),
-          req.payloadRef() == null ? null : req.payloadRef().id(),
-          json,
-          "STANDARD",
-          "PENDING",
-          0,
-          Instant.now());
-    } catch (JsonProcessingException e) {
-      throw new IllegalStateException("payload serialize failed", e);
-    }
+      NotificationRequest req, Recipient r, ChannelType ch, UUID correlationId, String json) {
+    return new NotificationOutboxRow(
+        null,
+        keyGen.generate(correlationId, ch, r.userId()),
+        correlationId,
+        req.eventType(),
+        req.eventSourceId(),
+        ch,
+        r.userId(),
+        r.externalAddressIfAny(),
+        req.payloadRef() == null ? null : req.payloadRef().type(),
+        req.payloadRef() == null ? null : req.payloadRef().id(),
+        json,
+        "STANDARD",
+        "PENDING",
+        0,
+        Instant.now());
   }
 
   private NotificationOutboxRow buildAdvisoryRow(
       NotificationRequest req, Recipient r, UUID correlationId, Map<ChannelType, String> reasons) {
     Payload advisory = AdvisoryPayloadFactory.build(reasons);
+    return new NotificationOutboxRow(
+        null,
+        keyGen.generateAdvisory(correlationId, r.userId()),
+        correlationId,
+        "CHANNEL_ADVISORY",
+        null,
+        ChannelType.CHAT,
+        r.userId(),
+        null,
+        null,
+        null,
+        serialize(advisory, "advisory"),
+        "STANDARD",
+        "PENDING",
+        0,
+        Instant.now());
+  }
+
+  private String serialize(Payload payload, String what) {
     try {
-      String json = objectMapper.writeValueAsString(advisory);
-      return new NotificationOutboxRow(
-          null,
-          keyGen.generateAdvisory(correlationId, r.userId()),
-          correlationId,
-          "CHANNEL_ADVISORY",
-          null,
-          ChannelType.CHAT,
-          r.userId(),
-          null,
-          null,
-          null,
-          json,
-          "STANDARD",
-          "PENDING",
-          0,
-          Instant.now());
+      return objectMapper.writeValueAsString(payload);
     } catch (JsonProcessingException e) {
-      throw new IllegalStateException("advisory serialize failed", e);
+      throw new IllegalStateException(what + " serialize failed", e);
     }
   }
 }
@@ -12,7 +12,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
- * Postgres LISTEN outbox_new 루프. NOTIFY 수신 시 {@link NotificationDispatchWorker#onNotify()} 즉시 호출.
+ * Postgres LISTEN outbox_new 루프. NOTIFY 수신 시 {@link NotificationDispatchWorker#onNotify(int)} 즉시 호출.
  * 실패 시 5초 후 재시도, 30초 타임아웃으로 헬스체크 겸 루프가 죽지 않도록 함.
  *
  * <p>단일 application-scoped daemon thread로 실행. feature flag OFF면 start되지 않음.
@@ -84,7 +84,8 @@ public class OutboxListenerLoop {
         while (running) {
           var notes = pg.getNotifications(30_000);
           if (notes != null && notes.length > 0) {
-            worker.onNotify();
+            // 한 번에 받은 알림은 깨움 하나로 합친다. 워커는 드레인만 요청하므로 LISTEN 루프가 배치 발송에 묶이지 않는다.
+            worker.onNotify(notes.length);
           }
         }
       } catch (Exception e) {
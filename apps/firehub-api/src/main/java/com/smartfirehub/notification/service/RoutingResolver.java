@@ -6,8 +6,11 @@ import com.smartfirehub.notification.repository.UserChannelBindingRepository;
 import com.smartfirehub.notification.repository.UserChannelPreferenceRepository;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import org.springframework.stereotype.Component;
 
 /**
@@ -29,16 +32,47 @@ public class RoutingResolver {
   }
 
   public ResolvedRouting resolve(Recipient recipient) {
+    return route(
+        recipient,
+        ch -> preferenceRepo.isEnabled(recipient.userId(), ch),
+        ch -> bindingRepo.findActive(recipient.userId(), ch).isPresent());
+  }
+
+  /**
+   * 다수 수신자 일괄 라우팅. opt-out·binding을 전체 수신자에 대해 각각 1회 조회한 뒤 메모리에서 {@link #resolve}와 같은 매트릭스를
+   * 적용한다. 반환 목록은 recipients와 같은 순서.
+   *
+   * <p>userId가 null인 수신자(외부 주소 직접 발송)는 opt-out 없음·binding 없음으로 취급한다.
+   */
+  public List<ResolvedRouting> resolveAll(List<Recipient> recipients) {
+    Set<Long> userIds = new HashSet<>();
+    for (Recipient r : recipients) {
+      if (r.userId() != null) userIds.add(r.userId());
+    }
+    Map<Long, Set<ChannelType>> disabled = preferenceRepo.findDisabledChannels(userIds);
+    Map<Long, Set<ChannelType>> bound = bindingRepo.findActiveChannels(userIds);
+
+    List<ResolvedRouting> result = new ArrayList<>(recipients.size());
+    for (Recipient r : recipients) {
+      Set<ChannelType> userDisabled = disabled.getOrDefault(r.userId(), Set.of());
+      Set<ChannelType> userBound = bound.getOrDefault(r.userId(), Set.of());
+      result.add(route(r, ch -> !userDisabled.contains(ch), userBound::contains));
+    }
+    return result;
+  }
+
+  private ResolvedRouting route(
+      Recipient recipient, Predicate<ChannelType> enabled, Predicate<ChannelType> hasBinding) {
     List<ChannelType> resolved = new ArrayList<>();
     Map<ChannelType, String> skipped = new EnumMap<>(ChannelType.class);
 
     for (ChannelType ch : recipient.requestedChannels()) {
       // CHAT은 opt-out 불가 (DB CHECK로 보장되지만 방어적으로도 건너뛰지 않음)
-      if (ch != ChannelType.CHAT && !preferenceRepo.isEnabled(recipient.userId(), ch)) {
+      if (ch != ChannelType.CHAT && !enabled.test(ch)) {
         skipped.put(ch, "OPTED_OUT");
         continue;
       }
-      if (ch.requiresBinding() && bindingRepo.findActive(recipient.userId(), ch).isEmpty()) {
+      if (ch.requiresBinding() && !hasBinding.test(ch)) {
         skipped.put(ch, "BINDING_MISSING");
         continue;
       }
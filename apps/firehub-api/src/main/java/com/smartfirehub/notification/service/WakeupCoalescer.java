@@ -0,0 +1,76 @@
+package com.smartfirehub.notification.service;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbox 깨움 병합기 — single-flight 드레인 루프.
+ *
+ * <p>enqueue 폭주 시 NOTIFY마다 워커를 돌리면 같은 행을 두고 claimDue 트랜잭션 여러 개가 겹쳐 경합한다. 여기서는 드레인 루프를 항상 하나만
+ * 돌린다. {@link #signal}은 요청 표시만 하고 바로 반환하며, 루프가 없을 때만 executor에 새 루프를 올린다. 루프는 pass가 0(빈 claim 또는
+ * 진척 없음)을 반환할 때까지 반복하고, 그 사이 들어온 깨움은 몇 개든 한 번의 추가 드레인으로 합쳐진다. 진척 없는 pass 뒤에는 바로 다시 돌지 않고
+ * 다음 깨움(폴링/NOTIFY)을 기다린다. {@link #stop} 이후나 스레드가 인터럽트되면 루프를 끝낸다.
+ */
+final class WakeupCoalescer {
+
+  private static final Logger log = LoggerFactory.getLogger(WakeupCoalescer.class);
+
+  private final Executor executor;
+  private final IntSupplier pass;
+  private final AtomicBoolean requested = new AtomicBoolean();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile boolean stopped;
+
+  /**
+   * @param executor 드레인 루프를 실행할 executor (루프는 동시에 하나만 제출된다)
+   * @param pass 배치 하나를 claim·발송하고 발송에 넘긴 행 수를 반환한다(0이면 드레인을 멈춘다)
+   */
+  WakeupCoalescer(Executor executor, IntSupplier pass) {
+    this.executor = executor;
+    this.pass = pass;
+  }
+
+  /** 드레인을 요청한다. 이미 드레인 중이면 끝난 뒤 한 번 더 돌도록 표시만 한다. */
+  void signal() {
+    if (stopped) return;
+    requested.set(true);
+    if (running.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+      } catch (RejectedExecutionException e) {
+        // 종료 중 — 남은 행은 다음 기동 후 폴링이 처리한다
+        running.set(false);
+      }
+    }
+  }
+
+  /** 종료 중에는 새 드레인을 받지 않고, 진행 중인 루프도 현재 pass가 끝나면 멈춘다. */
+  void stop() {
+    stopped = true;
+  }
+
+  private boolean active() {
+    return !stopped && !Thread.currentThread().isInterrupted();
+  }
+
+  private void drain() {
+    do {
+      try {
+        while (active() && requested.getAndSet(false)) {
+          while (active() && pass.getAsInt() > 0) {
+            // 빈 claim(또는 진척 없는 pass)이 나올 때까지 계속 드레인
+          }
+        }
+      } catch (RuntimeException e) {
+        log.warn("outbox drain pass failed", e);
+      } finally {
+        running.set(false);
+      }
+      // running 해제와 signal 사이에 들어온 요청을 놓치지 않도록 다시 확인한다
+    } while (active() && requested.get() && running.compareAndSet(false, true));
+  }
+}
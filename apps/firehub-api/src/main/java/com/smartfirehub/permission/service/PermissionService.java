@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PermissionService {
 
   private final PermissionRepository permissionRepository;
+  private final PermissionSnapshotCache snapshotCache;
 
   @Transactional(readOnly = true)
   public List<PermissionResponse> getAllPermissions() {
@@ -24,8 +25,11 @@ public class PermissionService {
     return permissionRepository.findByCategory(category);
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * 사용자의 권한 코드(불변 Set). 요청마다 호출되므로 스냅샷 캐시를 거치며, 적중 시 커넥션을 잡지 않도록 트랜잭션을 열지 않는다(미적중 시 단일
+   * SELECT).
+   */
   public Set<String> getUserPermissions(Long userId) {
-    return permissionRepository.findPermissionCodesByUserId(userId);
+    return snapshotCache.get(userId, permissionRepository::findPermissionCodesByUserId);
   }
 }
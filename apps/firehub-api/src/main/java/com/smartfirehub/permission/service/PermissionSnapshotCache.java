@@ -0,0 +1,79 @@
+package com.smartfirehub.permission.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 권한 코드 스냅샷 캐시.
+ *
+ * <p>인증된 모든 요청이 JwtAuthenticationFilter에서 권한을 조회하므로, 대시보드 폴링처럼 같은 사용자가 짧은 간격으로 호출할 때 매번 DB를 왕복하지
+ * 않도록 크기 제한 캐시에 담아 둔다. 값은 불변 Set이라 호출자 간에 공유해도 안전하다.
+ *
+ * <p>무효화는 {@link PermissionsChangedEvent}로 받는다. 발행 즉시 한 번(같은 트랜잭션 안의 후속 조회용), 커밋 후 한 번 더(변경 트랜잭션이
+ * 커밋되기 전에 다른 요청이 옛 값을 다시 적재한 경우용) 지운다. 다른 인스턴스의 변경이나 SQL 직접 수정은 이벤트로 전달되지 않으므로 TTL({@code
+ * firehub.security.permission-cache.ttl-seconds})이 최대 지연을 제한한다.
+ *
+ * <p>Micrometer: {@code cache_gets{cache="permission_snapshot",result=hit|miss}}, {@code
+ * cache_size}, {@code cache_evictions}.
+ */
+@Component
+public class PermissionSnapshotCache {
+
+  private final Cache<Long, Set<String>> snapshots;
+
+  public PermissionSnapshotCache(
+      ObjectProvider<MeterRegistry> meterRegistry,
+      @Value("${firehub.security.permission-cache.max-entries:10000}") long maxEntries,
+      @Value("${firehub.security.permission-cache.ttl-seconds:60}") long ttlSeconds) {
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumSize(Math.max(maxEntries, 0))
+            .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, 0)))
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> CaffeineCacheMetrics.monitor(registry, snapshots, "permission_snapshot"));
+  }
+
+  /** 캐시된 스냅샷을 반환하고, 없으면 loader로 읽어 불변 Set으로 저장한다. */
+  public Set<String> get(Long userId, Function<Long, Set<String>> loader) {
+    return snapshots.get(userId, id -> Set.copyOf(loader.apply(id)));
+  }
+
+  public void invalidate(Long userId) {
+    snapshots.invalidate(userId);
+  }
+
+  public void invalidateAll() {
+    snapshots.invalidateAll();
+  }
+
+  @EventListener
+  void onPermissionsChanged(PermissionsChangedEvent event) {
+    evict(event);
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  void onPermissionsChangeCommitted(PermissionsChangedEvent event) {
+    evict(event);
+  }
+
+  private void evict(PermissionsChangedEvent event) {
+    if (event.userId() == null) {
+      invalidateAll();
+    } else {
+      invalidate(event.userId());
+    }
+  }
+}
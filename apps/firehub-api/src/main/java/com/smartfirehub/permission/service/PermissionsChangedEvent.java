@@ -0,0 +1,13 @@
+package com.smartfirehub.permission.service;
+
+/** 역할·권한 매핑 변경 알림. userId가 null이면 전체 사용자의 권한 스냅샷이 무효화된다. */
+public record PermissionsChangedEvent(Long userId) {
+
+  public static PermissionsChangedEvent forUser(Long userId) {
+    return new PermissionsChangedEvent(userId);
+  }
+
+  public static PermissionsChangedEvent forAllUsers() {
+    return new PermissionsChangedEvent(null);
+  }
+}
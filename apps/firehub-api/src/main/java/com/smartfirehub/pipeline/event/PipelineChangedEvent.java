@@ -0,0 +1,4 @@
+package com.smartfirehub.pipeline.event;
+
+/** 파이프라인 정의(생성·수정·삭제) 또는 실행 상태(생성·시작) 변경 알림. 완료는 {@link PipelineCompletedEvent}. */
+public record PipelineChangedEvent(Long pipelineId) {}
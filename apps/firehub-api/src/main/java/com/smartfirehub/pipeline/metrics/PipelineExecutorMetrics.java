@@ -0,0 +1,70 @@
+package com.smartfirehub.pipeline.metrics;
+
+import com.smartfirehub.pipeline.service.executor.StepPermits;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파이프라인 실행 풀 점유 메트릭.
+ *
+ * <p>Gauge: 풀별(pipeline/step/api_fetch) 실행 중 작업 수, 대기 큐 길이, 최대 풀 크기. active가 max에 붙어 있고 queued가 쌓이면
+ * 풀이 포화된 것이다. 가상 스레드 모드에서는 작업마다 가상 스레드를 띄우므로 풀 게이지가 없다.
+ *
+ * <p>스텝 허가({@link StepPermits}): 일하는 중인 스텝 수(in_use), 허가를 기다리는 스텝 수(waiting), 상한(limit). 백오프·응답 대기
+ * 중인 스텝은 in_use에 포함되지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineExecutorMetrics {
+
+  private final MeterRegistry registry;
+
+  @Qualifier("pipelineExecutor")
+  private final Executor pipelineExecutor;
+
+  @Qualifier("pipelineStepExecutor")
+  private final Executor pipelineStepExecutor;
+
+  @Qualifier("apiFetchExecutor")
+  private final Executor apiFetchExecutor;
+
+  private final StepPermits stepPermits;
+
+  @EventListener(ApplicationReadyEvent.class)
+  void registerGauges() {
+    register("pipeline", pipelineExecutor);
+    register("step", pipelineStepExecutor);
+    register("api_fetch", apiFetchExecutor);
+    registry.gauge("pipeline_step_permits_in_use", stepPermits, StepPermits::inUse);
+    registry.gauge("pipeline_step_permits_waiting", stepPermits, StepPermits::waiting);
+    registry.gauge("pipeline_step_permits_limit", stepPermits, StepPermits::limit);
+  }
+
+  private void register(String pool, Executor executor) {
+    if (!(executor instanceof ThreadPoolTaskExecutor taskExecutor)) return;
+    List<Tag> tags = List.of(Tag.of("pool", pool));
+    registry.gauge(
+        "pipeline_executor_active_count",
+        tags,
+        taskExecutor,
+        ThreadPoolTaskExecutor::getActiveCount);
+    registry.gauge(
+        "pipeline_executor_queued_count",
+        tags,
+        taskExecutor,
+        e -> e.getThreadPoolExecutor().getQueue().size());
+    registry.gauge(
+        "pipeline_executor_max_pool_size",
+        tags,
+        taskExecutor,
+        ThreadPoolTaskExecutor::getMaxPoolSize);
+  }
+}
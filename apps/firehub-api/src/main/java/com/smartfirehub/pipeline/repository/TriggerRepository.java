@@ -8,6 +8,7 @@ import com.smartfirehub.pipeline.dto.CreateTriggerRequest;
 import com.smartfirehub.pipeline.dto.TriggerResponse;
 import com.smartfirehub.pipeline.dto.UpdateTriggerRequest;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -139,6 +140,38 @@ public class TriggerRepository {
         .fetch(this::mapToResponse);
   }
 
+  /**
+   * 활성 DATASET_CHANGE 트리거 중 config.datasetIds에 datasetIds 중 하나가 있거나 id가 triggerIds에 있는 것만
+   * 조회한다. 변경 알림이 온 데이터셋과 debounce가 만료된 트리거만 확인하는 틱용.
+   */
+  public List<TriggerResponse> findEnabledDatasetChangeTriggers(
+      Collection<Long> datasetIds, Collection<Long> triggerIds) {
+    return dsl.select(
+            T_ID,
+            T_PIPELINE_ID,
+            T_TRIGGER_TYPE,
+            T_NAME,
+            T_DESCRIPTION,
+            T_IS_ENABLED,
+            T_CONFIG,
+            T_TRIGGER_STATE,
+            T_CREATED_BY,
+            T_CREATED_AT)
+        .from(PIPELINE_TRIGGER)
+        .where(T_TRIGGER_TYPE.eq("DATASET_CHANGE"))
+        .and(T_IS_ENABLED.eq(true))
+        .and(
+            T_ID.in(triggerIds)
+                .or(
+                    condition(
+                        "EXISTS (SELECT 1 FROM jsonb_array_elements_text("
+                            + "COALESCE({0}->'datasetIds', '[]'::jsonb)) AS w(id)"
+                            + " WHERE w.id::bigint = ANY({1}))",
+                        T_CONFIG,
+                        val(datasetIds.toArray(Long[]::new)))))
+        .fetch(this::mapToResponse);
+  }
+
   public List<TriggerResponse> findEnabledChainTriggersByUpstreamId(Long upstreamPipelineId) {
     return dsl.select(
             T_ID,
@@ -0,0 +1,94 @@
+package com.smartfirehub.pipeline.service;
+
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Postgres LISTEN dataset_change 루프. 알림 payload(dataset id)를 {@link
+ * TriggerEventService#onDatasetChanged(long)}로 넘긴다. 연결할 때마다 {@link
+ * TriggerEventService#requestReconcile()}을 호출해 끊겨 있던 동안 놓친 변경을 다음 틱에 버전 비교로 따라잡는다.
+ *
+ * <p>전용 커넥션·재시도 방식은 {@code OutboxListenerLoop}와 같다 (HikariCP 풀 외부 커넥션, 5초 후 재시도).
+ */
+@Component
+public class DatasetChangeListenerLoop {
+
+  private static final Logger log = LoggerFactory.getLogger(DatasetChangeListenerLoop.class);
+
+  private final DataSourceProperties dataSourceProperties;
+  private final TriggerEventService triggerEventService;
+  private volatile boolean running = true;
+
+  public DatasetChangeListenerLoop(
+      DataSourceProperties dataSourceProperties, TriggerEventService triggerEventService) {
+    this.dataSourceProperties = dataSourceProperties;
+    this.triggerEventService = triggerEventService;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void start() {
+    Thread t = new Thread(this::loop, "dataset-change-listener");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  /** 런타임 중지 훅 (테스트/종료용). */
+  public void stop() {
+    running = false;
+  }
+
+  private void loop() {
+    while (running) {
+      Connection conn = null;
+      try {
+        conn =
+            DriverManager.getConnection(
+                dataSourceProperties.getUrl(),
+                dataSourceProperties.getUsername(),
+                dataSourceProperties.getPassword());
+        conn.setAutoCommit(true);
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        try (var st = conn.createStatement()) {
+          st.execute("LISTEN " + DatasetChangeRepository.CHANNEL);
+        }
+        triggerEventService.requestReconcile();
+        while (running) {
+          PGNotification[] notes = pg.getNotifications(30_000);
+          if (notes == null) continue;
+          for (PGNotification note : notes) {
+            try {
+              triggerEventService.onDatasetChanged(Long.parseLong(note.getParameter()));
+            } catch (NumberFormatException e) {
+              log.debug("Ignoring malformed dataset_change payload: {}", note.getParameter());
+            }
+          }
+        }
+      } catch (Exception e) {
+        log.warn("dataset change listener loop error, retry in 5s", e);
+        try {
+          Thread.sleep(5_000);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      } finally {
+        if (conn != null) {
+          try {
+            conn.close();
+          } catch (Exception closeEx) {
+            log.debug("dataset change listener connection close error (ignored)", closeEx);
+          }
+        }
+      }
+    }
+  }
+}
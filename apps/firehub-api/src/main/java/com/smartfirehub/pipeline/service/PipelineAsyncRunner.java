@@ -10,6 +10,7 @@ import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.dataset.service.DataTableService;
 import com.smartfirehub.global.security.PermissionChecker;
 import com.smartfirehub.pipeline.dto.PipelineStepResponse;
+import com.smartfirehub.pipeline.event.PipelineChangedEvent;
 import com.smartfirehub.pipeline.event.PipelineCompletedEvent;
 import com.smartfirehub.pipeline.exception.ScriptExecutionException;
 import com.smartfirehub.pipeline.repository.PipelineExecutionRepository;
@@ -27,11 +28,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -55,6 +59,9 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class PipelineAsyncRunner {
 
+  /** SQL 스크립트의 이전 스텝 출력 참조: {@code {{#N}}} (N은 1부터 시작하는 스텝 번호) */
+  private static final Pattern STEP_REFERENCE_PATTERN = Pattern.compile("\\{\\{#(\\d+)\\}\\}");
+
   private final PipelineStepRepository stepRepository;
   private final PipelineExecutionRepository executionRepository;
   private final PipelineRepository pipelineRepository;
@@ -75,6 +82,7 @@ public class PipelineAsyncRunner {
   private final TempDatasetService tempDatasetService;
   private final SqlValidator sqlValidator;
   private final PythonScriptValidator pythonScriptValidator;
+  private final PipelineStepScheduler stepScheduler;
 
   /** {@code @Qualifier("pipelineDslContext")}가 필요하여 명시적 생성자 주입을 사용한다. */
   public PipelineAsyncRunner(
@@ -97,7 +105,8 @@ public class PipelineAsyncRunner {
       AiClassifyExecutor aiClassifyExecutor,
       TempDatasetService tempDatasetService,
       SqlValidator sqlValidator,
-      PythonScriptValidator pythonScriptValidator) {
+      PythonScriptValidator pythonScriptValidator,
+      PipelineStepScheduler stepScheduler) {
     this.stepRepository = stepRepository;
     this.executionRepository = executionRepository;
     this.pipelineRepository = pipelineRepository;
@@ -118,13 +127,14 @@ public class PipelineAsyncRunner {
     this.tempDatasetService = tempDatasetService;
     this.sqlValidator = sqlValidator;
     this.pythonScriptValidator = pythonScriptValidator;
+    this.stepScheduler = stepScheduler;
   }
 
   /**
    * 파이프라인을 비동기로 실행한다.
    *
-   * <p>이 메서드는 {@code pipelineExecutor} 스레드풀에서 실행되므로 HTTP 요청 스레드를 블록하지 않는다. DAG 위상 정렬 후 스텝을 순서대로
-   * 실행하고 완료 이벤트를 발행한다.
+   * <p>이 메서드는 {@code pipelineExecutor} 스레드풀에서 실행되므로 HTTP 요청 스레드를 블록하지 않는다. DAG 위상 정렬 후 의존 스텝이
+   * 끝난 스텝을 {@link PipelineStepScheduler}로 병렬 실행하고, 모든 스텝이 끝나면 완료 이벤트를 한 번 발행한다.
    *
    * @param pipelineId 실행할 파이프라인 ID
    * @param executionId 생성된 파이프라인 실행 레코드 ID
@@ -151,48 +161,36 @@ public class PipelineAsyncRunner {
     try {
       // 실행 상태를 RUNNING으로 업데이트
       executionRepository.updateExecutionStatus(executionId, "RUNNING", executionStartedAt, null);
+      applicationEventPublisher.publishEvent(new PipelineChangedEvent(pipelineId));
 
       // 위상 정렬로 실행 순서 결정
       List<PipelineStepResponse> executionOrder = topologicalSort(steps, stepDependencyMap);
 
-      // 스텝별 실행 상태 추적
-      Map<Long, String> stepStatuses = new HashMap<>();
-
-      // 순서대로 스텝 실행
-      for (PipelineStepResponse step : executionOrder) {
-        Long stepExecId = stepIdToStepExecId.get(step.id());
-
-        // 의존 스텝이 모두 COMPLETED인지 확인
-        boolean canExecute = true;
-        List<Long> dependencies = stepDependencyMap.get(step.id());
-
-        for (Long depStepId : dependencies) {
-          String depStatus = stepStatuses.get(depStepId);
-          if (!"COMPLETED".equals(depStatus)) {
-            canExecute = false;
-            break;
-          }
-        }
-
-        if (!canExecute) {
-          // 의존 스텝 실패/스킵으로 이 스텝도 SKIPPED 처리
-          executionRepository.updateStepExecution(
-              stepExecId,
-              "SKIPPED",
-              null,
-              null,
-              "Dependency failed or skipped",
-              null,
-              LocalDateTime.now(ZoneOffset.UTC));
-          stepStatuses.put(step.id(), "SKIPPED");
-          log.info("Step {} skipped due to failed dependency", step.name());
-        } else {
-          // 스텝 실행
-          String status =
-              executeStep(stepExecId, step, pipelineId, pipelineName, userId, executorEnabled);
-          stepStatuses.put(step.id(), status);
-        }
-      }
+      // 의존 스텝이 끝난 스텝부터 병렬 실행 (선언된 의존 스텝 실패/스킵 시 SKIPPED 전파)
+      Map<Long, String> stepStatuses =
+          stepScheduler.run(
+              executionOrder,
+              stepDependencyMap,
+              implicitOrderDependencies(steps, executionOrder),
+              step ->
+                  executeStep(
+                      stepIdToStepExecId.get(step.id()),
+                      step,
+                      pipelineId,
+                      pipelineName,
+                      userId,
+                      executorEnabled),
+              step -> {
+                executionRepository.updateStepExecution(
+                    stepIdToStepExecId.get(step.id()),
+                    "SKIPPED",
+                    null,
+                    null,
+                    "Dependency failed or skipped",
+                    null,
+                    LocalDateTime.now(ZoneOffset.UTC));
+                log.info("Step {} skipped due to failed dependency", step.name());
+              });
 
       // 전체 실행 최종 상태 결정
       boolean allCompleted = stepStatuses.values().stream().allMatch(s -> "COMPLETED".equals(s));
@@ -289,6 +287,84 @@ public class PipelineAsyncRunner {
     return result;
   }
 
+  /**
+   * 선언되지 않았지만 데이터로 이어진 스텝 간 선후 관계를 구한다(스텝 ID → 먼저 끝나야 하는 스텝 ID).
+   *
+   * <p>순차 실행에서는 위상 정렬 순서가 곧 실행 순서였으므로, 의존성을 선언하지 않아도 앞 스텝의 결과를 뒤 스텝이 읽을 수 있었다. 병렬
+   * 실행에서도 이 순서를 지키도록, 위상 정렬상 앞선 스텝이 다음 중 하나에 해당하면 순서 전용 의존성으로 둔다. 실패해도 SKIPPED 사유는 되지
+   * 않는다(기존과 동일).
+   *
+   * <ul>
+   *   <li>같은 출력 데이터셋에 쓴다 (write-after-write, REPLACE/APPEND가 섞이지 않도록)
+   *   <li>앞 스텝의 출력을 읽는다 (read-after-write): AI_CLASSIFY inputDatasetIds에 있거나, SQL/PYTHON
+   *       스크립트가 {@code {{#N}}}로 앞 스텝을 참조하거나 출력 테이블명을 포함한다
+   *   <li>앞 스텝이 읽는 데이터셋에 쓴다 (write-after-read): 앞 스텝이 덮어쓰기 전의 데이터를 읽도록
+   * </ul>
+   */
+  Map<Long, List<Long>> implicitOrderDependencies(
+      List<PipelineStepResponse> steps, List<PipelineStepResponse> executionOrder) {
+    Map<Long, String> outputTables = new HashMap<>();
+    for (PipelineStepResponse step : executionOrder) {
+      if (step.outputDatasetId() != null) {
+        datasetRepository
+            .findTableNameById(step.outputDatasetId())
+            .ifPresent(table -> outputTables.put(step.id(), table.toLowerCase(Locale.ROOT)));
+      }
+    }
+
+    List<String> scripts = new ArrayList<>(executionOrder.size());
+    for (PipelineStepResponse step : executionOrder) {
+      scripts.add(
+          step.scriptContent() != null ? step.scriptContent().toLowerCase(Locale.ROOT) : "");
+    }
+
+    Map<Long, List<Long>> orderAfter = new HashMap<>();
+    for (int i = 0; i < executionOrder.size(); i++) {
+      PipelineStepResponse step = executionOrder.get(i);
+      Long output = step.outputDatasetId();
+      String outputTable = outputTables.get(step.id());
+      Set<Long> referenced = referencedStepIds(step, steps);
+      for (int j = 0; j < i; j++) {
+        PipelineStepResponse earlier = executionOrder.get(j);
+        Long earlierOutput = earlier.outputDatasetId();
+        boolean related =
+            referenced.contains(earlier.id())
+                || (earlierOutput != null && earlierOutput.equals(output))
+                || reads(step, scripts.get(i), earlierOutput, outputTables.get(earlier.id()))
+                || reads(earlier, scripts.get(j), output, outputTable);
+        if (related) {
+          orderAfter.computeIfAbsent(step.id(), k -> new ArrayList<>()).add(earlier.id());
+        }
+      }
+    }
+    return orderAfter;
+  }
+
+  /** step이 datasetId(물리 테이블 table)를 입력 데이터셋이나 스크립트(소문자)로 읽는지. */
+  private static boolean reads(
+      PipelineStepResponse step, String script, Long datasetId, String table) {
+    return (datasetId != null
+            && step.inputDatasetIds() != null
+            && step.inputDatasetIds().contains(datasetId))
+        || (table != null && script.contains(table));
+  }
+
+  /** SQL 스크립트의 {@code {{#N}}} 참조가 가리키는 스텝 ID. resolveStepReferences와 같은 규칙(스텝 목록의 N번째). */
+  private Set<Long> referencedStepIds(PipelineStepResponse step, List<PipelineStepResponse> steps) {
+    Set<Long> referenced = new LinkedHashSet<>();
+    if (!"SQL".equals(step.scriptType()) || step.scriptContent() == null) {
+      return referenced;
+    }
+    Matcher matcher = STEP_REFERENCE_PATTERN.matcher(step.scriptContent());
+    while (matcher.find()) {
+      int stepIndex = Integer.parseInt(matcher.group(1)) - 1;
+      if (stepIndex >= 0 && stepIndex < steps.size()) {
+        referenced.add(steps.get(stepIndex).id());
+      }
+    }
+    return referenced;
+  }
+
   /**
    * 개별 파이프라인 스텝을 실행한다. 스크립트 타입(SQL/PYTHON/API_CALL/AI_CLASSIFY)에 따라 적절한 실행기를 호출하고 결과를 기록한다.
    *
@@ -733,6 +809,8 @@ public class PipelineAsyncRunner {
       Long outputRows = null;
       if (outputTableName != null) {
         outputRows = dataTableRowService.countRows(outputTableName);
+        // SQL/Python 은 실행기가 직접 쓰므로 행 서비스의 변경 버전 증가를 거치지 않는다
+        dataTableRowService.markChanged(outputTableName);
       }
 
       // 스텝 실행 완료 처리
@@ -922,8 +1000,7 @@ public class PipelineAsyncRunner {
    * @return 참조가 치환된 SQL 문자열
    */
   private String resolveStepReferences(String sql, Long pipelineId, int currentStepIndex) {
-    Pattern pattern = Pattern.compile("\\{\\{#(\\d+)\\}\\}");
-    Matcher matcher = pattern.matcher(sql);
+    Matcher matcher = STEP_REFERENCE_PATTERN.matcher(sql);
     if (!matcher.find()) {
       return sql;
     }
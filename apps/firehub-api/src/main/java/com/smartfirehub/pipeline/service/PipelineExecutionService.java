@@ -3,6 +3,7 @@ package com.smartfirehub.pipeline.service;
 import com.smartfirehub.audit.service.AuditLogService;
 import com.smartfirehub.pipeline.dto.PipelineStepRequest;
 import com.smartfirehub.pipeline.dto.PipelineStepResponse;
+import com.smartfirehub.pipeline.event.PipelineChangedEvent;
 import com.smartfirehub.pipeline.exception.CyclicDependencyException;
 import com.smartfirehub.pipeline.repository.PipelineExecutionRepository;
 import com.smartfirehub.pipeline.repository.PipelineRepository;
@@ -16,6 +17,7 @@ import java.util.Map;
 import java.util.Queue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -40,6 +42,7 @@ public class PipelineExecutionService {
   private final PipelineAsyncRunner asyncRunner;
   private final AuditLogService auditLogService;
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher events;
 
   @Value("${app.executor.enabled:false}")
   private boolean executorEnabled;
@@ -50,13 +53,15 @@ public class PipelineExecutionService {
       PipelineRepository pipelineRepository,
       PipelineAsyncRunner asyncRunner,
       UserRepository userRepository,
-      AuditLogService auditLogService) {
+      AuditLogService auditLogService,
+      ApplicationEventPublisher events) {
     this.stepRepository = stepRepository;
     this.executionRepository = executionRepository;
     this.pipelineRepository = pipelineRepository;
     this.asyncRunner = asyncRunner;
     this.userRepository = userRepository;
     this.auditLogService = auditLogService;
+    this.events = events;
   }
 
   /**
@@ -163,6 +168,7 @@ public class PipelineExecutionService {
     // 실행 레코드 생성
     Long executionId =
         executionRepository.createExecution(pipelineId, userId, triggeredBy, triggerId);
+    events.publishEvent(new PipelineChangedEvent(pipelineId));
 
     // 스텝 실행 레코드 일괄 생성 (초기 상태: PENDING)
     // 중간에 예외 발생 시 @Transactional이 createExecution 포함 전체를 롤백한다
@@ -3,6 +3,7 @@ package com.smartfirehub.pipeline.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.global.dto.PageResponse;
 import com.smartfirehub.pipeline.dto.*;
+import com.smartfirehub.pipeline.event.PipelineChangedEvent;
 import com.smartfirehub.pipeline.exception.PipelineInactiveException;
 import com.smartfirehub.pipeline.exception.PipelineNameConflictException;
 import com.smartfirehub.pipeline.exception.PipelineNotFoundException;
@@ -19,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +42,7 @@ public class PipelineService {
   private final ObjectMapper objectMapper;
   private final SqlValidator sqlValidator;
   private final PythonScriptValidator pythonScriptValidator;
+  private final ApplicationEventPublisher events;
 
   @Transactional
   public PipelineDetailResponse createPipeline(CreatePipelineRequest request, Long userId) {
@@ -58,6 +61,7 @@ public class PipelineService {
 
     // Save steps
     saveSteps(pipeline.id(), request.steps());
+    events.publishEvent(new PipelineChangedEvent(pipeline.id()));
 
     // Return full detail
     return getPipelineById(pipeline.id());
@@ -197,6 +201,7 @@ public class PipelineService {
       stepRepository.deleteByPipelineId(id);
       saveSteps(id, request.steps());
     }
+    events.publishEvent(new PipelineChangedEvent(id));
   }
 
   private void validateAiClassifyStep(PipelineStepRequest step) {
@@ -269,6 +274,7 @@ public class PipelineService {
 
     // Delete pipeline
     pipelineRepository.deleteById(id);
+    events.publishEvent(new PipelineChangedEvent(id));
   }
 
   public PipelineExecutionResponse executePipeline(Long pipelineId, Long userId) {
@@ -0,0 +1,200 @@
+package com.smartfirehub.pipeline.service;
+
+import com.smartfirehub.pipeline.dto.PipelineStepResponse;
+import com.smartfirehub.pipeline.service.executor.StepPermits;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파이프라인 DAG 병렬 스케줄러: 의존 스텝이 모두 끝난 스텝을 동시에 실행한다.
+ *
+ * <p>기존 executeAsync는 위상 정렬 순서대로 스텝을 하나씩 실행해, 서로 독립인 분기(API 수집 + SQL 변환 두 개 등)도 앞 스텝이 끝나기를
+ * 기다렸다. 이 스케줄러는 다음 규칙을 지키며 준비된 스텝을 {@code pipelineStepExecutor}에 제출한다.
+ *
+ * <ul>
+ *   <li><b>SKIPPED 전파</b>: 스텝은 모든 선행 스텝이 끝난 뒤에만 판정한다. 선언된 의존 스텝 중 하나라도 COMPLETED가 아니면 실행하지 않고
+ *       SKIPPED로 기록하며, 이 SKIPPED가 다시 자식 스텝에 전파된다(기존 순차 실행과 같은 결과).
+ *   <li><b>순서 전용 의존성</b>: orderAfter의 선행 스텝은 끝날 때까지 기다리기만 하고 실패해도 SKIPPED 사유가 되지 않는다. 선언은 없지만
+ *       데이터로 이어진 스텝(같은 출력 테이블, {@code {{#N}}} 참조 등)의 기존 실행 순서를 보존하는 데 쓴다.
+ *   <li><b>동시성 상한</b>: 실행 하나가 동시에 올리는 스텝 수는 {@code firehub.pipeline.max-parallel-steps}, 전체 파이프라인을
+ *       합친 상한은 {@link StepPermits}({@code firehub.pipeline.step-workers})다. 허가는 스텝이 일하는 동안만 쥐고
+ *       백오프·응답 대기 중에는 돌려주므로, 기다리는 스텝이 다른 파이프라인의 스텝을 막지 않는다. 1이면 위상 정렬 순서대로 한 스텝씩 실행한다.
+ * </ul>
+ *
+ * <p>결과 기록(statuses, SKIPPED 콜백)은 모두 {@link #run}을 호출한 스레드에서 일어난다. 스텝 실행기가 예외를 던지면(executeStep은
+ * 보통 FAILED를 반환한다) 실행 중인 나머지 스텝을 취소하고 예외를 그대로 전파한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineStepScheduler {
+
+  @Qualifier("pipelineStepExecutor")
+  private final Executor stepExecutor;
+
+  @Value("${firehub.pipeline.max-parallel-steps:4}")
+  private final int maxParallelSteps;
+
+  private final StepPermits permits;
+
+  /** 스텝 하나를 실행하고 최종 상태("COMPLETED" 또는 "FAILED")를 반환한다. 풀 스레드에서 동시에 호출된다. */
+  @FunctionalInterface
+  public interface StepRunner {
+    String run(PipelineStepResponse step);
+  }
+
+  /** 선언된 의존 스텝 실패/스킵으로 실행하지 않는 스텝을 기록한다. {@link #run} 호출 스레드에서 호출된다. */
+  @FunctionalInterface
+  public interface SkipRecorder {
+    void skip(PipelineStepResponse step);
+  }
+
+  private record Finished(PipelineStepResponse step, String status) {}
+
+  /**
+   * 스텝을 의존성 순서에 맞춰 병렬 실행하고 스텝 ID → 최종 상태를 반환한다. 모든 스텝이 끝날 때까지 블록한다.
+   *
+   * @param executionOrder 위상 정렬된 스텝 목록. 준비된 스텝은 이 순서대로 제출되며, 여기에 없는 스텝(순환)은 실행하지 않는다.
+   * @param dependencies 스텝 ID → 선언된 의존 스텝 ID (SKIPPED 판정 대상)
+   * @param orderAfter 스텝 ID → 먼저 끝나야 하는 스텝 ID (순서만 보장)
+   */
+  public Map<Long, String> run(
+      List<PipelineStepResponse> executionOrder,
+      Map<Long, List<Long>> dependencies,
+      Map<Long, List<Long>> orderAfter,
+      StepRunner runner,
+      SkipRecorder skipRecorder)
+      throws InterruptedException {
+    Map<Long, PipelineStepResponse> stepById = new LinkedHashMap<>();
+    for (PipelineStepResponse step : executionOrder) {
+      stepById.put(step.id(), step);
+    }
+
+    // 선행 스텝(선언 + 순서 전용) 중 아직 끝나지 않은 수와 역방향 간선
+    Map<Long, Integer> pending = new HashMap<>();
+    Map<Long, List<Long>> children = new HashMap<>();
+    for (PipelineStepResponse step : executionOrder) {
+      Set<Long> predecessors = new LinkedHashSet<>();
+      predecessors.addAll(dependencies.getOrDefault(step.id(), List.of()));
+      predecessors.addAll(orderAfter.getOrDefault(step.id(), List.of()));
+      predecessors.retainAll(stepById.keySet());
+      pending.put(step.id(), predecessors.size());
+      for (Long predecessor : predecessors) {
+        children.computeIfAbsent(predecessor, k -> new ArrayList<>()).add(step.id());
+      }
+    }
+
+    Map<Long, String> statuses = new LinkedHashMap<>();
+    Queue<PipelineStepResponse> ready = new ArrayDeque<>();
+    for (PipelineStepResponse step : executionOrder) {
+      if (pending.get(step.id()) == 0) {
+        ready.add(step);
+      }
+    }
+
+    int limit = Math.max(1, maxParallelSteps);
+    CompletionService<Finished> completion = new ExecutorCompletionService<>(stepExecutor);
+    List<Future<Finished>> inFlight = new ArrayList<>();
+    boolean done = false;
+    try {
+      while (!ready.isEmpty() || !inFlight.isEmpty()) {
+        while (inFlight.size() < limit && !ready.isEmpty()) {
+          PipelineStepResponse step = ready.poll();
+          inFlight.add(
+              completion.submit(() -> new Finished(step, permits.run(() -> runner.run(step)))));
+        }
+
+        Future<Finished> future = completion.take();
+        inFlight.remove(future);
+        Finished finished = get(future);
+        resolve(
+            finished.step(),
+            finished.status(),
+            stepById,
+            dependencies,
+            pending,
+            children,
+            statuses,
+            ready,
+            skipRecorder);
+      }
+      done = true;
+      return statuses;
+    } finally {
+      if (!done) {
+        for (Future<Finished> future : inFlight) {
+          future.cancel(true);
+        }
+      }
+    }
+  }
+
+  /** 끝난 스텝의 상태를 기록하고, 선행 스텝이 모두 끝난 자식을 준비 큐에 넣거나 SKIPPED로 전파한다. */
+  private void resolve(
+      PipelineStepResponse step,
+      String status,
+      Map<Long, PipelineStepResponse> stepById,
+      Map<Long, List<Long>> dependencies,
+      Map<Long, Integer> pending,
+      Map<Long, List<Long>> children,
+      Map<Long, String> statuses,
+      Queue<PipelineStepResponse> ready,
+      SkipRecorder skipRecorder) {
+    statuses.put(step.id(), status);
+    for (Long childId : children.getOrDefault(step.id(), List.of())) {
+      int remaining = pending.merge(childId, -1, Integer::sum);
+      if (remaining > 0) {
+        continue;
+      }
+      PipelineStepResponse child = stepById.get(childId);
+      boolean canExecute =
+          dependencies.getOrDefault(childId, List.of()).stream()
+              .allMatch(depId -> "COMPLETED".equals(statuses.get(depId)));
+      if (canExecute) {
+        ready.add(child);
+      } else {
+        skipRecorder.skip(child);
+        resolve(
+            child,
+            "SKIPPED",
+            stepById,
+            dependencies,
+            pending,
+            children,
+            statuses,
+            ready,
+            skipRecorder);
+      }
+    }
+  }
+
+  private static Finished get(Future<Finished> future) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
@@ -1,15 +1,17 @@
 package com.smartfirehub.pipeline.service;
 
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
 import com.smartfirehub.dataset.repository.DatasetRepository;
 import com.smartfirehub.notification.service.NotificationService;
 import com.smartfirehub.pipeline.dto.TriggerResponse;
 import com.smartfirehub.pipeline.event.PipelineCompletedEvent;
 import com.smartfirehub.pipeline.repository.TriggerRepository;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
-import org.jooq.DSLContext;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -23,19 +25,24 @@ public class TriggerEventService {
   private final TriggerRepository triggerRepository;
   private final TriggerService triggerService;
   private final DatasetRepository datasetRepository;
-  private final DSLContext dsl;
+  private final DatasetChangeRepository changeRepository;
   private final NotificationService notificationService;
 
+  // LISTEN 루프가 채우는 메모리 상태 — 유휴 틱은 DB 를 건드리지 않는다
+  private final Set<Long> dirtyDatasets = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean reconcileRequested = new AtomicBoolean(true);
+  private final Map<Long, Long> pendingTriggers = new ConcurrentHashMap<>();
+
   public TriggerEventService(
       TriggerRepository triggerRepository,
       @Lazy TriggerService triggerService,
       DatasetRepository datasetRepository,
-      DSLContext dsl,
+      DatasetChangeRepository changeRepository,
       NotificationService notificationService) {
     this.triggerRepository = triggerRepository;
     this.triggerService = triggerService;
     this.datasetRepository = datasetRepository;
-    this.dsl = dsl;
+    this.changeRepository = changeRepository;
     this.notificationService = notificationService;
   }
 
@@ -72,14 +79,69 @@ public class TriggerEventService {
     }
   }
 
-  /** Poll dataset changes every 30 seconds. */
-  @Scheduled(fixedDelay = 30000)
+  /** LISTEN 루프가 받은 dataset_change 알림. 다음 틱에 이 데이터셋을 감시하는 트리거만 확인한다. */
+  public void onDatasetChanged(long datasetId) {
+    dirtyDatasets.add(datasetId);
+  }
+
+  /** 다음 틱에 모든 DATASET_CHANGE 트리거의 버전을 확인한다 (시작 시·LISTEN 재연결 시). */
+  public void requestReconcile() {
+    reconcileRequested.set(true);
+  }
+
+  /**
+   * 변경 알림·재확인 요청·debounce 만료가 없으면 DB 를 조회하지 않고 바로 돌아간다. 있으면 알림 온 데이터셋을 감시하거나 debounce가 만료된
+   * 트리거만 읽어(재확인 요청 시에는 전체) 데이터셋 변경 버전을 기록된 버전과 비교한다.
+   */
+  @Scheduled(fixedDelayString = "${firehub.trigger.dataset-change.tick-ms:5000}")
   public void pollDatasetChanges() {
-    List<TriggerResponse> triggers = triggerRepository.findEnabledByType("DATASET_CHANGE");
+    long now = System.currentTimeMillis();
+    boolean reconcile = reconcileRequested.getAndSet(false);
+    boolean due = pendingTriggers.values().stream().anyMatch(dueAt -> dueAt <= now);
+    if (!reconcile && !due && dirtyDatasets.isEmpty()) {
+      return;
+    }
+    Set<Long> dirty = new HashSet<>();
+    for (Iterator<Long> it = dirtyDatasets.iterator(); it.hasNext(); ) {
+      dirty.add(it.next());
+      it.remove();
+    }
+
+    Set<Long> dueIds = new HashSet<>();
+    pendingTriggers.forEach(
+        (triggerId, dueAt) -> {
+          if (dueAt <= now) dueIds.add(triggerId);
+        });
+
+    List<TriggerResponse> triggers;
+    Map<Long, Long> versions;
+    try {
+      triggers =
+          reconcile
+              ? triggerRepository.findEnabledByType("DATASET_CHANGE")
+              : triggerRepository.findEnabledDatasetChangeTriggers(dirty, dueIds);
+      // 삭제·비활성화된 트리거는 대기 목록에서 뺀다
+      Set<Long> loadedIds = new HashSet<>();
+      triggers.forEach(t -> loadedIds.add(t.id()));
+      if (reconcile) {
+        pendingTriggers.keySet().retainAll(loadedIds);
+      } else {
+        dueIds.stream().filter(id -> !loadedIds.contains(id)).forEach(pendingTriggers::remove);
+      }
+      Set<Long> datasetIds = new HashSet<>();
+      triggers.forEach(t -> datasetIds.addAll(watchedDatasetIds(t)));
+      versions = datasetIds.isEmpty() ? Map.of() : changeRepository.findVersions(datasetIds);
+    } catch (Exception e) {
+      // 다음 틱에 다시 확인하도록 받은 알림을 되돌린다
+      dirtyDatasets.addAll(dirty);
+      if (reconcile) reconcileRequested.set(true);
+      log.error("Failed to load dataset change triggers: {}", e.getMessage(), e);
+      return;
+    }
 
     for (TriggerResponse trigger : triggers) {
       try {
-        processDatasetChangeTrigger(trigger);
+        processDatasetChangeTrigger(trigger, versions, dirty, now);
       } catch (Exception e) {
         log.error(
             "Failed to process dataset change trigger {}: {}", trigger.id(), e.getMessage(), e);
@@ -87,142 +149,138 @@ public class TriggerEventService {
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private void processDatasetChangeTrigger(TriggerResponse trigger) {
+  private void processDatasetChangeTrigger(
+      TriggerResponse trigger, Map<Long, Long> versions, Set<Long> dirty, long now) {
     Map<String, Object> config = trigger.config();
     Map<String, Object> state = trigger.triggerState();
 
-    // Check polling interval
-    int pollingIntervalSeconds =
-        config.containsKey("pollingIntervalSeconds")
-            ? ((Number) config.get("pollingIntervalSeconds")).intValue()
-            : 60;
+    List<Long> datasetIds = watchedDatasetIds(trigger);
+    if (datasetIds.isEmpty()) {
+      return;
+    }
 
-    if (state.containsKey("lastCheckedAt")) {
-      LocalDateTime lastChecked = LocalDateTime.parse(state.get("lastCheckedAt").toString());
-      if (ChronoUnit.SECONDS.between(lastChecked, LocalDateTime.now()) < pollingIntervalSeconds) {
-        return; // Not time to poll yet
+    Map<Long, Long> currentVersions = new HashMap<>();
+    for (Long datasetId : datasetIds) {
+      Long version = versions.get(datasetId);
+      if (version != null) {
+        currentVersions.put(datasetId, version);
       }
     }
 
-    // Get dataset IDs
-    List<Number> datasetIdNumbers = (List<Number>) config.get("datasetIds");
-    if (datasetIdNumbers == null || datasetIdNumbers.isEmpty()) {
+    // If all monitored datasets are gone, disable trigger
+    if (currentVersions.isEmpty()) {
+      log.warn("All monitored datasets deleted for trigger {}, disabling", trigger.id());
+      triggerRepository.updateEnabled(trigger.id(), false);
+      pendingTriggers.remove(trigger.id());
       return;
     }
-    List<Long> datasetIds = datasetIdNumbers.stream().map(Number::longValue).toList();
-
-    // Get current row count estimates
-    Map<Long, Long> currentSnapshot = getRowCountEstimates(datasetIds);
 
-    // Get last snapshot
-    Map<Long, Long> lastSnapshot = getLastSnapshot(state);
+    // 기준 버전이 없는 트리거(신규·이전 스냅샷 방식)는 현재 버전을 기준으로 삼되, 이번에 알림이 온 데이터셋만 기준에서 빼 변경으로 본다
+    Map<Long, Long> baseline = getLastVersions(state);
+    boolean seeded = baseline == null;
+    if (seeded) {
+      baseline = new HashMap<>(currentVersions);
+      baseline.keySet().removeAll(dirty);
+    }
 
     // Check for changes
     List<Long> changedIds = new ArrayList<>();
-    for (Long datasetId : datasetIds) {
-      Long current = currentSnapshot.getOrDefault(datasetId, 0L);
-      Long last = lastSnapshot.getOrDefault(datasetId, -1L);
-      if (!current.equals(last)) {
+    for (Long datasetId : currentVersions.keySet()) {
+      if (!currentVersions.get(datasetId).equals(baseline.get(datasetId))) {
         changedIds.add(datasetId);
       }
     }
+    if (changedIds.isEmpty()) {
+      if (seeded) {
+        triggerRepository.updateTriggerState(trigger.id(), nextState(state, baseline));
+      }
+      pendingTriggers.remove(trigger.id());
+      return;
+    }
 
-    // Update state regardless of changes
-    Map<String, Object> updatedState = new HashMap<>(state);
-    updatedState.put("lastCheckedAt", LocalDateTime.now().toString());
-    updatedState.put("lastSnapshot", currentSnapshot);
-
-    if (!changedIds.isEmpty()) {
-      // Check debounce
-      int debounceSeconds =
-          config.containsKey("debounceSeconds")
-              ? ((Number) config.get("debounceSeconds")).intValue()
-              : 60;
-
-      if (isDebounceElapsed(state, debounceSeconds)) {
-        log.info("Dataset change detected for trigger {}, datasets: {}", trigger.id(), changedIds);
-        triggerService.fireTrigger(trigger.id(), Map.of("changedDatasets", changedIds));
-        updatedState.put("lastFiredAt", LocalDateTime.now().toString());
-
-        for (Long changedDatasetId : changedIds) {
-          String datasetName =
-              datasetRepository
-                  .findById(changedDatasetId)
-                  .map(d -> d.name())
-                  .orElse(String.valueOf(changedDatasetId));
-          notificationService.notifyDatasetChanged(changedDatasetId, datasetName);
-        }
-      } else {
-        log.debug("Dataset change detected for trigger {} but debounce not elapsed", trigger.id());
+    // Check debounce — 아직이면 만료 시각에 다시 확인한다
+    int debounceSeconds =
+        config.containsKey("debounceSeconds")
+            ? ((Number) config.get("debounceSeconds")).intValue()
+            : 60;
+    long dueAt = debounceDueAt(state, debounceSeconds);
+    if (dueAt > now) {
+      log.debug("Dataset change detected for trigger {} but debounce not elapsed", trigger.id());
+      if (seeded) {
+        // 만료 시각의 재확인에는 알림이 없으므로 새로 잡은 기준을 남겨 둔다
+        triggerRepository.updateTriggerState(trigger.id(), nextState(state, baseline));
       }
+      pendingTriggers.put(trigger.id(), dueAt);
+      return;
     }
 
+    log.info("Dataset change detected for trigger {}, datasets: {}", trigger.id(), changedIds);
+    triggerService.fireTrigger(trigger.id(), Map.of("changedDatasets", changedIds));
+    Map<String, Object> updatedState = nextState(state, currentVersions);
+    updatedState.put("lastFiredAt", LocalDateTime.now().toString());
     triggerRepository.updateTriggerState(trigger.id(), updatedState);
+    pendingTriggers.remove(trigger.id());
 
-    // If all monitored datasets are gone, disable trigger
-    if (currentSnapshot.isEmpty() && !datasetIds.isEmpty()) {
-      log.warn("All monitored datasets deleted for trigger {}, disabling", trigger.id());
-      triggerRepository.updateEnabled(trigger.id(), false);
+    for (Long changedDatasetId : changedIds) {
+      String datasetName =
+          datasetRepository
+              .findById(changedDatasetId)
+              .map(d -> d.name())
+              .orElse(String.valueOf(changedDatasetId));
+      notificationService.notifyDatasetChanged(changedDatasetId, datasetName);
     }
   }
 
-  private Map<Long, Long> getRowCountEstimates(List<Long> datasetIds) {
-    Map<Long, Long> result = new HashMap<>();
-
-    for (Long datasetId : datasetIds) {
-      Optional<String> tableNameOpt = datasetRepository.findTableNameById(datasetId);
-      if (tableNameOpt.isEmpty()) {
-        continue; // Dataset deleted, skip
-      }
-
-      String tableName = tableNameOpt.get();
-      try {
-        Long rowCount =
-            dsl.fetchOne(
-                    "SELECT n_live_tup FROM pg_stat_user_tables WHERE schemaname = 'data' AND"
-                        + " relname = ?",
-                    tableName)
-                .get(0, Long.class);
-        result.put(datasetId, rowCount);
-      } catch (Exception e) {
-        log.debug(
-            "Failed to get row count estimate for dataset {} (table: {}): {}",
-            datasetId,
-            tableName,
-            e.getMessage());
-      }
+  @SuppressWarnings("unchecked")
+  private List<Long> watchedDatasetIds(TriggerResponse trigger) {
+    List<Number> datasetIdNumbers = (List<Number>) trigger.config().get("datasetIds");
+    if (datasetIdNumbers == null) {
+      return List.of();
     }
+    return datasetIdNumbers.stream().map(Number::longValue).toList();
+  }
 
-    return result;
+  private Map<String, Object> nextState(Map<String, Object> state, Map<Long, Long> versions) {
+    Map<String, Object> updatedState = new HashMap<>(state);
+    // row count 폴링 시절 키는 더 이상 쓰지 않는다
+    updatedState.remove("lastCheckedAt");
+    updatedState.remove("lastSnapshot");
+    updatedState.put("lastVersions", versions);
+    return updatedState;
   }
 
+  /** 기록된 버전 (datasetId → version). 기록이 없으면 null. */
   @SuppressWarnings("unchecked")
-  private Map<Long, Long> getLastSnapshot(Map<String, Object> state) {
-    if (!state.containsKey("lastSnapshot")) {
-      return Map.of();
+  private Map<Long, Long> getLastVersions(Map<String, Object> state) {
+    if (!state.containsKey("lastVersions")) {
+      return null;
     }
     try {
-      Map<String, Object> raw = (Map<String, Object>) state.get("lastSnapshot");
+      Map<String, Object> raw = (Map<String, Object>) state.get("lastVersions");
       Map<Long, Long> result = new HashMap<>();
       for (Map.Entry<String, Object> entry : raw.entrySet()) {
         result.put(Long.parseLong(entry.getKey()), ((Number) entry.getValue()).longValue());
       }
       return result;
     } catch (Exception e) {
-      return Map.of();
+      return null;
     }
   }
 
-  private boolean isDebounceElapsed(Map<String, Object> state, int debounceSeconds) {
+  /** 다음 발화가 허용되는 시각 (epoch ms). 발화 기록이 없으면 0. */
+  private long debounceDueAt(Map<String, Object> state, int debounceSeconds) {
     if (!state.containsKey("lastFiredAt")) {
-      return true;
+      return 0L;
     }
     try {
       LocalDateTime lastFired = LocalDateTime.parse(state.get("lastFiredAt").toString());
-      return ChronoUnit.SECONDS.between(lastFired, LocalDateTime.now()) >= debounceSeconds;
+      return lastFired
+          .plusSeconds(debounceSeconds)
+          .atZone(ZoneId.systemDefault())
+          .toInstant()
+          .toEpochMilli();
     } catch (Exception e) {
-      return true;
+      return 0L;
     }
   }
 
@@ -1,7 +1,5 @@
 package com.smartfirehub.pipeline.service.executor;
 
-import static org.jooq.impl.DSL.*;
-
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.dataset.repository.DatasetRepository;
@@ -17,15 +15,12 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jooq.DSLContext;
-import org.jooq.Field;
-import org.jooq.JSONB;
-import org.jooq.Table;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -33,18 +28,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class AiClassifyExecutor {
 
-  private static final Table<?> AI_INFERENCE_CACHE = table(name("ai_inference_cache"));
-  private static final Field<String> CACHE_ROW_HASH = field(name("row_hash"), String.class);
-  private static final Field<String> CACHE_PROMPT_VERSION =
-      field(name("prompt_version"), String.class);
-  private static final Field<JSONB> CACHE_RESULT_JSON = field(name("result_json"), JSONB.class);
-
   private final AiAgentClient aiAgentClient;
   private final DataTableRowService dataTableRowService;
   private final DataTableService dataTableService;
   private final DatasetRepository datasetRepository;
   private final ObjectMapper objectMapper;
-  private final DSLContext dsl;
+  private final AiInferenceCache inferenceCache;
+  private final StepPermits stepPermits;
+
+  /** 입력 테이블을 읽는 keyset 페이지 크기. */
+  private static final int INPUT_PAGE_SIZE = 1000;
 
   public record ExecutionResult(long outputRows, String executionLog) {}
 
@@ -72,15 +65,19 @@ public class AiClassifyExecutor {
             .map(col -> Map.of("name", col.name(), "type", col.type()))
             .toList();
 
-    // 1. Fetch input rows (filtered by inputColumns if specified; id always included)
-    List<Map<String, Object>> allInputRows = fetchInputRows(step, config);
+    // 1. Count input rows (rows are streamed page by page below, not loaded up front)
+    List<String> inputTables = resolveInputTables(step);
+    long totalInputRows = 0;
+    for (String tableName : inputTables) {
+      totalInputRows += dataTableRowService.countRows(tableName);
+    }
 
-    if (allInputRows.isEmpty()) {
+    if (totalInputRows == 0) {
       log.info("[AI_CLASSIFY] Step '{}': No input rows found, skipping", step.name());
       return new ExecutionResult(0, "No input rows found");
     }
 
-    log.info("[AI_CLASSIFY] Step '{}': {} input rows", step.name(), allInputRows.size());
+    log.info("[AI_CLASSIFY] Step '{}': {} input rows", step.name(), totalInputRows);
 
     // 2. Load strategy
     String loadStrategy = step.loadStrategy() != null ? step.loadStrategy() : "REPLACE";
@@ -97,64 +94,26 @@ public class AiClassifyExecutor {
     outputColumnNames.add("source_id");
     config.outputColumns().forEach(col -> outputColumnNames.add(col.name()));
 
-    List<Map<String, Object>> outputRows = new ArrayList<>();
-    int totalProcessed = 0;
-    int totalCached = 0;
-    int totalErrors = 0;
+    BatchRun run =
+        new BatchRun(
+            step,
+            config,
+            promptHash,
+            outputColumnSpecs,
+            userId,
+            batchSize,
+            onError,
+            (int) Math.ceil((double) totalInputRows / batchSize));
+    List<Map<String, Object>> outputRows = run.outputRows;
 
     try {
-      List<List<Map<String, Object>>> batches = partition(allInputRows, batchSize);
-
-      for (int batchIdx = 0; batchIdx < batches.size(); batchIdx++) {
-        List<Map<String, Object>> batch = batches.get(batchIdx);
-        log.info(
-            "[AI_CLASSIFY] Step '{}': Processing batch {}/{} ({} rows)",
-            step.name(),
-            batchIdx + 1,
-            batches.size(),
-            batch.size());
-
-        try {
-          BatchResult batchResult =
-              processBatch(batch, config, promptHash, outputColumnSpecs, userId);
-          totalCached += batchResult.cached();
-          totalProcessed += batchResult.processed();
-          outputRows.addAll(batchResult.rows());
-
-        } catch (Exception e) {
-          totalErrors++;
-          log.error(
-              "[AI_CLASSIFY] Step '{}': Batch {} failed: {}",
-              step.name(),
-              batchIdx + 1,
-              e.getMessage());
-
-          if ("FAIL_STEP".equals(onError)) {
-            throw new RuntimeException(
-                "AI_CLASSIFY batch " + (batchIdx + 1) + " failed: " + e.getMessage(), e);
-          } else if ("RETRY_BATCH".equals(onError)) {
-            boolean retrySuccess = false;
-            for (int retry = 1; retry <= 3; retry++) {
-              try {
-                Thread.sleep((long) Math.pow(2, retry) * 1000);
-                BatchResult batchResult =
-                    processBatch(batch, config, promptHash, outputColumnSpecs, userId);
-                totalCached += batchResult.cached();
-                totalProcessed += batchResult.processed();
-                outputRows.addAll(batchResult.rows());
-                retrySuccess = true;
-                break;
-              } catch (Exception retryEx) {
-                log.warn("[AI_CLASSIFY] Retry {} failed: {}", retry, retryEx.getMessage());
-              }
-            }
-            if (!retrySuccess) {
-              log.error("[AI_CLASSIFY] All retries exhausted for batch {}", batchIdx + 1);
-            }
-          }
-          // CONTINUE: skip batch
-        }
+      // keyset 페이지로 입력을 흘려 읽으며 batchSize마다 처리한다(OFFSET 페이징의 뒤쪽 페이지 재스캔 제거).
+      List<String> columnsToFetch = resolveInputColumns(config);
+      for (String tableName : inputTables) {
+        dataTableRowService.forEachPage(
+            tableName, columnsToFetch, null, null, INPUT_PAGE_SIZE, run::offer);
       }
+      run.flush();
 
       // 4. Insert all output rows (AI는 모든 값을 문자열/숫자로 반환 → Java 타입 변환 후 삽입)
       if (!outputRows.isEmpty()) {
@@ -186,7 +145,7 @@ public class AiClassifyExecutor {
     String executionLog =
         String.format(
             "AI_CLASSIFY completed: %d rows output, %d cached, %d AI-processed, %d batch errors",
-            outputRows.size(), totalCached, totalProcessed, totalErrors);
+            outputRows.size(), run.totalCached, run.totalProcessed, run.totalErrors);
     log.info("[AI_CLASSIFY] Step '{}': {}", step.name(), executionLog);
 
     return new ExecutionResult(outputRows.size(), executionLog);
@@ -201,23 +160,23 @@ public class AiClassifyExecutor {
       List<Map<String, String>> outputColumnSpecs,
       Long userId) {
 
+    // 배치 전체 해시를 한 번에 조회한다(인메모리 → ai_inference_cache row_hash = ANY(?))
+    List<String> rowHashes = new ArrayList<>(batch.size());
+    for (Map<String, Object> row : batch) {
+      rowHashes.add(sha256(toJson(row) + promptHash));
+    }
+    Map<String, String> cachedByHash = inferenceCache.lookup(promptHash, rowHashes);
+
     List<Map<String, Object>> cacheHits = new ArrayList<>();
     List<Map<String, Object>> cacheMissRows = new ArrayList<>();
 
-    for (Map<String, Object> row : batch) {
-      String rowJson = toJson(row);
-      String rowHash = sha256(rowJson + promptHash);
-
-      var cached =
-          dsl.select(CACHE_RESULT_JSON)
-              .from(AI_INFERENCE_CACHE)
-              .where(CACHE_ROW_HASH.eq(rowHash))
-              .and(CACHE_PROMPT_VERSION.eq(promptHash))
-              .fetchOne();
-
-      if (cached != null && cached.get(CACHE_RESULT_JSON) != null) {
-        Map<String, Object> cachedValues = fromJson(cached.get(CACHE_RESULT_JSON).data());
-        Map<String, Object> outputRow = new HashMap<>(cachedValues);
+    for (int i = 0; i < batch.size(); i++) {
+      Map<String, Object> row = batch.get(i);
+      String rowHash = rowHashes.get(i);
+      String cachedJson = cachedByHash.get(rowHash);
+
+      if (cachedJson != null) {
+        Map<String, Object> outputRow = new HashMap<>(fromJson(cachedJson));
         if (!outputRow.containsKey("source_id") && row.containsKey("id")) {
           outputRow.put("source_id", row.get("id"));
         }
@@ -256,6 +215,7 @@ public class AiClassifyExecutor {
                   Collectors.toMap(
                       r -> String.valueOf(r.values().get("source_id")), r -> r, (a, b) -> a));
 
+      Map<String, String> toCache = new LinkedHashMap<>();
       for (Map<String, Object> missRow : cacheMissRows) {
         String rowHash = (String) missRow.get("_rowHash");
         Object sourceId = missRow.get("id");
@@ -272,59 +232,146 @@ public class AiClassifyExecutor {
           outputRow.put("source_id", sourceId);
         }
 
-        // Save to cache
-        try {
-          String resultJson = toJson(outputRow);
-          dsl.insertInto(AI_INFERENCE_CACHE)
-              .set(CACHE_ROW_HASH, rowHash)
-              .set(CACHE_PROMPT_VERSION, promptHash)
-              .set(CACHE_RESULT_JSON, JSONB.valueOf(resultJson))
-              .onConflictDoNothing()
-              .execute();
-        } catch (Exception e) {
-          log.warn(
-              "[AI_CLASSIFY] Failed to save cache for rowHash {}: {}", rowHash, e.getMessage());
-        }
-
+        toCache.put(rowHash, toJson(outputRow));
         results.add(outputRow);
       }
+
+      // Save to cache — 배치의 새 결과를 다중 행 INSERT 한 번으로 저장
+      inferenceCache.store(promptHash, toCache);
     }
 
     return new BatchResult(results, cacheHits.size(), cacheMissRows.size());
   }
 
-  private List<Map<String, Object>> fetchInputRows(
-      PipelineStepResponse step, AiClassifyConfig config) {
-    List<Map<String, Object>> allRows = new ArrayList<>();
-
-    if (step.inputDatasetIds() == null || step.inputDatasetIds().isEmpty()) {
-      return allRows;
+  /**
+   * 입력 행을 batchSize 단위로 잘라 처리하고 출력 행과 통계를 모은다. 배치 경계는 페이지/테이블 경계와 무관하게 입력 순서대로 batchSize마다
+   * 끊는다(전체 입력을 한 리스트로 나누던 기존 동작과 같다).
+   */
+  private final class BatchRun {
+
+    private final PipelineStepResponse step;
+    private final AiClassifyConfig config;
+    private final String promptHash;
+    private final List<Map<String, String>> outputColumnSpecs;
+    private final Long userId;
+    private final int batchSize;
+    private final String onError;
+    private final int totalBatches;
+
+    private final List<Map<String, Object>> pending = new ArrayList<>();
+    private final List<Map<String, Object>> outputRows = new ArrayList<>();
+    private int batchIdx = 0;
+    private int totalProcessed = 0;
+    private int totalCached = 0;
+    private int totalErrors = 0;
+
+    BatchRun(
+        PipelineStepResponse step,
+        AiClassifyConfig config,
+        String promptHash,
+        List<Map<String, String>> outputColumnSpecs,
+        Long userId,
+        int batchSize,
+        String onError,
+        int totalBatches) {
+      this.step = step;
+      this.config = config;
+      this.promptHash = promptHash;
+      this.outputColumnSpecs = outputColumnSpecs;
+      this.userId = userId;
+      this.batchSize = batchSize;
+      this.onError = onError;
+      this.totalBatches = totalBatches;
     }
 
-    // queryData always includes "id" (as "_id" in result Map), no need to add it
-    List<String> columnsToFetch = null;
-    if (config.inputColumns() != null && !config.inputColumns().isEmpty()) {
-      List<String> cols = new ArrayList<>(config.inputColumns());
-      cols.remove("id"); // queryData already adds id automatically
-      columnsToFetch = cols;
+    void offer(List<Map<String, Object>> page) {
+      pending.addAll(page);
+      int from = 0;
+      while (pending.size() - from >= batchSize) {
+        process(pending.subList(from, from + batchSize));
+        from += batchSize;
+      }
+      pending.subList(0, from).clear();
     }
 
-    for (Long datasetId : step.inputDatasetIds()) {
-      String tableName = datasetRepository.findTableNameById(datasetId).orElse(null);
-      if (tableName == null) continue;
+    void flush() {
+      if (!pending.isEmpty()) {
+        process(pending);
+        pending.clear();
+      }
+    }
 
-      long total = dataTableRowService.countRows(tableName);
-      int pageSize = 1000;
-      int pages = (int) Math.ceil((double) total / pageSize);
+    private void process(List<Map<String, Object>> batch) {
+      int batchNo = ++batchIdx;
+      log.info(
+          "[AI_CLASSIFY] Step '{}': Processing batch {}/{} ({} rows)",
+          step.name(),
+          batchNo,
+          totalBatches,
+          batch.size());
 
-      for (int page = 0; page < pages; page++) {
-        List<Map<String, Object>> rows =
-            dataTableRowService.queryData(tableName, columnsToFetch, null, page, pageSize);
-        allRows.addAll(rows);
+      try {
+        accept(processBatch(batch, config, promptHash, outputColumnSpecs, userId));
+
+      } catch (Exception e) {
+        totalErrors++;
+        log.error(
+            "[AI_CLASSIFY] Step '{}': Batch {} failed: {}", step.name(), batchNo, e.getMessage());
+
+        if ("FAIL_STEP".equals(onError)) {
+          throw new RuntimeException(
+              "AI_CLASSIFY batch " + batchNo + " failed: " + e.getMessage(), e);
+        } else if ("RETRY_BATCH".equals(onError)) {
+          // 백오프 대기 동안은 스텝 허가를 돌려주므로 다른 파이프라인의 스텝을 막지 않는다.
+          // 실행 취소(인터럽트)는 삼키지 않고 스텝 실패로 전파한다.
+          boolean retrySuccess = false;
+          for (int retry = 1; retry <= 3; retry++) {
+            try {
+              stepPermits.sleep((long) Math.pow(2, retry) * 1000);
+              accept(processBatch(batch, config, promptHash, outputColumnSpecs, userId));
+              retrySuccess = true;
+              break;
+            } catch (InterruptedException ie) {
+              Thread.currentThread().interrupt();
+              throw new RuntimeException("AI_CLASSIFY batch " + batchNo + " retry interrupted", ie);
+            } catch (Exception retryEx) {
+              log.warn("[AI_CLASSIFY] Retry {} failed: {}", retry, retryEx.getMessage());
+            }
+          }
+          if (!retrySuccess) {
+            log.error("[AI_CLASSIFY] All retries exhausted for batch {}", batchNo);
+          }
+        }
+        // CONTINUE: skip batch
       }
     }
 
-    return allRows;
+    private void accept(BatchResult batchResult) {
+      totalCached += batchResult.cached();
+      totalProcessed += batchResult.processed();
+      outputRows.addAll(batchResult.rows());
+    }
+  }
+
+  private List<String> resolveInputTables(PipelineStepResponse step) {
+    List<String> tables = new ArrayList<>();
+    if (step.inputDatasetIds() == null) {
+      return tables;
+    }
+    for (Long datasetId : step.inputDatasetIds()) {
+      datasetRepository.findTableNameById(datasetId).ifPresent(tables::add);
+    }
+    return tables;
+  }
+
+  /** 조회할 입력 컬럼. 지정이 없으면 null(전체 컬럼). id는 조회 결과에 항상 포함되므로 목록에서 뺀다. */
+  private static List<String> resolveInputColumns(AiClassifyConfig config) {
+    if (config.inputColumns() == null || config.inputColumns().isEmpty()) {
+      return null;
+    }
+    List<String> cols = new ArrayList<>(config.inputColumns());
+    cols.remove("id");
+    return cols;
   }
 
   private String buildPromptHash(AiClassifyConfig config) {
@@ -353,14 +400,6 @@ public class AiClassifyExecutor {
     }
   }
 
-  private static <T> List<List<T>> partition(List<T> list, int size) {
-    List<List<T>> partitions = new ArrayList<>();
-    for (int i = 0; i < list.size(); i += size) {
-      partitions.add(list.subList(i, Math.min(i + size, list.size())));
-    }
-    return partitions;
-  }
-
   private static String sha256(String input) {
     try {
       MessageDigest digest = MessageDigest.getInstance("SHA-256");
@@ -0,0 +1,126 @@
+package com.smartfirehub.pipeline.service.executor;
+
+import static org.jooq.impl.DSL.*;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep3;
+import org.jooq.JSONB;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI_CLASSIFY 추론 결과 캐시(ai_inference_cache) 접근기.
+ *
+ * <p>행 단위 SELECT/INSERT 대신 배치 단위로 한 번에 조회({@code row_hash = ANY(?)})하고 한 번에 저장(다중 행 INSERT ... ON
+ * CONFLICT DO NOTHING)한다. 테이블 앞에는 크기 제한 인메모리 캐시를 두어, 같은 파이프라인을 반복 실행할 때 DB 왕복 없이 적중시킨다. 값은
+ * result_json 문자열이며 호출자가 매번 새 Map으로 파싱하므로 캐시 항목이 공유·변경되지 않는다.
+ */
+@Slf4j
+@Component
+public class AiInferenceCache {
+
+  private static final Table<?> AI_INFERENCE_CACHE = table(name("ai_inference_cache"));
+  private static final Field<String> CACHE_ROW_HASH = field(name("row_hash"), String.class);
+  private static final Field<String> CACHE_PROMPT_VERSION =
+      field(name("prompt_version"), String.class);
+  private static final Field<JSONB> CACHE_RESULT_JSON = field(name("result_json"), JSONB.class);
+
+  private final DSLContext dsl;
+  private final Cache<String, String> memory;
+
+  public AiInferenceCache(
+      DSLContext dsl, @Value("${firehub.ai-classify.cache-max-entries:100000}") long maxEntries) {
+    this.dsl = dsl;
+    this.memory = Caffeine.newBuilder().maximumSize(Math.max(maxEntries, 0)).build();
+  }
+
+  /**
+   * rowHashes 중 캐시된 결과를 row_hash → result_json으로 반환한다. 인메모리에서 못 찾은 해시만 DB에서 한 번에 조회하고, 찾은 결과는
+   * 인메모리에 채운다. 결과가 없는 해시는 반환 Map에 포함되지 않는다.
+   */
+  public Map<String, String> lookup(String promptVersion, Collection<String> rowHashes) {
+    Map<String, String> found = new HashMap<>();
+    Set<String> misses = new LinkedHashSet<>();
+    for (String rowHash : rowHashes) {
+      String json = memory.getIfPresent(key(promptVersion, rowHash));
+      if (json != null) {
+        found.put(rowHash, json);
+      } else {
+        misses.add(rowHash);
+      }
+    }
+    if (misses.isEmpty()) {
+      return found;
+    }
+
+    for (Record record :
+        dsl.select(CACHE_ROW_HASH, CACHE_RESULT_JSON)
+            .from(AI_INFERENCE_CACHE)
+            .where(CACHE_PROMPT_VERSION.eq(promptVersion))
+            .and(CACHE_ROW_HASH.eq(any(misses.toArray(String[]::new))))
+            .fetch()) {
+      JSONB result = record.get(CACHE_RESULT_JSON);
+      if (result == null) {
+        continue;
+      }
+      String rowHash = record.get(CACHE_ROW_HASH);
+      found.put(rowHash, result.data());
+      memory.put(key(promptVersion, rowHash), result.data());
+    }
+    return found;
+  }
+
+  /**
+   * row_hash → result_json을 한 번의 다중 행 INSERT로 저장한다(이미 있으면 무시). 캐시 저장 실패는 분류 결과에 영향을 주지 않으므로 경고만
+   * 남긴다. 인메모리 캐시에는 RETURNING으로 실제 삽입된 행만 채우고, 충돌로 기존 행이 남은 해시는 비워 두어 다음 조회 때 테이블 값을 읽게 한다.
+   */
+  public void store(String promptVersion, Map<String, String> resultsByRowHash) {
+    if (resultsByRowHash.isEmpty()) {
+      return;
+    }
+    Set<String> inserted = Set.of();
+    try {
+      InsertValuesStep3<?, String, String, JSONB> insert =
+          dsl.insertInto(
+              AI_INFERENCE_CACHE, CACHE_ROW_HASH, CACHE_PROMPT_VERSION, CACHE_RESULT_JSON);
+      for (Map.Entry<String, String> entry : resultsByRowHash.entrySet()) {
+        insert = insert.values(entry.getKey(), promptVersion, JSONB.valueOf(entry.getValue()));
+      }
+      inserted =
+          Set.copyOf(
+              insert
+                  .onConflictDoNothing()
+                  .returning(CACHE_ROW_HASH)
+                  .fetch()
+                  .getValues(CACHE_ROW_HASH));
+    } catch (Exception e) {
+      log.warn(
+          "[AI_CLASSIFY] Failed to save {} cache entries: {}",
+          resultsByRowHash.size(),
+          e.getMessage());
+    }
+    for (Map.Entry<String, String> entry : resultsByRowHash.entrySet()) {
+      String key = key(promptVersion, entry.getKey());
+      if (inserted.contains(entry.getKey())) {
+        memory.put(key, entry.getValue());
+      } else {
+        memory.invalidate(key);
+      }
+    }
+  }
+
+  private static String key(String promptVersion, String rowHash) {
+    return promptVersion + ":" + rowHash;
+  }
+}
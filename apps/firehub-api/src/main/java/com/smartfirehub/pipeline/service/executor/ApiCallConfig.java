@@ -45,8 +45,27 @@ public record ApiCallConfig(
       String numberFormat,
       String sourceTimezone) {}
 
+  /**
+   * 페이지네이션 설정.
+   *
+   * <p>{@code concurrency}가 2 이상이고 첫 페이지에서 {@code totalPath}로 전체 건수를 얻으면, 남은 OFFSET 페이지를 최대
+   * concurrency개까지 동시에 요청한다(opt-in, 미설정 시 순차). {@code requestsPerSecond}는 같은 API 연결(또는 호스트)로 나가는
+   * 요청의 초당 상한으로, 동시 요청과 재시도를 모두 포함한다.
+   */
   public record PaginationConfig(
-      String type, Integer pageSize, String offsetParam, String limitParam, String totalPath) {}
+      String type,
+      Integer pageSize,
+      String offsetParam,
+      String limitParam,
+      String totalPath,
+      Integer concurrency,
+      Integer requestsPerSecond) {
+
+    public PaginationConfig(
+        String type, Integer pageSize, String offsetParam, String limitParam, String totalPath) {
+      this(type, pageSize, offsetParam, limitParam, totalPath, null, null);
+    }
+  }
 
   public record RetryConfig(Integer maxRetries, Integer initialBackoffMs, Integer maxBackoffMs) {}
 }
@@ -1,5 +1,7 @@
 package com.smartfirehub.pipeline.service.executor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.smartfirehub.apiconnection.dto.ApiConnectionResponse;
 import com.smartfirehub.apiconnection.service.UrlUtils;
 import com.smartfirehub.dataset.service.DataTableRowService;
@@ -8,12 +10,20 @@ import com.smartfirehub.global.exception.ExternalServiceException;
 import java.net.URI;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -21,7 +31,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.util.retry.Retry;
 
 /**
  * @deprecated Use {@link ExecutorClient#executeApiCall} instead. Retained for
@@ -41,6 +53,7 @@ public class ApiCallExecutor {
   private static final int DEFAULT_PAGE_SIZE = 100;
   private static final int DEFAULT_MAX_RESPONSE_SIZE_MB = 10;
   private static final int MAX_REDIRECTS = 5;
+  private static final int MAX_PAGE_CONCURRENCY = 16;
 
   private final SsrfProtectionService ssrfProtectionService;
   private final JsonResponseParser jsonResponseParser;
@@ -49,12 +62,26 @@ public class ApiCallExecutor {
   private final DataTableRowService dataTableRowService;
   private final WebClient.Builder webClientBuilder;
 
+  @Qualifier("apiFetchExecutor")
+  private final Executor fetchExecutor;
+
+  private final StepPermits stepPermits;
+
+  /**
+   * API 연결(또는 호스트)과 초당 요청 수별 요청 간격 조절기. 같은 연결·같은 상한을 쓰는 스텝끼리 상한을 함께 지키고, 상한이 다른 스텝은 서로의
+   * 설정을 덮어쓰지 않는다. 값은 약한 참조라 실행 중인 스텝이 쥐고 있는 동안만 남고 쓰지 않는 조절기는 GC와 함께 사라진다.
+   */
+  private final Cache<String, RequestPacer> pacers =
+      Caffeine.newBuilder().weakValues().maximumSize(1000).build();
+
   // -------------------------------------------------------------------------
   // Result type
   // -------------------------------------------------------------------------
 
   public record ApiCallResult(int totalRows, String log) {}
 
+  private record PageFetchResult(int rows, int pages, boolean timedOut) {}
+
   // -------------------------------------------------------------------------
   // Public entry point
   // -------------------------------------------------------------------------
@@ -112,6 +139,11 @@ public class ApiCallExecutor {
         // Offset pagination loop
         ApiCallConfig.PaginationConfig pag = config.pagination();
         int pageSize = (pag.pageSize() != null) ? pag.pageSize() : DEFAULT_PAGE_SIZE;
+        int concurrency =
+            (pag.concurrency() != null)
+                ? Math.min(Math.max(pag.concurrency(), 1), MAX_PAGE_CONCURRENCY)
+                : 1;
+        RequestPacer pacer = resolvePacer(pag, resolvedUrl, conn);
         int offset = 0;
         Integer totalCount = null;
 
@@ -123,7 +155,8 @@ public class ApiCallExecutor {
 
           // Fetch page
           String responseBody =
-              executeRequest(config, resolvedUrl, decryptedAuthConfig, pagParams, timeoutMs);
+              executeRequest(
+                  config, resolvedUrl, decryptedAuthConfig, pagParams, timeoutMs, pacer);
 
           // Parse data
           List<Map<String, Object>> rows =
@@ -160,12 +193,7 @@ public class ApiCallExecutor {
           // Check duration
           long elapsed = System.currentTimeMillis() - startTime;
           if (elapsed >= maxDurationMs) {
-            executionLog
-                .append("[WARN] maxDurationMs (")
-                .append(maxDurationMs)
-                .append(" ms) exceeded after ")
-                .append(totalPages)
-                .append(" pages. Partial result.\n");
+            appendDurationWarning(executionLog, maxDurationMs, totalPages);
             break;
           }
 
@@ -175,12 +203,36 @@ public class ApiCallExecutor {
           }
 
           offset = offsetPaginationHandler.getNextOffset(offset, pageSize);
+
+          // 전체 건수를 알면 남은 오프셋이 확정되므로, 병렬 모드에서는 나머지 페이지를 동시에 요청한다
+          if (concurrency > 1 && totalCount != null) {
+            PageFetchResult fetched =
+                fetchRemainingPages(
+                    config,
+                    resolvedUrl,
+                    decryptedAuthConfig,
+                    columnTypeMap,
+                    insertTarget,
+                    offset,
+                    pageSize,
+                    totalCount,
+                    concurrency,
+                    pacer,
+                    timeoutMs,
+                    startTime + maxDurationMs);
+            totalRows += fetched.rows();
+            totalPages += fetched.pages();
+            if (fetched.timedOut()) {
+              appendDurationWarning(executionLog, maxDurationMs, totalPages);
+            }
+            break;
+          }
         }
 
       } else {
         // Single request (no pagination)
         String responseBody =
-            executeRequest(config, resolvedUrl, decryptedAuthConfig, Map.of(), timeoutMs);
+            executeRequest(config, resolvedUrl, decryptedAuthConfig, Map.of(), timeoutMs, null);
         List<Map<String, Object>> rows =
             jsonResponseParser.parseAndMap(
                 responseBody, config.dataPath(), config.fieldMappings(), columnTypeMap);
@@ -230,16 +282,180 @@ public class ApiCallExecutor {
     return new ApiCallResult(totalRows, executionLog.toString());
   }
 
+  // -------------------------------------------------------------------------
+  // Concurrent OFFSET page fetch
+  // -------------------------------------------------------------------------
+
+  /**
+   * firstOffset부터 totalCount까지 남은 페이지를 최대 concurrency개씩 동시에 요청하고, 도착하는 순서대로 insertTarget에 적재한다.
+   *
+   * <p>HTTP 요청·재시도·파싱은 {@code apiFetchExecutor} 스레드에서, 적재는 호출 스레드에서만 수행하므로 REPLACE 임시 테이블 교체는
+   * 순차 모드와 똑같이 모든 페이지가 성공한 뒤에만 일어난다. 페이지 하나가 재시도를 모두 소진하면 진행 중인 요청을 취소하고 예외를 전파한다.
+   * deadline을 넘기면 진행 중인 요청을 버리고 그때까지 적재한 결과로 끝낸다(timedOut). 행은 페이지 완료 순서로 적재된다.
+   */
+  private PageFetchResult fetchRemainingPages(
+      ApiCallConfig config,
+      String resolvedUrl,
+      Map<String, String> decryptedAuthConfig,
+      Map<String, String> columnTypeMap,
+      String insertTarget,
+      int firstOffset,
+      int pageSize,
+      int totalCount,
+      int concurrency,
+      RequestPacer pacer,
+      int timeoutMs,
+      long deadline) {
+
+    ApiCallConfig.PaginationConfig pag = config.pagination();
+    List<Integer> offsets = new ArrayList<>();
+    int offset = firstOffset;
+    while (true) {
+      offsets.add(offset);
+      if (!offsetPaginationHandler.hasNextPage(offset, pageSize, totalCount, pageSize)) {
+        break;
+      }
+      offset = offsetPaginationHandler.getNextOffset(offset, pageSize);
+    }
+    log.debug(
+        "Fetching {} remaining pages from offset={} with concurrency={}",
+        offsets.size(),
+        firstOffset,
+        concurrency);
+
+    CompletionService<List<Map<String, Object>>> completion =
+        new ExecutorCompletionService<>(fetchExecutor);
+    List<Future<List<Map<String, Object>>>> inFlight = new ArrayList<>();
+    Iterator<Integer> remaining = offsets.iterator();
+    int rows = 0;
+    int pages = 0;
+    try {
+      while (remaining.hasNext() || !inFlight.isEmpty()) {
+        while (inFlight.size() < concurrency && remaining.hasNext()) {
+          Map<String, String> pagParams =
+              offsetPaginationHandler.buildPaginationParams(
+                  pag.offsetParam(), pag.limitParam(), remaining.next(), pageSize);
+          inFlight.add(
+              completion.submit(
+                  () ->
+                      jsonResponseParser.parseAndMap(
+                          executeRequest(
+                              config,
+                              resolvedUrl,
+                              decryptedAuthConfig,
+                              pagParams,
+                              timeoutMs,
+                              pacer),
+                          config.dataPath(),
+                          config.fieldMappings(),
+                          columnTypeMap)));
+        }
+
+        // 페이지 응답을 기다리는 동안은 스텝 허가를 돌려준다
+        Future<List<Map<String, Object>>> future = stepPermits.awaiting(completion::take);
+        inFlight.remove(future);
+        List<Map<String, Object>> pageRows = getPage(future);
+        pages++;
+        if (!pageRows.isEmpty()) {
+          dataTableRowService.insertBatch(insertTarget, extractColumns(pageRows), pageRows);
+          rows += pageRows.size();
+        }
+
+        if (System.currentTimeMillis() >= deadline) {
+          return new PageFetchResult(rows, pages, remaining.hasNext() || !inFlight.isEmpty());
+        }
+      }
+      return new PageFetchResult(rows, pages, false);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiCallException("Interrupted during concurrent page fetch", e);
+    } finally {
+      for (Future<List<Map<String, Object>>> future : inFlight) {
+        future.cancel(true);
+      }
+    }
+  }
+
+  private static List<Map<String, Object>> getPage(Future<List<Map<String, Object>>> future)
+      throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new ApiCallException("Page fetch failed: " + cause.getMessage(), cause);
+    }
+  }
+
+  /** requestsPerSecond가 설정된 경우 API 연결(없으면 호스트) 단위 조절기를 반환한다. 미설정이면 null(제한 없음). */
+  private RequestPacer resolvePacer(
+      ApiCallConfig.PaginationConfig pag, String resolvedUrl, ApiConnectionResponse conn) {
+    if (pag.requestsPerSecond() == null || pag.requestsPerSecond() <= 0) {
+      return null;
+    }
+    String key =
+        (conn != null)
+            ? "connection:" + conn.id()
+            : "host:" + UriComponentsBuilder.fromUriString(resolvedUrl).build().getHost();
+    int rps = pag.requestsPerSecond();
+    return pacers.get(key + "@" + rps, k -> new RequestPacer(rps));
+  }
+
+  private static void appendDurationWarning(
+      StringBuilder executionLog, int maxDurationMs, int totalPages) {
+    executionLog
+        .append("[WARN] maxDurationMs (")
+        .append(maxDurationMs)
+        .append(" ms) exceeded after ")
+        .append(totalPages)
+        .append(" pages. Partial result.\n");
+  }
+
+  /**
+   * 요청 시작 시각을 1/requestsPerSecond 간격으로 예약해 초당 요청 수를 제한한다. 슬롯 예약만 락 안에서 하고, 대기는 호출자가 Reactor
+   * 타이머({@code Mono.delay})로 하므로 여러 요청이 동시에 기다려도 스레드를 점유하지 않고 각자 다른 슬롯을 받는다.
+   */
+  static final class RequestPacer {
+
+    private final long intervalNanos;
+    private long nextSlotNanos = System.nanoTime();
+
+    RequestPacer(int requestsPerSecond) {
+      this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+    }
+
+    /** 다음 슬롯을 예약하고 그때까지 기다려야 할 시간(ns)을 반환한다. 0이면 바로 요청해도 된다. */
+    synchronized long reserve() {
+      long now = System.nanoTime();
+      long slot = (nextSlotNanos - now > 0) ? nextSlotNanos : now;
+      nextSlotNanos = slot + intervalNanos;
+      return slot - now;
+    }
+  }
+
   // -------------------------------------------------------------------------
   // HTTP execution with retry
   // -------------------------------------------------------------------------
 
+  /**
+   * 재시도를 포함해 요청 하나를 실행하고 응답 본문을 반환한다.
+   *
+   * <p>재시도 백오프와 요청 간격 대기는 Reactor 타이머({@link Retry#backoff}, {@code Mono.delay})로 처리하므로, 기다리는 동안 실행
+   * 스레드를 재우지 않는다. 호출 스레드는 최종 결과를 한 번만 기다리며, 이 대기 동안은 스텝 허가({@link StepPermits})를 돌려주므로 응답·백오프를
+   * 기다리는 스텝이 다른 파이프라인의 스텝을 막지 않는다. ApiCallException(401/400/403/404, 응답 크기 초과)은 재시도하지 않는다.
+   */
   private String executeRequest(
       ApiCallConfig config,
       String resolvedUrl,
       Map<String, String> decryptedAuthConfig,
       Map<String, String> paginationParams,
-      int timeoutMs) {
+      int timeoutMs,
+      RequestPacer pacer) {
 
     int maxRetries = DEFAULT_MAX_RETRIES;
     int initialBackoff = DEFAULT_INITIAL_BACKOFF;
@@ -252,44 +468,44 @@ public class ApiCallExecutor {
       if (config.retry().maxBackoffMs() != null) maxBackoff = config.retry().maxBackoffMs();
     }
 
-    int attempt = 0;
-    int backoffMs = initialBackoff;
-    Exception lastException = null;
-
-    while (attempt <= maxRetries) {
-      try {
-        return doHttpRequest(config, resolvedUrl, decryptedAuthConfig, paginationParams, timeoutMs);
-      } catch (ApiCallException e) {
-        // Non-retryable: propagate immediately
-        throw e;
-      } catch (Exception e) {
-        lastException = e;
-        attempt++;
-        if (attempt > maxRetries) {
-          break;
-        }
-        int jitter = (int) (Math.random() * 1000);
-        int sleepMs = Math.min(backoffMs + jitter, maxBackoff);
-        log.warn(
-            "Request failed (attempt {}/{}), retrying in {} ms: {}",
-            attempt,
-            maxRetries,
-            sleepMs,
-            e.getMessage());
-        try {
-          Thread.sleep(sleepMs);
-        } catch (InterruptedException ie) {
-          Thread.currentThread().interrupt();
-          throw new ApiCallException("Interrupted during retry backoff", ie);
-        }
-        backoffMs = Math.min(backoffMs * 2, maxBackoff);
-      }
+    int retries = maxRetries;
+    Mono<String> attempt =
+        Mono.defer(
+            () -> {
+              Mono<String> request =
+                  doHttpRequest(
+                      config, resolvedUrl, decryptedAuthConfig, paginationParams, timeoutMs);
+              long waitNanos = (pacer != null) ? pacer.reserve() : 0;
+              return (waitNanos > 0)
+                  ? Mono.delay(Duration.ofNanos(waitNanos)).then(request)
+                  : request;
+            });
+
+    Mono<String> withRetry =
+        attempt.retryWhen(
+            Retry.backoff(retries, Duration.ofMillis(initialBackoff))
+                .maxBackoff(Duration.ofMillis(Math.max(maxBackoff, initialBackoff)))
+                .filter(e -> !(e instanceof ApiCallException))
+                .doBeforeRetry(
+                    signal ->
+                        log.warn(
+                            "Request failed (attempt {}/{}), retrying: {}",
+                            signal.totalRetries() + 1,
+                            retries,
+                            signal.failure().getMessage()))
+                .onRetryExhaustedThrow(
+                    (spec, signal) ->
+                        new ApiCallException(
+                            "API call failed after " + retries + " retries", signal.failure())));
+    try {
+      return stepPermits.awaiting(withRetry::block);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiCallException("Interrupted while waiting for API response", e);
     }
-
-    throw new ApiCallException("API call failed after " + maxRetries + " retries", lastException);
   }
 
-  private String doHttpRequest(
+  private Mono<String> doHttpRequest(
       ApiCallConfig config,
       String resolvedUrl,
       Map<String, String> decryptedAuthConfig,
@@ -339,31 +555,33 @@ public class ApiCallExecutor {
     // bypass the initial validateUrl() check.
     HttpClient reactorHttpClient = HttpClient.create().followRedirect(false);
 
+    // Builder는 가변 객체이므로 동시 페이지 요청끼리 설정이 섞이지 않도록 복제해서 쓴다
     WebClient client =
         webClientBuilder
+            .clone()
             .clientConnector(new ReactorClientHttpConnector(reactorHttpClient))
             .exchangeStrategies(exchangeStrategies)
             .build();
 
     String method = (config.method() != null) ? config.method().toUpperCase() : "GET";
 
-    try {
-      return executeWithRedirects(
-          client, method, requestUri, config, resolvedUrl, decryptedAuthConfig, timeoutMs, 0);
-    } catch (DataBufferLimitException e) {
-      throw new ApiCallException(
-          "Response exceeded maxResponseSizeMb limit ("
-              + maxResponseSizeMb
-              + " MB) for: "
-              + resolvedUrl,
-          e);
-    } catch (ApiCallException e) {
-      throw e;
-    } catch (Exception e) {
-      // timeout, connection refused, etc. — retryable
-      throw new ExternalServiceException(
-          "Request error for " + resolvedUrl + ": " + e.getMessage(), e);
-    }
+    return executeWithRedirects(
+            client, method, requestUri, config, resolvedUrl, decryptedAuthConfig, timeoutMs, 0)
+        .onErrorMap(
+            DataBufferLimitException.class,
+            e ->
+                new ApiCallException(
+                    "Response exceeded maxResponseSizeMb limit ("
+                        + maxResponseSizeMb
+                        + " MB) for: "
+                        + resolvedUrl,
+                    e))
+        // timeout, connection refused, etc. — retryable
+        .onErrorMap(
+            e -> !(e instanceof ApiCallException),
+            e ->
+                new ExternalServiceException(
+                    "Request error for " + resolvedUrl + ": " + e.getMessage(), e));
   }
 
   /**
@@ -376,7 +594,7 @@ public class ApiCallExecutor {
    *
    * @param redirectCount number of redirects followed so far (guards against infinite loops)
    */
-  private String executeWithRedirects(
+  private Mono<String> executeWithRedirects(
       WebClient client,
       String method,
       URI requestUri,
@@ -387,8 +605,9 @@ public class ApiCallExecutor {
       int redirectCount) {
 
     if (redirectCount > MAX_REDIRECTS) {
-      throw new ApiCallException(
-          "Too many redirects (max " + MAX_REDIRECTS + ") for: " + resolvedUrl);
+      return Mono.error(
+          new ApiCallException(
+              "Too many redirects (max " + MAX_REDIRECTS + ") for: " + resolvedUrl));
     }
 
     WebClient.RequestHeadersSpec<?> requestSpec =
@@ -399,87 +618,85 @@ public class ApiCallExecutor {
     // cannot return two values at once.
     AtomicReference<String> locationRef = new AtomicReference<>();
 
-    String body =
-        requestSpec
-            .exchangeToMono(
-                response -> {
-                  HttpStatusCode status = response.statusCode();
-
-                  if (status.is3xxRedirection()) {
-                    // Capture Location header, drain body without buffering, signal redirect with
-                    // null
-                    String location = response.headers().asHttpHeaders().getFirst("Location");
-                    locationRef.set(location);
-                    return response
-                        .releaseBody()
-                        .thenReturn(""); // sentinel: empty string + locationRef set
-                  }
-
-                  if (status.value() == 401) {
-                    return response
-                        .releaseBody()
-                        .then(
-                            reactor.core.publisher.Mono.error(
-                                new ApiCallException(
-                                    "Authentication failed (401): " + requestUri)));
-                  }
-
-                  if (status.value() == 400 || status.value() == 403 || status.value() == 404) {
-                    return response
-                        .releaseBody()
-                        .then(
-                            reactor.core.publisher.Mono.error(
-                                new ApiCallException(
-                                    "Non-retryable HTTP error "
-                                        + status.value()
-                                        + " for: "
-                                        + requestUri)));
-                  }
-
-                  if (status.is4xxClientError() || status.is5xxServerError()) {
-                    // 5xx and other 4xx are retryable — surface as plain RuntimeException
-                    return response
-                        .bodyToMono(String.class)
-                        .flatMap(
-                            b ->
-                                reactor.core.publisher.Mono.error(
-                                    new RuntimeException(
-                                        "HTTP "
-                                            + status.value()
-                                            + " from "
-                                            + requestUri
-                                            + ": "
-                                            + b)));
-                  }
-
-                  // 2xx — read the response body (size enforced by ExchangeStrategies codec limit)
-                  return response.bodyToMono(String.class);
-                })
-            .timeout(Duration.ofMillis(timeoutMs))
-            .block();
-
-    // Handle redirect: locationRef is set only when a 3xx was received
-    String location = locationRef.get();
-    if (location != null) {
-      log.debug("Redirect {}/{}: {} -> {}", redirectCount + 1, MAX_REDIRECTS, requestUri, location);
-
-      // SSRF-validate the redirect target before following it
-      ssrfProtectionService.validateUrl(location);
-
-      URI redirectUri = URI.create(location);
-      // Redirects always use GET (standard 301/302/303 behaviour)
-      return executeWithRedirects(
-          client,
-          "GET",
-          redirectUri,
-          config,
-          resolvedUrl,
-          decryptedAuthConfig,
-          timeoutMs,
-          redirectCount + 1);
-    }
+    return requestSpec
+        .exchangeToMono(
+            response -> {
+              HttpStatusCode status = response.statusCode();
+
+              if (status.is3xxRedirection()) {
+                // Capture Location header, drain body without buffering, signal redirect with
+                // null
+                String location = response.headers().asHttpHeaders().getFirst("Location");
+                locationRef.set(location);
+                return response
+                    .releaseBody()
+                    .thenReturn(""); // sentinel: empty string + locationRef set
+              }
+
+              if (status.value() == 401) {
+                return response
+                    .releaseBody()
+                    .then(
+                        Mono.error(
+                            new ApiCallException("Authentication failed (401): " + requestUri)));
+              }
+
+              if (status.value() == 400 || status.value() == 403 || status.value() == 404) {
+                return response
+                    .releaseBody()
+                    .then(
+                        Mono.error(
+                            new ApiCallException(
+                                "Non-retryable HTTP error "
+                                    + status.value()
+                                    + " for: "
+                                    + requestUri)));
+              }
+
+              if (status.is4xxClientError() || status.is5xxServerError()) {
+                // 5xx and other 4xx are retryable — surface as plain RuntimeException
+                return response
+                    .bodyToMono(String.class)
+                    .flatMap(
+                        b ->
+                            Mono.error(
+                                new RuntimeException(
+                                    "HTTP " + status.value() + " from " + requestUri + ": " + b)));
+              }
 
-    return body;
+              // 2xx — read the response body (size enforced by ExchangeStrategies codec limit)
+              return response.bodyToMono(String.class);
+            })
+        .timeout(Duration.ofMillis(timeoutMs))
+        .flatMap(
+            body -> {
+              // Handle redirect: locationRef is set only when a 3xx was received
+              String location = locationRef.get();
+              if (location == null) {
+                return Mono.just(body);
+              }
+              log.debug(
+                  "Redirect {}/{}: {} -> {}",
+                  redirectCount + 1,
+                  MAX_REDIRECTS,
+                  requestUri,
+                  location);
+
+              // SSRF-validate the redirect target before following it
+              ssrfProtectionService.validateUrl(location);
+
+              URI redirectUri = URI.create(location);
+              // Redirects always use GET (standard 301/302/303 behaviour)
+              return executeWithRedirects(
+                  client,
+                  "GET",
+                  redirectUri,
+                  config,
+                  resolvedUrl,
+                  decryptedAuthConfig,
+                  timeoutMs,
+                  redirectCount + 1);
+            });
   }
 
   /**
@@ -0,0 +1,83 @@
+package com.smartfirehub.pipeline.service.executor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 파이프라인 실행을 합친 동시 실행 스텝 수 상한({@code firehub.pipeline.step-workers}).
+ *
+ * <p>스텝은 가상 스레드에서 바로 시작하고 일하는 동안만 허가를 쥔다. 재시도 백오프·HTTP 응답처럼 기다리기만 하는 구간은 {@link #awaiting}으로
+ * 감싸 허가를 잠시 돌려주므로, 백오프 중인 스텝이 상한을 차지해 다른 파이프라인의 스텝을 막지 않는다. 허가를 쥐지 않은 스레드(API 페이지 요청
+ * 등)에서 {@link #awaiting}을 부르면 그대로 실행한다.
+ */
+@Component
+public class StepPermits {
+
+  private final Semaphore permits;
+  private final int limit;
+  // 현재 스레드가 스텝 허가를 쥐고 있는지. 스텝마다 새 가상 스레드라 실행이 끝나면 함께 사라진다
+  private final ThreadLocal<Boolean> held = ThreadLocal.withInitial(() -> false);
+
+  public StepPermits(@Value("${firehub.pipeline.step-workers:8}") int workers) {
+    this.limit = Math.max(workers, 1);
+    this.permits = new Semaphore(limit, true);
+  }
+
+  /** 허가를 얻어 스텝을 실행한다. 허가가 없으면 다른 스텝이 끝나거나 기다리기 시작할 때까지 대기한다. */
+  public <T> T run(Callable<T> step) throws Exception {
+    permits.acquire();
+    held.set(true);
+    try {
+      return step.call();
+    } finally {
+      held.set(false);
+      permits.release();
+    }
+  }
+
+  /** 기다리는 동안 허가를 돌려주고, 끝나면 다시 얻는다. 다시 얻는 동안의 인터럽트는 삼키지 않고 플래그로 남긴다. */
+  public <T> T awaiting(Wait<T> wait) throws InterruptedException {
+    if (!held.get()) {
+      return wait.get();
+    }
+    permits.release();
+    held.set(false);
+    try {
+      return wait.get();
+    } finally {
+      permits.acquireUninterruptibly();
+      held.set(true);
+    }
+  }
+
+  /** 허가를 돌려준 채로 잠든다(재시도 백오프). */
+  public void sleep(long millis) throws InterruptedException {
+    awaiting(
+        () -> {
+          Thread.sleep(millis);
+          return null;
+        });
+  }
+
+  /** 스텝이 쥐고 있는 허가 수. */
+  public int inUse() {
+    return limit - permits.availablePermits();
+  }
+
+  /** 허가를 기다리는 스텝 수. */
+  public int waiting() {
+    return permits.getQueueLength();
+  }
+
+  public int limit() {
+    return limit;
+  }
+
+  /** 허가 없이 기다리는 구간. */
+  @FunctionalInterface
+  public interface Wait<T> {
+    T get() throws InterruptedException;
+  }
+}
@@ -2,6 +2,7 @@ package com.smartfirehub.role.service;
 
 import com.smartfirehub.permission.dto.PermissionResponse;
 import com.smartfirehub.permission.repository.PermissionRepository;
+import com.smartfirehub.permission.service.PermissionsChangedEvent;
 import com.smartfirehub.role.dto.RoleDetailResponse;
 import com.smartfirehub.role.dto.RoleResponse;
 import com.smartfirehub.role.exception.RoleNotFoundException;
@@ -9,6 +10,7 @@ import com.smartfirehub.role.exception.SystemRoleModificationException;
 import com.smartfirehub.role.repository.RoleRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class RoleService {
 
   private final RoleRepository roleRepository;
   private final PermissionRepository permissionRepository;
+  private final ApplicationEventPublisher events;
 
   @Transactional(readOnly = true)
   public List<RoleResponse> getAllRoles() {
@@ -70,6 +73,8 @@ public class RoleService {
     }
 
     roleRepository.deleteById(id);
+    // 역할 보유자를 따로 조회하지 않고 전체 권한 스냅샷을 비운다(역할 변경은 드물다)
+    events.publishEvent(PermissionsChangedEvent.forAllUsers());
   }
 
   @Transactional
@@ -85,5 +90,6 @@ public class RoleService {
     }
 
     roleRepository.setPermissions(roleId, permissionIds);
+    events.publishEvent(PermissionsChangedEvent.forAllUsers());
   }
 }
@@ -0,0 +1,16 @@
+package com.smartfirehub.settings.service;
+
+import java.util.Set;
+
+/** system_settings 변경 알림. keys는 이번 저장으로 갱신된 설정 키 목록. */
+public record SettingsChangedEvent(Set<String> keys) {
+
+  public SettingsChangedEvent {
+    keys = Set.copyOf(keys);
+  }
+
+  /** 갱신된 키 중 prefix로 시작하는 키가 있는지. */
+  public boolean touches(String prefix) {
+    return keys.stream().anyMatch(k -> k.startsWith(prefix));
+  }
+}
@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,6 +44,7 @@ public class SettingsService {
 
   private final SettingsRepository settingsRepository;
   private final EncryptionService encryptionService;
+  private final ApplicationEventPublisher events;
 
   @Transactional(readOnly = true)
   public List<SettingResponse> getByPrefix(String prefix) {
@@ -107,6 +109,8 @@ public class SettingsService {
 
     if (!toUpdate.isEmpty()) {
       settingsRepository.updateSettings(toUpdate, userId);
+      // EmbeddingProviderFactory 등 설정 기반 캐시 무효화
+      events.publishEvent(new SettingsChangedEvent(toUpdate.keySet()));
     }
   }
 
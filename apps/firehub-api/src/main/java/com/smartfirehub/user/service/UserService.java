@@ -2,6 +2,7 @@ package com.smartfirehub.user.service;
 
 import com.smartfirehub.auth.exception.EmailAlreadyExistsException;
 import com.smartfirehub.global.dto.PageResponse;
+import com.smartfirehub.permission.service.PermissionsChangedEvent;
 import com.smartfirehub.role.dto.RoleResponse;
 import com.smartfirehub.role.repository.RoleRepository;
 import com.smartfirehub.user.dto.UserDetailResponse;
@@ -10,6 +11,7 @@ import com.smartfirehub.user.exception.UserNotFoundException;
 import com.smartfirehub.user.repository.UserRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +23,7 @@ public class UserService {
   private final UserRepository userRepository;
   private final RoleRepository roleRepository;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher events;
 
   @Transactional(readOnly = true)
   public PageResponse<UserResponse> getUsers(String search, int page, int size) {
@@ -99,6 +102,7 @@ public class UserService {
               });
     }
     userRepository.setRoles(userId, roleIds);
+    events.publishEvent(PermissionsChangedEvent.forUser(userId));
   }
 
   @Transactional
@@ -0,0 +1,7 @@
+-- 데이터셋 컬럼 통계 스냅샷. 통계 화면이 요청마다 테이블을 프로파일링하지 않도록 마지막 결과를 데이터셋당 1행 JSONB 로 보관한다.
+-- 적재·행 편집 커밋 후 백그라운드 잡이 다시 계산해 덮어쓴다.
+CREATE TABLE IF NOT EXISTS dataset_column_stats (
+    dataset_id  BIGINT      PRIMARY KEY REFERENCES dataset(id) ON DELETE CASCADE,
+    stats       JSONB       NOT NULL,                                -- ColumnStatsResponse 배열
+    computed_at TIMESTAMPTZ NOT NULL                                 -- 프로파일링 시작 시각(이후 변경은 반영되지 않음)
+);
@@ -0,0 +1,8 @@
+-- 데이터셋 행 데이터 변경 저널. 쓰기 경로(DataTableRowService, 적재)가 version 을 1씩 올리고 같은 트랜잭션에서
+-- NOTIFY dataset_change(payload=dataset_id)를 보낸다. DATASET_CHANGE 트리거는 마지막으로 본 version 과 비교해 발화한다
+-- (행 수가 같은 UPDATE 도 감지). 변경이 한 번도 없었던 데이터셋은 행이 없으며 version 0 으로 본다.
+CREATE TABLE IF NOT EXISTS dataset_change (
+    dataset_id BIGINT      PRIMARY KEY REFERENCES dataset(id) ON DELETE CASCADE,
+    version    BIGINT      NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,4 @@
+-- 컬럼 통계 스냅샷에 계산 시점의 dataset_change.version 을 기록한다.
+-- 파이프라인 출력·SQL 편집기 DML 처럼 행 변경 이벤트 없이 버전만 올리는 쓰기도 조회 시 버전 비교로 감지해 갱신한다.
+-- 기존 스냅샷은 0 으로 두어, 한 번이라도 변경된 데이터셋은 다음 조회 때 다시 계산된다.
+ALTER TABLE dataset_column_stats ADD COLUMN IF NOT EXISTS data_version BIGINT NOT NULL DEFAULT 0;
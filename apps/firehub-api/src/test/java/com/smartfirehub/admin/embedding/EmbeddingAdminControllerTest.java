@@ -17,6 +17,7 @@ import com.smartfirehub.global.security.JwtProperties;
 import com.smartfirehub.global.security.JwtTokenProvider;
 import com.smartfirehub.permission.service.PermissionService;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,8 +53,7 @@ class EmbeddingAdminControllerTest {
 
   @BeforeEach
   void setUp() {
-    when(jwtTokenProvider.validateAccessToken("test-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("test-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("test-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L))
         .thenReturn(Set.of("dataset:read", "dataset:write"));
   }
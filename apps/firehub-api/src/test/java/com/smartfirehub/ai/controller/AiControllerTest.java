@@ -55,8 +55,7 @@ class AiControllerTest {
   @MockitoBean private PermissionService permissionService;
 
   private void mockAuthentication(String... permissions) {
-    when(jwtTokenProvider.validateAccessToken("valid-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("valid-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L)).thenReturn(Set.of(permissions));
   }
 
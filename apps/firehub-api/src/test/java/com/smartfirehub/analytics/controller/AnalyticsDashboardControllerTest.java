@@ -16,6 +16,7 @@ import com.smartfirehub.global.security.JwtTokenProvider;
 import com.smartfirehub.permission.service.PermissionService;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,8 +43,7 @@ class AnalyticsDashboardControllerTest {
 
   @BeforeEach
   void setUp() {
-    when(jwtTokenProvider.validateAccessToken("test-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("test-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("test-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L))
         .thenReturn(Set.of("analytics:read", "analytics:write"));
   }
@@ -19,6 +19,7 @@ import com.smartfirehub.permission.service.PermissionService;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,8 +47,7 @@ class SavedQueryControllerTest {
 
   @BeforeEach
   void setUp() {
-    when(jwtTokenProvider.validateAccessToken("test-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("test-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("test-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L))
         .thenReturn(Set.of("analytics:read", "analytics:write"));
   }
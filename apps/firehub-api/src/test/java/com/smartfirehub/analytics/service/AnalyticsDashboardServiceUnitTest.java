@@ -11,21 +11,29 @@ import com.smartfirehub.analytics.dto.DashboardDataResponse;
 import com.smartfirehub.analytics.dto.DashboardResponse;
 import com.smartfirehub.analytics.repository.AnalyticsDashboardRepository;
 import com.smartfirehub.analytics.repository.ChartRepository;
+import com.smartfirehub.analytics.repository.ChartRepository.ChartWithQuery;
 import com.smartfirehub.analytics.repository.DashboardWidgetRepository;
 import com.smartfirehub.analytics.repository.SavedQueryRepository;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
- * AnalyticsDashboardService 순수 단위 테스트. getDashboardData()에서 chartService.getByIdOptional()이 위젯당 1회만
- * 호출되는지 검증 (이슈 #148).
+ * AnalyticsDashboardService 순수 단위 테스트. getDashboardData()가 위젯 차트·쿼리 메타데이터를 한 번에 조회하고(이슈 #148),
+ * saved_query 별로 한 번만, 캐시에 없는 쿼리는 동시에 실행하는지 검증.
  */
 @ExtendWith(MockitoExtension.class)
 class AnalyticsDashboardServiceUnitTest {
@@ -35,167 +43,158 @@ class AnalyticsDashboardServiceUnitTest {
   @Mock private ChartService chartService;
   @Mock private ChartRepository chartRepository;
   @Mock private SavedQueryRepository savedQueryRepository;
+  @Mock private DatasetChangeRepository changeRepository;
+
+  private final ExecutorService queryExecutor = Executors.newFixedThreadPool(4);
+  private AnalyticsDashboardService dashboardService;
+
+  private static final Long DASHBOARD_ID = 1L;
+  private static final Long USER_ID = 10L;
+
+  @BeforeEach
+  void setUp() {
+    dashboardService =
+        new AnalyticsDashboardService(
+            dashboardRepository,
+            widgetRepository,
+            chartService,
+            chartRepository,
+            savedQueryRepository,
+            new AnalyticsResultCache(
+                changeRepository, new SimpleMeterRegistry(), queryExecutor, 1 << 20, 300),
+            queryExecutor,
+            4);
+  }
 
-  @InjectMocks private AnalyticsDashboardService dashboardService;
+  @AfterEach
+  void tearDown() {
+    queryExecutor.shutdownNow();
+  }
 
-  /**
-   * getDashboardData() 위젯 루프에서 동일한 chartId에 대해 chartService.getByIdOptional()이 정확히 1회만 호출되는지 검증. 이전
-   * 코드는 getById()를 2회 호출(null 체크 + 생성자 인수)하여 불필요한 DB 쿼리가 발생했음.
-   */
+  /** 위젯 차트 메타데이터는 위젯 수와 무관하게 배치 조회 1회로 가져오고, 위젯별 getByIdOptional/getById 는 호출하지 않아야 한다. */
   @Test
-  void getDashboardData_chartServiceGetByIdOptional_calledOncePerWidget() {
-    // Given
-    Long dashboardId = 1L;
-    Long userId = 10L;
-    Long chartId = 100L;
-    Long widgetId = 200L;
-    Long savedQueryId = 300L;
-
-    // 위젯 1개 설정
-    DashboardResponse.DashboardWidgetResponse widget =
-        new DashboardResponse.DashboardWidgetResponse(
-            widgetId, chartId, "Test Chart", "BAR", 0, 0, 6, 4);
+  void getDashboardData_loadsChartMetadataInOneBatch() {
+    var widget1 = widget(201L, 100L);
+    var widget2 = widget(202L, 101L);
+    stubDashboard(widget1, widget2);
+    when(chartRepository.findWithQueryByIds(List.of(100L, 101L), USER_ID))
+        .thenReturn(
+            Map.of(
+                100L, new ChartWithQuery(chart(100L, 300L), "SELECT 1"),
+                101L, new ChartWithQuery(chart(101L, 301L), "SELECT 2")));
+    when(chartService.executeQueryForCache(anyString())).thenReturn(queryResponse());
+
+    DashboardDataResponse result = dashboardService.getDashboardData(DASHBOARD_ID, USER_ID);
 
-    DashboardResponse dashboardResponse =
-        new DashboardResponse(
-            dashboardId,
-            "Test Dash",
-            null,
-            false,
-            null,
-            List.of(widget),
-            1,
-            "Owner",
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now());
+    assertThat(result.widgetData()).hasSize(2);
+    verify(chartRepository, times(1)).findWithQueryByIds(anyList(), eq(USER_ID));
+    verify(chartService, never()).getByIdOptional(anyLong(), anyLong());
+    verify(chartService, never()).getById(anyLong(), anyLong());
+  }
 
-    ChartResponse chartResponse =
-        new ChartResponse(
-            chartId,
-            "Test Chart",
-            null,
-            savedQueryId,
-            "Test Query",
-            "BAR",
-            Map.of(),
-            false,
-            "Owner",
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            0L);
+  /** 같은 saved_query 를 쓰는 위젯은 쿼리를 한 번만 실행하고, 다음 요청은 캐시에서 응답해야 한다. */
+  @Test
+  void getDashboardData_sameSavedQuery_executedOnceThenCached() {
+    var widget1 = widget(201L, 100L);
+    var widget2 = widget(202L, 101L);
+    stubDashboard(widget1, widget2);
+    when(chartRepository.findWithQueryByIds(anyList(), eq(USER_ID)))
+        .thenReturn(
+            Map.of(
+                100L, new ChartWithQuery(chart(100L, 300L), "SELECT 1"),
+                101L, new ChartWithQuery(chart(101L, 300L), "SELECT 1")));
+    when(chartService.executeQueryForCache("SELECT 1")).thenReturn(queryResponse());
+
+    dashboardService.getDashboardData(DASHBOARD_ID, USER_ID);
+    DashboardDataResponse result = dashboardService.getDashboardData(DASHBOARD_ID, USER_ID);
 
-    AnalyticsQueryResponse queryResponse =
-        new AnalyticsQueryResponse("SELECT 1", List.of(), List.of(), 0, 0L, 0, false, null);
+    assertThat(result.widgetData()).hasSize(2);
+    verify(chartService, times(1)).executeQueryForCache("SELECT 1");
+  }
 
-    when(widgetRepository.findByDashboardId(dashboardId)).thenReturn(List.of(widget));
-    when(dashboardRepository.findById(eq(dashboardId), eq(userId), anyList()))
-        .thenReturn(Optional.of(dashboardResponse));
-    when(chartRepository.findSavedQueryId(chartId)).thenReturn(savedQueryId);
-    when(chartRepository.findSavedQuerySqlTextById(savedQueryId))
-        .thenReturn(Optional.of("SELECT 1"));
-    when(chartService.executeQueryForCache(anyString())).thenReturn(queryResponse);
-    // getByIdOptional이 호출될 때 chartResponse 반환
-    when(chartService.getByIdOptional(chartId, userId)).thenReturn(Optional.of(chartResponse));
-
-    // When
-    DashboardDataResponse result = dashboardService.getDashboardData(dashboardId, userId);
-
-    // Then: 결과 검증
-    assertThat(result).isNotNull();
-    assertThat(result.widgetData()).hasSize(1);
-
-    // 핵심 검증: chartId당 getByIdOptional 정확히 1회 호출 (이슈 #148)
-    verify(chartService, times(1)).getByIdOptional(chartId, userId);
-    // 이전 코드에서 사용하던 getById()는 이 루프에서 호출되면 안 됨
-    verify(chartService, never()).getById(chartId, userId);
+  /** 서로 다른 saved_query 는 동시에 실행돼야 한다 — 순차 실행이면 서로를 기다리는 두 쿼리가 끝나지 않는다. */
+  @Test
+  void getDashboardData_distinctSavedQueries_runConcurrently() {
+    var widget1 = widget(201L, 100L);
+    var widget2 = widget(202L, 101L);
+    stubDashboard(widget1, widget2);
+    when(chartRepository.findWithQueryByIds(anyList(), eq(USER_ID)))
+        .thenReturn(
+            Map.of(
+                100L, new ChartWithQuery(chart(100L, 300L), "SELECT 1"),
+                101L, new ChartWithQuery(chart(101L, 301L), "SELECT 2")));
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    when(chartService.executeQueryForCache(anyString()))
+        .thenAnswer(
+            inv -> {
+              bothStarted.countDown();
+              if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("queries ran serially");
+              }
+              return queryResponse();
+            });
+
+    DashboardDataResponse result = dashboardService.getDashboardData(DASHBOARD_ID, USER_ID);
+
+    assertThat(result.widgetData()).hasSize(2);
+    assertThat(result.widgetData())
+        .allSatisfy(w -> assertThat(w.chartData().queryResult().error()).isNull());
   }
 
-  /** 위젯이 2개이고 서로 다른 chartId를 가질 때 각 chartId에 대해 getByIdOptional이 각각 1회씩만 호출되는지 검증. */
+  /** 접근할 수 없는 차트(배치 조회 결과에 없음)의 위젯은 제외하고 쿼리도 실행하지 않아야 한다. */
   @Test
-  void getDashboardData_twoWidgetsDifferentCharts_eachCalledOnce() {
-    // Given
-    Long dashboardId = 1L;
-    Long userId = 10L;
-    Long chartId1 = 100L;
-    Long chartId2 = 101L;
-    Long savedQueryId = 300L;
-
-    DashboardResponse.DashboardWidgetResponse widget1 =
-        new DashboardResponse.DashboardWidgetResponse(201L, chartId1, "Chart 1", "BAR", 0, 0, 6, 4);
-    DashboardResponse.DashboardWidgetResponse widget2 =
-        new DashboardResponse.DashboardWidgetResponse(
-            202L, chartId2, "Chart 2", "LINE", 6, 0, 6, 4);
+  void getDashboardData_inaccessibleChart_skipped() {
+    stubDashboard(widget(201L, 100L));
+    when(chartRepository.findWithQueryByIds(anyList(), eq(USER_ID))).thenReturn(Map.of());
+
+    DashboardDataResponse result = dashboardService.getDashboardData(DASHBOARD_ID, USER_ID);
 
+    assertThat(result.widgetData()).isEmpty();
+    verify(chartService, never()).executeQueryForCache(anyString());
+  }
+
+  private void stubDashboard(DashboardResponse.DashboardWidgetResponse... widgets) {
     DashboardResponse dashboardResponse =
         new DashboardResponse(
-            dashboardId,
-            "Two Widget Dash",
+            DASHBOARD_ID,
+            "Test Dash",
             null,
             false,
             null,
-            List.of(widget1, widget2),
-            2,
+            List.of(widgets),
+            widgets.length,
             "Owner",
-            userId,
+            USER_ID,
             LocalDateTime.now(),
             LocalDateTime.now());
-
-    ChartResponse chartResponse1 =
-        new ChartResponse(
-            chartId1,
-            "Chart 1",
-            null,
-            savedQueryId,
-            "Test Query",
-            "BAR",
-            Map.of(),
-            false,
-            "Owner",
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            0L);
-    ChartResponse chartResponse2 =
-        new ChartResponse(
-            chartId2,
-            "Chart 2",
-            null,
-            savedQueryId,
-            "Test Query",
-            "LINE",
-            Map.of(),
-            false,
-            "Owner",
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            0L);
-
-    AnalyticsQueryResponse queryResponse =
-        new AnalyticsQueryResponse("SELECT 1", List.of(), List.of(), 0, 0L, 0, false, null);
-
-    when(widgetRepository.findByDashboardId(dashboardId)).thenReturn(List.of(widget1, widget2));
-    when(dashboardRepository.findById(eq(dashboardId), eq(userId), anyList()))
+    when(widgetRepository.findByDashboardId(DASHBOARD_ID)).thenReturn(List.of(widgets));
+    when(dashboardRepository.findById(eq(DASHBOARD_ID), eq(USER_ID), anyList()))
         .thenReturn(Optional.of(dashboardResponse));
-    when(chartRepository.findSavedQueryId(anyLong())).thenReturn(savedQueryId);
-    when(chartRepository.findSavedQuerySqlTextById(savedQueryId))
-        .thenReturn(Optional.of("SELECT 1"));
-    when(chartService.executeQueryForCache(anyString())).thenReturn(queryResponse);
-    when(chartService.getByIdOptional(chartId1, userId)).thenReturn(Optional.of(chartResponse1));
-    when(chartService.getByIdOptional(chartId2, userId)).thenReturn(Optional.of(chartResponse2));
+  }
 
-    // When
-    DashboardDataResponse result = dashboardService.getDashboardData(dashboardId, userId);
+  private static DashboardResponse.DashboardWidgetResponse widget(Long widgetId, Long chartId) {
+    return new DashboardResponse.DashboardWidgetResponse(
+        widgetId, chartId, "Chart " + chartId, "BAR", 0, 0, 6, 4);
+  }
 
-    // Then
-    assertThat(result.widgetData()).hasSize(2);
+  private static ChartResponse chart(Long chartId, Long savedQueryId) {
+    return new ChartResponse(
+        chartId,
+        "Chart " + chartId,
+        null,
+        savedQueryId,
+        "Test Query",
+        "BAR",
+        Map.of(),
+        false,
+        "Owner",
+        USER_ID,
+        LocalDateTime.now(),
+        LocalDateTime.now(),
+        0L);
+  }
 
-    // 각 chartId마다 정확히 1회씩만 호출
-    verify(chartService, times(1)).getByIdOptional(chartId1, userId);
-    verify(chartService, times(1)).getByIdOptional(chartId2, userId);
-    // getById는 절대 호출되면 안 됨
-    verify(chartService, never()).getById(anyLong(), anyLong());
+  private static AnalyticsQueryResponse queryResponse() {
+    return new AnalyticsQueryResponse("SELECT", List.of(), List.of(), 0, 0L, 0, false, null);
   }
 }
@@ -6,13 +6,17 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.analytics.dto.AnalyticsQueryResponse;
+import com.smartfirehub.dataset.dto.AddColumnRequest;
 import com.smartfirehub.dataset.dto.CreateDatasetRequest;
 import com.smartfirehub.dataset.dto.DatasetColumnRequest;
 import com.smartfirehub.dataset.service.DatasetService;
 import com.smartfirehub.pipeline.service.executor.ExecutorClient;
 import com.smartfirehub.pipeline.service.executor.ExecutorClient.QueryExecuteResult;
 import com.smartfirehub.support.IntegrationTestBase;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.Map;
 import org.jooq.DSLContext;
@@ -34,6 +38,7 @@ class AnalyticsQueryExecutionServiceExtTest extends IntegrationTestBase {
   @Autowired private AnalyticsQueryExecutionService executionService;
   @Autowired private DatasetService datasetService;
   @Autowired private DSLContext dsl;
+  @Autowired private ObjectMapper objectMapper;
 
   /**
    * ExecutorClient를 mock으로 교체 — 실제 executor 서비스 없이 executeViaExecutor 경로 테스트.
@@ -42,6 +47,7 @@ class AnalyticsQueryExecutionServiceExtTest extends IntegrationTestBase {
   @MockitoBean private ExecutorClient executorClient;
 
   private Long testUserId;
+  private Long testDatasetId;
 
   @BeforeEach
   void setUp() {
@@ -60,18 +66,23 @@ class AnalyticsQueryExecutionServiceExtTest extends IntegrationTestBase {
             .get(DSL.field(DSL.name("user", "id"), Long.class));
 
     // 테스트용 data 스키마 테이블 생성
-    datasetService.createDataset(
-        new CreateDatasetRequest(
-            "Exec Ext DS",
-            "exec_ext_test",
-            null,
-            null,
-            "TABLE", "SOURCE",
-            List.of(
-                new DatasetColumnRequest("item", "Item", "TEXT", null, true, false, null),
-                new DatasetColumnRequest("score", "Score", "INTEGER", null, true, false, null)),
-            null),
-        testUserId);
+    testDatasetId =
+        datasetService
+            .createDataset(
+                new CreateDatasetRequest(
+                    "Exec Ext DS",
+                    "exec_ext_test",
+                    null,
+                    null,
+                    "TABLE",
+                    "SOURCE",
+                    List.of(
+                        new DatasetColumnRequest("item", "Item", "TEXT", null, true, false, null),
+                        new DatasetColumnRequest(
+                            "score", "Score", "INTEGER", null, true, false, null)),
+                    null),
+                testUserId)
+            .id();
 
     dsl.execute("INSERT INTO data.exec_ext_test (item, score) VALUES ('apple', 5)");
     dsl.execute("INSERT INTO data.exec_ext_test (item, score) VALUES ('banana', 3)");
@@ -371,6 +382,108 @@ class AnalyticsQueryExecutionServiceExtTest extends IntegrationTestBase {
     assertThat(res.error()).doesNotContain("DROP TABLE data.exec_ext_test");
   }
 
+  // ============================================================
+  // GEOMETRY 컬럼 — describe 후 ST_AsGeoJSON 으로 감싸 한 번에 실행
+  // ============================================================
+
+  @Test
+  void execute_geometryColumn_returnsGeoJson() {
+    String sql =
+        "SELECT item, ST_SetSRID(ST_MakePoint(126.978, 37.566), 4326) AS geom"
+            + " FROM data.exec_ext_test ORDER BY item";
+
+    AnalyticsQueryResponse first = executionService.execute(sql, 100, true);
+    // 두 번째는 캐시된 컬럼 설명으로 실행
+    AnalyticsQueryResponse second = executionService.execute(sql, 100, true);
+
+    for (AnalyticsQueryResponse res : List.of(first, second)) {
+      assertThat(res.error()).isNull();
+      assertThat(res.columns()).containsExactly("item", "geom");
+      assertThat(res.rows()).hasSize(3);
+      assertThat(res.rows().get(0).get("geom")).isInstanceOf(String.class);
+      assertThat((String) res.rows().get(0).get("geom")).contains("Point");
+    }
+  }
+
+  @Test
+  void execute_cachedPlanStaleAfterGeometryColumnAdded_reDescribes() {
+    String sql = "SELECT * FROM data.exec_ext_test WHERE item = 'apple'";
+    assertThat(executionService.execute(sql, 100, true).columns()).doesNotContain("geom");
+
+    dsl.execute("ALTER TABLE data.exec_ext_test ADD COLUMN geom geometry");
+    dsl.execute(
+        "UPDATE data.exec_ext_test SET geom = ST_SetSRID(ST_MakePoint(127.0, 37.5), 4326)");
+
+    AnalyticsQueryResponse res = executionService.execute(sql, 100, true);
+
+    assertThat(res.error()).isNull();
+    assertThat(res.columns()).contains("geom");
+    assertThat(res.rows().get(0).get("geom")).isInstanceOf(String.class);
+    assertThat((String) res.rows().get(0).get("geom")).contains("coordinates");
+  }
+
+  @Test
+  void execute_cachedGeometryPlan_picksUpColumnAddedViaDatasetService() {
+    datasetService.addColumn(
+        testDatasetId, new AddColumnRequest("geom", "Geom", "GEOMETRY", null, true, false, null));
+    dsl.execute(
+        "UPDATE data.exec_ext_test SET geom = ST_SetSRID(ST_MakePoint(127.0, 37.5), 4326)");
+    String sql = "SELECT * FROM data.exec_ext_test WHERE item = 'apple'";
+    // geometry 컬럼이 있어 컬럼 목록을 명시한 CTE 로 감싼 설명이 캐시된다
+    assertThat(executionService.execute(sql, 100, true).columns()).contains("geom");
+
+    datasetService.addColumn(
+        testDatasetId, new AddColumnRequest("memo", "Memo", "TEXT", null, true, false, null));
+    dsl.execute("UPDATE data.exec_ext_test SET memo = 'note' WHERE item = 'apple'");
+
+    // 컬럼 추가로 변경 버전이 올라 캐시된 설명 대신 다시 describe 한다 — TTL 동안 새 컬럼이 빠지지 않는다
+    AnalyticsQueryResponse res = executionService.execute(sql, 100, true);
+
+    assertThat(res.error()).isNull();
+    assertThat(res.columns()).contains("geom", "memo");
+    assertThat(res.rows().get(0).get("memo")).isEqualTo("note");
+    assertThat((String) res.rows().get(0).get("geom")).contains("coordinates");
+  }
+
+  @Test
+  void isGeometryType_matchesExactPostgisTypeNameOnly() {
+    assertThat(AnalyticsQueryExecutionService.isGeometryType("geometry")).isTrue();
+    assertThat(AnalyticsQueryExecutionService.isGeometryType("\"public\".\"geography\"")).isTrue();
+    assertThat(AnalyticsQueryExecutionService.isGeometryType("_geometry")).isFalse();
+    assertThat(AnalyticsQueryExecutionService.isGeometryType("geometry_dump")).isFalse();
+  }
+
+  // ============================================================
+  // 스트리밍 (column-array JSON)
+  // ============================================================
+
+  @Test
+  void executeStreaming_select_writesColumnArrayJson() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    executionService.executeStreaming(
+        "SELECT item, score FROM data.exec_ext_test ORDER BY score", 2, true, out);
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertThat(json.get("columns").toString()).isEqualTo("[\"item\",\"score\"]");
+    assertThat(json.get("rows").toString()).isEqualTo("[[\"banana\",3],[\"apple\",5]]");
+    assertThat(json.get("totalRows").asInt()).isEqualTo(2);
+    assertThat(json.get("truncated").asBoolean()).isTrue();
+    assertThat(json.get("error").isNull()).isTrue();
+  }
+
+  @Test
+  void executeStreaming_readOnlyDml_writesErrorJson() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    executionService.executeStreaming("DELETE FROM data.exec_ext_test", 10, true, out);
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertThat(json.get("columns")).isEmpty();
+    assertThat(json.get("rows")).isEmpty();
+    assertThat(json.get("error").asText()).isNotBlank();
+  }
+
   @Test
   void getSchemaInfo_includesDatasetMetadata() {
     // exec_ext_test 테이블이 data 스키마에 존재하고 dataset과 연결되어 있어야 함
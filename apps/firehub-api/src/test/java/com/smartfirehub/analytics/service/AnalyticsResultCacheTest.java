@@ -0,0 +1,134 @@
+package com.smartfirehub.analytics.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartfirehub.analytics.dto.AnalyticsQueryResponse;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/** AnalyticsResultCache 단위 테스트 — SQL 정규화 키, 데이터 버전 무효화, stale-while-revalidate, 캐시 제외 조건. */
+@ExtendWith(MockitoExtension.class)
+class AnalyticsResultCacheTest {
+
+  @Mock private DatasetChangeRepository changeRepository;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final AtomicInteger executions = new AtomicInteger();
+
+  private AnalyticsResultCache cache(long refreshAfterSeconds) {
+    // 백그라운드 재실행을 호출 스레드에서 바로 돌려 결과를 결정적으로 만든다
+    return new AnalyticsResultCache(
+        changeRepository, registry, Runnable::run, 1 << 20, refreshAfterSeconds);
+  }
+
+  private Supplier<AnalyticsQueryResponse> loader() {
+    return () -> response(executions.incrementAndGet(), null);
+  }
+
+  @Test
+  void get_sameQueryDifferentWhitespace_servedFromCache() {
+    when(changeRepository.findVersionsByTableNames(Set.of("fires")))
+        .thenReturn(Map.of("fires", 3L));
+    AnalyticsResultCache cache = cache(300);
+
+    cache.get("SELECT count(*) FROM fires", 1000, loader());
+    AnalyticsQueryResponse second = cache.get("SELECT count(*)\n  FROM   fires", 1000, loader());
+
+    assertThat(executions).hasValue(1);
+    assertThat(second.affectedRows()).isEqualTo(1);
+    assertThat(registry.counter("analytics_result_cache_total", "result", "hit").count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void keysOf_multipleQueries_looksUpVersionsOnce() {
+    when(changeRepository.findVersionsByTableNames(Set.of("fires", "sensors")))
+        .thenReturn(Map.of("fires", 1L, "sensors", 4L));
+    AnalyticsResultCache cache = cache(300);
+
+    Map<Long, AnalyticsResultCache.Key> keys =
+        cache.keysOf(
+            Map.of(1L, "SELECT * FROM fires", 2L, "SELECT * FROM sensors", 3L, "SHOW search_path"),
+            1000);
+
+    assertThat(keys).containsOnlyKeys(1L, 2L);
+    assertThat(keys.get(2L).versions()).containsExactly(Map.entry("sensors", 4L));
+    verify(changeRepository, times(1)).findVersionsByTableNames(anyCollection());
+  }
+
+  @Test
+  void get_dataVersionChanged_reexecutes() {
+    when(changeRepository.findVersionsByTableNames(anyCollection()))
+        .thenReturn(Map.of("fires", 1L))
+        .thenReturn(Map.of("fires", 2L));
+    AnalyticsResultCache cache = cache(300);
+
+    cache.get("SELECT * FROM fires", 1000, loader());
+    AnalyticsQueryResponse afterImport = cache.get("SELECT * FROM fires", 1000, loader());
+
+    assertThat(executions).hasValue(2);
+    assertThat(afterImport.affectedRows()).isEqualTo(2);
+  }
+
+  @Test
+  void get_staleEntry_servedThenRefreshed() {
+    when(changeRepository.findVersionsByTableNames(anyCollection()))
+        .thenReturn(Map.of("fires", 1L));
+    AnalyticsResultCache cache = cache(0);
+
+    cache.get("SELECT * FROM fires", 1000, loader());
+    AnalyticsQueryResponse stale = cache.get("SELECT * FROM fires", 1000, loader());
+    AnalyticsQueryResponse refreshed = cache.get("SELECT * FROM fires", 1000, loader());
+
+    assertThat(stale.affectedRows()).isEqualTo(1);
+    assertThat(refreshed.affectedRows()).isEqualTo(2);
+  }
+
+  @Test
+  void get_uncacheableQueries_alwaysExecute() {
+    // 데이터셋이 아닌 테이블(버전 없음)
+    when(changeRepository.findVersionsByTableNames(anyCollection())).thenReturn(Map.of());
+    AnalyticsResultCache cache = cache(300);
+
+    cache.get("SELECT * FROM stg_tmp", 1000, loader());
+    cache.get("SELECT * FROM stg_tmp", 1000, loader());
+    cache.get("SELECT * FROM public.\"user\"", 1000, loader());
+    cache.get("SELECT * FROM public.\"user\"", 1000, loader());
+    cache.get("DELETE FROM fires", 1000, loader());
+    cache.get("DELETE FROM fires", 1000, loader());
+
+    assertThat(executions).hasValue(6);
+  }
+
+  @Test
+  void get_errorResponse_notCached() {
+    AnalyticsResultCache cache = cache(300);
+    Supplier<AnalyticsQueryResponse> failing =
+        () -> response(executions.incrementAndGet(), "ERROR: canceling statement due to timeout");
+
+    cache.get("SELECT 1", 1000, failing);
+    cache.get("SELECT 1", 1000, failing);
+
+    assertThat(executions).hasValue(2);
+    verify(changeRepository, never()).findVersionsByTableNames(anyCollection());
+  }
+
+  private static AnalyticsQueryResponse response(int marker, String error) {
+    return new AnalyticsQueryResponse(
+        "SELECT", List.of("n"), List.of(Map.of("n", marker)), marker, 1L, 1, false, error);
+  }
+}
@@ -14,6 +14,7 @@ import com.smartfirehub.global.security.JwtTokenProvider;
 import com.smartfirehub.permission.service.PermissionService;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,8 +39,7 @@ class AuditLogControllerTest {
   @MockitoBean private PermissionService permissionService;
 
   private void mockAuthentication(String... permissions) {
-    when(jwtTokenProvider.validateAccessToken("valid-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("valid-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L)).thenReturn(Set.of(permissions));
   }
 
@@ -22,6 +22,7 @@ import com.smartfirehub.permission.service.PermissionService;
 import com.smartfirehub.user.dto.UserResponse;
 import jakarta.servlet.http.Cookie;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -141,8 +142,7 @@ class AuthControllerTest {
 
   @Test
   void logout_returnsNoContent() throws Exception {
-    when(jwtTokenProvider.validateAccessToken("valid-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("valid-token")).thenReturn(Optional.of(1L));
 
     mockMvc
         .perform(post("/api/v1/auth/logout").header("Authorization", "Bearer valid-token"))
@@ -158,8 +158,7 @@ class AuthControllerTest {
    */
   @Test
   void getMyPermissions_returnsCodes() throws Exception {
-    when(jwtTokenProvider.validateAccessToken("valid-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(42L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("valid-token")).thenReturn(Optional.of(42L));
     when(permissionService.getUserPermissions(42L))
         .thenReturn(Set.of("dataset:read", "dataset:delete"));
 
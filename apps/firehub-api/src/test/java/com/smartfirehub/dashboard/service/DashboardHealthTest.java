@@ -7,6 +7,7 @@ import com.smartfirehub.dashboard.dto.ActivityFeedResponse;
 import com.smartfirehub.dashboard.dto.ActivityFeedResponse.ActivityItem;
 import com.smartfirehub.dashboard.dto.AttentionItemResponse;
 import com.smartfirehub.dashboard.dto.SystemHealthResponse;
+import com.smartfirehub.pipeline.event.PipelineCompletedEvent;
 import com.smartfirehub.support.IntegrationTestBase;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,6 +22,8 @@ class DashboardHealthTest extends IntegrationTestBase {
 
   @Autowired private DashboardService dashboardService;
 
+  @Autowired private DashboardSummary dashboardSummary;
+
   @Autowired private DSLContext dsl;
 
   private Long testUserId;
@@ -195,6 +198,9 @@ class DashboardHealthTest extends IntegrationTestBase {
         .set(AUDIT_LOG.RESULT, "SUCCESS")
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusHours(96))
         .execute();
+
+    // 대시보드 요약은 메모리 스냅샷이다 — 시드한 행(미커밋)을 같은 트랜잭션에서 다시 읽어 반영한다
+    dashboardSummary.reconcile();
   }
 
   // ======================================================================
@@ -240,6 +246,34 @@ class DashboardHealthTest extends IntegrationTestBase {
     assertThat(health.datasetHealth()).isNotNull();
   }
 
+  @Test
+  void getSystemHealth_pipelineEvent_appliedOnNextTick() {
+    int failingBefore = dashboardService.getSystemHealth().pipelineHealth().failing();
+
+    // healthy 파이프라인의 새 실행이 실패 — 이벤트 전에는 스냅샷에 반영되지 않는다
+    Long executionId =
+        dsl.insertInto(PIPELINE_EXECUTION)
+            .set(PIPELINE_EXECUTION.PIPELINE_ID, activePipeline1Id)
+            .set(PIPELINE_EXECUTION.STATUS, "FAILED")
+            .set(PIPELINE_EXECUTION.EXECUTED_BY, testUserId)
+            .returning(PIPELINE_EXECUTION.ID)
+            .fetchOne()
+            .getId();
+    assertThat(dashboardService.getSystemHealth().pipelineHealth().failing())
+        .isEqualTo(failingBefore);
+
+    // 완료 이벤트는 해당 파이프라인만 dirty 로 표시하고, 틱이 그 파이프라인만 다시 읽는다
+    dashboardSummary.onPipelineCompleted(
+        new PipelineCompletedEvent(activePipeline1Id, executionId, "FAILED", testUserId));
+    dashboardSummary.applyChanges();
+
+    assertThat(dashboardService.getSystemHealth().pipelineHealth().failing())
+        .isEqualTo(failingBefore + 1);
+    assertThat(dashboardService.getAttentionItems())
+        .anyMatch(
+            i -> "PIPELINE_FAILED".equals(i.type()) && i.entityId().equals(activePipeline1Id));
+  }
+
   // ======================================================================
   // getAttentionItems() tests
   // ======================================================================
@@ -289,6 +323,7 @@ class DashboardHealthTest extends IntegrationTestBase {
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusHours(1))
         .execute();
 
+    dashboardSummary.reconcile();
     List<AttentionItemResponse> items = dashboardService.getAttentionItems();
 
     List<AttentionItemResponse> importFailures =
@@ -315,6 +350,7 @@ class DashboardHealthTest extends IntegrationTestBase {
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusHours(25))
         .execute();
 
+    dashboardSummary.reconcile();
     List<AttentionItemResponse> items = dashboardService.getAttentionItems();
 
     boolean hasOldImportFailure =
@@ -335,6 +371,7 @@ class DashboardHealthTest extends IntegrationTestBase {
         .set(PIPELINE_EXECUTION.EXECUTED_BY, testUserId)
         .execute();
 
+    dashboardSummary.reconcile();
     List<AttentionItemResponse> items = dashboardService.getAttentionItems();
 
     // Disabled pipeline failure should NOT appear (we only report active pipeline failures)
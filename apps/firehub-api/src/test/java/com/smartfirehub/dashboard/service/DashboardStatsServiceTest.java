@@ -30,6 +30,8 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
 
   @Autowired private DashboardService dashboardService;
 
+  @Autowired private DashboardSummary dashboardSummary;
+
   @Autowired private DSLContext dsl;
 
   private Long testUserId;
@@ -107,6 +109,9 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
             .returning(PIPELINE.ID)
             .fetchOne()
             .getId();
+
+    // 대시보드 요약은 메모리 스냅샷이다 — 시드한 행(미커밋)을 같은 트랜잭션에서 다시 읽어 반영한다
+    dashboardSummary.reconcile();
   }
 
   // ======================================================================
@@ -159,6 +164,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
         .set(PIPELINE.CREATED_BY, testUserId)
         .execute();
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse statsAfter = dashboardService.getStats();
     assertThat(statsAfter.totalPipelines()).isEqualTo(stats.totalPipelines() + 1);
     assertThat(statsAfter.activePipelines()).isEqualTo(stats.activePipelines());
@@ -186,6 +192,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusMinutes(30))
         .execute();
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     // 방금 삽입한 import가 recentImports에 포함되고 status="COMPLETED"여야 함
@@ -211,6 +218,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusMinutes(10))
         .execute();
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     List<RecentImportResponse> imports = stats.recentImports();
@@ -240,6 +248,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
           .execute();
     }
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     // 최대 5건 제한
@@ -270,6 +279,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
         .set(AUDIT_LOG.ACTION_TIME, LocalDateTime.now().minusMinutes(30))
         .execute();
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     List<RecentImportResponse> imports = stats.recentImports();
@@ -298,6 +308,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
           .execute();
     }
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     // 최대 5건 제한
@@ -322,6 +333,7 @@ class DashboardStatsServiceTest extends IntegrationTestBase {
         .set(PIPELINE_EXECUTION.CREATED_AT, LocalDateTime.now().minusHours(1))
         .execute();
 
+    dashboardSummary.reconcile();
     DashboardStatsResponse stats = dashboardService.getStats();
 
     List<com.smartfirehub.dashboard.dto.RecentExecutionResponse> execs = stats.recentExecutions();
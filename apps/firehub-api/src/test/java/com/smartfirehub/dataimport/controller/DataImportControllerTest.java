@@ -50,8 +50,7 @@ class DataImportControllerTest {
 
   @BeforeEach
   void setUp() {
-    when(jwtTokenProvider.validateAccessToken("test-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("test-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("test-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L))
         .thenReturn(Set.of("data:import", "dataset:read"));
     // UserRepository mock: userId 1 → name "testuser"
@@ -0,0 +1,170 @@
+package com.smartfirehub.dataimport.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 셀 변환 CPU 벤치마크: 기존 경로(셀마다 타입 분기 + 형식 순회, 실패는 예외) 대비 컴파일된 {@link ColumnConverter}.
+ *
+ * <p>시각 컬럼이 여럿인 넓은 화재 출동 시트를 흉내 내 행당 변환 시간을 비교한다. 시각 컬럼마다 형식이 달라(ISO 뒤쪽 형식) 기존 경로는 셀마다
+ * 여러 번 예외를 만든다. 측정 전 두 경로의 결과가 같은지 먼저 확인한다. 기본 테스트 실행에서는 건너뛰고 {@code ./gradlew test
+ * -Dbenchmark=true --tests '*ColumnConverterBenchmarkTest'}로 실행한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ColumnConverterBenchmarkTest {
+
+  private static final int ROWS = 200_000;
+
+  private static final List<String> TYPES =
+      List.of(
+          "INTEGER",
+          "TEXT",
+          "TIMESTAMP",
+          "TIMESTAMP",
+          "TIMESTAMP",
+          "TIMESTAMP",
+          "DATE",
+          "DECIMAL",
+          "INTEGER",
+          "BOOLEAN");
+
+  private static final List<DateTimeFormatter> LEGACY_DATE_FORMATTERS =
+      List.of(
+          DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+          DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+          DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+          DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+          DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+          DateTimeFormatter.ofPattern("yyyyMMdd"));
+
+  private static final List<DateTimeFormatter> LEGACY_TIMESTAMP_FORMATTERS =
+      List.of(
+          DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+          DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+          DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss"),
+          DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss"),
+          DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"),
+          DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
+
+  /** 출동 기록 한 행: 신고/출동/도착/완료 시각이 서로 다른 형식으로 기록된 넓은 행. */
+  private static String[] row(int i) {
+    int minute = 10 + i % 50;
+    return new String[] {
+      String.valueOf(i),
+      "incident-" + i,
+      "2024-03-16 09:" + minute + ":00",
+      "16/03/2024 09:" + minute + ":30",
+      "20240316" + "09" + minute + "45",
+      "2024-03-16T10:" + minute + ":00",
+      (10 + i % 18) + "/03/2024",
+      (i % 1000) / 100.0 + "",
+      "1," + (100 + i % 900),
+      i % 3 == 0 ? "yes" : i % 3 == 1 ? "TRUE" : "0"
+    };
+  }
+
+  /** 변경 전 convertValue의 분기/예외 흐름을 그대로 재현한 기준 경로. */
+  private static Object legacyConvert(String value, String dataType) throws Exception {
+    if (value.length() >= 2
+        && ((value.startsWith("'") && value.endsWith("'"))
+            || (value.startsWith("\"") && value.endsWith("\"")))) {
+      value = value.substring(1, value.length() - 1);
+    } else if (value.startsWith("'") || value.startsWith("\"")) {
+      value = value.substring(1);
+    }
+    return switch (dataType) {
+      case "TEXT", "VARCHAR", "GEOMETRY" -> value;
+      case "INTEGER" -> Long.parseLong(value.replace(",", ""));
+      case "DECIMAL" -> new BigDecimal(value.replace(",", ""));
+      case "BOOLEAN" -> {
+        String lower = value.toLowerCase();
+        yield lower.equals("true") || lower.equals("1") || lower.equals("yes");
+      }
+      case "DATE" -> {
+        for (DateTimeFormatter formatter : LEGACY_DATE_FORMATTERS) {
+          try {
+            yield LocalDate.parse(value, formatter);
+          } catch (DateTimeParseException ignored) {
+          }
+        }
+        throw new Exception("날짜 형식이 아닙니다: " + value);
+      }
+      case "TIMESTAMP" -> {
+        for (DateTimeFormatter formatter : LEGACY_TIMESTAMP_FORMATTERS) {
+          try {
+            yield LocalDateTime.parse(value, formatter);
+          } catch (DateTimeParseException ignored) {
+          }
+        }
+        throw new Exception("날짜시간 형식이 아닙니다: " + value);
+      }
+      default -> throw new Exception("알 수 없는 데이터 타입입니다: " + dataType);
+    };
+  }
+
+  private static long legacyPass(String[][] rows) throws Exception {
+    long checksum = 0;
+    for (String[] row : rows) {
+      for (int c = 0; c < row.length; c++) {
+        checksum += legacyConvert(row[c], TYPES.get(c)).hashCode();
+      }
+    }
+    return checksum;
+  }
+
+  private static long compiledPass(String[][] rows) {
+    ColumnConverter[] converters = new ColumnConverter[TYPES.size()];
+    for (int c = 0; c < converters.length; c++) {
+      converters[c] = ColumnConverter.compile(TYPES.get(c));
+    }
+    long checksum = 0;
+    for (String[] row : rows) {
+      for (int c = 0; c < row.length; c++) {
+        checksum += converters[c].convert(row[c]).hashCode();
+      }
+    }
+    return checksum;
+  }
+
+  private interface Pass {
+    long run(String[][] rows) throws Exception;
+  }
+
+  private static double nanosPerRow(Pass pass, String[][] rows) throws Exception {
+    pass.run(rows); // 워밍업(JIT)
+    long start = System.nanoTime();
+    pass.run(rows);
+    return (System.nanoTime() - start) / (double) rows.length;
+  }
+
+  @Test
+  void cpuPerRow_legacyConvertValueVsCompiledConverters() throws Exception {
+    String[][] rows = new String[ROWS][];
+    for (int i = 0; i < ROWS; i++) {
+      rows[i] = row(i);
+    }
+    for (int i = 0; i < 1000; i++) {
+      for (int c = 0; c < TYPES.size(); c++) {
+        assertThat(ColumnConverter.compile(TYPES.get(c)).convert(rows[i][c]))
+            .isEqualTo(legacyConvert(rows[i][c], TYPES.get(c)));
+      }
+    }
+
+    double legacyNanos = nanosPerRow(ColumnConverterBenchmarkTest::legacyPass, rows);
+    double compiledNanos = nanosPerRow(ColumnConverterBenchmarkTest::compiledPass, rows);
+
+    System.out.printf(
+        "[benchmark] %d rows x %d columns — convertValue: %.0f ns/row, compiled: %.0f ns/row,"
+            + " -%.0f%%%n",
+        ROWS, TYPES.size(), legacyNanos, compiledNanos, (1 - compiledNanos / legacyNanos) * 100);
+    assertThat(compiledNanos).isLessThan(legacyNanos);
+  }
+}
@@ -0,0 +1,104 @@
+package com.smartfirehub.dataimport.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ColumnConverter 단위 테스트 — 컴파일된 변환기는 기존 convertValue(셀마다 분기, 형식 순회 + 예외)와 같은 값과 오류 문구를 내야 한다.
+ *
+ * <p>특히 날짜 형식 학습이 "처음 맞는 형식이 이긴다" 규칙을 바꾸지 않는지(dd/MM/yyyy vs MM/dd/yyyy), 숫자 직접 파싱이 parseLong /
+ * BigDecimal의 경계(부호, 콤마 위치, 오버플로, 지수)와 같은지 본다.
+ */
+class ColumnConverterTest {
+
+  private static Object convert(String dataType, String value) {
+    return ColumnConverter.compile(dataType).convert(value);
+  }
+
+  private static String failureOf(Object result) {
+    assertThat(result).isInstanceOf(ColumnConverter.Failure.class);
+    return ((ColumnConverter.Failure) result).message();
+  }
+
+  @Test
+  void integer_signsAndThousandsCommas_matchParseLong() {
+    assertThat(convert("INTEGER", "38,344")).isEqualTo(38344L);
+    assertThat(convert("INTEGER", "+7")).isEqualTo(7L);
+    assertThat(convert("INTEGER", "-,5")).isEqualTo(-5L);
+    assertThat(convert("INTEGER", "'42'")).isEqualTo(42L);
+    assertThat(convert("INTEGER", "9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+    assertThat(convert("INTEGER", "-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+  }
+
+  @Test
+  void integer_invalidOrOverflow_returnsFailureWithLegacyMessage() {
+    assertThat(failureOf(convert("INTEGER", "12a"))).isEqualTo("정수 형식이 아닙니다: 12a");
+    assertThat(failureOf(convert("INTEGER", "-"))).isEqualTo("정수 형식이 아닙니다: -");
+    assertThat(failureOf(convert("INTEGER", "1-2"))).isEqualTo("정수 형식이 아닙니다: 1-2");
+    assertThat(failureOf(convert("INTEGER", "9223372036854775808")))
+        .isEqualTo("정수 형식이 아닙니다: 9223372036854775808");
+  }
+
+  @Test
+  void decimal_grammarEdges_matchBigDecimal() {
+    assertThat(convert("DECIMAL", "1,234.56")).isEqualTo(new BigDecimal("1234.56"));
+    assertThat(convert("DECIMAL", ".5")).isEqualTo(new BigDecimal(".5"));
+    assertThat(convert("DECIMAL", "5.")).isEqualTo(new BigDecimal("5."));
+    assertThat(convert("DECIMAL", "-.5e-3")).isEqualTo(new BigDecimal("-.5e-3"));
+    assertThat(convert("DECIMAL", "1e,+5")).isEqualTo(new BigDecimal("1e+5"));
+
+    assertThat(failureOf(convert("DECIMAL", "1e"))).isEqualTo("소수 형식이 아닙니다: 1e");
+    assertThat(failureOf(convert("DECIMAL", "."))).isEqualTo("소수 형식이 아닙니다: .");
+    assertThat(failureOf(convert("DECIMAL", "1.2.3"))).isEqualTo("소수 형식이 아닙니다: 1.2.3");
+    assertThat(failureOf(convert("DECIMAL", "1e99999999999")))
+        .isEqualTo("소수 형식이 아닙니다: 1e99999999999");
+  }
+
+  @Test
+  void date_learnedFormat_doesNotOverrideEarlierAmbiguousFormat() {
+    ColumnConverter converter = ColumnConverter.compile("DATE");
+
+    // 12/31/2024는 MM/dd/yyyy로만 읽힌다. 이후 03/04/2024는 여전히 먼저 오는 dd/MM/yyyy(4월 3일)여야 한다.
+    assertThat(converter.convert("12/31/2024")).isEqualTo(LocalDate.of(2024, 12, 31));
+    assertThat(converter.convert("03/04/2024")).isEqualTo(LocalDate.of(2024, 4, 3));
+  }
+
+  @Test
+  void date_mixedFormatsInOneColumn_eachParsedByFirstMatchingFormat() {
+    ColumnConverter converter = ColumnConverter.compile("DATE");
+
+    assertThat(converter.convert("20240316")).isEqualTo(LocalDate.of(2024, 3, 16));
+    assertThat(converter.convert("2024-03-17")).isEqualTo(LocalDate.of(2024, 3, 17));
+    assertThat(converter.convert("18-03-2024")).isEqualTo(LocalDate.of(2024, 3, 18));
+    assertThat(converter.convert("20240319")).isEqualTo(LocalDate.of(2024, 3, 19));
+    assertThat(failureOf(converter.convert("2024-13-01")))
+        .isEqualTo(
+            "날짜 형식이 아닙니다: 2024-13-01 (허용 형식: yyyy-MM-dd, yyyy/MM/dd, dd-MM-yyyy,"
+                + " dd/MM/yyyy, MM/dd/yyyy, yyyyMMdd)");
+  }
+
+  @Test
+  void timestamp_isoAndPatterns_matchLegacyResults() {
+    ColumnConverter converter = ColumnConverter.compile("TIMESTAMP");
+
+    assertThat(converter.convert("16/03/2024 09:30:00"))
+        .isEqualTo(LocalDateTime.of(2024, 3, 16, 9, 30));
+    assertThat(converter.convert("2024-03-16T09:30"))
+        .isEqualTo(LocalDateTime.of(2024, 3, 16, 9, 30));
+    assertThat(converter.convert("20240316093015"))
+        .isEqualTo(LocalDateTime.of(2024, 3, 16, 9, 30, 15));
+    assertThat(failureOf(converter.convert("2024-03-16 25:00:00")))
+        .isEqualTo(
+            "날짜시간 형식이 아닙니다: 2024-03-16 25:00:00 (허용 형식: yyyy-MM-dd HH:mm:ss, yyyyMMddHHmmss,"
+                + " ISO 형식)");
+  }
+
+  @Test
+  void compile_unknownType_failsEveryCell() {
+    assertThat(failureOf(convert("JSONB", "{}"))).isEqualTo("알 수 없는 데이터 타입입니다: JSONB");
+  }
+}
@@ -8,8 +8,11 @@ import com.smartfirehub.audit.service.AuditLogService;
 import com.smartfirehub.dataimport.dto.ExportFormat;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.DatasetResponse;
+import com.smartfirehub.dataset.service.DataTableCopyService;
 import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.job.service.AsyncJobService;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -17,6 +20,7 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -39,6 +43,7 @@ class DataExportAsyncRunnerTest {
   private DataExportAsyncRunner asyncRunner;
 
   @Mock private DataTableRowService dataTableRowService;
+  @Mock private DataTableCopyService dataTableCopyService;
   @Mock private AsyncJobService asyncJobService;
   @Mock private AuditLogService auditLogService;
 
@@ -49,7 +54,19 @@ class DataExportAsyncRunnerTest {
   void setUp() {
     // Mockito 어노테이션 기반 mock 초기화
     mockitoSession = MockitoAnnotations.openMocks(this);
-    asyncRunner = new DataExportAsyncRunner(dataTableRowService, asyncJobService, auditLogService);
+    asyncRunner =
+        new DataExportAsyncRunner(
+            dataTableRowService, dataTableCopyService, asyncJobService, auditLogService);
+    // forEachPage는 실제 keyset 루프를 타고, 페이지 조회(queryDataAfter)만 스텁한다.
+    doCallRealMethod()
+        .when(dataTableRowService)
+        .forEachPage(
+            anyString(),
+            any(),
+            any(),
+            any(),
+            anyInt(),
+            ArgumentMatchers.<DataTableRowService.PageHandler<RuntimeException>>any());
   }
 
   @AfterEach
@@ -78,11 +95,14 @@ class DataExportAsyncRunnerTest {
 
     when(dataTableRowService.countRows(eq("test_ds"), anyList(), isNull(), anyMap()))
         .thenReturn(2L);
-    when(dataTableRowService.queryData(
-            eq("test_ds"), anyList(), isNull(), eq(0), anyInt(), isNull(), eq("ASC"), anyMap()))
-        .thenReturn(
-            List.of(Map.of("name", "홍길동", "value", 100), Map.of("name", "김철수", "value", 200)))
-        .thenReturn(List.of());
+    when(dataTableCopyService.copyOut(
+            eq("test_ds"), eq(List.of("name", "value")), isNull(), anyMap(), any(), any()))
+        .thenAnswer(
+            inv -> {
+              OutputStream out = inv.getArgument(4);
+              out.write("\"홍길동\",\"100\"\n\"김철수\",\"200\"\n".getBytes(StandardCharsets.UTF_8));
+              return 2L;
+            });
 
     asyncRunner.executeAsyncExport(
         jobId,
@@ -98,9 +118,11 @@ class DataExportAsyncRunnerTest {
         "127.0.0.1",
         "test-agent");
 
-    // 파일이 생성되어야 한다
+    // 파일이 생성되어야 한다: BOM + 표시명 헤더 + COPY 본문
     assertThat(createdFile).exists();
-    assertThat(Files.size(createdFile)).isGreaterThan(0);
+    String content = Files.readString(createdFile, StandardCharsets.UTF_8);
+    assertThat(content)
+        .isEqualTo("\uFEFF\"이름\",\"값\"\n\"홍길동\",\"100\"\n\"김철수\",\"200\"\n");
 
     // AsyncJobService에 완료 상태가 갱신되어야 한다
     verify(asyncJobService)
@@ -141,8 +163,7 @@ class DataExportAsyncRunnerTest {
     when(dataTableRowService.countRows(eq("fail_ds"), anyList(), isNull(), anyMap()))
         .thenReturn(1L);
     // 데이터 조회 시 예외 발생
-    when(dataTableRowService.queryData(
-            eq("fail_ds"), anyList(), isNull(), anyInt(), anyInt(), isNull(), eq("ASC"), anyMap()))
+    when(dataTableCopyService.copyOut(eq("fail_ds"), anyList(), isNull(), anyMap(), any(), any()))
         .thenThrow(new RuntimeException("DB connection failed"));
 
     asyncRunner.executeAsyncExport(
@@ -192,8 +213,8 @@ class DataExportAsyncRunnerTest {
     Map<String, String> columnTypes = Map.of("col1", "TEXT");
 
     when(dataTableRowService.countRows(anyString(), anyList(), isNull(), anyMap())).thenReturn(1L);
-    when(dataTableRowService.queryData(
-            anyString(), anyList(), isNull(), eq(0), anyInt(), isNull(), eq("ASC"), anyMap()))
+    when(dataTableRowService.queryDataAfter(
+            anyString(), anyList(), isNull(), anyMap(), any(), anyInt()))
         .thenReturn(List.of(Map.of("col1", "test")))
         .thenReturn(List.of());
 
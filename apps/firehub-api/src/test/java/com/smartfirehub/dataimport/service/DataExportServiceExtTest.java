@@ -28,6 +28,7 @@ import java.util.Optional;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -87,8 +88,18 @@ class DataExportServiceExtTest extends IntegrationTestBase {
             .id();
 
     when(dataTableRowService.countRows(anyString(), anyList(), any(), anyMap())).thenReturn(5L);
-    when(dataTableRowService.queryData(
-            anyString(), anyList(), any(), anyInt(), anyInt(), any(), any(), anyMap()))
+    // forEachPage는 실제 keyset 루프를 타고, 페이지 조회(queryDataAfter)만 스텁한다.
+    doCallRealMethod()
+        .when(dataTableRowService)
+        .forEachPage(
+            anyString(),
+            any(),
+            any(),
+            any(),
+            anyInt(),
+            ArgumentMatchers.<DataTableRowService.PageHandler<RuntimeException>>any());
+    when(dataTableRowService.queryDataAfter(
+            anyString(), anyList(), any(), anyMap(), any(), anyInt()))
         .thenReturn(List.of(Map.<String, Object>of("name", "홍길동", "age", 30)))
         .thenReturn(List.of());
     when(asyncJobRepository.findActiveByUserAndJobType(anyLong(), anyString()))
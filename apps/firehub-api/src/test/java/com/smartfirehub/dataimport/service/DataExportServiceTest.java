@@ -14,6 +14,7 @@ import com.smartfirehub.dataimport.dto.ExportRequest;
 import com.smartfirehub.dataimport.dto.ExportResult;
 import com.smartfirehub.dataset.dto.CreateDatasetRequest;
 import com.smartfirehub.dataset.dto.DatasetColumnRequest;
+import com.smartfirehub.dataset.service.DataTableCopyService;
 import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.dataset.service.DatasetService;
 import com.smartfirehub.job.dto.AsyncJobStatusResponse;
@@ -21,6 +22,7 @@ import com.smartfirehub.job.repository.AsyncJobRepository;
 import com.smartfirehub.job.service.AsyncJobService;
 import com.smartfirehub.support.IntegrationTestBase;
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,6 +31,7 @@ import java.util.Optional;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -46,6 +49,9 @@ class DataExportServiceTest extends IntegrationTestBase {
 
   @MockitoBean private DataTableRowService dataTableRowService;
 
+  /** CSV 본문(COPY TO STDOUT) — 테스트에서는 고정 CSV 행을 쓰는 mock */
+  @MockitoBean private DataTableCopyService dataTableCopyService;
+
   @MockitoBean private AsyncJobService asyncJobService;
 
   @MockitoBean private AsyncJobRepository asyncJobRepository;
@@ -107,18 +113,28 @@ class DataExportServiceTest extends IntegrationTestBase {
             .id();
 
     // Default mocks
+    // forEachPage는 실제 keyset 루프를 타고, 페이지 조회(queryDataAfter)만 스텁한다.
+    doCallRealMethod()
+        .when(dataTableRowService)
+        .forEachPage(
+            anyString(),
+            any(),
+            any(),
+            any(),
+            anyInt(),
+            ArgumentMatchers.<DataTableRowService.PageHandler<RuntimeException>>any());
     when(dataTableRowService.countRows(anyString(), anyList(), any(), anyMap())).thenReturn(10L);
 
-    when(dataTableRowService.queryData(
-            eq("test_exp_data"), anyList(), any(), anyInt(), anyInt(), any(), any(), anyMap()))
+    when(dataTableRowService.queryDataAfter(
+            eq("test_exp_data"), anyList(), any(), anyMap(), any(), anyInt()))
         .thenReturn(
             List.of(
                 Map.<String, Object>of("name", "테스트1", "value", 100),
                 Map.<String, Object>of("name", "테스트2", "value", 200)))
         .thenReturn(List.of());
 
-    when(dataTableRowService.queryData(
-            eq("test_geo_exp"), anyList(), any(), anyInt(), anyInt(), any(), any(), anyMap()))
+    when(dataTableRowService.queryDataAfter(
+            eq("test_geo_exp"), anyList(), any(), anyMap(), any(), anyInt()))
         .thenReturn(
             List.of(
                 Map.<String, Object>of(
@@ -130,6 +146,15 @@ class DataExportServiceTest extends IntegrationTestBase {
                     "{\"type\":\"Point\",\"coordinates\":[129.07,35.18]}")))
         .thenReturn(List.of());
 
+    doAnswer(
+            inv -> {
+              OutputStream out = inv.getArgument(4);
+              out.write("\"테스트1\",\"100\"\n\"테스트2\",\"200\"\n".getBytes(StandardCharsets.UTF_8));
+              return 2L;
+            })
+        .when(dataTableCopyService)
+        .copyOut(anyString(), anyList(), any(), anyMap(), any(), any());
+
     when(asyncJobRepository.findActiveByUserAndJobType(anyLong(), anyString()))
         .thenReturn(List.of());
   }
@@ -220,18 +245,6 @@ class DataExportServiceTest extends IntegrationTestBase {
 
   @Test
   void exportDataset_withColumnSelection_usesSelectedColumns() throws Exception {
-    when(dataTableRowService.queryData(
-            eq("test_exp_data"),
-            eq(List.of("name")),
-            any(),
-            anyInt(),
-            anyInt(),
-            any(),
-            any(),
-            anyMap()))
-        .thenReturn(List.of(Map.<String, Object>of("name", "선택테스트")))
-        .thenReturn(List.of());
-
     ExportRequest request = new ExportRequest(ExportFormat.CSV, List.of("name"), null, null);
     ExportResult result =
         dataExportService.exportDataset(
@@ -241,6 +254,8 @@ class DataExportServiceTest extends IntegrationTestBase {
     String content = new String(bytes, StandardCharsets.UTF_8);
     assertThat(content).contains("이름");
     assertThat(content).doesNotContain("값");
+    verify(dataTableCopyService)
+        .copyOut(eq("test_exp_data"), eq(List.of("name")), isNull(), anyMap(), any(), any());
   }
 
   // === Search filter ===
@@ -249,10 +264,6 @@ class DataExportServiceTest extends IntegrationTestBase {
   void exportDataset_withSearch_passesSearchToQuery() throws Exception {
     when(dataTableRowService.countRows(eq("test_exp_data"), anyList(), eq("검색어"), anyMap()))
         .thenReturn(5L);
-    when(dataTableRowService.queryData(
-            eq("test_exp_data"), anyList(), eq("검색어"), anyInt(), anyInt(), any(), any(), anyMap()))
-        .thenReturn(List.of(Map.<String, Object>of("name", "결과", "value", 1)))
-        .thenReturn(List.of());
 
     ExportRequest request = new ExportRequest(ExportFormat.CSV, null, "검색어", null);
     ExportResult result =
@@ -260,15 +271,15 @@ class DataExportServiceTest extends IntegrationTestBase {
             datasetId, request, userId, "exporttest", "127.0.0.1", "test-agent");
 
     assertThat(result.streamingBody()).isNotNull();
-    // countRows is called eagerly in exportDataset, queryData is lazy inside StreamingResponseBody
+    // countRows is called eagerly in exportDataset, copyOut is lazy inside StreamingResponseBody
     verify(dataTableRowService).countRows(eq("test_exp_data"), anyList(), eq("검색어"), anyMap());
+    verify(dataTableCopyService, never()).copyOut(any(), any(), any(), any(), any(), any());
 
-    // Verify queryData is called with search when body is written
+    // Verify copyOut is called with search when body is written
     byte[] bytes = writeToBytes(result.streamingBody());
     assertThat(bytes).isNotEmpty();
-    verify(dataTableRowService, atLeastOnce())
-        .queryData(
-            eq("test_exp_data"), anyList(), eq("검색어"), anyInt(), anyInt(), any(), any(), anyMap());
+    verify(dataTableCopyService)
+        .copyOut(eq("test_exp_data"), anyList(), eq("검색어"), anyMap(), any(), any());
   }
 
   // === GeoJSON without geometry column ===
@@ -25,6 +25,7 @@ import com.smartfirehub.support.IntegrationTestBase;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -714,8 +715,9 @@ class DataImportServiceTest extends IntegrationTestBase {
 
   /**
    * 피크 메모리 회귀 테스트: processImport가 전체 파일(4500행)을 한 번에 메모리에 올려 단일 validate() 호출로 처리하지 않고,
-   * BATCH_SIZE(2000) 이하 크기의 배치로 나누어 여러 번 validate를 호출하는지 검증한다. DataValidationService.validate를
-   * 스파이해 각 호출의 rows 크기를 기록 — 기존(전체 로드) 구현이면 단일 호출에 4500행이 전달되어 이 테스트가 실패한다.
+   * BATCH_SIZE(2000) 이하 크기의 배치로 나누어 여러 번 validateBatch를 호출하는지 검증한다.
+   * DataValidationService.validateBatch를 스파이해 각 호출의 배치 크기를 기록 — 기존(전체 로드) 구현이면 단일 호출에 4500행이
+   * 전달되어 이 테스트가 실패한다.
    */
   @Test
   void processImport_appendStreaming_neverPassesMoreThanBatchSizeRowsAtOnce() throws Exception {
@@ -732,15 +734,16 @@ class DataImportServiceTest extends IntegrationTestBase {
     }
     String filePath = createTempCsvFile(csv.toString());
 
-    List<Integer> batchSizesSeen = new ArrayList<>();
+    // validateBatch는 임포트 워커 스레드들에서 동시에 호출되므로 동기화된 리스트에 기록한다.
+    List<Integer> batchSizesSeen = Collections.synchronizedList(new ArrayList<>());
     Mockito.doAnswer(
             invocation -> {
-              List<?> rows = invocation.getArgument(0);
-              batchSizesSeen.add(rows.size());
+              RowBatch batch = invocation.getArgument(0);
+              batchSizesSeen.add(batch.size());
               return invocation.callRealMethod();
             })
         .when(validationService)
-        .validate(Mockito.anyList(), Mockito.anyList(), Mockito.anyInt());
+        .validateBatch(Mockito.any(), Mockito.any(), Mockito.anyList(), Mockito.anyInt());
 
     // When
     dataImportService.processImport(
@@ -758,7 +761,7 @@ class DataImportServiceTest extends IntegrationTestBase {
         "",
         "APPEND");
 
-    // Then: validate가 여러 번(배치 단위) 호출되고, 매 호출의 행 수가 BATCH_SIZE(2000) 이하여야 한다
+    // Then: validateBatch가 여러 번(배치 단위) 호출되고, 매 호출의 행 수가 BATCH_SIZE(2000) 이하여야 한다
     assertThat(batchSizesSeen).isNotEmpty();
     assertThat(batchSizesSeen.size()).isGreaterThan(1);
     assertThat(batchSizesSeen).allMatch(size -> size <= 2000);
@@ -0,0 +1,172 @@
+package com.smartfirehub.dataimport.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartfirehub.dataimport.dto.ColumnMappingEntry;
+import com.smartfirehub.dataimport.dto.ValidationErrorDetail;
+import com.smartfirehub.dataimport.service.DataValidationService.BatchValidationResult;
+import com.smartfirehub.dataimport.service.DataValidationService.ColumnBinding;
+import com.smartfirehub.dataimport.service.DataValidationService.ValidationResult;
+import com.smartfirehub.dataimport.service.DataValidationService.ValidationResultWithDetails;
+import com.smartfirehub.dataset.dto.DatasetColumnResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DataValidationService 컬럼 지향 배치 경로(bind/validateBatch/convertBatch/findEmptyPrimaryKeys) 단위 테스트.
+ *
+ * <p>배치 경로는 기존 Map 경로(validate/validateWithMapping/toRows)와 같은 셀 변환을 공유해야 하므로, 같은 입력을 두 경로로 흘려
+ * 결과(유효 행 수, 오류 상세, 변환 값)가 일치하는지 비교한다.
+ */
+class DataValidationServiceBatchTest {
+
+  private DataValidationService service;
+
+  private static DatasetColumnResponse col(String name, String dataType, boolean isNullable) {
+    return new DatasetColumnResponse(
+        1L, name, name, dataType, null, isNullable, false, null, 0, false);
+  }
+
+  private static final List<DatasetColumnResponse> COLUMNS =
+      List.of(col("name", "TEXT", false), col("age", "INTEGER", true), col("day", "DATE", true));
+
+  @BeforeEach
+  void setUp() {
+    service = new DataValidationService();
+  }
+
+  /** 원시 행(헤더 순서 값 배열)들로 RowBatch를 만든다. */
+  private static RowBatch batchOf(List<String> headers, String[]... rows) {
+    RowBatch batch = new RowBatch(headers, Math.max(rows.length, 1));
+    for (String[] row : rows) {
+      batch.add(row);
+    }
+    return batch;
+  }
+
+  private static List<Map<String, String>> asMaps(RowBatch batch) {
+    List<Map<String, String>> maps = new ArrayList<>();
+    for (int r = 0; r < batch.size(); r++) {
+      maps.add(batch.rowAsMap(r));
+    }
+    return maps;
+  }
+
+  @Test
+  void validateBatch_withMappings_matchesValidateWithMapping() {
+    List<String> headers = List.of("이름", "나이", "날짜", "무시");
+    List<ColumnMappingEntry> mappings =
+        List.of(
+            new ColumnMappingEntry("이름", "name"),
+            new ColumnMappingEntry("나이", "age"),
+            new ColumnMappingEntry("날짜", "day"),
+            new ColumnMappingEntry("무시", null));
+    RowBatch batch =
+        batchOf(
+            headers,
+            new String[] {"Alice", "30", "2024-03-16", "x"},
+            new String[] {"", "abc", "0000-00-00", "y"},
+            new String[] {"Bob", "1,234", "20240316", "z"});
+
+    BatchValidationResult result =
+        service.validateBatch(batch, service.bind(headers, COLUMNS, mappings), COLUMNS, 100);
+    ValidationResultWithDetails expected =
+        service.validateWithMapping(asMaps(batch), COLUMNS, mappings, 100);
+
+    assertThat(result.totalRows()).isEqualTo(3);
+    assertThat(result.validCount()).isEqualTo(expected.validCount()).isEqualTo(2);
+    assertThat(result.errors()).isEqualTo(expected.errors());
+    // 오류 행 번호는 rowIndexBase 기준 전역 번호여야 한다.
+    assertThat(result.errors()).extracting(ValidationErrorDetail::rowNumber).containsOnly(102);
+  }
+
+  @Test
+  void validateBatch_withoutMappings_summariesMatchValidate() {
+    List<String> headers = List.of("name", "age");
+    RowBatch batch = batchOf(headers, new String[] {"Alice", "x"}, new String[] {"  "});
+
+    BatchValidationResult result =
+        service.validateBatch(batch, service.bind(headers, COLUMNS, null), COLUMNS, 0);
+    ValidationResult expected = service.validate(asMaps(batch), COLUMNS, 0);
+
+    assertThat(result.validCount()).isEqualTo(expected.validCount()).isZero();
+    assertThat(result.errors().stream().map(DataValidationService::summarize).toList())
+        .isEqualTo(expected.errors());
+  }
+
+  @Test
+  void convertBatch_matchesToRows_andReusesOutputAcrossBatches() {
+    List<String> headers = List.of("name", "age", "day");
+    ColumnBinding binding = service.bind(headers, COLUMNS, null);
+    RowBatch first =
+        batchOf(
+            headers,
+            new String[] {"Alice", "30", "2024-03-16"},
+            new String[] {"Bob", "", "16/03/2024"},
+            new String[] {"Carol", "7", "0"});
+    TypedRowBatch out = new TypedRowBatch(COLUMNS.size(), 2);
+
+    service.convertBatch(first, binding, COLUMNS, out);
+
+    List<List<Object>> expected = service.toRows(asMaps(first), COLUMNS, null);
+    assertThat(out.rowCount()).isEqualTo(3);
+    for (int r = 0; r < expected.size(); r++) {
+      for (int c = 0; c < COLUMNS.size(); c++) {
+        assertThat(out.get(r, c)).isEqualTo(expected.get(r).get(c));
+      }
+    }
+
+    // 더 작은 다음 배치: 크기만큼만 보이고 나머지 이전 값 참조는 해제된다.
+    service.convertBatch(batchOf(headers, new String[] {"Dave", "1", null}), binding, COLUMNS, out);
+
+    assertThat(out.rowCount()).isEqualTo(1);
+    assertThat(out.get(0, 0)).isEqualTo("Dave");
+    assertThat(out.get(1, 0)).isNull();
+  }
+
+  @Test
+  void convertBatch_invalidRow_throwsInvariantViolation() {
+    List<String> headers = List.of("name", "age");
+    RowBatch batch = batchOf(headers, new String[] {"Alice", "not-a-number"});
+
+    assertThatThrownBy(
+            () ->
+                service.convertBatch(
+                    batch,
+                    service.bind(headers, COLUMNS, null),
+                    COLUMNS,
+                    new TypedRowBatch(COLUMNS.size(), 1)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void bind_duplicateHeaderAndMissingColumn_lastHeaderWinsAndMissingIsMinusOne() {
+    // Map 경로의 last-wins(Map.put)와 같아야 한다. 파일에 없는 데이터셋 컬럼은 -1.
+    ColumnBinding binding = service.bind(List.of("name", "age", "name"), COLUMNS, null);
+
+    assertThat(binding.ordinals()).containsExactly(2, 1, -1);
+  }
+
+  @Test
+  void findEmptyPrimaryKeys_reportsNullPkCellsWithBatchLocalRowNumber() {
+    List<String> headers = List.of("name", "age");
+    TypedRowBatch out = new TypedRowBatch(COLUMNS.size(), 2);
+    service.convertBatch(
+        batchOf(headers, new String[] {"Alice", "1"}, new String[] {"Bob", ""}),
+        service.bind(headers, COLUMNS, null),
+        COLUMNS,
+        out);
+
+    List<ValidationErrorDetail> errors =
+        service.findEmptyPrimaryKeys(out, List.of("name", "age", "day"), List.of("age"));
+
+    assertThat(errors).hasSize(1);
+    assertThat(errors.get(0).rowNumber()).isEqualTo(2);
+    assertThat(errors.get(0).columnName()).isEqualTo("age");
+    assertThat(errors.get(0).error()).contains("기본키 컬럼은 비어 있을 수 없습니다");
+  }
+}
@@ -71,7 +71,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
 
@@ -88,7 +88,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return false; // first row만 받고 종료
         });
 
@@ -103,7 +103,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
 
@@ -122,7 +122,7 @@ class ExcelStreamingParserTest {
       ExcelStreamingParser.parse(
           new ByteArrayInputStream(out.toByteArray()),
           (idx, cells) -> {
-            rows.add(cells);
+            rows.add(new ArrayList<>(cells));
             return true;
           });
       assertThat(rows).isEmpty();
@@ -155,7 +155,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new java.io.ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
 
@@ -172,7 +172,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new java.io.ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return false;
         });
 
@@ -204,7 +204,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new java.io.ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
     // 시스템 타임존 의존 — 날짜 패턴만 검증
@@ -238,7 +238,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new java.io.ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
     assertThat(rows).hasSize(2);
@@ -267,7 +267,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         new java.io.ByteArrayInputStream(data),
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
     assertThat(rows).hasSize(2);
@@ -371,7 +371,7 @@ class ExcelStreamingParserTest {
       ExcelStreamingParser.parse(
           new FileInputStream(fixture),
           (idx, cells) -> {
-            rows.add(cells);
+            rows.add(new ArrayList<>(cells));
             return true;
           });
 
@@ -398,7 +398,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         fixture,
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return false; // 첫 행만 받고 즉시 중단
         });
 
@@ -421,7 +421,7 @@ class ExcelStreamingParserTest {
     ExcelStreamingParser.parse(
         file,
         (idx, cells) -> {
-          rows.add(cells);
+          rows.add(new ArrayList<>(cells));
           return true;
         });
 
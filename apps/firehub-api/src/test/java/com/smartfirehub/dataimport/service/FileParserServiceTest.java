@@ -911,6 +911,71 @@ class FileParserServiceTest {
         .isInstanceOf(UnsupportedFileTypeException.class);
   }
 
+  // -----------------------------------------------------------------------
+  // parseStreamingBatches(Path, ...) — 컬럼 지향 RowBatch 스트리밍
+  // -----------------------------------------------------------------------
+
+  /** RowBatch 콜백 결과를 Map 행으로 펼친다(배치는 콜백 후 재사용되므로 콜백 안에서 복사). */
+  private List<Map<String, String>> collectBatches(
+      Path file, String fileType, ParseOptions opts, int batchSize, List<Integer> batchSizes)
+      throws Exception {
+    List<Map<String, String>> rows = new ArrayList<>();
+    service.parseStreamingBatches(
+        file,
+        fileType,
+        opts,
+        batchSize,
+        batch -> {
+          batchSizes.add(batch.size());
+          for (int r = 0; r < batch.size(); r++) {
+            rows.add(batch.rowAsMap(r));
+          }
+        });
+    return rows;
+  }
+
+  @Test
+  void parseStreamingBatches_csv_matchesMapStreaming() throws Exception {
+    Path file = writeCsvFile(buildCsvWithRows(10));
+    List<Map<String, String>> expected = new ArrayList<>();
+    service.parseStreaming(file, "csv", ParseOptions.defaults(), 3, expected::addAll);
+    List<Integer> batchSizes = new ArrayList<>();
+
+    List<Map<String, String>> rows =
+        collectBatches(file, "csv", ParseOptions.defaults(), 3, batchSizes);
+
+    assertThat(rows).isEqualTo(expected);
+    assertThat(batchSizes).containsExactly(3, 3, 3, 1);
+  }
+
+  @Test
+  void parseStreamingBatches_csvShortRowAndNoHeader_matchesMapStreaming() throws Exception {
+    // 헤더보다 짧은 행의 누락 셀은 Map 경로처럼 키 없음(null)이어야 하고, hasHeader=false면 첫 행도 데이터다.
+    Path file = writeCsvFile("Alice,30,Seoul\nBob\nCharlie,35,Busan");
+    ParseOptions opts = new ParseOptions(",", "UTF-8", false, 0);
+    List<Map<String, String>> expected = new ArrayList<>();
+    service.parseStreaming(file, "csv", opts, 2, expected::addAll);
+
+    List<Map<String, String>> rows = collectBatches(file, "csv", opts, 2, new ArrayList<>());
+
+    assertThat(rows).isEqualTo(expected).hasSize(3);
+    assertThat(rows.get(1)).containsOnlyKeys("column_1");
+  }
+
+  @Test
+  void parseStreamingBatches_xlsx_matchesMapStreaming() throws Exception {
+    Path file = writeXlsxFile(buildXlsxWithRows(10));
+    List<Map<String, String>> expected = new ArrayList<>();
+    service.parseStreaming(file, "xlsx", ParseOptions.defaults(), 3, expected::addAll);
+    List<Integer> batchSizes = new ArrayList<>();
+
+    List<Map<String, String>> rows =
+        collectBatches(file, "xlsx", ParseOptions.defaults(), 3, batchSizes);
+
+    assertThat(rows).isEqualTo(expected);
+    assertThat(batchSizes).containsExactly(3, 3, 3, 1);
+  }
+
   // -----------------------------------------------------------------------
   // Path 기반 오버로드 — InputStream 오버로드와 동일 결과 검증 (Task 5)
   // -----------------------------------------------------------------------
@@ -0,0 +1,142 @@
+package com.smartfirehub.dataimport.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ImportBatchPipeline 단위 테스트 — 파서 → 워커 → 순서 보장 writer.
+ *
+ * <p>워커 처리 시간이 배치마다 달라도 sink는 파일 순서대로, 호출 스레드에서 받아야 하고, rowIndexBase는 전역 오프셋이어야 한다. sink/stage
+ * 예외는 원형 그대로 전파되고 파서는 더 진행하지 않아야 한다(fail-fast).
+ */
+class ImportBatchPipelineTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /** 파서 계약(배치를 재사용하고 콜백 후 clear)을 흉내 내는 생산자. 값은 0부터의 행 번호 문자열. */
+  private static ImportBatchPipeline.BatchProducer producer(
+      int totalRows, int batchSize, AtomicInteger producedBatches) {
+    return onBatch -> {
+      RowBatch batch = new RowBatch(List.of("n"), batchSize);
+      for (int i = 0; i < totalRows; i++) {
+        batch.add(new String[] {String.valueOf(i)});
+        if (batch.isFull()) {
+          producedBatches.incrementAndGet();
+          onBatch.accept(batch);
+          batch.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        producedBatches.incrementAndGet();
+        onBatch.accept(batch);
+      }
+    };
+  }
+
+  /** 배치의 첫 행 값, 행 수, rowIndexBase를 기록하는 stage. 처리 시간을 무작위로 흔들어 완료 순서를 섞는다. */
+  private static ImportBatchPipeline.Stage<int[]> describeStage() {
+    return (batch, rowIndexBase) -> {
+      Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+      return new int[] {Integer.parseInt(batch.get(0, 0)), batch.size(), rowIndexBase};
+    };
+  }
+
+  @Test
+  void run_parallelWorkers_deliversResultsInFileOrderOnCallerThread() throws Exception {
+    ImportBatchPipeline pipeline = new ImportBatchPipeline(executor, 4);
+    List<int[]> results = new ArrayList<>();
+    List<Thread> sinkThreads = new ArrayList<>();
+
+    pipeline.run(
+        producer(1003, 10, new AtomicInteger()),
+        describeStage(),
+        result -> {
+          results.add(result);
+          sinkThreads.add(Thread.currentThread());
+        });
+
+    assertThat(results).hasSize(101);
+    for (int i = 0; i < results.size(); i++) {
+      int[] r = results.get(i);
+      assertThat(r[0]).isEqualTo(i * 10); // 배치 첫 행 = 파일 순서
+      assertThat(r[2]).isEqualTo(i * 10); // rowIndexBase = 이전 누적 행 수
+    }
+    assertThat(results.get(100)[1]).isEqualTo(3);
+    assertThat(sinkThreads).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  void run_sinkThrows_propagatesOriginalAndStopsParser() {
+    ImportBatchPipeline pipeline = new ImportBatchPipeline(executor, 2);
+    AtomicInteger produced = new AtomicInteger();
+    AtomicInteger sunk = new AtomicInteger();
+
+    assertThatThrownBy(
+            () ->
+                pipeline.run(
+                    producer(10_000, 10, produced),
+                    describeStage(),
+                    result -> {
+                      if (sunk.incrementAndGet() == 3) {
+                        throw new IllegalStateException("abort at batch 3");
+                      }
+                    }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("abort at batch 3");
+
+    // 파서는 in-flight 상한(workers * 2) 안에서만 앞서 나가고 중단 후 더 진행하지 않는다.
+    assertThat(sunk.get()).isEqualTo(3);
+    assertThat(produced.get()).isLessThanOrEqualTo(3 + 2 * 2 + 1);
+  }
+
+  @Test
+  void run_stageThrowsCheckedException_propagatesOriginal() {
+    ImportBatchPipeline pipeline = new ImportBatchPipeline(executor, 2);
+
+    assertThatThrownBy(
+            () ->
+                pipeline.run(
+                    producer(100, 10, new AtomicInteger()),
+                    (batch, rowIndexBase) -> {
+                      if (rowIndexBase == 50) {
+                        throw new java.io.IOException("bad batch");
+                      }
+                      return rowIndexBase;
+                    },
+                    result -> {}))
+        .isInstanceOf(java.io.IOException.class)
+        .hasMessage("bad batch");
+  }
+
+  @Test
+  void run_zeroWorkers_processesSequentiallyOnCallerThread() throws Exception {
+    ImportBatchPipeline pipeline = new ImportBatchPipeline(executor, 0);
+    List<Thread> stageThreads = new ArrayList<>();
+    List<Integer> bases = new ArrayList<>();
+
+    pipeline.run(
+        producer(25, 10, new AtomicInteger()),
+        (batch, rowIndexBase) -> {
+          stageThreads.add(Thread.currentThread());
+          return rowIndexBase;
+        },
+        bases::add);
+
+    assertThat(bases).containsExactly(0, 10, 20);
+    assertThat(stageThreads).containsOnly(Thread.currentThread());
+  }
+}
@@ -0,0 +1,153 @@
+package com.smartfirehub.dataimport.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartfirehub.dataimport.dto.ColumnMappingEntry;
+import com.smartfirehub.dataimport.dto.ParseOptions;
+import com.smartfirehub.dataset.dto.DatasetColumnResponse;
+import java.io.BufferedWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 임포트 파이프라인(파싱 → Pass1 검증 → Pass2 변환)의 행당 할당 바이트 벤치마크: 기존 {@code List<Map<String,String>>}
+ * 경로 대비 {@link RowBatch}/{@link TypedRowBatch} 컬럼 지향 경로.
+ *
+ * <p>DB 적재는 두 경로가 같은 COPY 적재기를 쓰므로 제외하고, JVM 쪽 행 물질화 비용만 잰다. 현재 스레드의 누적 할당량({@code
+ * com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes})을 측정 전후로 비교하며, 워밍업 1회 후 측정한다. 기본
+ * 테스트 실행에서는 건너뛰고 {@code ./gradlew test -Dbenchmark=true --tests '*ImportRowAllocationBenchmarkTest'}로
+ * 실행한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ImportRowAllocationBenchmarkTest {
+
+  private static final int TOTAL_ROWS = 200_000;
+  private static final int BATCH_SIZE = 2000;
+
+  private static final List<DatasetColumnResponse> COLUMNS =
+      List.of(
+          col("name", "TEXT", false),
+          col("amount", "INTEGER", true),
+          col("ratio", "DECIMAL", true),
+          col("active", "BOOLEAN", true),
+          col("day", "DATE", true),
+          col("reported_at", "TIMESTAMP", true));
+
+  private static final List<ColumnMappingEntry> MAPPINGS =
+      List.of(
+          new ColumnMappingEntry("이름", "name"),
+          new ColumnMappingEntry("금액", "amount"),
+          new ColumnMappingEntry("비율", "ratio"),
+          new ColumnMappingEntry("활성", "active"),
+          new ColumnMappingEntry("일자", "day"),
+          new ColumnMappingEntry("보고시각", "reported_at"));
+
+  @TempDir Path tempDir;
+
+  private final FileParserService parser = new FileParserService();
+  private final DataValidationService validator = new DataValidationService();
+
+  private static DatasetColumnResponse col(String name, String dataType, boolean isNullable) {
+    return new DatasetColumnResponse(
+        1L, name, name, dataType, null, isNullable, false, null, 0, false);
+  }
+
+  private Path writeCsv() throws Exception {
+    Path file = tempDir.resolve("bench.csv");
+    try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      w.write("이름,금액,비율,활성,일자,보고시각\n");
+      for (int i = 0; i < TOTAL_ROWS; i++) {
+        w.write("incident-" + i + "," + i + "," + (i % 1000) / 100.0 + "," + (i % 2 == 0));
+        w.write(",2024-03-" + (10 + i % 18) + ",2024-03-16 09:" + (10 + i % 50) + ":00\n");
+      }
+    }
+    return file;
+  }
+
+  /** 기존 경로: 행 Map 파싱 → validateWithMapping(Map 리매핑 + 행 리스트) → toRows(동일 반복). */
+  private long mapPipeline(Path file) throws Exception {
+    long[] rows = {0};
+    int[] processed = {0};
+    parser.parseStreaming(
+        file,
+        "csv",
+        ParseOptions.defaults(),
+        BATCH_SIZE,
+        batch -> {
+          validator.validateWithMapping(batch, COLUMNS, MAPPINGS, processed[0]);
+          processed[0] += batch.size();
+        });
+    parser.parseStreaming(
+        file,
+        "csv",
+        ParseOptions.defaults(),
+        BATCH_SIZE,
+        batch -> rows[0] += validator.toRows(batch, COLUMNS, MAPPINGS).size());
+    return rows[0];
+  }
+
+  /** 새 경로: RowBatch 파싱 → validateBatch(값 미보관) → convertBatch(재사용 TypedRowBatch). */
+  private long batchPipeline(Path file) throws Exception {
+    long[] rows = {0};
+    int[] processed = {0};
+    DataValidationService.ColumnBinding[] binding = {null};
+    parser.parseStreamingBatches(
+        file,
+        "csv",
+        ParseOptions.defaults(),
+        BATCH_SIZE,
+        batch -> {
+          if (binding[0] == null) binding[0] = validator.bind(batch.headers(), COLUMNS, MAPPINGS);
+          validator.validateBatch(batch, binding[0], COLUMNS, processed[0]);
+          processed[0] += batch.size();
+        });
+    TypedRowBatch typed = new TypedRowBatch(COLUMNS.size(), BATCH_SIZE);
+    parser.parseStreamingBatches(
+        file,
+        "csv",
+        ParseOptions.defaults(),
+        BATCH_SIZE,
+        batch -> {
+          validator.convertBatch(batch, binding[0], COLUMNS, typed);
+          rows[0] += typed.rowCount();
+        });
+    return rows[0];
+  }
+
+  private interface Pipeline {
+    long run(Path file) throws Exception;
+  }
+
+  private static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+        .getCurrentThreadAllocatedBytes();
+  }
+
+  private static double bytesPerRow(Pipeline pipeline, Path file) throws Exception {
+    pipeline.run(file); // 워밍업(JIT, 클래스 로딩)
+    long before = allocatedBytes();
+    long rows = pipeline.run(file);
+    long allocated = allocatedBytes() - before;
+    assertThat(rows).isEqualTo(TOTAL_ROWS);
+    return allocated / (double) rows;
+  }
+
+  @Test
+  void bytesAllocatedPerImportedRow_mapVsColumnarBatch() throws Exception {
+    Path file = writeCsv();
+
+    double mapBytes = bytesPerRow(this::mapPipeline, file);
+    double batchBytes = bytesPerRow(this::batchPipeline, file);
+
+    System.out.printf(
+        "[benchmark] %d rows — Map path: %.0f B/row, RowBatch path: %.0f B/row, -%.0f%%%n",
+        TOTAL_ROWS, mapBytes, batchBytes, (1 - batchBytes / mapBytes) * 100);
+    assertThat(batchBytes).isLessThan(mapBytes);
+  }
+}
@@ -6,6 +6,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.smartfirehub.embedding.EmbeddingBatcher;
 import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.List;
@@ -22,6 +23,7 @@ class DatasetEmbeddingServiceTest {
   @Mock DatasetMetaReader metaReader;
   @Mock EmbeddingProviderFactory embeddingFactory;
   @Mock EmbeddingProvider provider;
+  @Mock EmbeddingBatcher embeddingBatcher;
 
   @Test
   void syncSourceText_임베딩없이_source_text만_동기_upsert한다() {
@@ -29,7 +31,7 @@ class DatasetEmbeddingServiceTest {
         .thenReturn(
             new DatasetSourceTextBuilder.Input(
                 "화재", "설명", "fire", List.of("col"), List.of("tag"), "안전"));
-    new DatasetEmbeddingService(embeddingRepo, metaReader, embeddingFactory).syncSourceText(7L);
+    service().syncSourceText(7L);
     // source_text 만 갱신하고, 외부 호출(임베딩 provider)은 절대 일어나지 않아야 한다.
     verify(embeddingRepo).upsertSourceText(eq(7L), any(String.class));
     verifyNoInteractions(embeddingFactory);
@@ -38,7 +40,7 @@ class DatasetEmbeddingServiceTest {
   @Test
   void syncSourceText_삭제된_데이터셋이면_인덱스를_지운다() {
     when(metaReader.read(99L)).thenReturn(null);
-    new DatasetEmbeddingService(embeddingRepo, metaReader, embeddingFactory).syncSourceText(99L);
+    service().syncSourceText(99L);
     verify(embeddingRepo).delete(99L);
     verifyNoInteractions(embeddingFactory);
   }
@@ -51,17 +53,22 @@ class DatasetEmbeddingServiceTest {
                 "화재", "설명", "fire", List.of("col"), List.of("tag"), "안전"));
     when(embeddingFactory.current()).thenReturn(provider);
     when(provider.modelId()).thenReturn("bge-m3");
-    when(provider.embed(any())).thenReturn(List.of(new float[1024]));
-    new DatasetEmbeddingService(embeddingRepo, metaReader, embeddingFactory).reindexEmbedding(7L);
+    when(embeddingBatcher.embed(eq(provider), any())).thenReturn(List.of(new float[1024]));
+    service().reindexEmbedding(7L);
     verify(embeddingRepo).updateEmbedding(eq(7L), any(float[].class), eq("bge-m3"));
   }
 
   @Test
   void reindexEmbedding_삭제된_데이터셋이면_no_op이다() {
     when(metaReader.read(99L)).thenReturn(null);
-    new DatasetEmbeddingService(embeddingRepo, metaReader, embeddingFactory).reindexEmbedding(99L);
+    service().reindexEmbedding(99L);
     // 메타가 없으면 임베딩 생성·갱신을 시도하지 않는다(동기 경로에서 이미 제거됨).
     verifyNoInteractions(embeddingFactory);
     verifyNoInteractions(embeddingRepo);
   }
+
+  private DatasetEmbeddingService service() {
+    return new DatasetEmbeddingService(
+        embeddingRepo, metaReader, embeddingFactory, embeddingBatcher);
+  }
 }
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.within;
 import static org.mockito.Mockito.when;
 
-import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -21,7 +20,6 @@ class DatasetSearchServiceTest {
 
   @Mock DatasetSearchRepository repository;
   @Mock EmbeddingProviderFactory embeddingFactory;
-  @Mock EmbeddingProvider embeddingProvider;
 
   private DatasetSearchService service() {
     return new DatasetSearchService(repository, embeddingFactory);
@@ -29,8 +27,7 @@ class DatasetSearchServiceTest {
 
   @Test
   void hybrid_양쪽_등장_데이터셋이_한쪽만_등장보다_상위로_융합되고_RRF_점수가_정확하다() {
-    when(embeddingFactory.current()).thenReturn(embeddingProvider);
-    when(embeddingProvider.embed(List.of("화재"))).thenReturn(List.of(new float[1024]));
+    when(embeddingFactory.embedQuery("화재")).thenReturn(new float[1024]);
 
     // 비대칭 시나리오: dsA 는 양쪽 rank0, dsB·dsC 는 각각 한쪽만 rank1.
     // → dsA = 1/(60+0+1) + 1/(60+0+1) = 2/61 (양쪽 누적, merge/Double::sum 검증)
@@ -79,8 +76,7 @@ class DatasetSearchServiceTest {
 
   @Test
   void semantic_모드는_트라이그램을_호출하지_않는다() {
-    when(embeddingFactory.current()).thenReturn(embeddingProvider);
-    when(embeddingProvider.embed(List.of("화재"))).thenReturn(List.of(new float[1024]));
+    when(embeddingFactory.embedQuery("화재")).thenReturn(new float[1024]);
     when(repository.searchByCosine(
             ArgumentMatchers.any(), ArgumentMatchers.isNull(), ArgumentMatchers.anyInt()))
         .thenReturn(List.of(hit(1L)));
@@ -93,8 +89,7 @@ class DatasetSearchServiceTest {
 
   @Test
   void mode가_null이면_HYBRID로_동작한다() {
-    when(embeddingFactory.current()).thenReturn(embeddingProvider);
-    when(embeddingProvider.embed(List.of("화재"))).thenReturn(List.of(new float[1024]));
+    when(embeddingFactory.embedQuery("화재")).thenReturn(new float[1024]);
     when(repository.searchByCosine(
             ArgumentMatchers.any(), ArgumentMatchers.isNull(), ArgumentMatchers.anyInt()))
         .thenReturn(List.of(hit(1L)));
@@ -108,8 +103,7 @@ class DatasetSearchServiceTest {
 
   @Test
   void hybrid_후보풀은_CANDIDATE_POOL_크기로_조회된다() {
-    when(embeddingFactory.current()).thenReturn(embeddingProvider);
-    when(embeddingProvider.embed(List.of("화재"))).thenReturn(List.of(new float[1024]));
+    when(embeddingFactory.embedQuery("화재")).thenReturn(new float[1024]);
     when(repository.searchByCosine(
             ArgumentMatchers.any(), ArgumentMatchers.isNull(), ArgumentMatchers.anyInt()))
         .thenReturn(List.of(hit(1L)));
@@ -0,0 +1,120 @@
+package com.smartfirehub.dataset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartfirehub.dataset.dto.DatasetColumnRequest;
+import com.smartfirehub.support.IntegrationTestBase;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * 임포트 적재 경로 처리량 벤치마크: 기존 다중 VALUES INSERT({@link DataTableRowService#insertBatchWithProgress}) 대비
+ * COPY FROM STDIN({@link DataTableCopyService#copyBatchWithProgress}).
+ *
+ * <p>실제 DB를 사용하므로 기본 테스트 실행에서는 건너뛴다. {@code ./gradlew test -Dbenchmark=true --tests
+ * '*DataTableCopyServiceBenchmarkTest'}로 실행하며, 결과(rows/sec)는 표준 출력으로 남긴다. 두 경로 모두 DataImportService와
+ * 같은 2000행 배치 단위로 호출해 실제 임포트 잡의 호출 패턴을 재현한다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class DataTableCopyServiceBenchmarkTest extends IntegrationTestBase {
+
+  private static final int TOTAL_ROWS = 200_000;
+  private static final int BATCH_SIZE = 2000;
+
+  @Autowired private DataTableCopyService dataTableCopyService;
+  @Autowired private DataTableRowService dataTableRowService;
+  @Autowired private DataTableService dataTableService;
+
+  private final List<String> tablesToCleanup = new ArrayList<>();
+
+  @AfterEach
+  void cleanup() {
+    for (String tableName : tablesToCleanup) {
+      try {
+        dataTableService.dropTable(tableName);
+      } catch (Exception e) {
+        // Ignore cleanup errors
+      }
+    }
+    tablesToCleanup.clear();
+  }
+
+  private static final List<String> COLUMNS = List.of("name", "amount", "ratio", "reported_at");
+
+  private void createTable(String tableName) {
+    tablesToCleanup.add(tableName);
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("name", "Name", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("amount", "Amount", "INTEGER", null, true, false, null),
+            new DatasetColumnRequest("ratio", "Ratio", "DECIMAL", null, true, false, null),
+            new DatasetColumnRequest(
+                "reported_at", "Reported At", "TIMESTAMP", null, true, false, null)));
+  }
+
+  private static List<Object> row(int i) {
+    return List.of(
+        "incident-" + i,
+        (long) i,
+        BigDecimal.valueOf(i, 2),
+        LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(i));
+  }
+
+  @Test
+  void copyVsInsert_throughput() {
+    createTable("bench_insert_path");
+    createTable("bench_copy_path");
+    Map<String, String> columnTypes =
+        Map.of("name", "TEXT", "amount", "INTEGER", "ratio", "DECIMAL", "reported_at", "TIMESTAMP");
+
+    // 기존 경로: 배치마다 List<Object> → Map<String,Object> 변환 후 500행 청크 INSERT
+    long insertStart = System.nanoTime();
+    for (int base = 0; base < TOTAL_ROWS; base += BATCH_SIZE) {
+      List<Map<String, Object>> maps = new ArrayList<>(BATCH_SIZE);
+      for (int i = base; i < base + BATCH_SIZE; i++) {
+        List<Object> values = row(i);
+        Map<String, Object> map = new HashMap<>();
+        for (int c = 0; c < COLUMNS.size(); c++) {
+          map.put(COLUMNS.get(c), values.get(c));
+        }
+        maps.add(map);
+      }
+      dataTableRowService.insertBatchWithProgress(
+          "bench_insert_path", COLUMNS, maps, (done, total) -> {}, columnTypes);
+    }
+    long insertNanos = System.nanoTime() - insertStart;
+
+    // COPY 경로: 검증기 출력(List<List<Object>>)을 그대로 COPY
+    long copyStart = System.nanoTime();
+    for (int base = 0; base < TOTAL_ROWS; base += BATCH_SIZE) {
+      List<List<Object>> rows = new ArrayList<>(BATCH_SIZE);
+      for (int i = base; i < base + BATCH_SIZE; i++) {
+        rows.add(row(i));
+      }
+      dataTableCopyService.copyBatchWithProgress(
+          "bench_copy_path", COLUMNS, rows, columnTypes, null);
+    }
+    long copyNanos = System.nanoTime() - copyStart;
+
+    assertThat(dataTableRowService.countRows("bench_insert_path")).isEqualTo(TOTAL_ROWS);
+    assertThat(dataTableRowService.countRows("bench_copy_path")).isEqualTo(TOTAL_ROWS);
+
+    System.out.printf(
+        "[benchmark] %d rows — INSERT: %.0f rows/s (%d ms), COPY: %.0f rows/s (%d ms), x%.1f%n",
+        TOTAL_ROWS,
+        TOTAL_ROWS / (insertNanos / 1e9),
+        insertNanos / 1_000_000,
+        TOTAL_ROWS / (copyNanos / 1e9),
+        copyNanos / 1_000_000,
+        insertNanos / (double) copyNanos);
+  }
+}
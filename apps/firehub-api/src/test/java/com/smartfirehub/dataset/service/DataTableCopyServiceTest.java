@@ -0,0 +1,344 @@
+package com.smartfirehub.dataset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.smartfirehub.dataset.dto.DatasetColumnRequest;
+import com.smartfirehub.support.IntegrationTestBase;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * DataTableCopyService 통합 테스트.
+ *
+ * <p>COPY FROM STDIN 적재기가 기존 INSERT 경로와 같은 결과를 내는지 검증한다: 타입별 값 직렬화, NULL과 빈 문자열 구분, 구분자/따옴표/개행이
+ * 섞인 문자열, GEOMETRY(GeoJSON) 랜딩 경로, staging 테이블의 {@code _seq} 순서 보존. COPY TO STDOUT 추출기는 CSV 본문
+ * 형식(전부 따옴표, NULL은 빈 값)과 검색어 인라인을 검증한다.
+ */
+@Transactional
+class DataTableCopyServiceTest extends IntegrationTestBase {
+
+  @Autowired private DataTableCopyService dataTableCopyService;
+  @Autowired private DataTableRowService dataTableRowService;
+  @Autowired private DataTableService dataTableService;
+  @Autowired private DSLContext dsl;
+
+  private static final String GEOJSON_POINT =
+      "{\"type\":\"Point\",\"coordinates\":[126.978,37.566]}";
+
+  private void createTypedTable(String tableName) {
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("name", "Name", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("amount", "Amount", "INTEGER", null, true, false, null),
+            new DatasetColumnRequest("ratio", "Ratio", "DECIMAL", null, true, false, null),
+            new DatasetColumnRequest("active", "Active", "BOOLEAN", null, true, false, null),
+            new DatasetColumnRequest("day", "Day", "DATE", null, true, false, null),
+            new DatasetColumnRequest("at", "At", "TIMESTAMP", null, true, false, null)));
+  }
+
+  /** 정상: 타입별 값(Long/BigDecimal/Boolean/LocalDate/LocalDateTime)이 COPY로 정확히 적재되어야 한다. */
+  @Test
+  void copyBatch_typedValues_roundTrip() {
+    String tableName = "copy_typed_test";
+    createTypedTable(tableName);
+    List<String> columns = List.of("name", "amount", "ratio", "active", "day", "at");
+
+    List<List<Object>> rows =
+        List.of(
+            List.of(
+                "Alice",
+                42L,
+                new BigDecimal("3.14"),
+                true,
+                LocalDate.of(2024, 3, 16),
+                LocalDateTime.of(2024, 3, 16, 9, 30, 15)));
+
+    long copied =
+        dataTableCopyService.copyBatchWithProgress(tableName, columns, rows, null, null);
+
+    assertThat(copied).isEqualTo(1L);
+    Map<String, Object> row =
+        dsl.fetchOne(
+                "SELECT name, amount, ratio, active, day, at FROM data.\"" + tableName + "\"")
+            .intoMap();
+    assertThat(row.get("name")).isEqualTo("Alice");
+    assertThat(((Number) row.get("amount")).longValue()).isEqualTo(42L);
+    assertThat(new BigDecimal(row.get("ratio").toString())).isEqualByComparingTo("3.14");
+    assertThat(row.get("active")).isEqualTo(true);
+    assertThat(row.get("day").toString()).isEqualTo("2024-03-16");
+    assertThat(row.get("at").toString()).startsWith("2024-03-16");
+  }
+
+  /** 정상: null은 NULL로, 빈 문자열은 ''로 구분되고, 구분자/따옴표/개행이 섞인 문자열도 그대로 보존되어야 한다. */
+  @Test
+  void copyBatch_nullsAndSpecialCharacters_preserved() {
+    String tableName = "copy_special_test";
+    createTypedTable(tableName);
+    List<String> columns = List.of("name", "amount");
+
+    List<List<Object>> rows = new ArrayList<>();
+    rows.add(Arrays.asList("a,b \"quoted\"\nline2", 1L));
+    rows.add(Arrays.asList("", 2L));
+    rows.add(Arrays.asList(null, 3L));
+
+    dataTableCopyService.copyBatchWithProgress(tableName, columns, rows, null, null);
+
+    List<Map<String, Object>> result =
+        dataTableRowService.queryData(tableName, columns, null, 0, 10, "amount", "ASC");
+    assertThat(result).hasSize(3);
+    assertThat(result.get(0).get("name")).isEqualTo("a,b \"quoted\"\nline2");
+    assertThat(result.get(1).get("name")).isEqualTo("");
+    assertThat(result.get(2).get("name")).isNull();
+  }
+
+  /** 정상: GEOMETRY 컬럼은 GeoJSON 문자열에서 SRID 4326 geometry로 변환되어 적재되어야 한다. */
+  @Test
+  void copyBatch_geometryColumn_convertedFromGeoJson() {
+    String tableName = "copy_geom_test";
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("name", "Name", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("location", "Location", "GEOMETRY", null, true, false, null)));
+    List<String> columns = List.of("name", "location");
+    Map<String, String> columnTypes = Map.of("name", "TEXT", "location", "GEOMETRY");
+
+    List<List<Object>> rows = new ArrayList<>();
+    rows.add(Arrays.asList("gwanghwamun", GEOJSON_POINT));
+    rows.add(Arrays.asList("nowhere", null));
+
+    long copied =
+        dataTableCopyService.copyBatchWithProgress(tableName, columns, rows, columnTypes, null);
+
+    assertThat(copied).isEqualTo(2L);
+    Integer srid =
+        dsl.fetchOne(
+                "SELECT ST_SRID(location) FROM data.\""
+                    + tableName
+                    + "\" WHERE name = 'gwanghwamun'")
+            .get(0, Integer.class);
+    assertThat(srid).isEqualTo(4326);
+    Long nullGeoms =
+        dsl.fetchOne("SELECT COUNT(*) FROM data.\"" + tableName + "\" WHERE location IS NULL")
+            .get(0, Long.class);
+    assertThat(nullGeoms).isEqualTo(1L);
+    // TEMP 랜딩 테이블은 호출 종료 시 정리되어야 한다.
+    Long landingTables =
+        dsl.fetchOne(
+                "SELECT COUNT(*) FROM pg_tables WHERE tablename LIKE 'copy_landing_%'"
+                    + " AND schemaname LIKE 'pg_temp%'")
+            .get(0, Long.class);
+    assertThat(landingTables).isZero();
+  }
+
+  /** 정상: staging 테이블에 COPY로 여러 배치를 적재해도 {@code _seq} 순서가 보존되어 promote가 last-write-wins로 동작해야 한다. */
+  @Test
+  void copyBatch_intoStaging_preservesSeqOrderForLastWriteWins() {
+    String tableName = "copy_staging_test";
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("code", "Code", "TEXT", null, false, false, null, true),
+            new DatasetColumnRequest("label", "Label", "TEXT", null, true, false, null)));
+    List<String> columns = List.of("code", "label");
+    String stagingTable = dataTableRowService.createStagingTable(tableName, columns);
+
+    dataTableCopyService.copyBatchWithProgress(
+        stagingTable,
+        columns,
+        List.of(List.of("C1", "First"), List.of("C2", "OnlyOnce")),
+        null,
+        null);
+    dataTableCopyService.copyBatchWithProgress(
+        stagingTable, columns, List.of(List.of("C1", "Last")), null, null);
+
+    dataTableRowService.promoteStagingToReplace(
+        stagingTable, tableName, columns, List.of("code"));
+
+    List<Map<String, Object>> rows =
+        dataTableRowService.queryData(tableName, columns, null, 0, 10, "code", "ASC");
+    assertThat(rows).hasSize(2);
+    assertThat(rows.get(0).get("label")).isEqualTo("Last");
+
+    dataTableRowService.dropStagingTable(stagingTable);
+  }
+
+  /** 정상: progressCallback은 COPY 완료 후 (행 수, 행 수)로 호출되고, 빈 배치는 no-op이어야 한다. */
+  @Test
+  void copyBatch_progressCallbackAndEmptyBatch() {
+    String tableName = "copy_progress_test";
+    createTypedTable(tableName);
+    List<String> columns = List.of("name");
+    int[] reported = {-1, -1};
+
+    dataTableCopyService.copyBatchWithProgress(
+        tableName,
+        columns,
+        List.of(List.of("a"), List.of("b")),
+        null,
+        (done, total) -> {
+          reported[0] = done;
+          reported[1] = total;
+        });
+    long emptyCopied =
+        dataTableCopyService.copyBatchWithProgress(tableName, columns, List.of(), null, null);
+
+    assertThat(reported).containsExactly(2, 2);
+    assertThat(emptyCopied).isZero();
+    assertThat(dataTableRowService.countRows(tableName)).isEqualTo(2L);
+  }
+
+  /** 실패: 배치 중간에 값 직렬화가 실패하면 COPY 를 취소해 앞부분 행도 적재되지 않아야 한다(자동 커밋 커넥션). */
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  void copyBatch_failureMidBatch_cancelsCopyWithoutPartialRows() {
+    String tableName = "copy_cancel_test";
+    createTypedTable(tableName);
+    try {
+      List<List<Object>> rows = new ArrayList<>();
+      rows.add(Arrays.asList("a", 1L));
+      rows.add(Arrays.asList("b", 2L));
+      rows.add(Arrays.asList(failingValue(), 3L));
+
+      assertThatThrownBy(
+              () ->
+                  dataTableCopyService.copyBatchWithProgress(
+                      tableName, List.of("name", "amount"), rows, null, null))
+          .hasStackTraceContaining("serialization failed");
+
+      assertThat(dataTableRowService.countRows(tableName)).isZero();
+    } finally {
+      dataTableService.dropTable(tableName);
+    }
+  }
+
+  /** 실패: 트랜잭션 안의 GEOMETRY 랜딩 경로가 실패해도 원래 오류가 전달되고, 트랜잭션은 계속 쓸 수 있으며 랜딩 테이블은 정리되어야 한다. */
+  @Test
+  void copyBatch_geometryFailureInTransaction_surfacesOriginalErrorAndDropsLanding() {
+    String tableName = "copy_geom_fail_test";
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("name", "Name", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("location", "Location", "GEOMETRY", null, true, false, null)));
+    Map<String, String> columnTypes = Map.of("name", "TEXT", "location", "GEOMETRY");
+    List<List<Object>> rows = new ArrayList<>();
+    rows.add(Arrays.asList("ok", GEOJSON_POINT));
+    rows.add(Arrays.asList("broken", "not geojson"));
+
+    Throwable thrown =
+        catchThrowable(
+            () ->
+                dataTableCopyService.copyBatchWithProgress(
+                    tableName, List.of("name", "location"), rows, columnTypes, null));
+
+    // 정리 DROP 이 aborted 트랜잭션에서 실패해 원래 오류를 가리면 안 된다
+    assertThat(thrown).hasStackTraceContaining("GeoJSON");
+    assertThat(thrown.toString()).doesNotContain("current transaction is aborted");
+
+    // 세이브포인트로 되돌렸으므로 같은 트랜잭션에서 계속 조회할 수 있다
+    assertThat(dataTableRowService.countRows(tableName)).isZero();
+    Long landingTables =
+        dsl.fetchOne(
+                "SELECT COUNT(*) FROM pg_tables WHERE tablename LIKE 'copy_landing_%'"
+                    + " AND schemaname LIKE 'pg_temp%'")
+            .get(0, Long.class);
+    assertThat(landingTables).isZero();
+  }
+
+  private static Object failingValue() {
+    return new Object() {
+      @Override
+      public String toString() {
+        throw new IllegalStateException("serialization failed");
+      }
+    };
+  }
+
+  // =========================================================================
+  // copyOut — COPY TO STDOUT CSV 추출
+  // =========================================================================
+
+  /** 정상: 값은 id 순서로 모두 따옴표로 감싸 나오고, NULL은 빈 값, BOOLEAN은 true/false, 따옴표는 이중화되어야 한다. */
+  @Test
+  void copyOut_typedValues_writesQuotedCsvInIdOrder() {
+    String tableName = "copy_out_typed_test";
+    createTypedTable(tableName);
+    List<String> columns = List.of("name", "amount", "ratio", "active", "day", "at");
+    Map<String, String> columnTypes =
+        Map.of(
+            "name", "TEXT",
+            "amount", "INTEGER",
+            "ratio", "DECIMAL",
+            "active", "BOOLEAN",
+            "day", "DATE",
+            "at", "TIMESTAMP");
+
+    List<List<Object>> rows = new ArrayList<>();
+    rows.add(
+        Arrays.asList(
+            "a,b \"q\"",
+            1L,
+            new BigDecimal("3.14"),
+            true,
+            LocalDate.of(2024, 3, 16),
+            LocalDateTime.of(2024, 3, 16, 9, 30, 15)));
+    rows.add(Arrays.asList(null, 2L, null, false, null, null));
+    dataTableCopyService.copyBatchWithProgress(tableName, columns, rows, columnTypes, null);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long written =
+        dataTableCopyService.copyOut(tableName, columns, null, columnTypes, out, null);
+
+    assertThat(written).isEqualTo(2L);
+    assertThat(out.toString(StandardCharsets.UTF_8))
+        .isEqualTo(
+            "\"a,b \"\"q\"\"\",\"1\",\"3.140000\",\"true\",\"2024-03-16\",\"2024-03-16 09:30:15\"\n"
+                + ",\"2\",,\"false\",,\n");
+  }
+
+  /** 정상: 검색어는 SQL 리터럴로 인라인되므로 따옴표/LIKE 특수문자가 섞여도 그대로 필터되고, GEOMETRY는 GeoJSON으로 나와야 한다. */
+  @Test
+  void copyOut_withSearchAndGeometry_filtersAndWritesGeoJson() {
+    String tableName = "copy_out_search_test";
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("name", "Name", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("location", "Location", "GEOMETRY", null, true, false, null)));
+    List<String> columns = List.of("name", "location");
+    Map<String, String> columnTypes = Map.of("name", "TEXT", "location", "GEOMETRY");
+    dataTableCopyService.copyBatchWithProgress(
+        tableName,
+        columns,
+        List.of(
+            Arrays.asList("O'Brien 100%", GEOJSON_POINT),
+            Arrays.asList("O'Brien 1000", null),
+            Arrays.asList("Kim", null)),
+        columnTypes,
+        null);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long written =
+        dataTableCopyService.copyOut(tableName, columns, "'brien 100%", columnTypes, out, null);
+
+    assertThat(written).isEqualTo(1L);
+    String csv = out.toString(StandardCharsets.UTF_8);
+    assertThat(csv).startsWith("\"O'Brien 100%\",\"{").contains("\"\"Point\"\"");
+  }
+}
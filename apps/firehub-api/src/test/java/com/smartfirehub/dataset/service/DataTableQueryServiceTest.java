@@ -4,9 +4,13 @@ import static com.smartfirehub.jooq.Tables.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smartfirehub.dataset.dto.*;
 import com.smartfirehub.dataset.exception.SqlQueryException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
 import com.smartfirehub.support.IntegrationTestBase;
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +35,8 @@ class DataTableQueryServiceTest extends IntegrationTestBase {
   @Autowired private DatasetService datasetService;
   @Autowired private DatasetDataService datasetDataService;
   @Autowired private DSLContext dsl;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private DatasetChangeRepository changeRepository;
 
   /** 테스트용 사용자 ID */
   private Long testUserId;
@@ -218,6 +224,21 @@ class DataTableQueryServiceTest extends IntegrationTestBase {
     assertThat(response.affectedRows()).isEqualTo(1);
   }
 
+  /** 정상: 행을 바꾼 DML 은 대상 데이터셋의 변경 버전을 올린다 (DATASET_CHANGE 트리거·분석 캐시 무효화) */
+  @Test
+  void executeQuery_dml_bumpsTargetDatasetVersion() {
+    long before = changeRepository.findVersions(List.of(testDatasetId)).get(testDatasetId);
+
+    dataTableQueryService.executeQuery(
+        "UPDATE " + testTableName + " SET value = 1 WHERE name = 'Row1'", 100);
+    dataTableQueryService.executeQuery(
+        "UPDATE " + testTableName + " SET value = 1 WHERE name = 'missing'", 100);
+
+    // 영향받은 행이 없는 두 번째 UPDATE 는 버전을 올리지 않는다
+    assertThat(changeRepository.findVersions(List.of(testDatasetId)).get(testDatasetId))
+        .isEqualTo(before + 1);
+  }
+
   // =========================================================================
   // CTE (WITH) 쿼리
   // =========================================================================
@@ -461,4 +482,43 @@ class DataTableQueryServiceTest extends IntegrationTestBase {
     SqlQueryResponse error = dataTableQueryService.executeQuery("SELECT * FORM broken_query", 100);
     assertThat(error.executionTimeMs()).isGreaterThanOrEqualTo(0);
   }
+
+  // =========================================================================
+  // 스트리밍 (column-array JSON)
+  // =========================================================================
+
+  /** 스트리밍: columns 한 번, rows 는 값 배열. 시스템 컬럼 제외, maxRows 에서 잘리고 truncated 표시 */
+  @Test
+  void executeQueryStreaming_select_writesColumnArrayJson() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    SqlQueryResponse summary =
+        dataTableQueryService.executeQueryStreaming(
+            "SELECT * FROM " + testTableName + " ORDER BY value", 2, out);
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertThat(json.get("columns")).hasSize(2);
+    assertThat(json.get("columns").toString()).doesNotContain("import_id", "created_at");
+    assertThat(json.get("rows")).hasSize(2);
+    assertThat(json.get("rows").get(0).isArray()).isTrue();
+    assertThat(json.get("truncated").asBoolean()).isTrue();
+    assertThat(json.get("queryType").asText()).isEqualTo("SELECT");
+    assertThat(json.get("executionTimeMs").asLong()).isGreaterThanOrEqualTo(0);
+    assertThat(json.get("error").isNull()).isTrue();
+    assertThat(summary.affectedRows()).isEqualTo(2);
+    assertThat(summary.rows()).isEmpty();
+  }
+
+  /** 스트리밍: SQL 오류도 올바른 JSON 으로 error 필드에 기록된다 */
+  @Test
+  void executeQueryStreaming_sqlError_writesErrorField() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    dataTableQueryService.executeQueryStreaming(
+        "SELECT no_such_col FROM " + testTableName, 10, out);
+
+    JsonNode json = objectMapper.readTree(out.toByteArray());
+    assertThat(json.get("rows")).isEmpty();
+    assertThat(json.get("error").asText()).isNotBlank();
+  }
 }
@@ -10,6 +10,7 @@ import com.smartfirehub.dataset.dto.CreateDatasetRequest;
 import com.smartfirehub.dataset.dto.DatasetColumnRequest;
 import com.smartfirehub.dataset.dto.DatasetDetailResponse;
 import com.smartfirehub.dataset.exception.RowNotFoundException;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
 import com.smartfirehub.support.IntegrationTestBase;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,6 +37,7 @@ class DataTableRowServiceTest extends IntegrationTestBase {
   @Autowired private DSLContext dsl;
   @Autowired private DataValidationService dataValidationService;
   @Autowired private DataTableService dataTableService;
+  @Autowired private DatasetChangeRepository changeRepository;
 
   /** 테스트용 사용자 ID */
   private Long testUserId;
@@ -144,6 +146,26 @@ class DataTableRowServiceTest extends IntegrationTestBase {
     assertThat(dataTableRowService.countRows(tableName)).isEqualTo(0L);
   }
 
+  /** 정상: 행 쓰기마다 데이터셋 변경 버전이 오르고, 삭제 대상이 없으면 그대로여야 한다. */
+  @Test
+  void writes_bumpDatasetChangeVersion() {
+    DatasetDetailResponse dataset = createSimpleDataset("change_version_test");
+    String tableName = dataset.tableName();
+    assertThat(changeRepository.findVersions(List.of(dataset.id())))
+        .containsEntry(dataset.id(), 0L);
+
+    Long id =
+        dataTableRowService.insertRow(
+            tableName, List.of("name", "value"), Map.of("name", "A", "value", 1));
+    dataTableRowService.insertBatch(
+        tableName, List.of("name", "value"), List.of(Map.of("name", "B", "value", 2)));
+    dataTableRowService.deleteRows(tableName, List.of(id + 1000));
+    dataTableRowService.deleteRows(tableName, List.of(id));
+
+    assertThat(changeRepository.findVersions(List.of(dataset.id())))
+        .containsEntry(dataset.id(), 3L);
+  }
+
   // =========================================================================
   // queryData — 조회, 검색, 정렬, 페이징
   // =========================================================================
@@ -240,6 +262,105 @@ class DataTableRowServiceTest extends IntegrationTestBase {
     assertThat(values).extracting(v -> ((Number) v).longValue()).containsExactly(30L, 20L, 10L);
   }
 
+  // =========================================================================
+  // forEachPage — keyset 전량 읽기
+  // =========================================================================
+
+  /** 정상: 페이지 크기보다 많은 행을 id 순서로 빠짐없이, 중복 없이 읽어야 한다. */
+  @Test
+  void forEachPage_multiplePages_readsAllRowsInIdOrder() {
+    DatasetDetailResponse dataset = createSimpleDataset("keyset_page_test");
+    String tableName = dataset.tableName();
+
+    List<Map<String, Object>> inserted = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      inserted.add(Map.of("name", "row" + i, "value", i));
+    }
+    dataTableRowService.insertBatch(tableName, List.of("name", "value"), inserted);
+
+    List<Integer> pageSizes = new ArrayList<>();
+    List<Long> ids = new ArrayList<>();
+    long total =
+        dataTableRowService.forEachPage(
+            tableName,
+            List.of("name", "value"),
+            null,
+            null,
+            3,
+            rows -> {
+              pageSizes.add(rows.size());
+              rows.forEach(r -> ids.add(((Number) r.get("id")).longValue()));
+            });
+
+    assertThat(total).isEqualTo(7);
+    assertThat(pageSizes).containsExactly(3, 3, 1);
+    assertThat(ids).doesNotHaveDuplicates().isSorted();
+  }
+
+  /** 정상: 검색 조건은 keyset 조건과 함께 적용되어 매칭 행만 넘어와야 한다. */
+  @Test
+  void forEachPage_withSearch_readsOnlyMatchingRows() {
+    DatasetDetailResponse dataset = createSimpleDataset("keyset_search_test");
+    String tableName = dataset.tableName();
+
+    dataTableRowService.insertBatch(
+        tableName,
+        List.of("name", "value"),
+        List.of(
+            Map.of("name", "Alice", "value", 1),
+            Map.of("name", "Bob", "value", 2),
+            Map.of("name", "Alexander", "value", 3),
+            Map.of("name", "Alan", "value", 4)));
+
+    List<Object> names = new ArrayList<>();
+    long total =
+        dataTableRowService.forEachPage(
+            tableName,
+            List.of("name", "value"),
+            "al",
+            null,
+            2,
+            rows -> rows.forEach(r -> names.add(r.get("name"))));
+
+    assertThat(total).isEqualTo(3);
+    assertThat(names).containsExactly("Alice", "Alexander", "Alan");
+  }
+
+  /** 정상: 컬럼을 비워 두면 데이터셋 스키마로 펼쳐 id는 한 번만, geometry는 GeoJSON으로 읽어야 한다. */
+  @Test
+  void forEachPage_emptyColumns_expandsFromDatasetSchema() {
+    String tableName =
+        datasetService
+            .createDataset(
+                new CreateDatasetRequest(
+                    "keyset_geo_test",
+                    "keyset_geo_test",
+                    null,
+                    null,
+                    "TABLE",
+                    "SOURCE",
+                    List.of(
+                        new DatasetColumnRequest("label", "Label", "TEXT", null, true, false, null),
+                        new DatasetColumnRequest(
+                            "geom", "Geom", "GEOMETRY", null, true, false, null)),
+                    null),
+                testUserId)
+            .tableName();
+    dataTableRowService.insertBatch(
+        tableName,
+        List.of("label", "geom"),
+        List.of(Map.of("label", "p1", "geom", "{\"type\":\"Point\",\"coordinates\":[127,37]}")),
+        Map.of("label", "TEXT", "geom", "GEOMETRY"));
+
+    List<Map<String, Object>> read = new ArrayList<>();
+    long total =
+        dataTableRowService.forEachPage(tableName, List.of(), null, null, 10, read::addAll);
+
+    assertThat(total).isEqualTo(1);
+    assertThat(read.get(0)).containsOnlyKeys("id", "label", "geom");
+    assertThat(read.get(0).get("geom").toString()).contains("\"Point\"");
+  }
+
   // =========================================================================
   // countRows — 전체/검색 카운트
   // =========================================================================
@@ -3,6 +3,7 @@ package com.smartfirehub.dataset.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.smartfirehub.dataset.dto.ColumnStatsResponse;
 import com.smartfirehub.dataset.dto.DatasetColumnRequest;
 import com.smartfirehub.dataset.dto.DatasetColumnResponse;
 import com.smartfirehub.dataset.dto.SqlQueryResponse;
@@ -10,6 +11,7 @@ import com.smartfirehub.dataset.exception.InvalidTableNameException;
 import com.smartfirehub.dataset.exception.RowNotFoundException;
 import com.smartfirehub.dataset.exception.SqlQueryException;
 import com.smartfirehub.support.IntegrationTestBase;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.jooq.DSLContext;
@@ -534,7 +536,7 @@ class DataTableServiceTest extends IntegrationTestBase {
         List.of(new DatasetColumnRequest("name", "Name", "TEXT", null, false, false, null));
     dataTableService.createTable(tableName, columns);
 
-    Map<String, Object> data = new java.util.HashMap<>();
+    Map<String, Object> data = new HashMap<>();
     data.put("name", null);
 
     assertThatThrownBy(() -> dataTableRowService.insertRow(tableName, List.of("name"), data))
@@ -617,7 +619,7 @@ class DataTableServiceTest extends IntegrationTestBase {
     dataTableService.cloneTable(sourceTable, targetTable, List.of("required_col"), columnDefs);
 
     // Attempting to insert NULL into the NOT NULL column should fail
-    Map<String, Object> data = new java.util.HashMap<>();
+    Map<String, Object> data = new HashMap<>();
     data.put("required_col", null);
     assertThatThrownBy(
             () -> dataTableRowService.insertRow(targetTable, List.of("required_col"), data))
@@ -682,4 +684,55 @@ class DataTableServiceTest extends IntegrationTestBase {
     assertThat(response.columns()).contains("name");
     assertThat(response.columns()).doesNotContain("id", "import_id", "created_at");
   }
+
+  // -------------------------------------------------------------------------
+  // getColumnStats — 전체 컬럼 단일 패스 프로파일
+  // -------------------------------------------------------------------------
+
+  @Test
+  void getColumnStats_profilesAllColumnsTogether() {
+    String tableName = "test_col_stats";
+    tablesToCleanup.add(tableName);
+    dataTableService.createTable(
+        tableName,
+        List.of(
+            new DatasetColumnRequest("city", "City", "TEXT", null, true, false, null),
+            new DatasetColumnRequest("score", "Score", "INTEGER", null, true, false, null)));
+    Map<String, Object> nullCity = new HashMap<>();
+    nullCity.put("city", null);
+    nullCity.put("score", 40);
+    dataTableRowService.insertBatch(
+        tableName,
+        List.of("city", "score"),
+        List.of(
+            Map.of("city", "Seoul", "score", 10),
+            Map.of("city", "Seoul", "score", 20),
+            Map.of("city", "Busan", "score", 30),
+            nullCity));
+
+    List<ColumnStatsResponse> stats =
+        dataTableService.getColumnStats(
+            tableName,
+            List.of(
+                new DatasetColumnResponse(
+                    1L, "city", "City", "TEXT", null, true, false, null, 0, false),
+                new DatasetColumnResponse(
+                    2L, "score", "Score", "INTEGER", null, true, false, null, 1, false)));
+
+    assertThat(stats).extracting(ColumnStatsResponse::columnName).containsExactly("city", "score");
+    ColumnStatsResponse city = stats.get(0);
+    assertThat(city.totalCount()).isEqualTo(4);
+    assertThat(city.nullCount()).isEqualTo(1);
+    assertThat(city.distinctCount()).isEqualTo(2);
+    assertThat(city.minValue()).isEqualTo("Busan");
+    assertThat(city.maxValue()).isEqualTo("Seoul");
+    assertThat(city.topValues().get(0)).isEqualTo(new ColumnStatsResponse.ValueCount("Seoul", 2));
+    assertThat(city.avgValue()).isNull();
+
+    ColumnStatsResponse score = stats.get(1);
+    assertThat(score.nullCount()).isZero();
+    assertThat(score.distinctCount()).isEqualTo(4);
+    assertThat(score.avgValue()).isEqualTo(25.0);
+    assertThat(score.topValues()).hasSize(4);
+  }
 }
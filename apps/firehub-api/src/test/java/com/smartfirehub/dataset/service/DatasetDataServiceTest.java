@@ -29,6 +29,8 @@ class DatasetDataServiceTest extends IntegrationTestBase {
 
   @Autowired private DatasetService datasetService;
   @Autowired private DatasetDataService datasetDataService;
+  @Autowired private DatasetStatsService datasetStatsService;
+  @Autowired private DataTableRowService dataTableRowService;
   @Autowired private DSLContext dsl;
 
   /** 테스트용 사용자 ID */
@@ -144,6 +146,43 @@ class DatasetDataServiceTest extends IntegrationTestBase {
     stats.forEach(s -> assertThat(s.totalCount()).isEqualTo(2));
   }
 
+  /** 정상: 두 번째 조회는 스냅샷을 반환하고, 갱신 잡이 돌면 새 데이터가 반영된다 */
+  @Test
+  void getDatasetStats_servesSnapshotUntilRefreshed() {
+    DatasetDetailResponse dataset = createSimpleDataset("Stats Snapshot", "stats_snapshot");
+    datasetDataService.addRow(
+        dataset.id(), new RowDataRequest(Map.of("name", "Alice", "value", 100)));
+    datasetDataService.getDatasetStats(dataset.id());
+
+    // 이벤트를 거치지 않는 직접 적재 — 스냅샷은 갱신 전까지 그대로다
+    dsl.execute("INSERT INTO data.\"stats_snapshot\" (name, value) VALUES ('Bob', 200)");
+    assertThat(datasetDataService.getDatasetStats(dataset.id())).allMatch(s -> s.totalCount() == 1);
+
+    // 스냅샷 계산 시작 이전의 요청은 이미 반영된 것으로 보고 건너뛴다
+    datasetStatsService.refreshStats(dataset.id(), 0L);
+    assertThat(datasetDataService.getDatasetStats(dataset.id())).allMatch(s -> s.totalCount() == 1);
+
+    datasetStatsService.refreshStats(dataset.id(), Long.MAX_VALUE);
+    assertThat(datasetDataService.getDatasetStats(dataset.id())).allMatch(s -> s.totalCount() == 2);
+  }
+
+  /** 정상: 이벤트 없이 변경 버전만 올리는 파이프라인 출력 쓰기도 스냅샷 갱신에 반영된다 */
+  @Test
+  void getDatasetStats_pipelineOutputWrite_refreshedOnDataVersion() {
+    DatasetDetailResponse dataset = createSimpleDataset("Stats Pipeline", "stats_pipeline");
+    datasetDataService.addRow(
+        dataset.id(), new RowDataRequest(Map.of("name", "Alice", "value", 100)));
+    datasetDataService.getDatasetStats(dataset.id());
+
+    // 파이프라인 SQL 스텝: 실행기가 직접 쓰고 스텝 완료 처리에서 markChanged 만 호출한다
+    dsl.execute("INSERT INTO data.\"stats_pipeline\" (name, value) VALUES ('Bob', 200)");
+    dataTableRowService.markChanged("stats_pipeline");
+
+    // 요청 시각보다 나중에 계산된 스냅샷이어도 데이터 버전이 낡았으면 다시 계산한다
+    datasetStatsService.refreshStats(dataset.id(), 0L);
+    assertThat(datasetDataService.getDatasetStats(dataset.id())).allMatch(s -> s.totalCount() == 2);
+  }
+
   /** 예외: 존재하지 않는 데이터셋 ID로 통계 조회 시 DatasetNotFoundException */
   @Test
   void getDatasetStats_nonExistentDataset_throwsNotFound() {
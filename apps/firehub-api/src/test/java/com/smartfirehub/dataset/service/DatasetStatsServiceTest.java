@@ -0,0 +1,103 @@
+package com.smartfirehub.dataset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.smartfirehub.dataset.dto.ColumnStatsResponse;
+import com.smartfirehub.dataset.dto.DatasetResponse;
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnStatsRepository;
+import com.smartfirehub.dataset.repository.DatasetColumnStatsRepository.Snapshot;
+import com.smartfirehub.dataset.repository.DatasetRepository;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jobrunr.jobs.lambdas.JobLambda;
+import org.jobrunr.scheduling.JobScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** DatasetStatsService 단위 테스트 — 데이터 버전이 스냅샷보다 앞서면 갱신 잡을 한 번만 enqueue 한다. */
+@ExtendWith(MockitoExtension.class)
+class DatasetStatsServiceTest {
+
+  @Mock DatasetRepository datasetRepository;
+  @Mock DatasetColumnRepository columnRepository;
+  @Mock DatasetColumnStatsRepository statsRepository;
+  @Mock DataTableService dataTableService;
+  @Mock DataTableRowService dataTableRowService;
+  @Mock JobScheduler jobScheduler;
+  @Mock TransactionTemplate transactionTemplate;
+  @Mock DatasetChangeRepository changeRepository;
+
+  private DatasetStatsService service;
+  private final DatasetResponse dataset = dataset(7L);
+  private final List<ColumnStatsResponse> stats = List.of();
+
+  @BeforeEach
+  void setUp() {
+    service =
+        new DatasetStatsService(
+            datasetRepository,
+            columnRepository,
+            statsRepository,
+            dataTableService,
+            dataTableRowService,
+            jobScheduler,
+            transactionTemplate,
+            changeRepository);
+  }
+
+  @Test
+  void getStats_versionBumpedWithoutEvent_enqueuesRefreshOnce() {
+    when(statsRepository.findSnapshot(7L))
+        .thenReturn(Optional.of(new Snapshot(stats, 3L, OffsetDateTime.now())));
+    // 파이프라인 출력이 markChanged 로 버전만 올린 상태
+    when(changeRepository.findVersions(List.of(7L))).thenReturn(Map.of(7L, 4L));
+
+    assertThat(service.getStats(dataset)).isSameAs(stats);
+    service.getStats(dataset);
+
+    verify(jobScheduler, times(1)).enqueue(any(JobLambda.class));
+  }
+
+  @Test
+  void getStats_snapshotAtCurrentVersion_doesNotEnqueue() {
+    when(statsRepository.findSnapshot(7L))
+        .thenReturn(Optional.of(new Snapshot(stats, 4L, OffsetDateTime.now())));
+    when(changeRepository.findVersions(List.of(7L))).thenReturn(Map.of(7L, 4L));
+
+    service.getStats(dataset);
+
+    verify(jobScheduler, never()).enqueue(any(JobLambda.class));
+  }
+
+  private static DatasetResponse dataset(Long id) {
+    return new DatasetResponse(
+        id,
+        "fires",
+        "fires",
+        null,
+        null,
+        "TABLE",
+        "SOURCE",
+        null,
+        false,
+        List.of(),
+        null,
+        null,
+        null,
+        null,
+        null);
+  }
+}
@@ -45,8 +45,7 @@ class DocumentControllerTest {
   @BeforeEach
   void setUp() {
     // JWT "test-token" → userId 1L, 권한은 문서 엔드포인트 전체를 커버하도록 부여한다.
-    when(jwtTokenProvider.validateAccessToken("test-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("test-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("test-token")).thenReturn(Optional.of(1L));
     when(permissionService.getUserPermissions(1L))
         .thenReturn(Set.of("data:import", "dataset:read", "dataset:write"));
   }
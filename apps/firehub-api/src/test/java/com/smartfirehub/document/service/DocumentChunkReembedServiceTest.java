@@ -10,9 +10,11 @@ import static org.mockito.Mockito.when;
 
 import com.smartfirehub.document.repository.DocumentChunkRepository;
 import com.smartfirehub.document.repository.DocumentChunkRepository.ChunkContent;
+import com.smartfirehub.embedding.EmbeddingBatcher;
 import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.jobrunr.jobs.lambdas.JobLambda;
 import org.jobrunr.scheduling.JobScheduler;
 import org.junit.jupiter.api.Test;
@@ -28,13 +30,13 @@ class DocumentChunkReembedServiceTest {
   @Mock EmbeddingProviderFactory embeddingFactory;
   @Mock JobScheduler jobScheduler;
   @Mock EmbeddingProvider provider;
+  @Mock EmbeddingBatcher embeddingBatcher;
 
   @Test
   void reembedAll_데이터셋마다_잡을_enqueue하고_개수를_반환한다() {
     when(repository.findDocumentDatasetIds()).thenReturn(List.of(1L, 2L, 3L));
 
-    DocumentChunkReembedService service =
-        new DocumentChunkReembedService(repository, embeddingFactory, jobScheduler);
+    DocumentChunkReembedService service = service();
     int scheduled = service.reembedAll();
 
     // 청크 보유 DOCUMENT 데이터셋 수만큼 잡이 예약되고 그 수가 반환된다.
@@ -48,11 +50,10 @@ class DocumentChunkReembedServiceTest {
         .thenReturn(List.of(new ChunkContent(10L, "내용A"), new ChunkContent(11L, "내용B")));
     when(embeddingFactory.current()).thenReturn(provider);
     when(provider.modelId()).thenReturn("bge-m3");
-    when(provider.embed(List.of("내용A", "내용B")))
-        .thenReturn(List.of(new float[1024], new float[1024]));
+    when(embeddingBatcher.submit(provider, List.of("내용A", "내용B")))
+        .thenReturn(CompletableFuture.completedFuture(List.of(new float[1024], new float[1024])));
 
-    DocumentChunkReembedService service =
-        new DocumentChunkReembedService(repository, embeddingFactory, jobScheduler);
+    DocumentChunkReembedService service = service();
     service.reembedDataset(7L);
 
     // 청크 id 순서를 유지한 채 현재 모델 식별자로 임베딩 배치 갱신이 호출된다.
@@ -63,11 +64,44 @@ class DocumentChunkReembedServiceTest {
   void reembedDataset_청크가_없으면_갱신을_호출하지_않는다() {
     when(repository.findChunkContentsByDataset(7L)).thenReturn(List.of());
 
-    DocumentChunkReembedService service =
-        new DocumentChunkReembedService(repository, embeddingFactory, jobScheduler);
+    DocumentChunkReembedService service = service();
     service.reembedDataset(7L);
 
     // 빈 데이터셋은 provider 호출/배치 갱신 없이 조기 반환한다.
     verify(repository, never()).updateEmbeddingBatch(any(), any(), any());
   }
+
+  @Test
+  void reembedDataset_청크가_많으면_윈도우별로_제출하고_순서대로_갱신한다() {
+    List<ChunkContent> chunks = new java.util.ArrayList<>();
+    for (long id = 1; id <= 450; id++) {
+      chunks.add(new ChunkContent(id, "내용" + id));
+    }
+    when(repository.findChunkContentsByDataset(7L)).thenReturn(chunks);
+    when(embeddingFactory.current()).thenReturn(provider);
+    when(provider.modelId()).thenReturn("bge-m3");
+    when(embeddingBatcher.submit(eq(provider), any()))
+        .thenAnswer(
+            inv ->
+                CompletableFuture.completedFuture(
+                    ((List<?>) inv.getArgument(1)).stream().map(t -> new float[1024]).toList()));
+
+    DocumentChunkReembedService service = service();
+    service.reembedDataset(7L);
+
+    // 450건 → 200/200/50 윈도우 3개. 갱신은 제출 순서대로 id 를 유지한다.
+    var inOrder = org.mockito.Mockito.inOrder(repository);
+    inOrder.verify(repository).updateEmbeddingBatch(eq(ids(1, 200)), any(), eq("bge-m3"));
+    inOrder.verify(repository).updateEmbeddingBatch(eq(ids(201, 400)), any(), eq("bge-m3"));
+    inOrder.verify(repository).updateEmbeddingBatch(eq(ids(401, 450)), any(), eq("bge-m3"));
+  }
+
+  private DocumentChunkReembedService service() {
+    return new DocumentChunkReembedService(
+        repository, embeddingFactory, jobScheduler, embeddingBatcher);
+  }
+
+  private static List<Long> ids(long from, long to) {
+    return java.util.stream.LongStream.rangeClosed(from, to).boxed().toList();
+  }
 }
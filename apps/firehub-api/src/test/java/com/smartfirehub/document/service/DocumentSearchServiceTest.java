@@ -9,7 +9,6 @@ import static org.mockito.Mockito.when;
 import com.smartfirehub.document.dto.DocumentSearchHit;
 import com.smartfirehub.document.dto.DocumentSearchRequest;
 import com.smartfirehub.document.repository.DocumentChunkRepository;
-import com.smartfirehub.embedding.EmbeddingProvider;
 import com.smartfirehub.embedding.EmbeddingProviderFactory;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -17,21 +16,11 @@ import org.mockito.Mockito;
 
 class DocumentSearchServiceTest {
 
-  private EmbeddingProvider fakeProvider(int dim) {
-    return new EmbeddingProvider() {
-      public List<float[]> embed(List<String> texts) {
-        return texts.stream().map(t -> new float[dim]).toList();
-      }
-      public String modelId() { return "fake"; }
-      public int dimension() { return dim; }
-    };
-  }
-
   @Test
   void searchEmbedsQueryAndDelegatesToRepository() {
     var factory = Mockito.mock(EmbeddingProviderFactory.class);
     var repo = Mockito.mock(DocumentChunkRepository.class);
-    when(factory.current()).thenReturn(fakeProvider(1024));
+    when(factory.embedQuery("질의")).thenReturn(new float[1024]);
     var hit = new DocumentSearchHit(1L, 2L, 3L, "f.txt", 0, "내용", 0.9);
     when(repo.searchByCosine(Mockito.any(), Mockito.eq(List.of(3L)), Mockito.eq(5)))
         .thenReturn(List.of(hit));
@@ -69,14 +58,14 @@ class DocumentSearchServiceTest {
     assertThat(result).hasSize(1);
     assertThat(result.get(0).content()).isEqualTo("키워드");
     // KEYWORD 모드는 임베딩 provider 를 호출하지 않아야 한다(회복탄력성).
-    verify(factory, never()).current();
+    verify(factory, never()).embedQuery(Mockito.any());
   }
 
   @Test
   void hybridModeFusesSemanticAndKeywordWithRrf() {
     var factory = Mockito.mock(EmbeddingProviderFactory.class);
     var repo = Mockito.mock(DocumentChunkRepository.class);
-    when(factory.current()).thenReturn(fakeProvider(1024));
+    when(factory.embedQuery("질의")).thenReturn(new float[1024]);
 
     // 시맨틱: A(rank0), B(rank1) / 키워드: B(rank0), C(rank1)
     var a = new DocumentSearchHit(10L, 1L, 3L, "f", 0, "A", 0.9);
@@ -102,7 +91,7 @@ class DocumentSearchServiceTest {
   void defaultModeIsHybrid() {
     var factory = Mockito.mock(EmbeddingProviderFactory.class);
     var repo = Mockito.mock(DocumentChunkRepository.class);
-    when(factory.current()).thenReturn(fakeProvider(1024));
+    when(factory.embedQuery("질의")).thenReturn(new float[1024]);
     when(repo.searchByCosine(Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(List.of());
     when(repo.searchByTrigram(Mockito.any(), Mockito.any(), Mockito.anyInt())).thenReturn(List.of());
 
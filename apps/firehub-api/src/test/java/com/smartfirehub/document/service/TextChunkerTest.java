@@ -3,6 +3,7 @@ package com.smartfirehub.document.service;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.smartfirehub.document.dto.Chunk;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +47,31 @@ class TextChunkerTest {
     List<Chunk> chunks = chunker.chunk("줄1\n\n\n\n줄2");
     assertThat(chunks.get(0).content()).isEqualTo("줄1\n\n줄2");
   }
+
+  @Test
+  void sessionMatchesSingleShotChunkingAcrossSegmentBoundaries() {
+    // 페이지 경계에 공백·개행 연속이 걸쳐도 한 번에 정규화한 것과 같은 청크가 나와야 한다
+    String[] pages = {
+      "  " + "A".repeat(18) + " \t", "\t B".repeat(6) + "\n\n", "\n\n" + "C".repeat(30)
+    };
+    List<Chunk> streamed = new ArrayList<>();
+    TextChunker.Session session = chunker.open(streamed::add);
+    for (String page : pages) session.append(page);
+    int count = session.finish();
+
+    assertThat(streamed).isEqualTo(chunker.chunk(String.join("", pages)));
+    assertThat(count).isEqualTo(streamed.size());
+  }
+
+  @Test
+  void sessionEmitsChunksBeforeFinish() {
+    List<Chunk> streamed = new ArrayList<>();
+    TextChunker.Session session = chunker.open(streamed::add);
+    session.append("A".repeat(50));
+    // 확정된 윈도우는 바로 나가고, 마지막 윈도우는 뒤에 텍스트가 더 올 수 있어 finish 까지 남는다
+    assertThat(streamed).isNotEmpty();
+    int before = streamed.size();
+    session.finish();
+    assertThat(streamed.size()).isGreaterThan(before);
+  }
 }
@@ -7,12 +7,17 @@ import com.smartfirehub.dataimport.exception.UnsupportedFileTypeException;
 import com.smartfirehub.document.dto.ExtractedText;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class TextExtractorTest {
 
@@ -52,22 +57,51 @@ class TextExtractorTest {
     assertThat(out.text()).contains("점검 매뉴얼");
   }
 
+  @Test
+  void streamsPdfPageByPageFromFile(@TempDir Path dir) throws Exception {
+    byte[] data = makePdf("Fire inspection report", "Sprinkler maintenance log");
+    Path file = Files.write(dir.resolve("a.pdf"), data);
+    List<String> pages = new ArrayList<>();
+
+    Integer pageCount = extractor.extract(file, "application/pdf", "a.pdf", pages::add);
+
+    assertThat(pageCount).isEqualTo(2);
+    assertThat(pages).hasSize(2);
+    assertThat(pages.get(0)).contains("Fire inspection report");
+    assertThat(pages.get(1)).contains("Sprinkler maintenance log");
+    assertThat(String.join("", pages))
+        .isEqualTo(extractor.extract(data, "application/pdf", "a.pdf").text());
+  }
+
+  @Test
+  void streamsPlainTextFromFile(@TempDir Path dir) throws Exception {
+    Path file = Files.writeString(dir.resolve("a.txt"), "소방 점검 보고서");
+    List<String> segments = new ArrayList<>();
+
+    Integer pageCount = extractor.extract(file, "text/plain", "a.txt", segments::add);
+
+    assertThat(pageCount).isNull();
+    assertThat(String.join("", segments)).isEqualTo("소방 점검 보고서");
+  }
+
   @Test
   void rejectsUnsupportedMime() {
     assertThatThrownBy(() -> extractor.extract(new byte[] {1}, "image/png", "a.png"))
         .isInstanceOf(UnsupportedFileTypeException.class);
   }
 
-  private byte[] makePdf(String text) throws Exception {
+  private byte[] makePdf(String... pageTexts) throws Exception {
     try (PDDocument doc = new PDDocument()) {
-      PDPage page = new PDPage();
-      doc.addPage(page);
-      try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
-        cs.beginText();
-        cs.setFont(PDType1Font.HELVETICA, 12);
-        cs.newLineAtOffset(50, 700);
-        cs.showText(text);
-        cs.endText();
+      for (String text : pageTexts) {
+        PDPage page = new PDPage();
+        doc.addPage(page);
+        try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+          cs.beginText();
+          cs.setFont(PDType1Font.HELVETICA, 12);
+          cs.newLineAtOffset(50, 700);
+          cs.showText(text);
+          cs.endText();
+        }
       }
       ByteArrayOutputStream out = new ByteArrayOutputStream();
       doc.save(out);
@@ -0,0 +1,123 @@
+package com.smartfirehub.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** EmbeddingBatcher 단위 테스트 — micro-batch 분할·병합, 순서 보존, 실패 전파를 검증한다. */
+class EmbeddingBatcherTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private EmbeddingBatcher batcher;
+
+  @AfterEach
+  void tearDown() {
+    if (batcher != null) batcher.shutdown();
+  }
+
+  @Test
+  void largeInput_isSplitByMaxItemsAndKeepsOrder() {
+    batcher = new EmbeddingBatcher(registry, 2, 10, 100_000, 0, 1000);
+    RecordingProvider provider = new RecordingProvider(text -> Float.parseFloat(text));
+    List<String> texts = new ArrayList<>();
+    for (int i = 0; i < 35; i++) {
+      texts.add(String.valueOf(i));
+    }
+
+    List<float[]> out = batcher.embed(provider, texts);
+
+    assertThat(out).hasSize(35);
+    for (int i = 0; i < 35; i++) {
+      assertThat(out.get(i)[0]).isEqualTo(i);
+    }
+    assertThat(provider.batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(10));
+    assertThat(provider.batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(35);
+  }
+
+  @Test
+  void batch_isCutByEstimatedTokens() {
+    // 400자 ≈ 100토큰 → max-tokens 250 이면 배치당 2건
+    batcher = new EmbeddingBatcher(registry, 1, 64, 250, 50, 1000);
+    RecordingProvider provider = new RecordingProvider(text -> 1f);
+    String text = "가".repeat(400);
+
+    batcher.embed(provider, List.of(text, text, text, text, text));
+
+    assertThat(provider.batchSizes).containsExactly(2, 2, 1);
+  }
+
+  @Test
+  void concurrentSmallRequests_areCoalescedIntoOneBatch() {
+    // 워커 1개 + 넉넉한 linger → 동시에 들어온 요청 3건이 한 번의 provider 호출로 묶인다
+    batcher = new EmbeddingBatcher(registry, 1, 64, 100_000, 500, 1000);
+    RecordingProvider provider = new RecordingProvider(text -> Float.parseFloat(text));
+
+    CompletableFuture<List<float[]>> a = batcher.submit(provider, List.of("1"));
+    CompletableFuture<List<float[]>> b = batcher.submit(provider, List.of("2", "3"));
+    CompletableFuture<List<float[]>> c = batcher.submit(provider, List.of("4"));
+
+    assertThat(a.join().get(0)[0]).isEqualTo(1f);
+    assertThat(b.join()).extracting(v -> v[0]).containsExactly(2f, 3f);
+    assertThat(c.join().get(0)[0]).isEqualTo(4f);
+    assertThat(provider.batchSizes).containsExactly(4);
+    assertThat(registry.get("embedding_batch_texts_total").counter().count()).isEqualTo(4);
+  }
+
+  @Test
+  void providerFailure_failsRequestWithEmbeddingException() {
+    batcher = new EmbeddingBatcher(registry, 1, 64, 100_000, 0, 1000);
+    RecordingProvider provider =
+        new RecordingProvider(
+            text -> {
+              throw new EmbeddingException("Ollama 임베딩 호출 실패: down");
+            });
+
+    assertThatThrownBy(() -> batcher.embed(provider, List.of("a")))
+        .isInstanceOf(EmbeddingException.class)
+        .hasMessageContaining("down");
+    assertThat(
+            registry.get("embedding_batch_total").tag("result", "failure").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void emptyInput_completesImmediately() {
+    batcher = new EmbeddingBatcher(registry, 1, 64, 100_000, 0, 1000);
+
+    assertThat(batcher.embed(new RecordingProvider(text -> 0f), List.of())).isEmpty();
+  }
+
+  /** 텍스트마다 1차원 벡터를 돌려주고 호출된 배치 크기를 기록하는 provider. */
+  private static final class RecordingProvider implements EmbeddingProvider {
+    private final Function<String, Float> value;
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+    RecordingProvider(Function<String, Float> value) {
+      this.value = value;
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+      batchSizes.add(texts.size());
+      return texts.stream().map(t -> new float[] {value.apply(t)}).toList();
+    }
+
+    @Override
+    public String modelId() {
+      return "fake";
+    }
+
+    @Override
+    public int dimension() {
+      return 1;
+    }
+  }
+}
@@ -3,12 +3,17 @@ package com.smartfirehub.embedding;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.smartfirehub.settings.service.SettingsChangedEvent;
 import com.smartfirehub.settings.service.SettingsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /** EmbeddingProviderFactory 단위 테스트 — system_settings 값에 따른 provider 선택을 검증한다. */
@@ -23,11 +29,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 class EmbeddingProviderFactoryTest {
 
   @Mock private SettingsService settingsService;
+  @Mock private ObjectProvider<MeterRegistry> meterRegistry;
   private EmbeddingProviderFactory factory;
 
   @BeforeEach
   void setUp() {
-    factory = new EmbeddingProviderFactory(settingsService, WebClient.builder());
+    factory =
+        new EmbeddingProviderFactory(
+            settingsService, WebClient.builder(), meterRegistry, 4, 60, 100);
   }
 
   @Test
@@ -112,6 +121,57 @@ class EmbeddingProviderFactoryTest {
     }
   }
 
+  @Test
+  void current_reusesProviderUntilEmbeddingSettingsChange() {
+    // 설정 버전이 같으면 설정 재조회·provider 재생성 없이 같은 인스턴스를 반환한다.
+    when(settingsService.getValue("embedding.provider")).thenReturn(Optional.empty());
+    when(settingsService.getValue("embedding.model")).thenReturn(Optional.empty());
+    when(settingsService.getValue("embedding.base_url")).thenReturn(Optional.empty());
+
+    EmbeddingProvider first = factory.current();
+    assertThat(factory.current()).isSameAs(first);
+    verify(settingsService, times(1)).getValue("embedding.provider");
+
+    // 임베딩과 무관한 설정 변경은 캐시를 유지한다.
+    factory.onSettingsChanged(new SettingsChangedEvent(Set.of("ai.model")));
+    assertThat(factory.current()).isSameAs(first);
+
+    // embedding.* 변경 → 재조회. 모델이 바뀌었으므로 새 provider.
+    when(settingsService.getValue("embedding.model")).thenReturn(Optional.of("bge-large"));
+    factory.onSettingsChanged(new SettingsChangedEvent(Set.of("embedding.model")));
+    EmbeddingProvider second = factory.current();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.modelId()).isEqualTo("bge-large");
+    verify(settingsService, times(2)).getValue("embedding.provider");
+  }
+
+  @Test
+  void embedQuery_repeatedQuery_skipsEmbeddingCall() throws Exception {
+    // 같은 쿼리 문자열은 LRU 캐시에서 반환 → HTTP 요청 1회. 반환 배열은 호출자별 복사본.
+    MockWebServer server = new MockWebServer();
+    server.start();
+    try {
+      when(settingsService.getValue("embedding.provider")).thenReturn(Optional.of("OLLAMA"));
+      when(settingsService.getValue("embedding.model")).thenReturn(Optional.empty());
+      when(settingsService.getValue("embedding.base_url"))
+          .thenReturn(Optional.of(server.url("/").toString()));
+      server.enqueue(
+          new MockResponse()
+              .setHeader("Content-Type", "application/json")
+              .setBody(bigEmbeddingsBody(1, 1024)));
+
+      float[] first = factory.embedQuery("화재 통계");
+      first[0] = -1f;
+      float[] second = factory.embedQuery("화재 통계");
+
+      assertThat(server.getRequestCount()).isEqualTo(1);
+      assertThat(second[0]).isEqualTo(0.123456f);
+    } finally {
+      server.shutdown();
+    }
+  }
+
   /** {"embeddings":[[...dim개...], ...count개...]} 형태의 대용량 Ollama 응답 본문을 만든다. */
   private static String bigEmbeddingsBody(int count, int dim) {
     StringBuilder sb = new StringBuilder("{\"embeddings\":[");
@@ -0,0 +1,14 @@
+package com.smartfirehub.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HashUtilsTest {
+
+  @Test
+  void sha256Hex_knownInput_returnsLowercaseHex() {
+    assertThat(HashUtils.sha256Hex("abc"))
+        .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+  }
+}
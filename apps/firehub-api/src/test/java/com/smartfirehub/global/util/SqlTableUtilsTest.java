@@ -0,0 +1,44 @@
+package com.smartfirehub.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SqlTableUtilsTest {
+
+  @Test
+  void writtenDataTables_insertSelect_returnsOnlyTarget() {
+    assertThat(SqlTableUtils.writtenDataTables("INSERT INTO target SELECT * FROM source;"))
+        .containsExactly("target");
+  }
+
+  @Test
+  void writtenDataTables_updateWithQuotedSchema_returnsUnquotedName() {
+    assertThat(SqlTableUtils.writtenDataTables("UPDATE data.\"My Table\" SET a = 1"))
+        .containsExactly("My Table");
+  }
+
+  @Test
+  void writtenDataTables_deleteFromOtherSchema_returnsEmpty() {
+    assertThat(SqlTableUtils.writtenDataTables("DELETE FROM other.t WHERE id = 1")).isEmpty();
+  }
+
+  @Test
+  void writtenDataTables_unparseable_returnsEmpty() {
+    assertThat(SqlTableUtils.writtenDataTables("DELETE FROM")).isEmpty();
+  }
+
+  @Test
+  void referencedDataTables_selectJoinWithCte_returnsDataTablesOnly() {
+    assertThat(
+            SqlTableUtils.referencedDataTables(
+                "WITH c AS (SELECT * FROM a) SELECT * FROM c JOIN data.\"B\" b ON true"
+                    + " JOIN other.x ON true"))
+        .containsExactlyInAnyOrder("a", "B");
+  }
+
+  @Test
+  void dataTableName_unqualifiedIdentifier_isLowercased() {
+    assertThat(SqlTableUtils.dataTableName("Sales")).isEqualTo("sales");
+  }
+}
@@ -1,13 +1,18 @@
 package com.smartfirehub.notification.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 import com.smartfirehub.notification.ChannelType;
+import com.smartfirehub.notification.repository.NotificationOutboxRepository.OutboxCompletion;
 import com.smartfirehub.support.IntegrationTestBase;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -26,6 +31,23 @@ class NotificationOutboxRepositoryIntegrationTest extends IntegrationTestBase {
     assertThat(repo.findByCorrelation(corr)).hasSize(1);
   }
 
+  @Test
+  void insertAllIfAbsent_skipsExistingAndInBatchDuplicateKeys() {
+    UUID corr = UUID.randomUUID();
+    repo.insertIfAbsent(sampleRow("key-bulk-a-" + corr, corr));
+
+    int inserted =
+        repo.insertAllIfAbsent(
+            List.of(
+                sampleRow("key-bulk-a-" + corr, corr), // 기존 행과 충돌
+                sampleRow("key-bulk-b-" + corr, corr),
+                sampleRow("key-bulk-b-" + corr, corr), // 같은 문장 안의 중복
+                sampleRow("key-bulk-c-" + corr, corr)));
+
+    assertThat(inserted).isEqualTo(2);
+    assertThat(repo.findByCorrelation(corr)).hasSize(3);
+  }
+
   @Test
   void claimDue_marksSendingAndReturnsRows() {
     UUID corr = UUID.randomUUID();
@@ -36,6 +58,24 @@ class NotificationOutboxRepositoryIntegrationTest extends IntegrationTestBase {
     assertThat(claimed.get(0).status()).isEqualTo("SENDING");
   }
 
+  @Test
+  void claimDue_byChannel_claimsOnlyThatChannel() {
+    UUID corr = UUID.randomUUID();
+    repo.insertIfAbsent(sampleRow("key-chan-chat-" + corr, corr));
+    repo.insertIfAbsent(sampleRow("key-chan-slack-" + corr, corr, ChannelType.SLACK));
+
+    var claimed = repo.claimDue(10_000, "chan-instance", ChannelType.SLACK);
+
+    assertThat(claimed).extracting(r -> r.channelType()).containsOnly(ChannelType.SLACK);
+    assertThat(claimed).extracting(r -> r.idempotencyKey()).contains("key-chan-slack-" + corr);
+    var chatRow =
+        repo.findByCorrelation(corr).stream()
+            .filter(r -> r.channelType() == ChannelType.CHAT)
+            .findFirst()
+            .orElseThrow();
+    assertThat(chatRow.status()).isEqualTo("PENDING");
+  }
+
   @Test
   void claimDue_skipLockedConcurrent() throws Exception {
     UUID corr = UUID.randomUUID();
@@ -82,14 +122,62 @@ class NotificationOutboxRepositoryIntegrationTest extends IntegrationTestBase {
     assertThat(repo.findByCorrelation(corr).get(0).status()).isEqualTo("PENDING");
   }
 
+  @Test
+  void renewLease_onlyOwnSendingRows_keepsThemFromZombieSweep() {
+    UUID corr = UUID.randomUUID();
+    repo.insertIfAbsent(sampleRow("key-lease-" + corr, corr));
+    var claimed = repo.claimDue(10_000, "lease-owner");
+    long id =
+        claimed.stream().filter(r -> r.correlationId().equals(corr)).findFirst().orElseThrow().id();
+
+    assertThat(repo.renewLease(List.of(id), "someone-else")).isZero();
+    assertThat(repo.renewLease(List.of(id), "lease-owner")).isEqualTo(1);
+    // 방금 연장했으므로 과거 cutoff 기준으로는 좀비가 아니다
+    repo.reclaimZombies(Instant.now().minusSeconds(60));
+    assertThat(repo.findByCorrelation(corr).get(0).status()).isEqualTo("SENDING");
+  }
+
+  @Test
+  void completeAll_appliesMixedResultsInOneStatement() {
+    UUID corr = UUID.randomUUID();
+    repo.insertIfAbsent(sampleRow("key-complete-sent-" + corr, corr));
+    repo.insertIfAbsent(sampleRow("key-complete-retry-" + corr, corr));
+    repo.insertIfAbsent(sampleRow("key-complete-fail-" + corr, corr));
+    var ids = repo.findByCorrelation(corr).stream().map(r -> r.id()).sorted().toList();
+    Instant retryAt = Instant.now().plusSeconds(600);
+
+    int updated =
+        repo.completeAll(
+            List.of(
+                OutboxCompletion.sent(ids.get(0), "ext-1"),
+                OutboxCompletion.retry(ids.get(1), 2, retryAt, "CHANNEL_HTTP_503"),
+                OutboxCompletion.permanentFailure(ids.get(2), "TOKEN_EXPIRED", "auth_error")));
+
+    assertThat(updated).isEqualTo(3);
+    var byId =
+        repo.findByCorrelation(corr).stream()
+            .collect(Collectors.toMap(r -> r.id(), r -> r));
+    assertThat(byId.get(ids.get(0)).status()).isEqualTo("SENT");
+    assertThat(byId.get(ids.get(1)).status()).isEqualTo("PENDING");
+    assertThat(byId.get(ids.get(1)).attemptCount()).isEqualTo(2);
+    assertThat(byId.get(ids.get(1)).nextAttemptAt())
+        .isCloseTo(retryAt, within(1, ChronoUnit.SECONDS));
+    assertThat(byId.get(ids.get(2)).status()).isEqualTo("PERMANENT_FAILURE");
+  }
+
   private NotificationOutboxRepository.NotificationOutboxRow sampleRow(String key, UUID corr) {
+    return sampleRow(key, corr, ChannelType.CHAT);
+  }
+
+  private NotificationOutboxRepository.NotificationOutboxRow sampleRow(
+      String key, UUID corr, ChannelType channelType) {
     return new NotificationOutboxRepository.NotificationOutboxRow(
         null,
         key,
         corr,
         "TEST_EVENT",
         null,
-        ChannelType.CHAT,
+        channelType,
         null,
         null,
         null,
@@ -0,0 +1,77 @@
+package com.smartfirehub.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/** ChannelRateLimiter — 토큰 버킷 예약, 429 감속·일시 정지, 성공 시 회복을 가짜 시계로 검증. */
+class ChannelRateLimiterTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  private static long seconds(double s) {
+    return (long) (s * TimeUnit.SECONDS.toNanos(1));
+  }
+
+  @Test
+  void reserve_burstThenPacedAtRate() {
+    ChannelRateLimiter limiter = new ChannelRateLimiter(2, clock::get);
+
+    // 버스트 = 1초분(2개)은 바로, 이후는 0.5초 간격으로 예약된다
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isEqualTo(seconds(0.5));
+    assertThat(limiter.reserve()).isEqualTo(seconds(1.0));
+
+    clock.addAndGet(seconds(1.0));
+    assertThat(limiter.reserve()).isEqualTo(seconds(0.5));
+  }
+
+  @Test
+  void onRateLimited_halvesRateAndPausesForRetryAfter() {
+    ChannelRateLimiter limiter = new ChannelRateLimiter(10, clock::get);
+
+    limiter.onRateLimited(Duration.ofSeconds(3));
+
+    assertThat(limiter.currentRate()).isEqualTo(5);
+    assertThat(limiter.reserve()).isEqualTo(seconds(3));
+  }
+
+  @Test
+  void onRateLimited_capsPauseAndRateFloor() {
+    ChannelRateLimiter limiter = new ChannelRateLimiter(10, clock::get);
+
+    for (int i = 0; i < 10; i++) {
+      limiter.onRateLimited(Duration.ofHours(1));
+    }
+
+    assertThat(limiter.currentRate()).isEqualTo(1);
+    assertThat(limiter.reserve()).isEqualTo(ChannelRateLimiter.MAX_PAUSE.toNanos());
+  }
+
+  @Test
+  void onSuccess_recoversTowardConfiguredRate() {
+    ChannelRateLimiter limiter = new ChannelRateLimiter(10, clock::get);
+    limiter.onRateLimited(null);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.onSuccess();
+    }
+
+    assertThat(limiter.currentRate()).isEqualTo(10);
+  }
+
+  @Test
+  void unlimited_onlyHonorsPause() {
+    ChannelRateLimiter limiter = new ChannelRateLimiter(0, clock::get);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.reserve()).isZero();
+    }
+    limiter.onRateLimited(null);
+    assertThat(limiter.reserve()).isEqualTo(ChannelRateLimiter.DEFAULT_PAUSE.toNanos());
+  }
+}
@@ -0,0 +1,50 @@
+package com.smartfirehub.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** ClaimSizer — 적체량에 따른 claim 크기 확장·축소와 min/max 경계 검증. */
+class ClaimSizerTest {
+
+  @Test
+  void adjust_growsByDoublingUpToMax() {
+    ClaimSizer sizer = new ClaimSizer(20, 100);
+
+    assertThat(sizer.adjust(10_000)).isEqualTo(40);
+    assertThat(sizer.adjust(10_000)).isEqualTo(80);
+    assertThat(sizer.adjust(10_000)).isEqualTo(100);
+    assertThat(sizer.adjust(10_000)).isEqualTo(100);
+  }
+
+  @Test
+  void adjust_shrinksByHalvingDownToMin() {
+    ClaimSizer sizer = new ClaimSizer(20, 160);
+    sizer.adjust(10_000);
+    sizer.adjust(10_000);
+    sizer.adjust(10_000);
+
+    assertThat(sizer.current()).isEqualTo(160);
+    assertThat(sizer.adjust(0)).isEqualTo(80);
+    assertThat(sizer.adjust(0)).isEqualTo(40);
+    assertThat(sizer.adjust(0)).isEqualTo(20);
+    assertThat(sizer.adjust(0)).isEqualTo(20);
+  }
+
+  @Test
+  void adjust_backlogWithinBand_keepsSize() {
+    ClaimSizer sizer = new ClaimSizer(20, 200);
+    sizer.adjust(1_000);
+
+    // 현재 40: 20 이상 40 이하의 적체량은 크기를 유지한다
+    assertThat(sizer.adjust(30)).isEqualTo(40);
+    assertThat(sizer.adjust(40)).isEqualTo(40);
+  }
+
+  @Test
+  void constructor_maxBelowMin_clampsToMin() {
+    ClaimSizer sizer = new ClaimSizer(20, 5);
+
+    assertThat(sizer.adjust(10_000)).isEqualTo(20);
+  }
+}
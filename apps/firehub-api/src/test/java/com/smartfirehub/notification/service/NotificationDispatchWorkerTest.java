@@ -0,0 +1,165 @@
+package com.smartfirehub.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smartfirehub.notification.Channel;
+import com.smartfirehub.notification.ChannelType;
+import com.smartfirehub.notification.DeliveryResult;
+import com.smartfirehub.notification.metrics.NotificationMetrics;
+import com.smartfirehub.notification.repository.NotificationOutboxRepository;
+import com.smartfirehub.notification.repository.NotificationOutboxRepository.NotificationOutboxRow;
+import com.smartfirehub.notification.repository.NotificationOutboxRepository.OutboxCompletion;
+import com.smartfirehub.notification.repository.UserChannelBindingRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+/** NotificationDispatchWorker — 채널별 드레인 독립성, 인터럽트 시 발송 중/미시작 행 정리 검증. */
+class NotificationDispatchWorkerTest {
+
+  private final NotificationOutboxRepository outboxRepo = mock(NotificationOutboxRepository.class);
+  private final DeliveryLanes lanes = mock(DeliveryLanes.class);
+  private final Channel chatChannel = mock(Channel.class);
+  private final Channel slackChannel = mock(Channel.class);
+  // SLACK 레인에 넣은 발송 — 테스트가 직접 실행하지 않으면 레인이 막힌 것과 같다
+  private final List<FutureTask<?>> slackTasks = new CopyOnWriteArrayList<>();
+  private NotificationDispatchWorker worker;
+
+  @BeforeEach
+  void setUp() {
+    when(chatChannel.type()).thenReturn(ChannelType.CHAT);
+    when(slackChannel.type()).thenReturn(ChannelType.SLACK);
+    when(lanes.limiter(any())).thenReturn(new ChannelRateLimiter(0));
+    when(lanes.submit(eq(ChannelType.SLACK), any()))
+        .thenAnswer(
+            inv -> {
+              FutureTask<?> task = new FutureTask<>(inv.getArgument(1, Runnable.class), null);
+              slackTasks.add(task);
+              return task;
+            });
+    when(lanes.submit(eq(ChannelType.CHAT), any()))
+        .thenAnswer(
+            inv -> {
+              FutureTask<?> task = new FutureTask<>(inv.getArgument(1, Runnable.class), null);
+              task.run();
+              return task;
+            });
+    worker =
+        new NotificationDispatchWorker(
+            outboxRepo,
+            mock(UserChannelBindingRepository.class),
+            new ChannelRegistry(List.of(chatChannel, slackChannel)),
+            new BackoffPolicy(),
+            new ObjectMapper(),
+            lanes,
+            mock(NotificationMetrics.class),
+            20,
+            200,
+            60_000,
+            true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    worker.shutdown();
+  }
+
+  @Test
+  void runOneBatch_slackLaneBlocked_chatStillClaimsAndCompletes() throws Exception {
+    when(outboxRepo.claimDue(anyInt(), anyString(), eq(ChannelType.SLACK)))
+        .thenReturn(List.of(row(1L, ChannelType.SLACK)));
+    when(outboxRepo.claimDue(anyInt(), anyString(), eq(ChannelType.CHAT)))
+        .thenReturn(List.of(row(2L, ChannelType.CHAT)));
+    when(chatChannel.deliver(any())).thenReturn(new DeliveryResult.Sent("m-2"));
+
+    Thread slackDrain = Thread.ofPlatform().start(() -> worker.runOneBatch(ChannelType.SLACK));
+    await().atMost(Duration.ofSeconds(5)).until(() -> slackTasks.size() == 1);
+
+    // SLACK 배치가 끝나지 않아도 CHAT은 자기 행을 claim해 바로 기록한다
+    assertThat(worker.runOneBatch(ChannelType.CHAT)).isEqualTo(1);
+    verify(outboxRepo).completeAll(List.of(OutboxCompletion.sent(2L, "m-2")));
+    verify(slackChannel, never()).deliver(any());
+
+    slackDrain.interrupt();
+    slackDrain.join(TimeUnit.SECONDS.toMillis(5));
+    assertThat(slackDrain.isAlive()).isFalse();
+  }
+
+  @Test
+  void runOneBatch_interrupted_waitsForStartedAndReturnsUnstartedToPending() throws Exception {
+    when(outboxRepo.claimDue(anyInt(), anyString(), eq(ChannelType.SLACK)))
+        .thenReturn(List.of(row(1L, ChannelType.SLACK), row(2L, ChannelType.SLACK)));
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(slackChannel.deliver(any()))
+        .thenAnswer(
+            inv -> {
+              entered.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return new DeliveryResult.Sent("m-1");
+            });
+
+    Thread slackDrain = Thread.ofPlatform().start(() -> worker.runOneBatch(ChannelType.SLACK));
+    await().atMost(Duration.ofSeconds(5)).until(() -> slackTasks.size() == 2);
+    // 첫 행만 레인 스레드가 집어 발송을 시작한 상태
+    Thread.ofPlatform().start(slackTasks.get(0));
+    assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    slackDrain.interrupt();
+    release.countDown();
+    slackDrain.join(TimeUnit.SECONDS.toMillis(5));
+    assertThat(slackDrain.isAlive()).isFalse();
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<Collection<OutboxCompletion>> captor = ArgumentCaptor.forClass(Collection.class);
+    verify(outboxRepo, atLeastOnce()).completeAll(captor.capture());
+    // 발송 중이던 행은 결과를 기다려 SENT로, 시작하지 않은 행은 시도 횟수 그대로 PENDING으로 기록 — SENDING으로 남기지 않는다
+    assertThat(captor.getAllValues().stream().flatMap(Collection::stream).toList())
+        .extracting(OutboxCompletion::id, OutboxCompletion::status, OutboxCompletion::attemptCount)
+        .containsExactlyInAnyOrder(tuple(1L, "SENT", null), tuple(2L, "PENDING", 0));
+    assertThat(slackTasks.get(1).isCancelled()).isTrue();
+    verify(slackChannel, times(1)).deliver(any());
+  }
+
+  private static NotificationOutboxRow row(long id, ChannelType channelType) {
+    return new NotificationOutboxRow(
+        id,
+        "key-" + id,
+        UUID.randomUUID(),
+        "TEST_EVENT",
+        null,
+        channelType,
+        null,
+        null,
+        null,
+        null,
+        "{\"type\":\"STANDARD\",\"title\":\"t\",\"summary\":\"s\"}",
+        "STANDARD",
+        "SENDING",
+        0,
+        Instant.now());
+  }
+}
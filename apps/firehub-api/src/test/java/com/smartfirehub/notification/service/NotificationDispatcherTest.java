@@ -1,9 +1,9 @@
 package com.smartfirehub.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -50,16 +50,16 @@ class NotificationDispatcherTest {
     NotificationRequest req =
         new NotificationRequest(
             "TEST_EVENT", null, 99L, UUID.randomUUID(), samplePayload(), null, List.of(r));
-    when(routingResolver.resolve(r))
+    when(routingResolver.resolveAll(List.of(r)))
         .thenReturn(
-            new ResolvedRouting(List.of(ChannelType.SLACK, ChannelType.EMAIL), Map.of(), false));
+            List.of(
+                new ResolvedRouting(
+                    List.of(ChannelType.SLACK, ChannelType.EMAIL), Map.of(), false)));
 
     enabled().enqueue(req);
 
-    ArgumentCaptor<NotificationOutboxRow> captor =
-        ArgumentCaptor.forClass(NotificationOutboxRow.class);
-    verify(outboxRepo, times(2)).insertIfAbsent(captor.capture());
-    assertThat(captor.getAllValues())
+    List<NotificationOutboxRow> rows = capturedRows();
+    assertThat(rows)
         .extracting(NotificationOutboxRow::channelType)
         .containsExactlyInAnyOrder(ChannelType.SLACK, ChannelType.EMAIL);
     verify(notifier).notifyOutboxNew();
@@ -72,15 +72,20 @@ class NotificationDispatcherTest {
     NotificationRequest req =
         new NotificationRequest(
             "TEST_EVENT", null, 99L, UUID.randomUUID(), samplePayload(), null, List.of(r));
-    when(routingResolver.resolve(r))
+    when(routingResolver.resolveAll(List.of(r)))
         .thenReturn(
-            new ResolvedRouting(
-                List.of(ChannelType.CHAT), Map.of(ChannelType.SLACK, "BINDING_MISSING"), true));
+            List.of(
+                new ResolvedRouting(
+                    List.of(ChannelType.CHAT),
+                    Map.of(ChannelType.SLACK, "BINDING_MISSING"),
+                    true)));
 
     enabled().enqueue(req);
 
-    // CHAT 본문 1건 + CHANNEL_ADVISORY 1건 = 2 INSERT
-    verify(outboxRepo, times(2)).insertIfAbsent(any());
+    // CHAT 본문 1건 + CHANNEL_ADVISORY 1건 = 2행
+    assertThat(capturedRows())
+        .extracting(NotificationOutboxRow::eventType)
+        .containsExactlyInAnyOrder("TEST_EVENT", "CHANNEL_ADVISORY");
   }
 
   @Test
@@ -90,18 +95,17 @@ class NotificationDispatcherTest {
     NotificationRequest req =
         new NotificationRequest(
             "TEST_EVENT", null, 99L, UUID.randomUUID(), samplePayload(), null, List.of(r));
-    when(routingResolver.resolve(r))
+    when(routingResolver.resolveAll(List.of(r)))
         .thenReturn(
             // skippedReasons 없음: requestedChannels가 비어있던 경우
-            new ResolvedRouting(List.of(ChannelType.CHAT), Map.of(), true));
+            List.of(new ResolvedRouting(List.of(ChannelType.CHAT), Map.of(), true)));
 
     enabled().enqueue(req);
 
     // CHAT 본문 1건만, CHANNEL_ADVISORY 없음
-    ArgumentCaptor<NotificationOutboxRow> captor =
-        ArgumentCaptor.forClass(NotificationOutboxRow.class);
-    verify(outboxRepo, times(1)).insertIfAbsent(captor.capture());
-    assertThat(captor.getValue().channelType()).isEqualTo(ChannelType.CHAT);
+    List<NotificationOutboxRow> rows = capturedRows();
+    assertThat(rows).hasSize(1);
+    assertThat(rows.get(0).channelType()).isEqualTo(ChannelType.CHAT);
   }
 
   @Test
@@ -113,7 +117,7 @@ class NotificationDispatcherTest {
 
     disabled().enqueue(req);
 
-    verify(outboxRepo, never()).insertIfAbsent(any());
+    verify(outboxRepo, never()).insertAllIfAbsent(any());
     verify(notifier, never()).notifyOutboxNew();
   }
 
@@ -129,15 +133,52 @@ class NotificationDispatcherTest {
             samplePayload(),
             null,
             List.of(r));
-    when(routingResolver.resolve(r))
-        .thenReturn(new ResolvedRouting(List.of(ChannelType.CHAT), Map.of(), false));
+    when(routingResolver.resolveAll(List.of(r)))
+        .thenReturn(List.of(new ResolvedRouting(List.of(ChannelType.CHAT), Map.of(), false)));
 
     enabled().enqueue(req);
 
-    ArgumentCaptor<NotificationOutboxRow> captor =
-        ArgumentCaptor.forClass(NotificationOutboxRow.class);
-    verify(outboxRepo).insertIfAbsent(captor.capture());
-    assertThat(captor.getValue().correlationId()).isNotNull();
+    assertThat(capturedRows().get(0).correlationId()).isNotNull();
+  }
+
+  @Test
+  void enqueue_manyRecipients_resolvesOnceAndInsertsInSingleBatch() {
+    // broadcast: 수신자별 resolve/INSERT 대신 resolveAll 1회 + insertAllIfAbsent 1회
+    Recipient a = new Recipient(1L, null, EnumSet.of(ChannelType.SLACK));
+    Recipient b = new Recipient(2L, null, EnumSet.of(ChannelType.SLACK));
+    Recipient c = new Recipient(3L, null, EnumSet.of(ChannelType.CHAT));
+    NotificationRequest req =
+        new NotificationRequest(
+            "TEST_EVENT", null, 99L, UUID.randomUUID(), samplePayload(), null, List.of(a, b, c));
+    when(routingResolver.resolveAll(List.of(a, b, c)))
+        .thenReturn(
+            List.of(
+                new ResolvedRouting(List.of(ChannelType.SLACK), Map.of(), false),
+                new ResolvedRouting(
+                    List.of(ChannelType.CHAT), Map.of(ChannelType.SLACK, "OPTED_OUT"), true),
+                new ResolvedRouting(List.of(ChannelType.CHAT), Map.of(), false)));
+
+    enabled().enqueue(req);
+
+    // 1: SLACK, 2: CHAT + advisory, 3: CHAT
+    List<NotificationOutboxRow> rows = capturedRows();
+    assertThat(rows)
+        .extracting(NotificationOutboxRow::recipientUserId, NotificationOutboxRow::channelType)
+        .containsExactly(
+            tuple(1L, ChannelType.SLACK),
+            tuple(2L, ChannelType.CHAT),
+            tuple(2L, ChannelType.CHAT),
+            tuple(3L, ChannelType.CHAT));
+    assertThat(rows).extracting(NotificationOutboxRow::idempotencyKey).doesNotHaveDuplicates();
+    verify(routingResolver, never()).resolve(any());
+    verify(outboxRepo, never()).insertIfAbsent(any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<NotificationOutboxRow> capturedRows() {
+    ArgumentCaptor<List<NotificationOutboxRow>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepo).insertAllIfAbsent(captor.capture());
+    return captor.getValue();
   }
 
   private Payload samplePayload() {
@@ -2,8 +2,11 @@ package com.smartfirehub.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.smartfirehub.notification.ChannelType;
@@ -13,7 +16,10 @@ import com.smartfirehub.notification.repository.UserChannelBindingRepository;
 import com.smartfirehub.notification.repository.UserChannelPreferenceRepository;
 import java.time.Instant;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -108,6 +114,33 @@ class RoutingResolverTest {
         .containsExactlyInAnyOrder(ChannelType.CHAT, ChannelType.EMAIL);
   }
 
+  @Test
+  void resolveAll_loadsPreferencesAndBindingsOnceForAllRecipients() {
+    Recipient bound = new Recipient(1L, null, EnumSet.of(ChannelType.SLACK));
+    Recipient optedOut = new Recipient(2L, null, EnumSet.of(ChannelType.SLACK, ChannelType.EMAIL));
+    Recipient unbound = new Recipient(3L, null, EnumSet.of(ChannelType.KAKAO));
+    Recipient external = new Recipient(null, "ops@example.com", EnumSet.of(ChannelType.EMAIL));
+    when(preferenceRepo.findDisabledChannels(Set.of(1L, 2L, 3L)))
+        .thenReturn(Map.of(2L, Set.of(ChannelType.SLACK)));
+    when(bindingRepo.findActiveChannels(Set.of(1L, 2L, 3L)))
+        .thenReturn(Map.of(1L, Set.of(ChannelType.SLACK), 2L, Set.of(ChannelType.SLACK)));
+
+    List<ResolvedRouting> result =
+        resolver.resolveAll(List.of(bound, optedOut, unbound, external));
+
+    assertThat(result).hasSize(4);
+    assertThat(result.get(0).resolvedChannels()).containsExactly(ChannelType.SLACK);
+    assertThat(result.get(1).resolvedChannels()).containsExactly(ChannelType.EMAIL);
+    assertThat(result.get(1).skippedReasons()).containsEntry(ChannelType.SLACK, "OPTED_OUT");
+    assertThat(result.get(2).resolvedChannels()).containsExactly(ChannelType.CHAT);
+    assertThat(result.get(2).forcedChatFallback()).isTrue();
+    assertThat(result.get(2).skippedReasons()).containsEntry(ChannelType.KAKAO, "BINDING_MISSING");
+    assertThat(result.get(3).resolvedChannels()).containsExactly(ChannelType.EMAIL);
+    // 수신자별 단건 조회는 일어나지 않는다
+    verify(preferenceRepo, never()).isEnabled(anyLong(), any());
+    verify(bindingRepo, never()).findActive(anyLong(), any());
+  }
+
   private UserChannelBinding stubBinding(ChannelType ch) {
     return new UserChannelBinding(
         1L,
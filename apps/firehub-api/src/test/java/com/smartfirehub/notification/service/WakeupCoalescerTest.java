@@ -0,0 +1,129 @@
+package com.smartfirehub.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** WakeupCoalescer — 빈 claim까지 드레인, 드레인 중 깨움 병합, 실패 후 재시작, 종료 시 중단 검증. */
+class WakeupCoalescerTest {
+
+  @Test
+  void signal_drainsUntilEmptyClaim() {
+    Queue<Integer> claims = new ArrayDeque<>(List.of(20, 20, 7, 0));
+    AtomicInteger passes = new AtomicInteger();
+    WakeupCoalescer coalescer =
+        new WakeupCoalescer(
+            Runnable::run,
+            () -> {
+              passes.incrementAndGet();
+              return claims.isEmpty() ? 0 : claims.poll();
+            });
+
+    coalescer.signal();
+
+    assertThat(passes).hasValue(4);
+  }
+
+  @Test
+  void signal_duringDrain_foldsIntoOneExtraPass() throws Exception {
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch firstPassStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger passes = new AtomicInteger();
+    WakeupCoalescer coalescer =
+        new WakeupCoalescer(
+            executor,
+            () -> {
+              if (passes.incrementAndGet() == 1) {
+                firstPassStarted.countDown();
+                try {
+                  release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+              }
+              return 0;
+            });
+
+    coalescer.signal();
+    assertThat(firstPassStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 0; i < 1_000; i++) {
+      coalescer.signal();
+    }
+    release.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    // 첫 드레인 + 드레인 중 들어온 1,000번의 깨움을 합친 추가 드레인 1회
+    assertThat(passes).hasValue(2);
+  }
+
+  @Test
+  void signal_afterFailedPass_startsNewDrain() {
+    AtomicInteger passes = new AtomicInteger();
+    WakeupCoalescer coalescer =
+        new WakeupCoalescer(
+            Runnable::run,
+            () -> {
+              if (passes.incrementAndGet() == 1) {
+                throw new IllegalStateException("db down");
+              }
+              return 0;
+            });
+
+    coalescer.signal();
+    coalescer.signal();
+
+    assertThat(passes).hasValue(2);
+  }
+
+  @Test
+  void stop_duringDrain_endsLoopWithoutSpinning() {
+    AtomicInteger passes = new AtomicInteger();
+    WakeupCoalescer[] holder = new WakeupCoalescer[1];
+    holder[0] =
+        new WakeupCoalescer(
+            Runnable::run,
+            () -> {
+              if (passes.incrementAndGet() == 2) {
+                holder[0].stop();
+              }
+              return 20; // 종료 중 거절된 행이 계속 다시 claim되는 상황
+            });
+
+    holder[0].signal();
+    holder[0].signal();
+
+    // stop 이후에는 현재 pass만 끝내고 멈추며, 새 깨움도 받지 않는다
+    assertThat(passes).hasValue(2);
+  }
+
+  @Test
+  void interruptedDrainThread_endsLoop() {
+    AtomicInteger passes = new AtomicInteger();
+    WakeupCoalescer coalescer =
+        new WakeupCoalescer(
+            Runnable::run,
+            () -> {
+              passes.incrementAndGet();
+              Thread.currentThread().interrupt();
+              return 20;
+            });
+
+    try {
+      coalescer.signal();
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertThat(passes).hasValue(1);
+  }
+}
@@ -23,6 +23,7 @@ import com.smartfirehub.ontology.service.OntologyService;
 import com.smartfirehub.permission.service.PermissionService;
 import com.smartfirehub.user.repository.UserRepository;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -59,8 +60,7 @@ class OntologyControllerTest {
 
   @BeforeEach
   void setUp() {
-    when(jwtTokenProvider.validateAccessToken("valid-token")).thenReturn(true);
-    when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+    when(jwtTokenProvider.resolveAccessTokenUserId("valid-token")).thenReturn(Optional.of(1L));
   }
 
   // (c) ontology:write 권한이 없으면(예: 일반 USER의 dataset:read만 보유) 403.
@@ -1,9 +1,13 @@
 package com.smartfirehub.permission.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.smartfirehub.permission.dto.PermissionResponse;
+import com.smartfirehub.role.dto.RoleResponse;
+import com.smartfirehub.role.service.RoleService;
 import com.smartfirehub.support.IntegrationTestBase;
+import com.smartfirehub.user.service.UserService;
 import java.util.List;
 import java.util.Set;
 import org.jooq.DSLContext;
@@ -17,12 +21,15 @@ import org.springframework.transaction.annotation.Transactional;
  * PermissionService 통합 테스트.
  *
  * <p>getAllPermissions, getPermissionsByCategory, getUserPermissions 핵심 메서드 전체 커버. Flyway seed
- * 데이터(39개 권한, ADMIN/USER 역할)를 활용하여 실제 DB에서 검증한다.
+ * 데이터(39개 권한, ADMIN/USER 역할)를 활용하여 실제 DB에서 검증한다. 권한 스냅샷 캐시는 싱글턴 빈에 남지만 사용자 ID가 테스트마다
+ * 새로 발급되므로 서로 간섭하지 않는다.
  */
 @Transactional
 class PermissionServiceTest extends IntegrationTestBase {
 
   @Autowired private PermissionService permissionService;
+  @Autowired private RoleService roleService;
+  @Autowired private UserService userService;
   @Autowired private DSLContext dsl;
 
   /** 테스트 사용자 ID (ADMIN 역할 부여) */
@@ -247,4 +254,65 @@ class PermissionServiceTest extends IntegrationTestBase {
     long distinctCount = result.stream().distinct().count();
     assertThat(distinctCount).isEqualTo(result.size());
   }
+
+  // =========================================================================
+  // 권한 스냅샷 캐시
+  // =========================================================================
+
+  /** 반환된 스냅샷은 캐시 항목을 공유하므로 변경할 수 없어야 한다. */
+  @Test
+  void getUserPermissions_returnsImmutableSnapshot() {
+    Set<String> result = permissionService.getUserPermissions(userUserId);
+
+    assertThatThrownBy(() -> result.add("user:delete"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  /** 서비스를 거치지 않은 변경은 이벤트가 없으므로 TTL 전까지 캐시된 스냅샷이 반환된다. */
+  @Test
+  void getUserPermissions_secondCall_servedFromCache() {
+    Set<String> first = permissionService.getUserPermissions(noRoleUserId);
+    assignRole(noRoleUserId, 1L);
+
+    Set<String> second = permissionService.getUserPermissions(noRoleUserId);
+
+    assertThat(first).isEmpty();
+    assertThat(second).isSameAs(first);
+  }
+
+  /** UserService.setUserRoles는 해당 사용자의 스냅샷을 무효화한다. */
+  @Test
+  void getUserPermissions_afterSetUserRoles_reloads() {
+    assertThat(permissionService.getUserPermissions(noRoleUserId)).isEmpty();
+
+    userService.setUserRoles(noRoleUserId, List.of(1L), adminUserId);
+
+    assertThat(permissionService.getUserPermissions(noRoleUserId)).contains("permission:read");
+  }
+
+  /** RoleService.setRolePermissions는 역할 보유자 전체의 스냅샷을 무효화한다. */
+  @Test
+  void getUserPermissions_afterSetRolePermissions_reloads() {
+    RoleResponse role = roleService.createRole("PERM_CACHE_ROLE", "cache test");
+    assignRole(noRoleUserId, role.id());
+    assertThat(permissionService.getUserPermissions(noRoleUserId)).isEmpty();
+
+    Long readPermissionId =
+        permissionService.getAllPermissions().stream()
+            .filter(p -> p.code().equals("permission:read"))
+            .findFirst()
+            .orElseThrow()
+            .id();
+    roleService.setRolePermissions(role.id(), List.of(readPermissionId));
+
+    assertThat(permissionService.getUserPermissions(noRoleUserId))
+        .containsExactly("permission:read");
+  }
+
+  private void assignRole(Long userId, Long roleId) {
+    dsl.insertInto(DSL.table(DSL.name("user_role")))
+        .set(DSL.field(DSL.name("user_role", "user_id"), Long.class), userId)
+        .set(DSL.field(DSL.name("user_role", "role_id"), Long.class), roleId)
+        .execute();
+  }
 }
@@ -22,6 +22,7 @@ import com.smartfirehub.pipeline.service.executor.AiClassifyExecutor;
 import com.smartfirehub.pipeline.service.executor.ApiCallConfig;
 import com.smartfirehub.pipeline.service.executor.ApiCallExecutor;
 import com.smartfirehub.pipeline.service.executor.ExecutorClient;
+import com.smartfirehub.pipeline.service.executor.StepPermits;
 import com.smartfirehub.pipeline.service.validator.PythonScriptValidator;
 import com.smartfirehub.pipeline.service.validator.SqlValidator;
 import java.util.List;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
@@ -68,6 +70,11 @@ class PipelineAsyncRunnerTest {
   @Mock SqlValidator sqlValidator;
   @Mock PythonScriptValidator pythonScriptValidator;
 
+  /** 실제 DAG 스케줄러를 호출 스레드에서 실행 — 스텝이 제출 즉시 동기 실행되어 검증 순서가 결정적이다. */
+  @Spy
+  PipelineStepScheduler stepScheduler =
+      new PipelineStepScheduler(Runnable::run, 4, new StepPermits(8));
+
   @InjectMocks PipelineAsyncRunner runner;
 
   // ------------------------------------------------------------------ //
@@ -1094,6 +1101,55 @@ class PipelineAsyncRunnerTest {
             any());
   }
 
+  // ------------------------------------------------------------------ //
+  // implicitOrderDependencies — 병렬 실행 시 데이터 흐름 순서 보존
+  // ------------------------------------------------------------------ //
+
+  @Test
+  void implicitOrderDependencies_sharedOutputReferenceAndTableName_orderAfterEarlierStep() {
+    // given: s1이 tbl_a(ds 10)에 쓴다. s2는 같은 출력, s3는 {{#1}} 참조, s4는 테이블명을 읽는다.
+    PipelineStepResponse s1 =
+        stepResponseWithOutput(
+            1L, "s1", "SQL", "INSERT INTO data.\"t\" VALUES (1)", 10L, List.of());
+    PipelineStepResponse s2 =
+        stepResponseWithOutput(
+            2L, "s2", "SQL", "INSERT INTO data.\"t\" VALUES (2)", 10L, List.of());
+    PipelineStepResponse s3 =
+        stepResponse(3L, "s3", "SQL", "SELECT * FROM {{#1}}", null, List.of());
+    PipelineStepResponse s4 =
+        stepResponse(4L, "s4", "SQL", "SELECT * FROM data.\"TBL_A\"", null, List.of());
+    PipelineStepResponse s5 = stepResponse(5L, "s5", "SQL", "SELECT 1", null, List.of());
+    List<PipelineStepResponse> steps = List.of(s1, s2, s3, s4, s5);
+    when(datasetRepository.findTableNameById(10L)).thenReturn(Optional.of("tbl_a"));
+
+    // when
+    Map<Long, List<Long>> orderAfter = runner.implicitOrderDependencies(steps, steps);
+
+    // then: 위상 정렬상 앞선 s1 뒤로만 순서가 잡히고, 무관한 s5와 s1 자신은 제약이 없다
+    assertThat(orderAfter)
+        .containsOnlyKeys(2L, 3L, 4L)
+        .containsEntry(2L, List.of(1L))
+        .containsEntry(3L, List.of(1L))
+        .containsEntry(4L, List.of(1L));
+  }
+
+  @Test
+  void implicitOrderDependencies_laterStepOverwritesReadTable_orderAfterReader() {
+    // given: s1은 tbl_b(ds 20)를 읽기만 하고, 뒤의 s2가 tbl_b에 쓴다
+    PipelineStepResponse s1 =
+        stepResponse(1L, "s1", "SQL", "SELECT * FROM data.\"tbl_b\"", null, List.of());
+    PipelineStepResponse s2 =
+        stepResponse(2L, "s2", "SQL", "TRUNCATE data.\"tbl_b\"", 20L, List.of());
+    List<PipelineStepResponse> steps = List.of(s1, s2);
+    when(datasetRepository.findTableNameById(20L)).thenReturn(Optional.of("tbl_b"));
+
+    // when
+    Map<Long, List<Long>> orderAfter = runner.implicitOrderDependencies(steps, steps);
+
+    // then: s2는 s1이 읽기를 끝낸 뒤에 덮어써야 한다 (write-after-read)
+    assertThat(orderAfter).containsOnlyKeys(2L).containsEntry(2L, List.of(1L));
+  }
+
   // ------------------------------------------------------------------ //
   // Helpers
   // ------------------------------------------------------------------ //
@@ -0,0 +1,238 @@
+package com.smartfirehub.pipeline.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.smartfirehub.pipeline.dto.PipelineStepResponse;
+import com.smartfirehub.pipeline.service.executor.StepPermits;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PipelineStepScheduler 단위 테스트 — 독립 스텝 동시 실행, 동시성 상한, SKIPPED 전파 규칙.
+ *
+ * <p>선언된 의존 스텝이 실패하면 자식과 그 자손은 SKIPPED가 되고 독립 분기는 계속 실행되어야 한다. 순서 전용 의존성(orderAfter)은 기다리기만
+ * 하고 SKIPPED 사유가 되지 않는다.
+ */
+class PipelineStepSchedulerTest {
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private static PipelineStepResponse step(long id) {
+    return new PipelineStepResponse(
+        id,
+        "step" + id,
+        null,
+        "SQL",
+        null,
+        null,
+        null,
+        List.of(),
+        List.of(),
+        0,
+        "REPLACE",
+        null,
+        null,
+        null,
+        null);
+  }
+
+  @Test
+  void run_independentSteps_runConcurrently() throws Exception {
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(executor, 4, new StepPermits(8));
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    Map<Long, String> statuses =
+        scheduler.run(
+            List.of(step(1), step(2)),
+            Map.of(1L, List.of(), 2L, List.of()),
+            Map.of(),
+            s -> {
+              bothStarted.countDown();
+              try {
+                // 순차 실행이면 두 번째 스텝이 시작되지 않아 타임아웃된다.
+                return bothStarted.await(5, TimeUnit.SECONDS) ? "COMPLETED" : "FAILED";
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return "FAILED";
+              }
+            },
+            s -> {});
+
+    assertThat(statuses).containsEntry(1L, "COMPLETED").containsEntry(2L, "COMPLETED");
+  }
+
+  @Test
+  void run_perExecutionLimit_boundsRunningSteps() throws Exception {
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(executor, 2, new StepPermits(8));
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger peak = new AtomicInteger();
+    List<PipelineStepResponse> steps = new ArrayList<>();
+    for (long id = 1; id <= 6; id++) {
+      steps.add(step(id));
+    }
+
+    Map<Long, String> statuses =
+        scheduler.run(
+            steps,
+            Map.of(),
+            Map.of(),
+            s -> {
+              peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(20);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              running.decrementAndGet();
+              return "COMPLETED";
+            },
+            s -> {});
+
+    assertThat(statuses).hasSize(6).containsOnlyKeys(1L, 2L, 3L, 4L, 5L, 6L);
+    assertThat(peak.get()).isEqualTo(2);
+  }
+
+  @Test
+  void run_failedDependency_skipsDescendantsAndKeepsIndependentBranch() throws Exception {
+    // 1 → 2 → 3 (선언), 4 독립, 5는 1 뒤에 순서만(orderAfter)
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(executor, 4, new StepPermits(8));
+    List<Long> skipped = Collections.synchronizedList(new ArrayList<>());
+    List<Long> executed = Collections.synchronizedList(new ArrayList<>());
+
+    Map<Long, String> statuses =
+        scheduler.run(
+            List.of(step(1), step(4), step(2), step(5), step(3)),
+            Map.of(1L, List.of(), 2L, List.of(1L), 3L, List.of(2L), 4L, List.of(), 5L, List.of()),
+            Map.of(5L, List.of(1L)),
+            s -> {
+              executed.add(s.id());
+              return s.id() == 1L ? "FAILED" : "COMPLETED";
+            },
+            s -> skipped.add(s.id()));
+
+    assertThat(statuses)
+        .containsEntry(1L, "FAILED")
+        .containsEntry(2L, "SKIPPED")
+        .containsEntry(3L, "SKIPPED")
+        .containsEntry(4L, "COMPLETED")
+        .containsEntry(5L, "COMPLETED");
+    assertThat(skipped).containsExactly(2L, 3L);
+    assertThat(executed).containsExactlyInAnyOrder(1L, 4L, 5L);
+  }
+
+  @Test
+  void run_orderAfter_waitsForEarlierStep() throws Exception {
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(executor, 4, new StepPermits(8));
+    List<Long> finished = Collections.synchronizedList(new ArrayList<>());
+
+    scheduler.run(
+        List.of(step(1), step(2)),
+        Map.of(1L, List.of(), 2L, List.of()),
+        Map.of(2L, List.of(1L)),
+        s -> {
+          if (s.id() == 1L) {
+            try {
+              Thread.sleep(50);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          }
+          finished.add(s.id());
+          return "COMPLETED";
+        },
+        s -> {});
+
+    assertThat(finished).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void run_runnerThrows_propagatesOriginal() {
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(executor, 4, new StepPermits(8));
+
+    assertThatThrownBy(
+            () ->
+                scheduler.run(
+                    List.of(step(1)),
+                    Map.of(1L, List.of()),
+                    Map.of(),
+                    s -> {
+                      throw new IllegalStateException("db down");
+                    },
+                    s -> {}))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("db down");
+  }
+
+  @Test
+  void run_stepsBackingOff_doNotStarveNewPipeline() throws Exception {
+    // 전역 상한 2 — 고정 풀이었다면 백오프 중인 두 스텝이 슬롯을 모두 차지한다
+    StepPermits permits = new StepPermits(2);
+    ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+    PipelineStepScheduler scheduler = new PipelineStepScheduler(virtual, 4, permits);
+    CountDownLatch backingOff = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      Future<Map<Long, String>> slow =
+          virtual.submit(
+              () ->
+                  scheduler.run(
+                      List.of(step(1), step(2)),
+                      Map.of(1L, List.of(), 2L, List.of()),
+                      Map.of(),
+                      s -> {
+                        try {
+                          // 재시도 백오프: 허가를 돌려준 채 기다린다
+                          permits.awaiting(
+                              () -> {
+                                backingOff.countDown();
+                                return release.await(10, TimeUnit.SECONDS);
+                              });
+                          return "COMPLETED";
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                          return "FAILED";
+                        }
+                      },
+                      s -> {}));
+      assertThat(backingOff.await(5, TimeUnit.SECONDS)).isTrue();
+
+      Future<Map<Long, String>> fresh =
+          virtual.submit(
+              () ->
+                  scheduler.run(
+                      List.of(step(3)),
+                      Map.of(3L, List.of()),
+                      Map.of(),
+                      s -> "COMPLETED",
+                      s -> {}));
+
+      assertThat(fresh.get(5, TimeUnit.SECONDS)).containsEntry(3L, "COMPLETED");
+      assertThat(slow.isDone()).isFalse();
+
+      release.countDown();
+      assertThat(slow.get(5, TimeUnit.SECONDS))
+          .containsEntry(1L, "COMPLETED")
+          .containsEntry(2L, "COMPLETED");
+      assertThat(permits.inUse()).isZero();
+    } finally {
+      release.countDown();
+      virtual.shutdownNow();
+    }
+  }
+}
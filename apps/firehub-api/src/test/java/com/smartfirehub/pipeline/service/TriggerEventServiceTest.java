@@ -2,13 +2,28 @@ package com.smartfirehub.pipeline.service;
 
 import static com.smartfirehub.jooq.Tables.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
+import com.smartfirehub.dataset.repository.DatasetChangeRepository;
+import com.smartfirehub.dataset.repository.DatasetRepository;
+import com.smartfirehub.notification.service.NotificationService;
 import com.smartfirehub.pipeline.dto.*;
 import com.smartfirehub.pipeline.event.PipelineCompletedEvent;
 import com.smartfirehub.pipeline.repository.TriggerRepository;
 import com.smartfirehub.support.IntegrationTestBase;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +47,12 @@ class TriggerEventServiceTest extends IntegrationTestBase {
   private Long upstreamPipelineId;
   private Long downstreamPipelineId;
 
+  // pollDatasetChanges 검증용 협력 객체 mock
+  private TriggerRepository mockTriggers;
+  private TriggerService mockFirer;
+  private DatasetChangeRepository mockChanges;
+  private NotificationService mockNotifications;
+
   @BeforeEach
   void setUp() {
     testUserId =
@@ -152,4 +173,132 @@ class TriggerEventServiceTest extends IntegrationTestBase {
     // No dataset change triggers exist — should complete without error
     triggerEventService.pollDatasetChanges();
   }
+
+  // ------------------------------------------------------------------ //
+  // pollDatasetChanges — 메모리 상태(dirty·pending·reconcile)별 경로. 공유 빈의 상태와 섞이지 않도록
+  // 협력 객체를 mock으로 둔 새 인스턴스로 검증한다.
+  // ------------------------------------------------------------------ //
+
+  /** 협력 객체를 mock으로 둔 새 서비스. 시작 직후처럼 재확인 요청이 걸려 있다. */
+  private TriggerEventService newDatasetChangeService() {
+    mockTriggers = mock(TriggerRepository.class);
+    mockFirer = mock(TriggerService.class);
+    mockChanges = mock(DatasetChangeRepository.class);
+    mockNotifications = mock(NotificationService.class);
+    return new TriggerEventService(
+        mockTriggers, mockFirer, mock(DatasetRepository.class), mockChanges, mockNotifications);
+  }
+
+  /** 시작 시 걸려 있는 재확인 요청을 빈 트리거 목록으로 소모한 서비스. */
+  private TriggerEventService newIdleDatasetChangeService() {
+    TriggerEventService service = newDatasetChangeService();
+    service.pollDatasetChanges();
+    clearInvocations(mockTriggers, mockChanges);
+    return service;
+  }
+
+  private static TriggerResponse datasetChangeTrigger(
+      Long id, List<Long> datasetIds, int debounceSeconds, Map<String, Object> state) {
+    return new TriggerResponse(
+        id,
+        1L,
+        "DATASET_CHANGE",
+        "watch",
+        null,
+        true,
+        Map.of("datasetIds", datasetIds, "debounceSeconds", debounceSeconds),
+        state,
+        null,
+        null);
+  }
+
+  @Test
+  void pollDatasetChanges_idleTick_issuesNoQueries() {
+    TriggerEventService service = newIdleDatasetChangeService();
+
+    service.pollDatasetChanges();
+
+    verifyNoInteractions(mockTriggers, mockChanges, mockFirer);
+  }
+
+  @Test
+  void pollDatasetChanges_dirtyDataset_loadsOnlyWatchingTriggersAndFiresChangedOnly() {
+    TriggerEventService service = newIdleDatasetChangeService();
+    TriggerResponse trigger =
+        datasetChangeTrigger(
+            7L, List.of(1L, 2L), 0, Map.of("lastVersions", Map.of("1", 3, "2", 5)));
+    when(mockTriggers.findEnabledDatasetChangeTriggers(Set.of(1L), Set.of()))
+        .thenReturn(List.of(trigger));
+    when(mockChanges.findVersions(Set.of(1L, 2L))).thenReturn(Map.of(1L, 4L, 2L, 5L));
+
+    service.onDatasetChanged(1L);
+    service.pollDatasetChanges();
+
+    verify(mockTriggers, never()).findEnabledByType(any());
+    verify(mockFirer).fireTrigger(7L, Map.of("changedDatasets", List.of(1L)));
+    verify(mockNotifications).notifyDatasetChanged(eq(1L), any());
+    verify(mockNotifications, never()).notifyDatasetChanged(eq(2L), any());
+  }
+
+  @Test
+  void pollDatasetChanges_withoutBaseline_seedsFromCurrentVersionsAndFiresDirtyOnly() {
+    TriggerEventService service = newIdleDatasetChangeService();
+    TriggerResponse trigger = datasetChangeTrigger(7L, List.of(1L, 2L), 0, Map.of());
+    when(mockTriggers.findEnabledDatasetChangeTriggers(Set.of(1L), Set.of()))
+        .thenReturn(List.of(trigger));
+    when(mockChanges.findVersions(Set.of(1L, 2L))).thenReturn(Map.of(1L, 4L, 2L, 9L));
+
+    service.onDatasetChanged(1L);
+    service.pollDatasetChanges();
+
+    // 기준이 없어도 감시 중인 모든 데이터셋이 아니라 알림이 온 1번만 변경으로 본다
+    verify(mockFirer).fireTrigger(7L, Map.of("changedDatasets", List.of(1L)));
+    verify(mockNotifications, never()).notifyDatasetChanged(eq(2L), any());
+  }
+
+  @Test
+  void pollDatasetChanges_reconcileWithoutBaseline_recordsVersionsWithoutFiring() {
+    TriggerEventService service = newDatasetChangeService();
+    TriggerResponse trigger = datasetChangeTrigger(7L, List.of(1L), 0, Map.of());
+    when(mockTriggers.findEnabledByType("DATASET_CHANGE")).thenReturn(List.of(trigger));
+    when(mockChanges.findVersions(Set.of(1L))).thenReturn(Map.of(1L, 7L));
+
+    service.pollDatasetChanges();
+
+    verify(mockTriggers)
+        .updateTriggerState(
+            eq(7L), argThat(state -> Map.of(1L, 7L).equals(state.get("lastVersions"))));
+    verify(mockFirer, never()).fireTrigger(any(), anyMap());
+  }
+
+  @Test
+  void pollDatasetChanges_withinDebounce_defersUntilDueWithoutFurtherQueries() throws Exception {
+    TriggerEventService service = newIdleDatasetChangeService();
+    TriggerResponse trigger =
+        datasetChangeTrigger(
+            7L,
+            List.of(1L),
+            1,
+            Map.of("lastVersions", Map.of("1", 3), "lastFiredAt", LocalDateTime.now().toString()));
+    when(mockTriggers.findEnabledDatasetChangeTriggers(Set.of(1L), Set.of()))
+        .thenReturn(List.of(trigger));
+    when(mockTriggers.findEnabledDatasetChangeTriggers(Set.of(), Set.of(7L)))
+        .thenReturn(List.of(trigger));
+    when(mockChanges.findVersions(Set.of(1L))).thenReturn(Map.of(1L, 4L));
+
+    service.onDatasetChanged(1L);
+    service.pollDatasetChanges();
+    verify(mockFirer, never()).fireTrigger(any(), anyMap());
+
+    // 만료 전 틱은 조회 없이 돌아간다
+    clearInvocations(mockTriggers, mockChanges);
+    service.pollDatasetChanges();
+    verifyNoInteractions(mockTriggers, mockChanges);
+
+    // 만료 후에는 알림 없이도 대기 중인 트리거만 다시 읽어 발화한다
+    Thread.sleep(1_100);
+    service.pollDatasetChanges();
+    verify(mockTriggers).findEnabledDatasetChangeTriggers(Set.of(), Set.of(7L));
+    verify(mockFirer).fireTrigger(7L, Map.of("changedDatasets", List.of(1L)));
+  }
 }
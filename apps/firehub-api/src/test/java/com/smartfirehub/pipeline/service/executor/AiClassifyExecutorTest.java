@@ -3,15 +3,19 @@ package com.smartfirehub.pipeline.service.executor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -25,24 +29,18 @@ import com.smartfirehub.pipeline.dto.PipelineStepResponse;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import org.jooq.DSLContext;
-import org.jooq.InsertSetStep;
-import org.jooq.JSONB;
-import org.jooq.Record1;
-import org.jooq.SelectConditionStep;
-import org.jooq.SelectJoinStep;
-import org.jooq.SelectSelectStep;
-import org.jooq.SelectWhereStep;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 
 /**
- * AiClassifyExecutor 단위 테스트. Spring 컨텍스트 없이 Mockito 로 실행한다. jOOQ DSLContext 는 fluent chain 이 많아
- * deep stub 으로 처리한다.
+ * AiClassifyExecutor 단위 테스트. Spring 컨텍스트 없이 Mockito 로 실행한다. 추론 캐시(AiInferenceCache)는 배치 단위 조회/저장
+ * 계약만 stub 한다.
  */
 class AiClassifyExecutorTest {
 
@@ -51,7 +49,7 @@ class AiClassifyExecutorTest {
   private DataTableService dataTableService;
   private DatasetRepository datasetRepository;
   private ObjectMapper objectMapper;
-  private DSLContext dsl;
+  private AiInferenceCache inferenceCache;
 
   private AiClassifyExecutor executor;
 
@@ -62,7 +60,7 @@ class AiClassifyExecutorTest {
     dataTableService = mock(DataTableService.class);
     datasetRepository = mock(DatasetRepository.class);
     objectMapper = new ObjectMapper();
-    dsl = mock(DSLContext.class, org.mockito.Mockito.RETURNS_DEEP_STUBS);
+    inferenceCache = mock(AiInferenceCache.class);
 
     executor =
         new AiClassifyExecutor(
@@ -71,7 +69,8 @@ class AiClassifyExecutorTest {
             dataTableService,
             datasetRepository,
             objectMapper,
-            dsl);
+            inferenceCache,
+            new StepPermits(8));
   }
 
   // -----------------------------------------------------------------------
@@ -87,6 +86,37 @@ class AiClassifyExecutorTest {
         "CONTINUE");
   }
 
+  /** 입력 테이블 keyset 스트리밍(forEachPage)이 주어진 행을 한 페이지로 넘기도록 stub한다. */
+  private void stubInputRows(List<Map<String, Object>> rows) {
+    doAnswer(
+            invocation -> {
+              DataTableRowService.PageHandler<?> handler = invocation.getArgument(5);
+              handler.accept(rows);
+              return (long) rows.size();
+            })
+        .when(dataTableRowService)
+        .forEachPage(
+            anyString(),
+            any(),
+            any(),
+            any(),
+            anyInt(),
+            ArgumentMatchers.<DataTableRowService.PageHandler<RuntimeException>>any());
+  }
+
+  /** 조회한 모든 row_hash가 같은 결과로 캐시되어 있도록 stub한다. */
+  private void stubCacheHits(String resultJson) {
+    when(inferenceCache.lookup(anyString(), anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              Map<String, String> found = new HashMap<>();
+              for (String rowHash : invocation.<Collection<String>>getArgument(1)) {
+                found.put(rowHash, resultJson);
+              }
+              return found;
+            });
+  }
+
   private PipelineStepResponse buildStep(String loadStrategy, List<Long> inputDatasetIds) {
     Map<String, Object> aiConfig = objectMapper.convertValue(buildConfig(), Map.class);
     return new PipelineStepResponse(
@@ -174,11 +204,10 @@ class AiClassifyExecutorTest {
   }
 
   // -----------------------------------------------------------------------
-  // execute() — cache hit path (dsl.select chain returns a cached result)
+  // execute() — cache hit path (inferenceCache.lookup returns a cached result)
   // -----------------------------------------------------------------------
 
   @Test
-  @SuppressWarnings({"unchecked", "rawtypes"})
   void execute_withAllCacheHits_doesNotCallAiAgent() {
     when(datasetRepository.findTableNameById(200L)).thenReturn(Optional.of("output_table"));
     when(datasetRepository.findTableNameById(1L)).thenReturn(Optional.of("source_table"));
@@ -187,24 +216,9 @@ class AiClassifyExecutorTest {
     Map<String, Object> sourceRow = new HashMap<>();
     sourceRow.put("id", 42L);
     sourceRow.put("text", "hello");
-    when(dataTableRowService.queryData(eq("source_table"), any(), any(), anyInt(), anyInt()))
-        .thenReturn(List.of(sourceRow));
-
-    // Mock jOOQ select -> cache hit with cached result JSON
-    Record1<JSONB> cachedRecord = mock(Record1.class);
-    JSONB cachedJson = JSONB.valueOf("{\"category\":\"A\",\"score\":0.9,\"source_id\":42}");
-    when(cachedRecord.get(any(org.jooq.Field.class))).thenReturn(cachedJson);
-
-    SelectSelectStep selectStep = mock(SelectSelectStep.class);
-    SelectJoinStep joinStep = mock(SelectJoinStep.class);
-    SelectWhereStep whereStep = mock(SelectWhereStep.class);
-    SelectConditionStep condStep1 = mock(SelectConditionStep.class);
-    SelectConditionStep condStep2 = mock(SelectConditionStep.class);
-    when(dsl.select(any(org.jooq.Field.class))).thenReturn(selectStep);
-    when(selectStep.from(any(org.jooq.Table.class))).thenReturn(joinStep);
-    when(joinStep.where(any(org.jooq.Condition.class))).thenReturn(condStep1);
-    when(condStep1.and(any(org.jooq.Condition.class))).thenReturn(condStep2);
-    when(condStep2.fetchOne()).thenReturn(cachedRecord);
+    stubInputRows(List.of(sourceRow));
+
+    stubCacheHits("{\"category\":\"A\",\"score\":0.9,\"source_id\":42}");
 
     PipelineStepResponse step = buildStep("APPEND", List.of(1L));
 
@@ -221,7 +235,6 @@ class AiClassifyExecutorTest {
   }
 
   @Test
-  @SuppressWarnings({"unchecked", "rawtypes"})
   void execute_withReplaceStrategy_createsAndSwapsTempTable() {
     when(datasetRepository.findTableNameById(200L)).thenReturn(Optional.of("output_table"));
     when(datasetRepository.findTableNameById(1L)).thenReturn(Optional.of("source_table"));
@@ -230,23 +243,9 @@ class AiClassifyExecutorTest {
     Map<String, Object> sourceRow = new HashMap<>();
     sourceRow.put("id", 7L);
     sourceRow.put("text", "world");
-    when(dataTableRowService.queryData(anyString(), any(), any(), anyInt(), anyInt()))
-        .thenReturn(List.of(sourceRow));
-
-    Record1<JSONB> cachedRecord = mock(Record1.class);
-    JSONB cachedJson = JSONB.valueOf("{\"category\":\"B\",\"score\":0.5,\"source_id\":7}");
-    when(cachedRecord.get(any(org.jooq.Field.class))).thenReturn(cachedJson);
-
-    SelectSelectStep selectStep = mock(SelectSelectStep.class);
-    SelectJoinStep joinStep = mock(SelectJoinStep.class);
-    SelectWhereStep whereStep = mock(SelectWhereStep.class);
-    SelectConditionStep condStep1 = mock(SelectConditionStep.class);
-    SelectConditionStep condStep2 = mock(SelectConditionStep.class);
-    when(dsl.select(any(org.jooq.Field.class))).thenReturn(selectStep);
-    when(selectStep.from(any(org.jooq.Table.class))).thenReturn(joinStep);
-    when(joinStep.where(any(org.jooq.Condition.class))).thenReturn(condStep1);
-    when(condStep1.and(any(org.jooq.Condition.class))).thenReturn(condStep2);
-    when(condStep2.fetchOne()).thenReturn(cachedRecord);
+    stubInputRows(List.of(sourceRow));
+
+    stubCacheHits("{\"category\":\"B\",\"score\":0.5,\"source_id\":7}");
 
     PipelineStepResponse step = buildStep("REPLACE", List.of(1L));
 
@@ -264,7 +263,6 @@ class AiClassifyExecutorTest {
   // -----------------------------------------------------------------------
 
   @Test
-  @SuppressWarnings({"unchecked", "rawtypes"})
   void execute_withCacheMiss_callsAiAgentAndStoresCache() {
     when(datasetRepository.findTableNameById(200L)).thenReturn(Optional.of("output_table"));
     when(datasetRepository.findTableNameById(1L)).thenReturn(Optional.of("source_table"));
@@ -273,23 +271,10 @@ class AiClassifyExecutorTest {
     Map<String, Object> sourceRow = new HashMap<>();
     sourceRow.put("id", 5L);
     sourceRow.put("text", "cats");
-    when(dataTableRowService.queryData(anyString(), any(), any(), anyInt(), anyInt()))
-        .thenReturn(List.of(sourceRow));
-
-    // select chain → fetchOne() returns null (cache miss)
-    SelectSelectStep selectStep = mock(SelectSelectStep.class);
-    SelectJoinStep joinStep = mock(SelectJoinStep.class);
-    SelectConditionStep condStep1 = mock(SelectConditionStep.class);
-    SelectConditionStep condStep2 = mock(SelectConditionStep.class);
-    when(dsl.select(any(org.jooq.Field.class))).thenReturn(selectStep);
-    when(selectStep.from(any(org.jooq.Table.class))).thenReturn(joinStep);
-    when(joinStep.where(any(org.jooq.Condition.class))).thenReturn(condStep1);
-    when(condStep1.and(any(org.jooq.Condition.class))).thenReturn(condStep2);
-    when(condStep2.fetchOne()).thenReturn(null);
-
-    // insert chain — return a deep-stubbed chain that always resolves
-    InsertSetStep insertSetStep = mock(InsertSetStep.class, org.mockito.Mockito.RETURNS_DEEP_STUBS);
-    when(dsl.insertInto(any(org.jooq.Table.class))).thenReturn(insertSetStep);
+    stubInputRows(List.of(sourceRow));
+
+    // cache miss
+    when(inferenceCache.lookup(anyString(), anyCollection())).thenReturn(Map.of());
 
     // AI agent response
     AiAgentClient.ClassifyRowResult aiRow =
@@ -307,10 +292,52 @@ class AiClassifyExecutorTest {
     assertThat(result.executionLog()).contains("1 AI-processed");
     verify(aiAgentClient).classify(any(), eq(1L));
     verify(dataTableRowService).insertBatch(eq("output_table"), anyList(), anyList(), anyMap());
+    verify(inferenceCache).store(anyString(), argThat(results -> results.size() == 1));
+  }
+
+  @Test
+  void execute_withMixedBatch_looksUpOnceAndSendsOnlyMissesToAi() {
+    when(datasetRepository.findTableNameById(200L)).thenReturn(Optional.of("output_table"));
+    when(datasetRepository.findTableNameById(1L)).thenReturn(Optional.of("source_table"));
+    when(dataTableRowService.countRows("source_table")).thenReturn(2L);
+
+    Map<String, Object> cachedRow = new HashMap<>();
+    cachedRow.put("id", 1L);
+    cachedRow.put("text", "cached");
+    Map<String, Object> newRow = new HashMap<>();
+    newRow.put("id", 2L);
+    newRow.put("text", "new");
+    stubInputRows(List.of(cachedRow, newRow));
+
+    // 배치의 첫 번째 해시만 캐시에 있다
+    when(inferenceCache.lookup(anyString(), anyCollection()))
+        .thenAnswer(
+            invocation -> {
+              String firstHash = invocation.<Collection<String>>getArgument(1).iterator().next();
+              return Map.of(firstHash, "{\"category\":\"old\",\"score\":0.1,\"source_id\":1}");
+            });
+    when(aiAgentClient.classify(any(), eq(1L)))
+        .thenReturn(
+            new AiAgentClient.ClassifyResponse(
+                List.of(
+                    new AiAgentClient.ClassifyRowResult(
+                        Map.of("source_id", 2L, "category", "new", "score", 0.8))),
+                1,
+                "claude"));
+
+    AiClassifyExecutor.ExecutionResult result =
+        executor.execute(buildStep("APPEND", List.of(1L)), 100L, 1L);
+
+    assertThat(result.outputRows()).isEqualTo(2);
+    assertThat(result.executionLog()).contains("1 cached", "1 AI-processed");
+    // 배치당 조회 1회(두 해시 함께), 저장 1회(새 결과 1건)
+    verify(inferenceCache, times(1))
+        .lookup(anyString(), argThat((Collection<String> hashes) -> hashes.size() == 2));
+    verify(aiAgentClient).classify(argThat(request -> request.rows().size() == 1), eq(1L));
+    verify(inferenceCache).store(anyString(), argThat(results -> results.size() == 1));
   }
 
   @Test
-  @SuppressWarnings({"unchecked", "rawtypes"})
   void execute_withAiAgentError_andOnErrorContinue_skipsBatch() {
     when(datasetRepository.findTableNameById(200L)).thenReturn(Optional.of("output_table"));
     when(datasetRepository.findTableNameById(1L)).thenReturn(Optional.of("source_table"));
@@ -319,19 +346,10 @@ class AiClassifyExecutorTest {
     Map<String, Object> sourceRow = new HashMap<>();
     sourceRow.put("id", 99L);
     sourceRow.put("text", "oops");
-    when(dataTableRowService.queryData(anyString(), any(), any(), anyInt(), anyInt()))
-        .thenReturn(List.of(sourceRow));
+    stubInputRows(List.of(sourceRow));
 
     // cache miss
-    SelectSelectStep selectStep = mock(SelectSelectStep.class);
-    SelectJoinStep joinStep = mock(SelectJoinStep.class);
-    SelectConditionStep condStep1 = mock(SelectConditionStep.class);
-    SelectConditionStep condStep2 = mock(SelectConditionStep.class);
-    when(dsl.select(any(org.jooq.Field.class))).thenReturn(selectStep);
-    when(selectStep.from(any(org.jooq.Table.class))).thenReturn(joinStep);
-    when(joinStep.where(any(org.jooq.Condition.class))).thenReturn(condStep1);
-    when(condStep1.and(any(org.jooq.Condition.class))).thenReturn(condStep2);
-    when(condStep2.fetchOne()).thenReturn(null);
+    when(inferenceCache.lookup(anyString(), anyCollection())).thenReturn(Map.of());
 
     when(aiAgentClient.classify(any(), anyLong())).thenThrow(new RuntimeException("AI agent down"));
 
@@ -355,18 +373,10 @@ class AiClassifyExecutorTest {
     Map<String, Object> sourceRow = new HashMap<>();
     sourceRow.put("id", 99L);
     sourceRow.put("text", "oops");
-    when(dataTableRowService.queryData(anyString(), any(), any(), anyInt(), anyInt()))
-        .thenReturn(List.of(sourceRow));
-
-    SelectSelectStep selectStep = mock(SelectSelectStep.class);
-    SelectJoinStep joinStep = mock(SelectJoinStep.class);
-    SelectConditionStep condStep1 = mock(SelectConditionStep.class);
-    SelectConditionStep condStep2 = mock(SelectConditionStep.class);
-    when(dsl.select(any(org.jooq.Field.class))).thenReturn(selectStep);
-    when(selectStep.from(any(org.jooq.Table.class))).thenReturn(joinStep);
-    when(joinStep.where(any(org.jooq.Condition.class))).thenReturn(condStep1);
-    when(condStep1.and(any(org.jooq.Condition.class))).thenReturn(condStep2);
-    when(condStep2.fetchOne()).thenReturn(null);
+    stubInputRows(List.of(sourceRow));
+
+    // cache miss
+    when(inferenceCache.lookup(anyString(), anyCollection())).thenReturn(Map.of());
 
     when(aiAgentClient.classify(any(), anyLong())).thenThrow(new RuntimeException("AI agent down"));
 
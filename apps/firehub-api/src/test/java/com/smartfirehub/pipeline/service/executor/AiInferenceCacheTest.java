@@ -0,0 +1,105 @@
+package com.smartfirehub.pipeline.service.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.smartfirehub.support.IntegrationTestBase;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * AiInferenceCache 통합 테스트 — 배치 조회(row_hash = ANY)·다중 행 저장·인메모리 계층.
+ *
+ * <p>인메모리 계층은 싱글턴 빈에 남으므로 테스트마다 고유한 prompt_version을 써서 서로 간섭하지 않게 한다.
+ */
+@Transactional
+class AiInferenceCacheTest extends IntegrationTestBase {
+
+  @Autowired private AiInferenceCache inferenceCache;
+  @Autowired private DSLContext dsl;
+
+  private String promptVersion;
+
+  @BeforeEach
+  void setUp() {
+    promptVersion = UUID.randomUUID().toString().substring(0, 8);
+  }
+
+  @Test
+  void store_thenLookup_returnsOnlyCachedHashes() {
+    Map<String, String> results = new LinkedHashMap<>();
+    results.put("hash-a", "{\"category\": \"A\"}");
+    results.put("hash-b", "{\"category\": \"B\"}");
+
+    inferenceCache.store(promptVersion, results);
+    Map<String, String> found =
+        inferenceCache.lookup(promptVersion, List.of("hash-a", "hash-b", "hash-missing"));
+
+    assertThat(found).containsOnlyKeys("hash-a", "hash-b");
+    assertThat(found.get("hash-a")).contains("\"A\"");
+    Integer stored =
+        dsl.fetchOne(
+                "SELECT count(*) FROM ai_inference_cache WHERE prompt_version = ?", promptVersion)
+            .into(Integer.class);
+    assertThat(stored).isEqualTo(2);
+  }
+
+  @Test
+  void store_existingHash_isIgnoredOnConflict() {
+    inferenceCache.store(promptVersion, Map.of("hash-a", "{\"category\": \"A\"}"));
+    inferenceCache.store(
+        promptVersion,
+        Map.of("hash-a", "{\"category\": \"A2\"}", "hash-b", "{\"category\": \"B\"}"));
+
+    Integer stored =
+        dsl.fetchOne(
+                "SELECT count(*) FROM ai_inference_cache WHERE prompt_version = ?", promptVersion)
+            .into(Integer.class);
+    assertThat(stored).isEqualTo(2);
+  }
+
+  @Test
+  void store_conflictWithExistingRow_cachesPersistedValue() {
+    dsl.execute(
+        "INSERT INTO ai_inference_cache (row_hash, prompt_version, result_json) VALUES"
+            + " ('hash-a', ?, '{\"category\": \"X\"}'::jsonb)",
+        promptVersion);
+
+    inferenceCache.store(promptVersion, Map.of("hash-a", "{\"category\": \"Y\"}"));
+    Map<String, String> found = inferenceCache.lookup(promptVersion, List.of("hash-a"));
+
+    // ON CONFLICT DO NOTHING으로 남은 기존 값이 조회되어야 한다
+    assertThat(found.get("hash-a")).contains("\"X\"");
+  }
+
+  @Test
+  void lookup_rowsInsertedOutsideCache_areReadFromTable() {
+    dsl.execute(
+        "INSERT INTO ai_inference_cache (row_hash, prompt_version, result_json) VALUES"
+            + " ('db-1', ?, '{\"category\": \"X\"}'::jsonb),"
+            + " ('db-2', ?, '{\"category\": \"Y\"}'::jsonb)",
+        promptVersion,
+        promptVersion);
+
+    Map<String, String> found = inferenceCache.lookup(promptVersion, List.of("db-1", "db-2"));
+
+    assertThat(found).containsOnlyKeys("db-1", "db-2");
+  }
+
+  @Test
+  void lookup_afterStore_isServedFromMemoryTier() {
+    inferenceCache.store(promptVersion, Map.of("hash-a", "{\"category\": \"A\"}"));
+    // 테이블에서 지워도 인메모리 계층에서 적중해야 한다
+    dsl.execute("DELETE FROM ai_inference_cache WHERE prompt_version = ?", promptVersion);
+
+    Map<String, String> found = inferenceCache.lookup(promptVersion, List.of("hash-a"));
+
+    assertThat(found).containsOnlyKeys("hash-a");
+  }
+}
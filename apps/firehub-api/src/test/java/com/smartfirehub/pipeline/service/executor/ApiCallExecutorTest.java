@@ -11,7 +11,10 @@ import com.smartfirehub.dataset.service.DataTableRowService;
 import com.smartfirehub.dataset.service.DataTableService;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +52,12 @@ class ApiCallExecutorTest {
   JsonResponseParser jsonParser;
   OffsetPaginationHandler paginationHandler;
   ApiCallExecutor executor;
+  ExecutorService fetchPool = Executors.newFixedThreadPool(4);
+
+  @AfterEach
+  void shutdownFetchPool() {
+    fetchPool.shutdownNow();
+  }
 
   @BeforeEach
   void setUp() {
@@ -70,7 +79,9 @@ class ApiCallExecutorTest {
             paginationHandler,
             dataTableService,
             dataTableRowService,
-            WebClient.builder());
+            WebClient.builder(),
+            fetchPool,
+            new StepPermits(8));
   }
 
   // -------------------------------------------------------------------------
@@ -81,6 +92,43 @@ class ApiCallExecutorTest {
     return "http://localhost:" + wireMock.port();
   }
 
+  private void stubPage(int offset, String items) {
+    wireMock.stubFor(
+        get(urlPathEqualTo("/api/paged"))
+            .withQueryParam("offset", equalTo(String.valueOf(offset)))
+            .withQueryParam("limit", equalTo("2"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody("{\"total\":6,\"items\":[" + items + "]}")));
+  }
+
+  private ApiCallConfig concurrentPagedConfig(int concurrency) {
+    return new ApiCallConfig(
+        baseUrl() + "/api/paged",
+        "GET",
+        null,
+        null,
+        null,
+        "JSON",
+        "$.items",
+        List.of(
+            new ApiCallConfig.FieldMapping("name", "name", "TEXT", null, null, null),
+            new ApiCallConfig.FieldMapping("age", "age", "INTEGER", null, null, null)),
+        "UTC",
+        new ApiCallConfig.PaginationConfig(
+            "OFFSET", 2, "offset", "limit", "$.total", concurrency, null),
+        new ApiCallConfig.RetryConfig(0, 100, 1000),
+        5000,
+        60000,
+        100,
+        null,
+        null,
+        null,
+        null);
+  }
+
   private ApiCallConfig simpleGetConfig(String path) {
     return new ApiCallConfig(
         baseUrl() + path,
@@ -753,4 +801,56 @@ class ApiCallExecutorTest {
     // swap must NOT be called
     verify(dataTableService, never()).swapTable(any());
   }
+
+  // -------------------------------------------------------------------------
+  // Test 13: concurrent OFFSET pagination (totalPath + concurrency)
+  // -------------------------------------------------------------------------
+
+  @Test
+  void execute_concurrentOffsetPagination_insertsAllPagesAndSwapsOnce() {
+    stubPage(0, "{\"name\":\"A\",\"age\":1},{\"name\":\"B\",\"age\":2}");
+    stubPage(2, "{\"name\":\"C\",\"age\":3},{\"name\":\"D\",\"age\":4}");
+    stubPage(4, "{\"name\":\"E\",\"age\":5}");
+
+    ApiCallExecutor.ApiCallResult result =
+        executor.execute(concurrentPagedConfig(3), "paged_table", null, "REPLACE", null);
+
+    assertThat(result.totalRows()).isEqualTo(5);
+    assertThat(result.log()).contains("pages=3");
+    verify(dataTableRowService, times(3)).insertBatch(eq("paged_table_tmp"), anyList(), anyList());
+    verify(dataTableService).swapTable("paged_table");
+    verify(dataTableService, never()).dropTempTable(any());
+  }
+
+  @Test
+  void execute_concurrentOffsetPagination_pageFailure_dropsTempTable() {
+    stubPage(0, "{\"name\":\"A\",\"age\":1},{\"name\":\"B\",\"age\":2}");
+    stubPage(2, "{\"name\":\"C\",\"age\":3},{\"name\":\"D\",\"age\":4}");
+    wireMock.stubFor(
+        get(urlPathEqualTo("/api/paged"))
+            .withQueryParam("offset", equalTo("4"))
+            .willReturn(aResponse().withStatus(503).withBody("Service Unavailable")));
+
+    assertThatThrownBy(
+            () -> executor.execute(concurrentPagedConfig(3), "paged_table", null, "REPLACE", null))
+        .isInstanceOf(ApiCallException.class);
+
+    // 한 페이지라도 실패하면 임시 테이블을 버리고 원본은 교체하지 않는다
+    verify(dataTableService).dropTempTable("paged_table");
+    verify(dataTableService, never()).swapTable(any());
+  }
+
+  @Test
+  void requestPacer_reservesSlotsSpacedByRate() {
+    ApiCallExecutor.RequestPacer pacer = new ApiCallExecutor.RequestPacer(20);
+
+    long first = pacer.reserve();
+    long second = pacer.reserve();
+    long third = pacer.reserve();
+
+    // 첫 요청은 즉시, 이후 50ms 간격으로 슬롯이 예약된다(대기는 호출 측 타이머가 담당)
+    assertThat(first).isZero();
+    assertThat(second).isBetween(40_000_000L, 50_000_000L);
+    assertThat(third).isBetween(90_000_000L, 100_000_000L);
+  }
 }